@@ -64,6 +64,14 @@ public abstract class AbstractAssertWithOriginWithColumnsAndRows<E extends Abstr
     return returnToOrigin().row(index);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public R rowAtPrimaryKey(Object... pksValues) {
+    return returnToOrigin().rowAtPrimaryKey(pksValues);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -45,7 +45,9 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
                    AssertOnNumberOfRows<C>,
                    AssertOnColumnName<C>,
                    AssertOnColumnType<C>,
-                   AssertOnColumnNullity<C> {
+                   AssertOnColumnNullity<C>,
+                   AssertOnColumnAggregate<C>,
+                   AssertOnColumnRange<C> {
 
   /**
    * Position of navigation to value.
@@ -102,31 +104,31 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
   /** {@inheritDoc} */
   @Override
   public C hasNumberOfRows(int expected) {
-    return AssertionsOnNumberOfRows.hasNumberOfRows(myself, info, column.getValuesList().size(), expected);
+    return AssertionsOnNumberOfRows.hasNumberOfRows(myself, info, column.getNumberOfRows(), expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasNumberOfRowsGreaterThan(int expected) {
-    return AssertionsOnNumberOfRows.hasNumberOfRowsGreaterThan(myself, info, column.getValuesList().size(), expected);
+    return AssertionsOnNumberOfRows.hasNumberOfRowsGreaterThan(myself, info, column.getNumberOfRows(), expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasNumberOfRowsLessThan(int expected) {
-    return AssertionsOnNumberOfRows.hasNumberOfRowsLessThan(myself, info, column.getValuesList().size(), expected);
+    return AssertionsOnNumberOfRows.hasNumberOfRowsLessThan(myself, info, column.getNumberOfRows(), expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasNumberOfRowsGreaterThanOrEqualTo(int expected) {
-    return AssertionsOnNumberOfRows.hasNumberOfRowsGreaterThanOrEqualTo(myself, info, column.getValuesList().size(), expected);
+    return AssertionsOnNumberOfRows.hasNumberOfRowsGreaterThanOrEqualTo(myself, info, column.getNumberOfRows(), expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasNumberOfRowsLessThanOrEqualTo(int expected) {
-    return AssertionsOnNumberOfRows.hasNumberOfRowsLessThanOrEqualTo(myself, info, column.getValuesList().size(), expected);
+    return AssertionsOnNumberOfRows.hasNumberOfRowsLessThanOrEqualTo(myself, info, column.getNumberOfRows(), expected);
   }
 
   /** {@inheritDoc} */
@@ -198,13 +200,13 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
   /** {@inheritDoc} */
   @Override
   public C hasOnlyNullValues() {
-    return AssertionsOnValuesNullity.hasOnlyNullValues(myself, info, getValuesList());
+    return AssertionsOnValuesNullity.hasOnlyNullValues(myself, info, column);
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasOnlyNotNullValues() {
-    return AssertionsOnValuesNullity.hasOnlyNotNullValues(myself, info, getValuesList());
+    return AssertionsOnValuesNullity.hasOnlyNotNullValues(myself, info, column);
   }
 
   /** {@inheritDoc} */
@@ -333,4 +335,118 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
     String name = column.getName();
     return AssertionsOnColumnName.hasColumnName(myself, info, name, columnName, column.getColumnLetterCase());
   }
+
+  /** {@inheritDoc} */
+  @Override
+  public C hasSum(Number expected) {
+    return AssertionsOnColumnAggregate.hasSum(myself, info, column, expected);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public C hasAverage(Number expected) {
+    return AssertionsOnColumnAggregate.hasAverage(myself, info, column, expected);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public C hasAverage(Number expected, Number tolerance) {
+    return AssertionsOnColumnAggregate.hasAverage(myself, info, column, expected, tolerance);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public C hasMin(Object expected) {
+    return AssertionsOnColumnAggregate.hasMin(myself, info, column, expected);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public C hasMax(Object expected) {
+    return AssertionsOnColumnAggregate.hasMax(myself, info, column, expected);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public C hasNumberOfDistinctValues(int expected) {
+    return AssertionsOnColumnAggregate.hasNumberOfDistinctValues(myself, info, column, expected);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public C hasNumberOfNullValues(int expected) {
+    return AssertionsOnColumnAggregate.hasNumberOfNullValues(myself, info, column, expected);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public C hasValuesBetween(Number start, Number end) {
+    return AssertionsOnColumnRange.hasValuesBetween(myself, info, column, start, end);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public C hasValuesBetween(DateValue start, DateValue end) {
+    return AssertionsOnColumnRange.hasValuesBetween(myself, info, column, start, end);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public C hasValuesBetween(TimeValue start, TimeValue end) {
+    return AssertionsOnColumnRange.hasValuesBetween(myself, info, column, start, end);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public C hasValuesBetween(DateTimeValue start, DateTimeValue end) {
+    return AssertionsOnColumnRange.hasValuesBetween(myself, info, column, start, end);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public C hasValuesBefore(DateValue bound) {
+    return AssertionsOnColumnRange.hasValuesBefore(myself, info, column, bound);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public C hasValuesBefore(TimeValue bound) {
+    return AssertionsOnColumnRange.hasValuesBefore(myself, info, column, bound);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public C hasValuesBefore(DateTimeValue bound) {
+    return AssertionsOnColumnRange.hasValuesBefore(myself, info, column, bound);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public C hasValuesAfter(DateValue bound) {
+    return AssertionsOnColumnRange.hasValuesAfter(myself, info, column, bound);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public C hasValuesAfter(TimeValue bound) {
+    return AssertionsOnColumnRange.hasValuesAfter(myself, info, column, bound);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public C hasValuesAfter(DateTimeValue bound) {
+    return AssertionsOnColumnRange.hasValuesAfter(myself, info, column, bound);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public C hasStrictlyIncreasingValues() {
+    return AssertionsOnColumnRange.hasStrictlyIncreasingValues(myself, info, column);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public C hasNonDecreasingValues() {
+    return AssertionsOnColumnRange.hasNonDecreasingValues(myself, info, column);
+  }
 }
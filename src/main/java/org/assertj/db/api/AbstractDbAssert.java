@@ -12,18 +12,33 @@
  */
 package org.assertj.db.api;
 
+import org.assertj.db.api.assertions.AssertOnAllColumns;
+import org.assertj.db.api.assertions.AssertOnAllRows;
+import org.assertj.db.api.assertions.AssertOnDataset;
 import org.assertj.db.api.assertions.AssertOnNumberOfColumns;
 import org.assertj.db.api.assertions.AssertOnNumberOfRows;
+import org.assertj.db.api.assertions.AssertOnSnapshot;
+import org.assertj.db.api.assertions.impl.AssertionsOnAllElements;
+import org.assertj.db.api.assertions.impl.AssertionsOnDataset;
 import org.assertj.db.api.assertions.impl.AssertionsOnNumberOfColumns;
 import org.assertj.db.api.assertions.impl.AssertionsOnNumberOfRows;
+import org.assertj.db.api.assertions.impl.AssertionsOnSnapshot;
+import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.navigation.Position;
 import org.assertj.db.navigation.PositionWithColumns;
 import org.assertj.db.navigation.origin.OriginWithColumnsAndRows;
 import org.assertj.db.type.AbstractDbData;
 import org.assertj.db.type.Column;
+import org.assertj.db.type.Dataset;
 import org.assertj.db.type.Row;
 
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import static org.assertj.db.util.Descriptions.getColumnDescription;
 import static org.assertj.db.util.Descriptions.getRowDescription;
@@ -44,7 +59,11 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
         extends AbstractAssert<A>
         implements OriginWithColumnsAndRows<C, R>,
                    AssertOnNumberOfColumns<A>,
-                   AssertOnNumberOfRows<A> {
+                   AssertOnNumberOfRows<A>,
+                   AssertOnDataset<A>,
+                   AssertOnSnapshot<A>,
+                   AssertOnAllRows<A>,
+                   AssertOnAllColumns<A> {
 
   /**
    * The actual value on which the assertion is.
@@ -59,6 +78,12 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
    * Position of navigation to row.
    */
   private final Position<A, R, Row> rowPosition;
+  /**
+   * The executor on which the assertions on all the rows or all the columns are verified in parallel (or {@code null}
+   * to verify them in the calling thread).
+   * @since 2.0.3
+   */
+  private ExecutorService executor;
 
   /**
    * Constructor of the database assertions.
@@ -97,6 +122,16 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
     return rowPosition.getInstance(actual.getRowsList(), index);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public R rowAtPrimaryKey(Object... pksValues) {
+    int index = actual.getIndexOfRowWithPksValues(pksValues);
+    if (index == -1) {
+      throw new AssertJDBException("No row found for primary keys " + Arrays.asList(pksValues));
+    }
+    return rowPosition.getInstance(actual.getRowsList(), index);
+  }
+
   /** {@inheritDoc} */
   @Override
   public C column() {
@@ -112,7 +147,7 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
   /** {@inheritDoc} */
   @Override
   public C column(String columnName) {
-    return columnPosition.getInstance(actual.getColumnsList(), actual.getColumnsNameList(), columnName, actual.getColumnLetterCase());
+    return columnPosition.getInstance(actual.getColumnsList(), actual.getColumnsNameIndex(), columnName);
   }
 
   /** {@inheritDoc} */
@@ -124,40 +159,35 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
   /** {@inheritDoc} */
   @Override
   public A hasNumberOfRows(int expected) {
-    List<Row> rowsList = actual.getRowsList();
-    int size = rowsList.size();
+    int size = actual.getNumberOfRows();
     return AssertionsOnNumberOfRows.hasNumberOfRows(myself, info, size, expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public A hasNumberOfRowsGreaterThan(int expected) {
-    List<Row> rowsList = actual.getRowsList();
-    int size = rowsList.size();
+    int size = actual.getNumberOfRows();
     return AssertionsOnNumberOfRows.hasNumberOfRowsGreaterThan(myself, info, size, expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public A hasNumberOfRowsLessThan(int expected) {
-    List<Row> rowsList = actual.getRowsList();
-    int size = rowsList.size();
+    int size = actual.getNumberOfRows();
     return AssertionsOnNumberOfRows.hasNumberOfRowsLessThan(myself, info, size, expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public A hasNumberOfRowsGreaterThanOrEqualTo(int expected) {
-    List<Row> rowsList = actual.getRowsList();
-    int size = rowsList.size();
+    int size = actual.getNumberOfRows();
     return AssertionsOnNumberOfRows.hasNumberOfRowsGreaterThanOrEqualTo(myself, info, size, expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public A hasNumberOfRowsLessThanOrEqualTo(int expected) {
-    List<Row> rowsList = actual.getRowsList();
-    int size = rowsList.size();
+    int size = actual.getNumberOfRows();
     return AssertionsOnNumberOfRows.hasNumberOfRowsLessThanOrEqualTo(myself, info, size, expected);
   }
 
@@ -200,4 +230,102 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
     int size = columnsNameList.size();
     return AssertionsOnNumberOfColumns.hasNumberOfColumnsLessThanOrEqualTo(myself, info, size, expected);
   }
+
+  /** {@inheritDoc} */
+  @Override
+  public A hasSameContentAs(Dataset expected) {
+    return AssertionsOnDataset.hasSameContentAs(myself, info, actual, expected);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public A matchesSnapshot(Path path) {
+    return AssertionsOnSnapshot.matchesSnapshot(myself, info, actual, path);
+  }
+
+  /**
+   * Verifies the next assertions on all the rows or all the columns in parallel on the common fork/join pool.
+   *
+   * @return {@code this} assertion object.
+   * @see #inParallel(ExecutorService)
+   * @since 2.0.3
+   */
+  public A inParallel() {
+    return inParallel(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Verifies the next assertions on all the rows or all the columns in parallel on an executor.
+   * <p>
+   * The rows are partitioned in ranges and the columns are verified separately : the predicates or the requirements
+   * must support to be called concurrently. The data are loaded in the calling thread before the verification. The
+   * failures are reported in the order of the indexes, like when the assertions are verified in the calling thread.
+   * </p>
+   * <p>
+   * Example where the rows of a large table are verified on a virtual-thread executor (Java 21) :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).inParallel(Executors.newVirtualThreadPerTaskExecutor())
+   *                  .allRowsSatisfy(row -&gt; row.getColumnValue(&quot;title&quot;).getValue() != null);
+   * </code></pre>
+   *
+   * @param executor The executor.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException If {@code executor} is {@code null}.
+   * @since 2.0.3
+   */
+  public A inParallel(ExecutorService executor) {
+    if (executor == null) {
+      throw new NullPointerException("Executor must be not null");
+    }
+    this.executor = executor;
+    return myself;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public A allRowsSatisfy(Predicate<? super Row> predicate) {
+    return AssertionsOnAllElements.allSatisfy(myself, info, actual.getRowsList(), "rows", executor, predicate);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public A forEachRow(Consumer<? super Row> requirements) {
+    return AssertionsOnAllElements.allSatisfy(myself, info, actual.getRowsList(), "rows", executor, requirements);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public A allColumnsSatisfy(Predicate<? super Column> predicate) {
+    return AssertionsOnAllElements.allSatisfy(myself, info, getColumnsListToVerify(), "columns", executor, predicate);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public A forEachColumn(Consumer<? super Column> requirements) {
+    return AssertionsOnAllElements.allSatisfy(myself, info, getColumnsListToVerify(), "columns", executor,
+                                              requirements);
+  }
+
+  /**
+   * Returns the list of the columns to verify.
+   * <p>
+   * When the columns are verified in parallel, the rows, the index of the columns name and the values of the columns
+   * are got before in the calling thread : the loading of the data is not synchronized.
+   * </p>
+   *
+   * @return The list of the columns.
+   */
+  private List<Column> getColumnsListToVerify() {
+    List<Column> columnsList = actual.getColumnsList();
+    if (executor != null) {
+      actual.getRowsList();
+      actual.getColumnsNameIndex();
+      for (Column column : columnsList) {
+        column.getValuesList();
+      }
+    }
+    return columnsList;
+  }
 }
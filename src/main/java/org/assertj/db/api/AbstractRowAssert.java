@@ -101,7 +101,7 @@ public abstract class AbstractRowAssert<D extends AbstractDbData<D>, A extends A
   /** {@inheritDoc} */
   @Override
   public RV value(String columnName) {
-    return valuePosition.getInstance(getValuesList(), row.getColumnsNameList(), columnName, row.getColumnLetterCase());
+    return valuePosition.getInstance(getValuesList(), row.getColumnsNameIndex(), columnName);
   }
 
   /** {@inheritDoc} */
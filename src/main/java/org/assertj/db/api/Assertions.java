@@ -17,6 +17,7 @@ import org.assertj.db.type.Changes;
 import org.assertj.db.type.Request;
 import org.assertj.db.type.Source;
 import org.assertj.db.type.Table;
+import org.assertj.db.util.LazyDescription;
 
 import java.io.*;
 
@@ -116,7 +117,7 @@ public final class Assertions {
    * @return The created assertion object.
    */
   public static TableAssert assertThat(Table table) {
-    return new TableAssert(table).as(getDescription(table));
+    return new TableAssert(table).as(new LazyDescription(() -> getDescription(table)));
   }
 
   /**
@@ -126,7 +127,7 @@ public final class Assertions {
    * @return The created assertion object.
    */
   public static RequestAssert assertThat(Request request) {
-    return new RequestAssert(request).as(getDescription(request));
+    return new RequestAssert(request).as(new LazyDescription(() -> getDescription(request)));
   }
 
   /**
@@ -136,7 +137,7 @@ public final class Assertions {
    * @return The created assertion object.
    */
   public static ChangesAssert assertThat(Changes changes) {
-    return new ChangesAssert(changes).as(getDescription(changes));
+    return new ChangesAssert(changes).as(new LazyDescription(() -> getDescription(changes)));
   }
 
   /**
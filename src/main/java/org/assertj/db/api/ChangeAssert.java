@@ -110,7 +110,7 @@ public class ChangeAssert
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert column(String columnName) {
-    return columnPosition.getChangeColumnInstance(change, columnName, change.getColumnLetterCase());
+    return columnPosition.getChangeColumnInstance(change, columnName);
   }
 
   /** {@inheritDoc} */
@@ -94,8 +94,7 @@ public class ChangeRowAssert
     if (row == null) {
       throw new AssertJDBException("Row do not exist");
     }
-    return valuePosition.getInstance(row.getValuesList(), row.getColumnsNameList(),
-                                     columnName, row.getColumnLetterCase());
+    return valuePosition.getInstance(row.getValuesList(), row.getColumnsNameIndex(), columnName);
   }
 
   /** {@inheritDoc} */
@@ -12,8 +12,12 @@
  */
 package org.assertj.db.api;
 
+import org.assertj.db.api.assertions.AssertOnAllChanges;
 import org.assertj.db.api.assertions.AssertOnNumberOfChanges;
+import org.assertj.db.api.assertions.AssertOnSnapshot;
+import org.assertj.db.api.assertions.impl.AssertionsOnAllElements;
 import org.assertj.db.api.assertions.impl.AssertionsOnNumberOfChanges;
+import org.assertj.db.api.assertions.impl.AssertionsOnSnapshot;
 import org.assertj.db.navigation.PositionWithChanges;
 import org.assertj.db.navigation.element.ChangesElement;
 import org.assertj.db.navigation.origin.OriginWithChanges;
@@ -22,6 +26,12 @@ import org.assertj.db.type.ChangeType;
 import org.assertj.db.type.Changes;
 import org.assertj.db.util.Descriptions;
 
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
 /**
  * Assertion methods for {@link Changes}.
  *
@@ -31,7 +41,9 @@ public class ChangesAssert
         extends AbstractAssertWithOrigin<ChangesAssert, ChangesAssert>
         implements ChangesElement,
                    OriginWithChanges<ChangesAssert, ChangeAssert>,
-                   AssertOnNumberOfChanges<ChangesAssert> {
+                   AssertOnNumberOfChanges<ChangesAssert>,
+                   AssertOnSnapshot<ChangesAssert>,
+                   AssertOnAllChanges<ChangesAssert> {
 
   /**
    * The actual changes on which the assertion is.
@@ -42,6 +54,12 @@ public class ChangesAssert
    * Position of navigation to changes and to change.
    */
   private final PositionWithChanges<ChangesAssert, ChangeAssert> changesPosition;
+  /**
+   * The executor on which the assertions on all the changes are verified in parallel (or {@code null} to use the one
+   * of the origin or to verify them in the calling thread).
+   * @since 2.0.3
+   */
+  private ExecutorService executor;
 
   /**
    * Constructor.
@@ -326,4 +344,69 @@ public class ChangesAssert
   public ChangesAssert hasNumberOfChangesLessThanOrEqualTo(int expected) {
     return AssertionsOnNumberOfChanges.hasNumberOfChangesLessThanOrEqualTo(myself, info, changes, expected);
   }
+
+  /** {@inheritDoc} */
+  @Override
+  public ChangesAssert matchesSnapshot(Path path) {
+    return AssertionsOnSnapshot.matchesSnapshot(myself, info, changes, path);
+  }
+
+  /**
+   * Verifies the next assertions on all the changes in parallel on the common fork/join pool.
+   *
+   * @return {@code this} assertion object.
+   * @see #inParallel(ExecutorService)
+   * @since 2.0.3
+   */
+  public ChangesAssert inParallel() {
+    return inParallel(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Verifies the next assertions on all the changes in parallel on an executor (the changes of the same type or of
+   * the same table got by navigation are also verified on this executor).
+   * <p>
+   * The changes are partitioned in ranges : the predicates or the requirements must support to be called
+   * concurrently. The failures are reported in the order of the indexes, like when the assertions are verified in the
+   * calling thread.
+   * </p>
+   *
+   * @param executor The executor.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException If {@code executor} is {@code null}.
+   * @since 2.0.3
+   */
+  public ChangesAssert inParallel(ExecutorService executor) {
+    if (executor == null) {
+      throw new NullPointerException("Executor must be not null");
+    }
+    this.executor = executor;
+    return myself;
+  }
+
+  /**
+   * Returns the executor on which the assertions on all the changes are verified.
+   *
+   * @return The executor or {@code null} to verify them in the calling thread.
+   */
+  private ExecutorService getExecutor() {
+    if (executor == null && origin != null) {
+      return origin.getExecutor();
+    }
+    return executor;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ChangesAssert allChangesSatisfy(Predicate<? super Change> predicate) {
+    return AssertionsOnAllElements.allSatisfy(myself, info, changes.getChangesList(), "changes", getExecutor(),
+                                              predicate);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ChangesAssert forEachChange(Consumer<? super Change> requirements) {
+    return AssertionsOnAllElements.allSatisfy(myself, info, changes.getChangesList(), "changes", getExecutor(),
+                                              requirements);
+  }
 }
@@ -12,9 +12,6 @@
  */
 package org.assertj.db.api;
 
-import net.bytebuddy.implementation.bind.annotation.*;
-
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -32,12 +29,22 @@ public class ErrorCollector {
   // scope : the last assertion call (might be nested)
   private final LastResult lastResult = new LastResult();
 
-  @RuntimeType
-  public Object intercept(
-      @This Object assertion,
-      @SuperCall Callable<?> proxy,
-      @SuperMethod(nullIfImpossible = true) Method method,
-      @StubValue Object stub) throws Exception {
+  // called by the proxies generated at build time
+  public static Object intercept(
+      ErrorCollector errorCollector,
+      Object assertion,
+      Callable<?> proxy,
+      Class<?> returnType,
+      Object stub) throws Exception {
+    if (errorCollector == null) {
+      // the proxy is not set up yet (method called by the constructor)
+      return proxy.call();
+    }
+    return errorCollector.collectErrors(assertion, proxy, returnType, stub);
+  }
+
+  private Object collectErrors(Object assertion, Callable<?> proxy, Class<?> returnType, Object stub)
+      throws Exception {
     try {
       Object result = proxy.call();
       this.lastResult.setSuccess(true);
@@ -49,7 +56,7 @@ public class ErrorCollector {
       }
       addError(assertionError);
     }
-    if (method != null && !method.getReturnType().isInstance(assertion)) {
+    if (returnType != null && !returnType.isInstance(assertion)) {
       // In case the object is not an instance of the return type, just default value for the return type:
       // null for reference type and 0 for the corresponding primitive types.
       return stub;
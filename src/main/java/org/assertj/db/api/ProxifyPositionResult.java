@@ -12,8 +12,6 @@
  */
 package org.assertj.db.api;
 
-import net.bytebuddy.implementation.bind.annotation.RuntimeType;
-import net.bytebuddy.implementation.bind.annotation.SuperCall;
 import org.assertj.core.util.Arrays;
 import org.assertj.db.type.Change;
 import org.assertj.db.type.Column;
@@ -38,10 +36,18 @@ public class ProxifyPositionResult {
     this.proxies = proxies;
   }
 
-  @RuntimeType
-  public Object intercept(@SuperCall Callable<?> proxy) throws Exception {
+  // called by the proxies generated at build time
+  public static Object intercept(ProxifyPositionResult proxifyPositionResult, Callable<?> proxy) throws Exception {
     Object result = proxy.call();
 
+    if (proxifyPositionResult == null) {
+      // the proxy is not set up yet (method called by the constructor)
+      return result;
+    }
+    return proxifyPositionResult.proxify(result);
+  }
+
+  private Object proxify(Object result) {
     if (isProxified(result.getClass()) || Arrays.isNullOrEmpty(actual(result))) {
       return result;
     }
@@ -0,0 +1,44 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api;
+
+/**
+ * Interface implemented by the generated soft-assertion proxy classes to give their interceptors to an instance.
+ * <p>
+ * The proxy classes are generated once for each assertion class and shared : the interceptors (which depend on the
+ * soft assertions object) are kept in fields of each instance.
+ * </p>
+ * <p>
+ * Note : this interface is public to be accessible from the proxy classes (which are in another class loader) but is
+ * not part of the API.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+public interface SoftProxySetup {
+
+  /**
+   * Sets the collector of the errors.
+   *
+   * @param errorCollector The collector of the errors.
+   */
+  void assertjDb$setErrorCollector(ErrorCollector errorCollector);
+
+  /**
+   * Sets the interceptor of the navigation methods.
+   *
+   * @param proxifyPositionResult The interceptor of the navigation methods.
+   */
+  void assertjDb$setProxifyPositionResult(ProxifyPositionResult proxifyPositionResult);
+}
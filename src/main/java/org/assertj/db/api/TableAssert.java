@@ -13,7 +13,11 @@
 package org.assertj.db.api;
 
 import org.assertj.db.api.assertions.AssertOnExistence;
+import org.assertj.db.api.assertions.AssertOnTableEquality;
+import org.assertj.db.api.assertions.AssertOnTableIntegrity;
 import org.assertj.db.api.assertions.impl.AssertionsOnTableExistence;
+import org.assertj.db.api.assertions.impl.AssertionsOnTableEquality;
+import org.assertj.db.api.assertions.impl.AssertionsOnTableIntegrity;
 import org.assertj.db.type.Table;
 
 /**
@@ -24,7 +28,9 @@ import org.assertj.db.type.Table;
  */
 public class TableAssert
     extends AbstractDbAssert<Table, TableAssert, TableColumnAssert, TableColumnValueAssert, TableRowAssert, TableRowValueAssert>
-    implements AssertOnExistence<TableAssert> {
+    implements AssertOnExistence<TableAssert>,
+               AssertOnTableIntegrity<TableAssert>,
+               AssertOnTableEquality<TableAssert> {
 
   /**
    * Constructor.
@@ -68,4 +74,30 @@ public class TableAssert
   public TableAssert doesNotExist() {
     return AssertionsOnTableExistence.doesNotExists(this, info, actual.getName(), actual.getSource(), actual.getDataSource());
   }
+
+  /** {@inheritDoc} */
+  @Override
+  public TableAssert hasUniqueValues(String... columnsName) {
+    return AssertionsOnTableIntegrity.hasUniqueValues(this, info, actual, columnsName);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public TableAssert hasReferentialIntegrityWith(Table referencedTable) {
+    return AssertionsOnTableIntegrity.hasReferentialIntegrityWith(this, info, actual, referencedTable);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public TableAssert hasReferentialIntegrityWith(Table referencedTable, String[] columnsName,
+                                                 String[] referencedColumnsName) {
+    return AssertionsOnTableIntegrity.hasReferentialIntegrityWith(this, info, actual, referencedTable, columnsName,
+                                                                  referencedColumnsName);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public TableAssert isEqualTo(Table expected) {
+    return AssertionsOnTableEquality.isEqualTo(this, info, actual, expected);
+  }
 }
@@ -0,0 +1,70 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.db.type.Change;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Defines the assertion methods on all the changes.
+ * <p>
+ * The changes are given directly to the predicate or to the requirements : no assertion object is created for each
+ * change.
+ * </p>
+ *
+ * @param <T> The "self" type of this assertion class. Please read &quot;<a href="http://bit.ly/1IZIRcY"
+ *            target="_blank">Emulating 'self types' using Java Generics to simplify fluent API implementation</a>&quot;
+ *            for more details.
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+public interface AssertOnAllChanges<T extends AssertOnAllChanges<T>> {
+
+  /**
+   * Verifies that all the changes satisfy the predicate.
+   * <p>
+   * Example where the assertion verifies that all the changes are on the movie table :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(changes).allChangesSatisfy(change -&gt; change.getDataName().equalsIgnoreCase(&quot;movie&quot;));
+   * </code></pre>
+   *
+   * @param predicate The predicate.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException If the predicate is {@code null}.
+   * @throws AssertionError If a change does not satisfy the predicate (the indexes of these changes are in the message).
+   */
+  T allChangesSatisfy(Predicate<? super Change> predicate);
+
+  /**
+   * Verifies that all the changes satisfy the requirements : the requirements are expressed by throwing an
+   * {@link AssertionError} (for example with the AssertJ assertions).
+   * <p>
+   * Example where the assertion verifies that no change is a deletion :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(changes).forEachChange(change -&gt; Assertions.assertThat(change.getChangeType()).isNotEqualTo(ChangeType.DELETION));
+   * </code></pre>
+   *
+   * @param requirements The requirements.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException If the requirements are {@code null}.
+   * @throws AssertionError If a change does not satisfy the requirements (the indexes of these changes and the
+   *                        messages are in the message).
+   */
+  T forEachChange(Consumer<? super Change> requirements);
+}
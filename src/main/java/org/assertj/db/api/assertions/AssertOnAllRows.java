@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.db.type.Row;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Defines the assertion methods on all the rows.
+ * <p>
+ * The rows are given directly to the predicate or to the requirements : no assertion object is created for each row.
+ * </p>
+ *
+ * @param <T> The "self" type of this assertion class. Please read &quot;<a href="http://bit.ly/1IZIRcY"
+ *            target="_blank">Emulating 'self types' using Java Generics to simplify fluent API implementation</a>&quot;
+ *            for more details.
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+public interface AssertOnAllRows<T extends AssertOnAllRows<T>> {
+
+  /**
+   * Verifies that all the rows satisfy the predicate.
+   * <p>
+   * Example where the assertion verifies that all the movies are after 1970 :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).allRowsSatisfy(row -&gt; ((Number) row.getColumnValue(&quot;year&quot;).getValue()).intValue() &gt; 1970);
+   * </code></pre>
+   *
+   * @param predicate The predicate.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException If the predicate is {@code null}.
+   * @throws AssertionError If a row does not satisfy the predicate (the indexes of these rows are in the message).
+   */
+  T allRowsSatisfy(Predicate<? super Row> predicate);
+
+  /**
+   * Verifies that all the rows satisfy the requirements : the requirements are expressed by throwing an
+   * {@link AssertionError} (for example with the AssertJ assertions).
+   * <p>
+   * Example where the assertion verifies that all the movies have a title :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).forEachRow(row -&gt; Assertions.assertThat(row.getColumnValue(&quot;title&quot;).getValue()).isNotNull());
+   * </code></pre>
+   *
+   * @param requirements The requirements.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException If the requirements are {@code null}.
+   * @throws AssertionError If a row does not satisfy the requirements (the indexes of these rows and the messages are
+   *                        in the message).
+   */
+  T forEachRow(Consumer<? super Row> requirements);
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+/**
+ * Defines the assertion methods on the aggregates of the values of a column (sum, average, minimum, maximum, number of
+ * distinct values and number of null values).
+ * <p>
+ * The aggregates are computed by the database if the values of the column are not loaded (so only one value is
+ * transferred), and from the values otherwise. The {@code null} values are ignored (like with the aggregate functions
+ * of SQL).
+ * </p>
+ *
+ * @param <T> The "self" type of this assertion class. Please read &quot;<a href="http://bit.ly/1IZIRcY"
+ *            target="_blank">Emulating 'self types' using Java Generics to simplify fluent API implementation</a>&quot;
+ *            for more details.
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+public interface AssertOnColumnAggregate<T extends AssertOnColumnAggregate<T>> {
+
+  /**
+   * Verifies that the sum of the values of the column is equal to the number in parameter.
+   * <p>
+   * Example where the assertion verifies that the sum of the values of the column called amount is 1500 :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).column(&quot;amount&quot;).hasSum(1500);
+   * </code></pre>
+   *
+   * @param expected The expected sum ({@code null} if there is no value which is not {@code null}).
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the sum is different from the number in parameter.
+   * @see org.assertj.db.api.AbstractColumnAssert#hasSum(Number)
+   */
+  T hasSum(Number expected);
+
+  /**
+   * Verifies that the average of the values of the column is equal to the number in parameter.
+   * <p>
+   * Example where the assertion verifies that the average of the values of the column called amount is 12.5 :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).column(&quot;amount&quot;).hasAverage(12.5);
+   * </code></pre>
+   *
+   * @param expected The expected average ({@code null} if there is no value which is not {@code null}).
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the average is different from the number in parameter.
+   * @see org.assertj.db.api.AbstractColumnAssert#hasAverage(Number)
+   */
+  T hasAverage(Number expected);
+
+  /**
+   * Verifies that the average of the values of the column is close to the number in parameter.
+   * <p>
+   * Example where the assertion verifies that the average of the values of the column called amount is close to 33.33
+   * with a tolerance of 0.01 :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).column(&quot;amount&quot;).hasAverage(33.33, 0.01);
+   * </code></pre>
+   *
+   * @param expected The expected average.
+   * @param tolerance The tolerance of the closeness.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the average is not close to the number in parameter.
+   * @see org.assertj.db.api.AbstractColumnAssert#hasAverage(Number, Number)
+   */
+  T hasAverage(Number expected, Number tolerance);
+
+  /**
+   * Verifies that the minimum of the values of the column is equal to the value in parameter.
+   * <p>
+   * Example where the assertion verifies that the first year of the movies is 1979 :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).column(&quot;year&quot;).hasMin(1979);
+   * </code></pre>
+   *
+   * @param expected The expected minimum (compared like with the assertions on the equality of a value).
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the minimum is different from the value in parameter.
+   * @see org.assertj.db.api.AbstractColumnAssert#hasMin(Object)
+   */
+  T hasMin(Object expected);
+
+  /**
+   * Verifies that the maximum of the values of the column is equal to the value in parameter.
+   * <p>
+   * Example where the assertion verifies that the last date of birth of the actors is 1980-05-13 :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).column(&quot;birth&quot;).hasMax(DateValue.of(1980, 5, 13));
+   * </code></pre>
+   *
+   * @param expected The expected maximum (compared like with the assertions on the equality of a value).
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the maximum is different from the value in parameter.
+   * @see org.assertj.db.api.AbstractColumnAssert#hasMax(Object)
+   */
+  T hasMax(Object expected);
+
+  /**
+   * Verifies that the number of distinct values of the column is equal to the number in parameter.
+   * <p>
+   * Example where the assertion verifies that the column called currency has 3 distinct values :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).column(&quot;currency&quot;).hasNumberOfDistinctValues(3);
+   * </code></pre>
+   *
+   * @param expected The expected number of distinct values.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the number of distinct values is different from the number in parameter.
+   * @see org.assertj.db.api.AbstractColumnAssert#hasNumberOfDistinctValues(int)
+   */
+  T hasNumberOfDistinctValues(int expected);
+
+  /**
+   * Verifies that the number of {@code null} values of the column is equal to the number in parameter.
+   * <p>
+   * Example where the assertion verifies that the column called comment has 2 {@code null} values :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).column(&quot;comment&quot;).hasNumberOfNullValues(2);
+   * </code></pre>
+   *
+   * @param expected The expected number of {@code null} values.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the number of {@code null} values is different from the number in parameter.
+   * @see org.assertj.db.api.AbstractColumnAssert#hasNumberOfNullValues(int)
+   */
+  T hasNumberOfNullValues(int expected);
+}
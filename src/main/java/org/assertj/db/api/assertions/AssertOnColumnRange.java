@@ -0,0 +1,244 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.db.type.DateTimeValue;
+import org.assertj.db.type.DateValue;
+import org.assertj.db.type.TimeValue;
+
+/**
+ * Defines the assertion methods on the range and on the order of all the values of a column.
+ * <p>
+ * The values are compared in one loop (without an assertion object for each value) and the error message contains the
+ * first offending values with their indexes. A {@code null} value is always an offending value.
+ * </p>
+ *
+ * @param <T> The "self" type of this assertion class. Please read &quot;<a href="http://bit.ly/1IZIRcY"
+ *            target="_blank">Emulating 'self types' using Java Generics to simplify fluent API implementation</a>&quot;
+ *            for more details.
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+public interface AssertOnColumnRange<T extends AssertOnColumnRange<T>> {
+
+  /**
+   * Verifies that all the values of the column are between two numbers (included).
+   * <p>
+   * Example where the assertion verifies that the years of the movies are between 1970 and 2020 :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).column(&quot;year&quot;).hasValuesBetween(1970, 2020);
+   * </code></pre>
+   *
+   * @param start The start of the range.
+   * @param end The end of the range.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If a value is not between the bounds.
+   * @see org.assertj.db.api.AbstractColumnAssert#hasValuesBetween(Number, Number)
+   */
+  T hasValuesBetween(Number start, Number end);
+
+  /**
+   * Verifies that all the values of the column are between two date values (included).
+   * <p>
+   * Example where the assertion verifies that the dates of birth are in the seventies :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).column(&quot;birth&quot;).hasValuesBetween(DateValue.of(1970, 1, 1),
+   *                                                   DateValue.of(1979, 12, 31));
+   * </code></pre>
+   *
+   * @param start The start of the range.
+   * @param end The end of the range.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If a value is not between the bounds.
+   * @see org.assertj.db.api.AbstractColumnAssert#hasValuesBetween(DateValue, DateValue)
+   */
+  T hasValuesBetween(DateValue start, DateValue end);
+
+  /**
+   * Verifies that all the values of the column are between two time values (included).
+   * <p>
+   * Example where the assertion verifies that the times of the column called start are in the morning :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).column(&quot;start&quot;).hasValuesBetween(TimeValue.of(6, 0), TimeValue.of(12, 0));
+   * </code></pre>
+   *
+   * @param start The start of the range.
+   * @param end The end of the range.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If a value is not between the bounds.
+   * @see org.assertj.db.api.AbstractColumnAssert#hasValuesBetween(TimeValue, TimeValue)
+   */
+  T hasValuesBetween(TimeValue start, TimeValue end);
+
+  /**
+   * Verifies that all the values of the column are between two date/time values (included).
+   * <p>
+   * Example where the assertion verifies that the dates/times of the column called creation are in 2020-01-01 :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).column(&quot;creation&quot;).hasValuesBetween(DateTimeValue.of(DateValue.of(2020, 1, 1)),
+   *     DateTimeValue.of(DateValue.of(2020, 1, 1), TimeValue.of(23, 59, 59)));
+   * </code></pre>
+   *
+   * @param start The start of the range.
+   * @param end The end of the range.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If a value is not between the bounds.
+   * @see org.assertj.db.api.AbstractColumnAssert#hasValuesBetween(DateTimeValue, DateTimeValue)
+   */
+  T hasValuesBetween(DateTimeValue start, DateTimeValue end);
+
+  /**
+   * Verifies that all the values of the column are before a date value.
+   * <p>
+   * Example where the assertion verifies that the dates of birth are before 1950-01-01 :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).column(&quot;birth&quot;).hasValuesBefore(DateValue.of(1950, 1, 1));
+   * </code></pre>
+   *
+   * @param bound The bound.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If a value is not before the bound.
+   * @see org.assertj.db.api.AbstractColumnAssert#hasValuesBefore(DateValue)
+   */
+  T hasValuesBefore(DateValue bound);
+
+  /**
+   * Verifies that all the values of the column are before a time value.
+   * <p>
+   * Example where the assertion verifies that the times of the column called start are before 06:00 :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).column(&quot;start&quot;).hasValuesBefore(TimeValue.of(6, 0));
+   * </code></pre>
+   *
+   * @param bound The bound.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If a value is not before the bound.
+   * @see org.assertj.db.api.AbstractColumnAssert#hasValuesBefore(TimeValue)
+   */
+  T hasValuesBefore(TimeValue bound);
+
+  /**
+   * Verifies that all the values of the column are before a date/time value.
+   * <p>
+   * Example where the assertion verifies that the dates/times of the column creation are before 2020-01-01T12:00 :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).column(&quot;creation&quot;)
+   *                  .hasValuesBefore(DateTimeValue.of(DateValue.of(2020, 1, 1), TimeValue.of(12, 0)));
+   * </code></pre>
+   *
+   * @param bound The bound.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If a value is not before the bound.
+   * @see org.assertj.db.api.AbstractColumnAssert#hasValuesBefore(DateTimeValue)
+   */
+  T hasValuesBefore(DateTimeValue bound);
+
+  /**
+   * Verifies that all the values of the column are after a date value.
+   * <p>
+   * Example where the assertion verifies that the dates of birth are after 1950-01-01 :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).column(&quot;birth&quot;).hasValuesAfter(DateValue.of(1950, 1, 1));
+   * </code></pre>
+   *
+   * @param bound The bound.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If a value is not after the bound.
+   * @see org.assertj.db.api.AbstractColumnAssert#hasValuesAfter(DateValue)
+   */
+  T hasValuesAfter(DateValue bound);
+
+  /**
+   * Verifies that all the values of the column are after a time value.
+   * <p>
+   * Example where the assertion verifies that the times of the column called start are after 06:00 :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).column(&quot;start&quot;).hasValuesAfter(TimeValue.of(6, 0));
+   * </code></pre>
+   *
+   * @param bound The bound.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If a value is not after the bound.
+   * @see org.assertj.db.api.AbstractColumnAssert#hasValuesAfter(TimeValue)
+   */
+  T hasValuesAfter(TimeValue bound);
+
+  /**
+   * Verifies that all the values of the column are after a date/time value.
+   * <p>
+   * Example where the assertion verifies that the dates/times of the column creation are after 2020-01-01T12:00 :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).column(&quot;creation&quot;)
+   *                  .hasValuesAfter(DateTimeValue.of(DateValue.of(2020, 1, 1), TimeValue.of(12, 0)));
+   * </code></pre>
+   *
+   * @param bound The bound.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If a value is not after the bound.
+   * @see org.assertj.db.api.AbstractColumnAssert#hasValuesAfter(DateTimeValue)
+   */
+  T hasValuesAfter(DateTimeValue bound);
+
+  /**
+   * Verifies that the values of the column are strictly increasing (each value is greater than the previous one).
+   * <p>
+   * Example where the assertion verifies that the identifiers are strictly increasing :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).column(&quot;id&quot;).hasStrictlyIncreasingValues();
+   * </code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @throws AssertionError If a value is not greater than the previous one.
+   * @see org.assertj.db.api.AbstractColumnAssert#hasStrictlyIncreasingValues()
+   */
+  T hasStrictlyIncreasingValues();
+
+  /**
+   * Verifies that the values of the column are non-decreasing (each value is greater than or equal to the
+   * previous one).
+   * <p>
+   * Example where the assertion verifies that the years of the movies (ordered by year) are non-decreasing :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).column(&quot;year&quot;).hasNonDecreasingValues();
+   * </code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @throws AssertionError If a value is less than the previous one.
+   * @see org.assertj.db.api.AbstractColumnAssert#hasNonDecreasingValues()
+   */
+  T hasNonDecreasingValues();
+}
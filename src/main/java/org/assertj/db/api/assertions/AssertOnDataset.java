@@ -0,0 +1,61 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.db.type.Dataset;
+
+/**
+ * Defines the assertion method on the comparison of the content with an expected dataset.
+ *
+ * @param <T> The "self" type of this assertion class. Please read &quot;<a href="http://bit.ly/1IZIRcY"
+ *            target="_blank">Emulating 'self types' using Java Generics to simplify fluent API implementation</a>&quot;
+ *            for more details.
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+public interface AssertOnDataset<T extends AssertOnDataset<T>> {
+
+  /**
+   * Verifies that the content is the same as the expected dataset (a CSV file, a JSON Lines file or rows in memory).
+   * <p>
+   * The columns of the dataset are compared with the columns of the same name (the other columns are not compared).
+   * If all the primary keys are in the columns of the dataset, the rows are matched with their primary keys and the
+   * other values are compared. Otherwise the rows are matched with all their values (the order of the rows is not
+   * important).
+   * </p>
+   * <p>
+   * The rows of the dataset are read one by one and the error message reports in one time the rows of the dataset
+   * which are missing, the rows which are not in the dataset and the rows which are different.
+   * </p>
+   * <p>
+   * A value of the dataset is converted to the type of the column : for example the text {@code "2014-05-24"} is
+   * equal to a date, {@code "09:46:30"} to a time, {@code "2014-05-24T09:46:30"} to a date/time, {@code "5.60"} to
+   * the number {@code 5.6} and a text in Base64 to bytes.
+   * </p>
+   * <p>
+   * Example where the assertion verifies that the content of the table is the same as a CSV file :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).hasSameContentAs(Dataset.fromCsv(Paths.get(&quot;expected/movie.csv&quot;)));
+   * </code></pre>
+   *
+   * @param expected The expected dataset.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the content is not the same as the dataset.
+   * @throws org.assertj.db.exception.AssertJDBException If a column of the dataset is not in the columns or if the
+   *                                                     dataset can not be read.
+   * @see org.assertj.db.api.AbstractDbAssert#hasSameContentAs(Dataset)
+   */
+  T hasSameContentAs(Dataset expected);
+}
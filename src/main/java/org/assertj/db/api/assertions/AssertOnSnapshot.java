@@ -0,0 +1,56 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import java.nio.file.Path;
+
+/**
+ * Defines the assertion method on the comparison with a snapshot recorded in a file (a golden file).
+ *
+ * @param <T> The "self" type of this assertion class. Please read &quot;<a href="http://bit.ly/1IZIRcY"
+ *            target="_blank">Emulating 'self types' using Java Generics to simplify fluent API implementation</a>&quot;
+ *            for more details.
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+public interface AssertOnSnapshot<T extends AssertOnSnapshot<T>> {
+
+  /**
+   * Verifies that the actual value is the same as the snapshot recorded in the file.
+   * <p>
+   * If the {@value org.assertj.db.api.assertions.impl.AssertionsOnSnapshot#UPDATE_PROPERTY} system property is
+   * {@code true}, the actual value is recorded in the file (a CSV file with the values of the rows for a {@code Table}
+   * or a {@code Request} and with the modified values for {@code Changes}) and the assertion succeeds. Otherwise the
+   * actual value is compared with the file : the rows are matched in a hash table and only the differences are
+   * reported (like with {@link AssertOnDataset#hasSameContentAs(org.assertj.db.type.Dataset)}). A missing file is an
+   * error (it is never recorded silently, for example on a continuous integration server).
+   * </p>
+   * <p>
+   * Example where the assertion verifies the content of a table with a recorded file :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).matchesSnapshot(Paths.get(&quot;src/test/resources/snapshots/movie.csv&quot;));
+   * </code></pre>
+   * <p>
+   * The file is recorded (the first time or again) by running the tests with {@code -Dassertj.db.snapshot.update=true}.
+   * </p>
+   *
+   * @param path The path of the file of the snapshot.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the actual value is not the same as the snapshot.
+   * @throws org.assertj.db.exception.AssertJDBException If the file does not exist (and the snapshot is not recorded)
+   *                                                     or can not be read or written.
+   */
+  T matchesSnapshot(Path path);
+}
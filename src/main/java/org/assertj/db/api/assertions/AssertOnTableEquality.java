@@ -0,0 +1,57 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.db.type.Table;
+
+/**
+ * Defines the assertion method on the equality of the content of a table with another table (which can be on another
+ * data source or database).
+ * <p>
+ * The rows of the two tables are read in the order of the primary keys (or of all the columns without primary key)
+ * and are compared while they are read : the tables are not loaded in memory.
+ * </p>
+ *
+ * @param <T> The "self" type of this assertion class. Please read &quot;<a href="http://bit.ly/1IZIRcY"
+ *            target="_blank">Emulating 'self types' using Java Generics to simplify fluent API implementation</a>&quot;
+ *            for more details.
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+public interface AssertOnTableEquality<T extends AssertOnTableEquality<T>> {
+
+  /**
+   * Verifies that the content of the table is equal to the content of the expected table.
+   * <p>
+   * The two tables must have the same columns (compared by name). The values are compared by their type and not by
+   * their class (so {@code 1} in a {@code INTEGER} column is equal to {@code 1.0} in a {@code DECIMAL} column). The
+   * rows are matched by the values of the primary keys (or of all the columns if there is no primary key), whatever
+   * the order of the rows in the two databases.
+   * </p>
+   * <p>
+   * Example where the assertion verifies that the movies of the production database are the same as in the test
+   * database :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(new Table(testDataSource, &quot;movie&quot;)).isEqualTo(new Table(productionDataSource, &quot;movie&quot;));
+   * </code></pre>
+   *
+   * @param expected The expected table.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the content of the table is not equal to the content of the expected table.
+   * @throws org.assertj.db.exception.AssertJDBException If the tables have not the same columns.
+   * @see org.assertj.db.api.TableAssert#isEqualTo(Table)
+   */
+  T isEqualTo(Table expected);
+}
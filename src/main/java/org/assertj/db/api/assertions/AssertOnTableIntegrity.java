@@ -0,0 +1,99 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.db.type.Table;
+
+/**
+ * Defines the assertion methods on the integrity of the data of a table : the uniqueness of values and the references
+ * to the rows of another table.
+ * <p>
+ * These assertions are verified by the database : only the rows which fail the assertion are transferred (so the
+ * tables are not loaded).
+ * </p>
+ *
+ * @param <T> The "self" type of this assertion class. Please read &quot;<a href="http://bit.ly/1IZIRcY"
+ *            target="_blank">Emulating 'self types' using Java Generics to simplify fluent API implementation</a>&quot;
+ *            for more details.
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+public interface AssertOnTableIntegrity<T extends AssertOnTableIntegrity<T>> {
+
+  /**
+   * Verifies that the values of the columns in parameter are unique (there are no two rows with the same values).
+   * <p>
+   * Like with a unique constraint, the rows with a {@code null} value in one of the columns are ignored.
+   * </p>
+   * <p>
+   * Example where the assertion verifies that the couples of name and firstname of the actors are unique :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).hasUniqueValues(&quot;name&quot;, &quot;firstname&quot;);
+   * </code></pre>
+   *
+   * @param columnsName The names of the columns.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the values of the columns are in several rows.
+   * @see org.assertj.db.api.TableAssert#hasUniqueValues(String...)
+   */
+  T hasUniqueValues(String... columnsName);
+
+  /**
+   * Verifies that the foreign keys of the table to the referenced table are respected (each row references a row of
+   * the referenced table).
+   * <p>
+   * The foreign keys are found in the metadata of the database. It is useful when the constraints are disabled (during
+   * a load of data for example) or are not declared with their checking.
+   * </p>
+   * <p>
+   * Example where the assertion verifies that the interpretations reference existing movies :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(interpretationTable).hasReferentialIntegrityWith(movieTable);
+   * </code></pre>
+   *
+   * @param referencedTable The referenced table.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If a row references no row of the referenced table.
+   * @throws org.assertj.db.exception.AssertJDBException If there is no foreign key to the referenced table.
+   * @see org.assertj.db.api.TableAssert#hasReferentialIntegrityWith(Table)
+   */
+  T hasReferentialIntegrityWith(Table referencedTable);
+
+  /**
+   * Verifies that the values of the columns of the table reference a row of the referenced table (as if there was a
+   * foreign key).
+   * <p>
+   * Like with a foreign key, the rows with a {@code null} value in one of the columns are ignored.
+   * </p>
+   * <p>
+   * Example where the assertion verifies that the values of the id_movie column reference the id column of the movies :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(interpretationTable).hasReferentialIntegrityWith(movieTable, new String[] { &quot;id_movie&quot; },
+   *                                                             new String[] { &quot;id&quot; });
+   * </code></pre>
+   *
+   * @param referencedTable The referenced table.
+   * @param columnsName The names of the columns of the table.
+   * @param referencedColumnsName The names of the referenced columns (in the same order).
+   * @return {@code this} assertion object.
+   * @throws AssertionError If a row references no row of the referenced table.
+   * @see org.assertj.db.api.TableAssert#hasReferentialIntegrityWith(Table, String[], String[])
+   */
+  T hasReferentialIntegrityWith(Table referencedTable, String[] columnsName, String[] referencedColumnsName);
+}
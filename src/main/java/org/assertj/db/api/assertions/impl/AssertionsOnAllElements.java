@@ -0,0 +1,252 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions.impl;
+
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.core.internal.Failures;
+import org.assertj.db.api.AbstractAssert;
+import org.assertj.db.exception.AssertJDBException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.assertj.db.error.ShouldAllSatisfy.shouldAllSatisfyPredicate;
+import static org.assertj.db.error.ShouldAllSatisfy.shouldAllSatisfyRequirements;
+import static org.assertj.db.util.Messages.MAX_NUMBER_IN_MESSAGE;
+
+/**
+ * Implements the assertion methods on all the elements (rows, columns or changes).
+ * <p>
+ * All the elements are verified but only the first failures are kept for the error message. With an executor, the
+ * elements are partitioned in ranges of indexes which are verified in parallel : the failures of the ranges are
+ * aggregated in the order of the indexes, so the message is the same as without executor.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @see org.assertj.db.api.assertions.AssertOnAllRows
+ * @see org.assertj.db.api.assertions.AssertOnAllColumns
+ * @see org.assertj.db.api.assertions.AssertOnAllChanges
+ * @since 2.0.3
+ */
+public class AssertionsOnAllElements {
+
+  /**
+   * To notice failures in the assertion.
+   */
+  private static final Failures failures = Failures.instance();
+
+  /**
+   * Number of ranges for each processor when the elements are verified in parallel (more ranges than processors to
+   * balance the load when the verification of the elements has not the same duration).
+   */
+  private static final int RANGES_BY_PROCESSOR = 4;
+
+  /**
+   * Private constructor.
+   */
+  private AssertionsOnAllElements() {
+    // Empty
+  }
+
+  /**
+   * Verifies that all the elements satisfy the predicate.
+   *
+   * @param <A>          The type of the assertion which call this method.
+   * @param <E>          The type of the elements.
+   * @param assertion    The assertion which call this method.
+   * @param info         Writable information about an assertion.
+   * @param elementsList The elements.
+   * @param elementsName The name of the elements (for example {@code "rows"}).
+   * @param executor     The executor to verify the elements in parallel or {@code null} to verify them in the calling
+   *                     thread (the data of the elements must be loaded before).
+   * @param predicate    The predicate.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException If the predicate is {@code null}.
+   * @throws AssertionError If an element does not satisfy the predicate.
+   */
+  public static <A extends AbstractAssert<?>, E> A allSatisfy(A assertion, WritableAssertionInfo info,
+                                                              List<E> elementsList, String elementsName,
+                                                              ExecutorService executor,
+                                                              Predicate<? super E> predicate) {
+    if (predicate == null) {
+      throw new NullPointerException("Predicate must be not null");
+    }
+    Result result = evaluate(elementsList, executor, element -> predicate.test(element) ? null : "");
+    if (result.count > 0) {
+      throw failures.failure(info, shouldAllSatisfyPredicate(elementsName, result.count,
+                                                             new ArrayList<>(result.errorsMap.keySet())));
+    }
+    return assertion;
+  }
+
+  /**
+   * Verifies that all the elements satisfy the requirements (expressed by throwing an {@link AssertionError}).
+   *
+   * @param <A>          The type of the assertion which call this method.
+   * @param <E>          The type of the elements.
+   * @param assertion    The assertion which call this method.
+   * @param info         Writable information about an assertion.
+   * @param elementsList The elements.
+   * @param elementsName The name of the elements (for example {@code "rows"}).
+   * @param executor     The executor to verify the elements in parallel or {@code null} to verify them in the calling
+   *                     thread (the data of the elements must be loaded before).
+   * @param requirements The requirements.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException If the requirements are {@code null}.
+   * @throws AssertionError If an element does not satisfy the requirements.
+   */
+  public static <A extends AbstractAssert<?>, E> A allSatisfy(A assertion, WritableAssertionInfo info,
+                                                              List<E> elementsList, String elementsName,
+                                                              ExecutorService executor,
+                                                              Consumer<? super E> requirements) {
+    if (requirements == null) {
+      throw new NullPointerException("Requirements must be not null");
+    }
+    Result result = evaluate(elementsList, executor, element -> {
+      try {
+        requirements.accept(element);
+        return null;
+      } catch (AssertionError error) {
+        return String.valueOf(error.getMessage());
+      }
+    });
+    if (result.count > 0) {
+      throw failures.failure(info, shouldAllSatisfyRequirements(elementsName, result.count, result.errorsMap));
+    }
+    return assertion;
+  }
+
+  /**
+   * Verifies all the elements, in the calling thread or in parallel.
+   *
+   * @param <E>          The type of the elements.
+   * @param elementsList The elements.
+   * @param executor     The executor or {@code null}.
+   * @param verification The verification : returns the error for an element or {@code null}.
+   * @return The result of the verification.
+   */
+  private static <E> Result evaluate(List<E> elementsList, ExecutorService executor,
+                                     Function<? super E, String> verification) {
+    if (executor == null) {
+      return evaluateRange(elementsList, 0, elementsList.size(), verification);
+    }
+
+    // The elements are got in the calling thread (the lists of the data can be loaded at the first use) but what the
+    // elements load at their first use is not synchronized : the caller must load it before
+    List<E> elements = new ArrayList<>(elementsList);
+    int size = elements.size();
+    int numberOfRanges = Runtime.getRuntime().availableProcessors() * RANGES_BY_PROCESSOR;
+    int rangeSize = Math.max(1, (size + numberOfRanges - 1) / numberOfRanges);
+    List<Future<Result>> futuresList = new ArrayList<>();
+    try {
+      for (int start = 0; start < size; start += rangeSize) {
+        int from = start;
+        int to = Math.min(size, start + rangeSize);
+        futuresList.add(executor.submit(() -> evaluateRange(elements, from, to, verification)));
+      }
+      Result result = new Result();
+      for (Future<Result> future : futuresList) {
+        result.add(future.get());
+      }
+      return result;
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new AssertJDBException(exception);
+    } catch (ExecutionException exception) {
+      Throwable cause = exception.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new AssertJDBException(exception);
+    } finally {
+      for (Future<Result> future : futuresList) {
+        future.cancel(true);
+      }
+    }
+  }
+
+  /**
+   * Verifies the elements in a range of indexes.
+   *
+   * @param <E>          The type of the elements.
+   * @param elementsList The elements.
+   * @param from         The first index (inclusive).
+   * @param to           The last index (exclusive).
+   * @param verification The verification : returns the error for an element or {@code null}.
+   * @return The result of the verification of the range.
+   */
+  private static <E> Result evaluateRange(List<E> elementsList, int from, int to,
+                                          Function<? super E, String> verification) {
+    Result result = new Result();
+    for (int index = from; index < to; index++) {
+      String error = verification.apply(elementsList.get(index));
+      if (error != null) {
+        result.addError(index, error);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Result of the verification of elements : the number of failures and the first errors with their index.
+   */
+  private static final class Result {
+
+    /**
+     * The number of elements which failed.
+     */
+    private int count;
+    /**
+     * The first errors (at most {@link org.assertj.db.util.Messages#MAX_NUMBER_IN_MESSAGE}) with their index.
+     */
+    private final Map<Integer, String> errorsMap = new LinkedHashMap<>();
+
+    /**
+     * Adds an error.
+     *
+     * @param index The index of the element.
+     * @param error The error.
+     */
+    private void addError(int index, String error) {
+      if (count < MAX_NUMBER_IN_MESSAGE) {
+        errorsMap.put(index, error);
+      }
+      count++;
+    }
+
+    /**
+     * Adds the result of a range following the ranges already added.
+     *
+     * @param result The result to add.
+     */
+    private void add(Result result) {
+      for (Map.Entry<Integer, String> entry : result.errorsMap.entrySet()) {
+        if (errorsMap.size() < MAX_NUMBER_IN_MESSAGE) {
+          errorsMap.put(entry.getKey(), entry.getValue());
+        }
+      }
+      count += result.count;
+    }
+  }
+}
@@ -0,0 +1,226 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions.impl;
+
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.core.internal.Failures;
+import org.assertj.db.api.AbstractAssert;
+import org.assertj.db.type.Column;
+import org.assertj.db.type.Value;
+import org.assertj.db.util.Values;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.assertj.db.error.ShouldHaveAverage.shouldHaveAverage;
+import static org.assertj.db.error.ShouldHaveMaximum.shouldHaveMaximum;
+import static org.assertj.db.error.ShouldHaveMinimum.shouldHaveMinimum;
+import static org.assertj.db.error.ShouldHaveNumberOfDistinctValues.shouldHaveNumberOfDistinctValues;
+import static org.assertj.db.error.ShouldHaveNumberOfNullValues.shouldHaveNumberOfNullValues;
+import static org.assertj.db.error.ShouldHaveSum.shouldHaveSum;
+
+/**
+ * Implements the assertion methods on the aggregates of the values of a column.
+ *
+ * @author Régis Pouiller
+ * @see org.assertj.db.api.assertions.AssertOnColumnAggregate
+ * @since 2.0.3
+ */
+public class AssertionsOnColumnAggregate {
+
+  /**
+   * To notice failures in the assertion.
+   */
+  private static final Failures failures = Failures.instance();
+
+  /**
+   * Private constructor.
+   */
+  private AssertionsOnColumnAggregate() {
+    // Empty
+  }
+
+  /**
+   * Verifies that the sum of the values of the column is equal to the number in parameter.
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param column    The column.
+   * @param expected  The expected sum.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the sum is different from the number in parameter.
+   */
+  public static <A extends AbstractAssert<?>> A hasSum(A assertion, WritableAssertionInfo info, Column column,
+                                                    Number expected) {
+    BigDecimal sum = column.getSum();
+    if (!areEqual(sum, expected)) {
+      throw failures.failure(info, shouldHaveSum(sum, expected));
+    }
+    return assertion;
+  }
+
+  /**
+   * Verifies that the average of the values of the column is equal to the number in parameter.
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param column    The column.
+   * @param expected  The expected average.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the average is different from the number in parameter.
+   */
+  public static <A extends AbstractAssert<?>> A hasAverage(A assertion, WritableAssertionInfo info, Column column,
+                                                        Number expected) {
+    BigDecimal average = column.getAverage();
+    if (!areEqual(average, expected)) {
+      throw failures.failure(info, shouldHaveAverage(average, expected));
+    }
+    return assertion;
+  }
+
+  /**
+   * Verifies that the average of the values of the column is close to the number in parameter.
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param column    The column.
+   * @param expected  The expected average.
+   * @param tolerance The tolerance of the closeness.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the average is not close to the number in parameter.
+   */
+  public static <A extends AbstractAssert<?>> A hasAverage(A assertion, WritableAssertionInfo info, Column column,
+                                                        Number expected, Number tolerance) {
+    BigDecimal average = column.getAverage();
+    if (average == null || expected == null
+        || average.subtract(toBigDecimal(expected)).abs().compareTo(toBigDecimal(tolerance).abs()) > 0) {
+      throw failures.failure(info, shouldHaveAverage(average, expected, tolerance));
+    }
+    return assertion;
+  }
+
+  /**
+   * Verifies that the minimum of the values of the column is equal to the value in parameter.
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param column    The column.
+   * @param expected  The expected minimum.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the minimum is different from the value in parameter.
+   */
+  public static <A extends AbstractAssert<?>> A hasMin(A assertion, WritableAssertionInfo info, Column column,
+                                                    Object expected) {
+    Value min = column.getMin();
+    if (!Values.areEqual(min, expected)) {
+      throw failures.failure(info, shouldHaveMinimum(Values.getRepresentationFromValueInFrontOfExpected(min, expected),
+                                                     expected));
+    }
+    return assertion;
+  }
+
+  /**
+   * Verifies that the maximum of the values of the column is equal to the value in parameter.
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param column    The column.
+   * @param expected  The expected maximum.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the maximum is different from the value in parameter.
+   */
+  public static <A extends AbstractAssert<?>> A hasMax(A assertion, WritableAssertionInfo info, Column column,
+                                                    Object expected) {
+    Value max = column.getMax();
+    if (!Values.areEqual(max, expected)) {
+      throw failures.failure(info, shouldHaveMaximum(Values.getRepresentationFromValueInFrontOfExpected(max, expected),
+                                                     expected));
+    }
+    return assertion;
+  }
+
+  /**
+   * Verifies that the number of distinct values of the column is equal to the number in parameter.
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param column    The column.
+   * @param expected  The expected number of distinct values.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the number of distinct values is different from the number in parameter.
+   */
+  public static <A extends AbstractAssert<?>> A hasNumberOfDistinctValues(A assertion, WritableAssertionInfo info,
+                                                                       Column column, int expected) {
+    int number = column.getNumberOfDistinctValues();
+    if (number != expected) {
+      throw failures.failure(info, shouldHaveNumberOfDistinctValues(number, expected));
+    }
+    return assertion;
+  }
+
+  /**
+   * Verifies that the number of {@code null} values of the column is equal to the number in parameter.
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param column    The column.
+   * @param expected  The expected number of {@code null} values.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the number of {@code null} values is different from the number in parameter.
+   */
+  public static <A extends AbstractAssert<?>> A hasNumberOfNullValues(A assertion, WritableAssertionInfo info,
+                                                                   Column column, int expected) {
+    int number = column.getNumberOfNullValues();
+    if (number != expected) {
+      throw failures.failure(info, shouldHaveNumberOfNullValues(number, expected));
+    }
+    return assertion;
+  }
+
+  /**
+   * Returns if a computed number is equal to an expected number (whatever the scale).
+   *
+   * @param number   The computed number.
+   * @param expected The expected number.
+   * @return {@code true} if the numbers are equal.
+   */
+  private static boolean areEqual(BigDecimal number, Number expected) {
+    if (number == null || expected == null) {
+      return number == null && expected == null;
+    }
+    return number.compareTo(toBigDecimal(expected)) == 0;
+  }
+
+  /**
+   * Returns a number as a {@code BigDecimal}.
+   *
+   * @param number The number.
+   * @return The {@code BigDecimal}.
+   */
+  private static BigDecimal toBigDecimal(Number number) {
+    if (number instanceof BigDecimal) {
+      return (BigDecimal) number;
+    }
+    if (number instanceof BigInteger) {
+      return new BigDecimal((BigInteger) number);
+    }
+    return new BigDecimal(number.toString());
+  }
+}
@@ -18,9 +18,19 @@ import org.assertj.db.api.AbstractAssert;
 import org.assertj.db.type.*;
 import org.assertj.db.util.Values;
 
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
 
 import static org.assertj.db.error.ShouldContainsValue.shouldContainsValue;
 
@@ -37,6 +47,23 @@ public class AssertionsOnColumnContent {
    * To notice failures in the assertion.
    */
   private static final Failures failures = Failures.instance();
+  /**
+   * Key of the {@code null} values.
+   */
+  private static final Object NULL_KEY = new Object();
+  /**
+   * Key of the values which can not be equal to an expected value.
+   */
+  private static final Object NOT_COMPARABLE = new Object();
+  /**
+   * Index returned when the keys can not be used.
+   */
+  private static final int UNKNOWN_INDEX = -2;
+  /**
+   * Maximum number of values in the message when the column does not contain the values : for a larger column, only
+   * the values around the index of the value which is not found are represented in the message.
+   */
+  static final int MAX_NUMBER_OF_VALUES_IN_MESSAGE = 20;
 
   /**
    * Private constructor.
@@ -59,30 +86,9 @@ public class AssertionsOnColumnContent {
   public static <A extends AbstractAssert<?>> A containsValues(A assertion, WritableAssertionInfo info,
                                                        List<Value> valuesList, Object... expected) {
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
-    int index = 0;
-    for (Object val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
-        List<Object> listForError = new ArrayList<>();
-        for (Value obj : valuesList) {
-          listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, Object.class));
-        }
-        throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
-      }
-      list = newList;
-      index++;
-    }
-    return assertion;
+    return containsValues(assertion, info, valuesList, expected, Object.class,
+                          AssertionsOnColumnContent::getObjectKeyOfValue, AssertionsOnColumnContent::getObjectKey,
+                          Values::areEqual);
   }
 
   /**
@@ -100,30 +106,9 @@ public class AssertionsOnColumnContent {
                                                        List<Value> valuesList, Boolean... expected) {
     AssertionsOnColumnType.isBoolean(assertion, info, valuesList, true);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
-    int index = 0;
-    for (Boolean val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
-        List<Object> listForError = new ArrayList<>();
-        for (Value obj : valuesList) {
-          listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, Boolean.class));
-        }
-        throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
-      }
-      list = newList;
-      index++;
-    }
-    return assertion;
+    return containsValues(assertion, info, valuesList, expected, Boolean.class,
+                          AssertionsOnColumnContent::getEqualsKeyOfValue, AssertionsOnColumnContent::getEqualsKey,
+                          Values::areEqual);
   }
 
   /**
@@ -141,30 +126,9 @@ public class AssertionsOnColumnContent {
                                                        List<Value> valuesList, Number... expected) {
     AssertionsOnColumnType.isNumber(assertion, info, valuesList, true);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
-    int index = 0;
-    for (Number val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
-        List<Object> listForError = new ArrayList<>();
-        for (Value obj : valuesList) {
-          listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, Number.class));
-        }
-        throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
-      }
-      list = newList;
-      index++;
-    }
-    return assertion;
+    return containsValues(assertion, info, valuesList, expected, Number.class,
+                          AssertionsOnColumnContent::getNumberKeyOfValue, Values::getExactNumberKey,
+                          Values::areEqual);
   }
 
   /**
@@ -182,26 +146,9 @@ public class AssertionsOnColumnContent {
                                                        List<Value> valuesList, byte[]... expected) {
     AssertionsOnColumnType.isBytes(assertion, info, valuesList, true);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
-    int index = 0;
-    for (byte[] val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
-        throw failures.failure(info, shouldContainsValue(index));
-      }
-      list = newList;
-      index++;
-    }
-    return assertion;
+    return containsValues(assertion, info, valuesList, expected, null,
+                          AssertionsOnColumnContent::getBytesKeyOfValue, AssertionsOnColumnContent::getBytesKey,
+                          Values::areEqual);
   }
 
   /**
@@ -220,30 +167,20 @@ public class AssertionsOnColumnContent {
     AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.TEXT, ValueType.NUMBER, ValueType.DATE,
                                          ValueType.TIME, ValueType.DATE_TIME, ValueType.UUID, ValueType.NOT_IDENTIFIED);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
-    int index = 0;
-    for (String val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
-        List<Object> listForError = new ArrayList<>();
-        for (Value obj : valuesList) {
-          listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, String.class));
-        }
-        throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
-      }
-      list = newList;
-      index++;
+    // The texts are parsed once (when computing their keys) for a column of dates, times or dates/times
+    if (hasOnlyValuesOfTypes(valuesList, ValueType.DATE, ValueType.DATE_TIME)) {
+      return containsValues(assertion, info, valuesList, expected, String.class,
+                            AssertionsOnColumnContent::getDateTimeKeyOfValue,
+                            AssertionsOnColumnContent::getDateTimeKeyOfText, Values::areEqual);
     }
-    return assertion;
+    if (hasOnlyValuesOfTypes(valuesList, ValueType.TIME)) {
+      return containsValues(assertion, info, valuesList, expected, String.class,
+                            AssertionsOnColumnContent::getTimeKeyOfValue, AssertionsOnColumnContent::getTimeKeyOfText,
+                            Values::areEqual);
+    }
+    return containsValues(assertion, info, valuesList, expected, String.class,
+                          AssertionsOnColumnContent::getTextKeyOfValue, AssertionsOnColumnContent::getEqualsKey,
+                          Values::areEqual);
   }
 
   /**
@@ -262,30 +199,9 @@ public class AssertionsOnColumnContent {
                                                        List<Value> valuesList, Character... expected) {
     AssertionsOnColumnType.isText(assertion, info, valuesList, true);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
-    int index = 0;
-    for (Character val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
-        List<Object> listForError = new ArrayList<>();
-        for (Value obj : valuesList) {
-          listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, Character.class));
-        }
-        throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
-      }
-      list = newList;
-      index++;
-    }
-    return assertion;
+    return containsValues(assertion, info, valuesList, expected, Character.class,
+                          AssertionsOnColumnContent::getCharacterKeyOfValue, AssertionsOnColumnContent::getEqualsKey,
+                          Values::areEqual);
   }
 
   /**
@@ -303,30 +219,9 @@ public class AssertionsOnColumnContent {
                                                        List<Value> valuesList, UUID... expected) {
     AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.UUID, ValueType.NOT_IDENTIFIED);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
-    int index = 0;
-    for (UUID val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
-        List<Object> listForError = new ArrayList<>();
-        for (Value obj : valuesList) {
-          listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, UUID.class));
-        }
-        throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
-      }
-      list = newList;
-      index++;
-    }
-    return assertion;
+    return containsValues(assertion, info, valuesList, expected, UUID.class,
+                          AssertionsOnColumnContent::getEqualsKeyOfValue, AssertionsOnColumnContent::getEqualsKey,
+                          Values::areEqual);
   }
 
   /**
@@ -345,30 +240,9 @@ public class AssertionsOnColumnContent {
     AssertionsOnColumnType
             .isOfAnyTypeIn(assertion, info, valuesList, ValueType.DATE, ValueType.DATE_TIME, ValueType.NOT_IDENTIFIED);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
-    int index = 0;
-    for (DateValue val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
-        List<Object> listForError = new ArrayList<>();
-        for (Value obj : valuesList) {
-          listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, DateValue.class));
-        }
-        throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
-      }
-      list = newList;
-      index++;
-    }
-    return assertion;
+    return containsValues(assertion, info, valuesList, expected, DateValue.class,
+                          AssertionsOnColumnContent::getDateTimeKeyOfValue, AssertionsOnColumnContent::getDateKey,
+                          Values::areEqual);
   }
 
   /**
@@ -386,30 +260,9 @@ public class AssertionsOnColumnContent {
                                                        List<Value> valuesList, TimeValue... expected) {
     AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.TIME, ValueType.NOT_IDENTIFIED);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
-    int index = 0;
-    for (TimeValue val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
-        List<Object> listForError = new ArrayList<>();
-        for (Value obj : valuesList) {
-          listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, TimeValue.class));
-        }
-        throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
-      }
-      list = newList;
-      index++;
-    }
-    return assertion;
+    return containsValues(assertion, info, valuesList, expected, TimeValue.class,
+                          AssertionsOnColumnContent::getTimeKeyOfValue, AssertionsOnColumnContent::getEqualsKey,
+                          Values::areEqual);
   }
 
   /**
@@ -428,29 +281,356 @@ public class AssertionsOnColumnContent {
     AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.DATE, ValueType.DATE_TIME,
                                          ValueType.NOT_IDENTIFIED);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
-    int index = 0;
-    for (DateTimeValue val : expected) {
+    return containsValues(assertion, info, valuesList, expected, DateTimeValue.class,
+                          AssertionsOnColumnContent::getDateTimeKeyOfValue, AssertionsOnColumnContent::getEqualsKey,
+                          Values::areEqual);
+  }
+
+  /**
+   * Verifies that the column contains the expected values in any order.
+   * <p>
+   * The values are counted in a map with a normalized key for each value, so the verification is linear. The keys are
+   * only used when they give exactly the same result as {@code equality} : if a key can not be computed for one of the
+   * values or of the expected values (for example for a text compared with a number), the values are compared one by
+   * one with {@code equality}.
+   * </p>
+   *
+   * @param <A>         The type of the assertion which call this method.
+   * @param <T>         The type of the expected values.
+   * @param assertion   The assertion which call this method.
+   * @param info        Writable information about an assertion.
+   * @param valuesList  The list of values.
+   * @param expected    The expected values.
+   * @param clazz       The class of the expected values for the representation of the values in the error message (or
+   *                    {@code null} for no representation).
+   * @param valueKey    The function giving the key of a value ({@code null} if no key, {@link #NOT_COMPARABLE} if the
+   *                    value can not be equal to an expected value).
+   * @param expectedKey The function giving the key of an expected value ({@code null} if no key).
+   * @param equality    The comparison of a value with an expected value.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the column are not containing the values in parameter.
+   */
+  private static <A extends AbstractAssert<?>, T> A containsValues(A assertion, WritableAssertionInfo info,
+                                                                  List<Value> valuesList, T[] expected, Class<?> clazz,
+                                                                  Function<Value, Object> valueKey,
+                                                                  Function<T, Object> expectedKey,
+                                                                  BiPredicate<Value, T> equality) {
+    int index = indexOfMissingValue(valuesList, expected, valueKey, expectedKey);
+    if (index == UNKNOWN_INDEX) {
+      index = indexOfMissingValue(valuesList, expected, equality);
+    }
+    if (index != -1) {
+      if (clazz == null) {
+        throw failures.failure(info, shouldContainsValue(index));
+      }
+      int size = valuesList.size();
+      if (size <= MAX_NUMBER_OF_VALUES_IN_MESSAGE) {
+        throw failures.failure(info, shouldContainsValue(getRepresentationsList(valuesList, clazz), expected,
+                                                         expected[index], index));
+      }
+      int start = Math.max(0, Math.min(index - MAX_NUMBER_OF_VALUES_IN_MESSAGE / 2,
+                                       size - MAX_NUMBER_OF_VALUES_IN_MESSAGE));
+      int end = start + MAX_NUMBER_OF_VALUES_IN_MESSAGE;
+      throw failures.failure(info, shouldContainsValue(getRepresentationsList(valuesList.subList(start, end), clazz),
+                                                       Arrays.asList(expected).subList(start, end), expected[index],
+                                                       index, start, end - 1, size));
+    }
+    return assertion;
+  }
+
+  /**
+   * Returns the representations of the values in front of the expected values.
+   *
+   * @param valuesList The list of values.
+   * @param clazz      The class of the expected values.
+   * @return The list of the representations.
+   */
+  private static List<Object> getRepresentationsList(List<Value> valuesList, Class<?> clazz) {
+    List<Object> representationsList = new ArrayList<>(valuesList.size());
+    for (Value value : valuesList) {
+      representationsList.add(Values.getRepresentationFromValueInFrontOfExpected(value, clazz));
+    }
+    return representationsList;
+  }
+
+  /**
+   * Returns the index of the first expected value which is missing in the values by counting the keys.
+   *
+   * @param <T>         The type of the expected values.
+   * @param valuesList  The list of values.
+   * @param expected    The expected values.
+   * @param valueKey    The function giving the key of a value.
+   * @param expectedKey The function giving the key of an expected value.
+   * @return The index, {@code -1} if no value is missing or {@link #UNKNOWN_INDEX} if a key can not be computed.
+   */
+  private static <T> int indexOfMissingValue(List<Value> valuesList, T[] expected, Function<Value, Object> valueKey,
+                                             Function<T, Object> expectedKey) {
+    Object[] expectedKeys = new Object[expected.length];
+    for (int index = 0; index < expected.length; index++) {
+      expectedKeys[index] = expected[index] == null ? NULL_KEY : expectedKey.apply(expected[index]);
+      if (expectedKeys[index] == null) {
+        return UNKNOWN_INDEX;
+      }
+    }
+    Map<Object, int[]> countsMap = new HashMap<>(valuesList.size() * 4 / 3 + 1);
+    for (Value value : valuesList) {
+      Object key = value.getValue() == null ? NULL_KEY : valueKey.apply(value);
+      if (key == null) {
+        return UNKNOWN_INDEX;
+      }
+      if (key != NOT_COMPARABLE) {
+        countsMap.computeIfAbsent(key, k -> new int[1])[0]++;
+      }
+    }
+    for (int index = 0; index < expectedKeys.length; index++) {
+      int[] count = countsMap.get(expectedKeys[index]);
+      if (count == null || count[0] == 0) {
+        return index;
+      }
+      count[0]--;
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the index of the first expected value which is missing in the values by comparing the values one by one :
+   * each expected value is matched with the first value equal to it which is not already matched.
+   *
+   * @param <T>        The type of the expected values.
+   * @param valuesList The list of values.
+   * @param expected   The expected values.
+   * @param equality   The comparison of a value with an expected value.
+   * @return The index or {@code -1} if no value is missing.
+   */
+  private static <T> int indexOfMissingValue(List<Value> valuesList, T[] expected, BiPredicate<Value, T> equality) {
+    boolean[] matched = new boolean[valuesList.size()];
+    for (int index = 0; index < expected.length; index++) {
       boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
+      for (int valueIndex = 0; valueIndex < matched.length && !found; valueIndex++) {
+        if (!matched[valueIndex] && equality.test(valuesList.get(valueIndex), expected[index])) {
+          matched[valueIndex] = true;
           found = true;
         }
       }
       if (!found) {
-        List<Object> listForError = new ArrayList<>();
-        for (Value obj : valuesList) {
-          listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, DateTimeValue.class));
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the key of a value compared with objects (only the booleans, the UUIDs and the numbers have a key).
+   *
+   * @param value The value (not {@code null}).
+   * @return The key.
+   */
+  private static Object getObjectKeyOfValue(Value value) {
+    switch (value.getValueType()) {
+    case BOOLEAN:
+    case UUID:
+      return value.getValue();
+    case NUMBER:
+      return getNumberKeyOfValue(value);
+    case NOT_IDENTIFIED:
+      return null;
+    default:
+      return NOT_COMPARABLE;
+    }
+  }
+
+  /**
+   * Returns the key of an expected object.
+   *
+   * @param expected The expected object (not {@code null}).
+   * @return The key or {@code null}.
+   */
+  private static Object getObjectKey(Object expected) {
+    if (expected instanceof Boolean || expected instanceof UUID) {
+      return expected;
+    }
+    if (expected instanceof Number) {
+      return Values.getExactNumberKey((Number) expected);
+    }
+    return null;
+  }
+
+  /**
+   * Returns the key of a value compared with {@code equals} (with a boolean or an UUID).
+   *
+   * @param value The value (not {@code null}).
+   * @return The key.
+   */
+  private static Object getEqualsKeyOfValue(Value value) {
+    if (value.getValueType() == ValueType.NOT_IDENTIFIED) {
+      return NOT_COMPARABLE;
+    }
+    return value.getValue();
+  }
+
+  /**
+   * Returns the key of an expected value compared with {@code equals}.
+   *
+   * @param expected The expected value (not {@code null}).
+   * @return The key.
+   */
+  private static Object getEqualsKey(Object expected) {
+    return expected;
+  }
+
+  /**
+   * Returns the key of a value compared with numbers (see {@link Values#getExactNumberKey(Number)}).
+   *
+   * @param value The value (not {@code null}).
+   * @return The key or {@code null} for an object which is not a number or for a floating point number.
+   */
+  private static Object getNumberKeyOfValue(Value value) {
+    Object object = value.getValue();
+    if (object instanceof Number) {
+      return Values.getExactNumberKey((Number) object);
+    }
+    return null;
+  }
+
+  /**
+   * Returns the key of a value compared with arrays of bytes.
+   *
+   * @param value The value (not {@code null}).
+   * @return The key.
+   */
+  private static Object getBytesKeyOfValue(Value value) {
+    Object object = value.getValue();
+    if (object instanceof byte[]) {
+      return ByteBuffer.wrap((byte[]) object);
+    }
+    return NOT_COMPARABLE;
+  }
+
+  /**
+   * Returns the key of an expected array of bytes.
+   *
+   * @param expected The expected array of bytes (not {@code null}).
+   * @return The key.
+   */
+  private static Object getBytesKey(byte[] expected) {
+    return ByteBuffer.wrap(expected);
+  }
+
+  /**
+   * Returns the key of a value compared with texts (only the texts have a key, the others are parsed).
+   *
+   * @param value The value (not {@code null}).
+   * @return The key or {@code null}.
+   */
+  private static Object getTextKeyOfValue(Value value) {
+    Object object = value.getValue();
+    return object instanceof String ? object : null;
+  }
+
+  /**
+   * Returns the key of a value compared with characters.
+   *
+   * @param value The value (not {@code null}).
+   * @return The key or {@code null} for an empty text.
+   */
+  private static Object getCharacterKeyOfValue(Value value) {
+    Object object = value.getValue();
+    if (object instanceof String) {
+      String text = (String) object;
+      return text.isEmpty() ? null : (Object) text.charAt(0);
+    }
+    return object instanceof Character ? object : NOT_COMPARABLE;
+  }
+
+  /**
+   * Returns the key of a value compared with dates or dates/times.
+   *
+   * @param value The value (not {@code null}).
+   * @return The key.
+   */
+  private static Object getDateTimeKeyOfValue(Value value) {
+    Object object = value.getValue();
+    if (object instanceof Date) {
+      return DateTimeValue.of(DateValue.from((Date) object));
+    }
+    if (object instanceof Timestamp) {
+      return DateTimeValue.from((Timestamp) object);
+    }
+    return NOT_COMPARABLE;
+  }
+
+  /**
+   * Returns the key of an expected date.
+   *
+   * @param expected The expected date (not {@code null}).
+   * @return The key.
+   */
+  private static Object getDateKey(DateValue expected) {
+    return DateTimeValue.of(expected);
+  }
+
+  /**
+   * Returns the key of an expected date/time represented by a text.
+   *
+   * @param expected The expected text (not {@code null}).
+   * @return The key or {@code null} if the text is not a date/time (then the values are compared one by one and the
+   *         comparison fails).
+   */
+  private static Object getDateTimeKeyOfText(String expected) {
+    try {
+      return DateTimeValue.parse(expected);
+    } catch (ParseException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns the key of a value compared with times.
+   *
+   * @param value The value (not {@code null}).
+   * @return The key.
+   */
+  private static Object getTimeKeyOfValue(Value value) {
+    Object object = value.getValue();
+    if (object instanceof Time) {
+      return TimeValue.from((Time) object);
+    }
+    return NOT_COMPARABLE;
+  }
+
+  /**
+   * Returns the key of an expected time represented by a text.
+   *
+   * @param expected The expected text (not {@code null}).
+   * @return The key or {@code null} if the text is not a time (then the values are compared one by one and the
+   *         comparison fails).
+   */
+  private static Object getTimeKeyOfText(String expected) {
+    try {
+      return TimeValue.parse(expected);
+    } catch (ParseException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns if the values which are not {@code null} are all of one of the types.
+   *
+   * @param valuesList The list of values.
+   * @param types      The types.
+   * @return {@code true} if there are values which are not {@code null} and if they are all of one of the types.
+   */
+  private static boolean hasOnlyValuesOfTypes(List<Value> valuesList, ValueType... types) {
+    List<ValueType> typesList = Arrays.asList(types);
+    boolean found = false;
+    for (Value value : valuesList) {
+      if (value.getValue() != null) {
+        if (!typesList.contains(value.getValueType())) {
+          return false;
         }
-        throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
+        found = true;
       }
-      list = newList;
-      index++;
     }
-    return assertion;
+    return found;
   }
 }
@@ -92,14 +92,12 @@ public class AssertionsOnColumnOfChangeEquality {
 
     if (expectedAtStartPoint != null) {
       AssertionsOnColumnOfChangeClass.isOfClass(assertion, info, valueAtStartPoint,
-                                                Value.getNullValue(valueAtEndPoint.getColumnName(),
-                                                                   valueAtEndPoint.getColumnLetterCase()),
+                                                Value.getNullValue(valueAtEndPoint),
                                                 expectedAtStartPoint.getClass(), true);
     }
     if (expectedAtEndPoint != null) {
       AssertionsOnColumnOfChangeClass.isOfClass(assertion, info,
-                                                Value.getNullValue(valueAtStartPoint.getColumnName(),
-                                                                   valueAtStartPoint.getColumnLetterCase()),
+                                                Value.getNullValue(valueAtStartPoint),
                                                 valueAtEndPoint, expectedAtEndPoint.getClass(), true);
     }
     if (!areEqual(valueAtStartPoint, expectedAtStartPoint)) {
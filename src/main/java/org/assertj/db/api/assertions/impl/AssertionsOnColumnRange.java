@@ -0,0 +1,191 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions.impl;
+
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.core.internal.Failures;
+import org.assertj.db.api.AbstractAssert;
+import org.assertj.db.type.Column;
+import org.assertj.db.type.DateValue;
+import org.assertj.db.type.Value;
+import org.assertj.db.util.Messages;
+import org.assertj.db.util.Values;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.db.error.ShouldHaveIncreasingValues.shouldHaveNonDecreasingValues;
+import static org.assertj.db.error.ShouldHaveIncreasingValues.shouldHaveStrictlyIncreasingValues;
+import static org.assertj.db.error.ShouldHaveValuesAfter.shouldHaveValuesAfter;
+import static org.assertj.db.error.ShouldHaveValuesBefore.shouldHaveValuesBefore;
+import static org.assertj.db.error.ShouldHaveValuesBetween.shouldHaveValuesBetween;
+
+/**
+ * Implements the assertion methods on the range and on the order of all the values of a column.
+ *
+ * @author Régis Pouiller
+ * @see org.assertj.db.api.assertions.AssertOnColumnRange
+ * @since 2.0.3
+ */
+public class AssertionsOnColumnRange {
+
+  /**
+   * To notice failures in the assertion.
+   */
+  private static final Failures failures = Failures.instance();
+
+  /**
+   * Private constructor.
+   */
+  private AssertionsOnColumnRange() {
+    // Empty
+  }
+
+  /**
+   * Verifies that all the values of the column are between two bounds (included).
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param column    The column.
+   * @param start     The start of the range.
+   * @param end       The end of the range.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If a value is not between the bounds.
+   */
+  public static <A extends AbstractAssert<?>> A hasValuesBetween(A assertion, WritableAssertionInfo info,
+                                                              Column column, Object start, Object end) {
+    int[] indexes = column.getIndexesOutOf(start, end, Messages.MAX_NUMBER_IN_MESSAGE + 1);
+    if (indexes.length > 0) {
+      throw failures.failure(info, shouldHaveValuesBetween(start, end, getOffendingValues(column, indexes, start),
+                                                           isTruncated(indexes)));
+    }
+    return assertion;
+  }
+
+  /**
+   * Verifies that all the values of the column are before a bound.
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param column    The column.
+   * @param bound     The bound.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If a value is not before the bound.
+   */
+  public static <A extends AbstractAssert<?>> A hasValuesBefore(A assertion, WritableAssertionInfo info,
+                                                             Column column, Object bound) {
+    int[] indexes = column.getIndexesNotBefore(bound, Messages.MAX_NUMBER_IN_MESSAGE + 1);
+    if (indexes.length > 0) {
+      throw failures.failure(info, shouldHaveValuesBefore(bound, getOffendingValues(column, indexes, bound),
+                                                          isTruncated(indexes)));
+    }
+    return assertion;
+  }
+
+  /**
+   * Verifies that all the values of the column are after a bound.
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param column    The column.
+   * @param bound     The bound.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If a value is not after the bound.
+   */
+  public static <A extends AbstractAssert<?>> A hasValuesAfter(A assertion, WritableAssertionInfo info,
+                                                            Column column, Object bound) {
+    int[] indexes = column.getIndexesNotAfter(bound, Messages.MAX_NUMBER_IN_MESSAGE + 1);
+    if (indexes.length > 0) {
+      throw failures.failure(info, shouldHaveValuesAfter(bound, getOffendingValues(column, indexes, bound),
+                                                         isTruncated(indexes)));
+    }
+    return assertion;
+  }
+
+  /**
+   * Verifies that the values of the column are strictly increasing.
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param column    The column.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If a value is not greater than the previous one.
+   */
+  public static <A extends AbstractAssert<?>> A hasStrictlyIncreasingValues(A assertion, WritableAssertionInfo info,
+                                                                         Column column) {
+    int[] indexes = column.getIndexesNotIncreasing(true, Messages.MAX_NUMBER_IN_MESSAGE + 1);
+    if (indexes.length > 0) {
+      throw failures.failure(info, shouldHaveStrictlyIncreasingValues(getOffendingValues(column, indexes, null),
+                                                                      isTruncated(indexes)));
+    }
+    return assertion;
+  }
+
+  /**
+   * Verifies that the values of the column are non-decreasing.
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param column    The column.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If a value is less than the previous one.
+   */
+  public static <A extends AbstractAssert<?>> A hasNonDecreasingValues(A assertion, WritableAssertionInfo info,
+                                                                    Column column) {
+    int[] indexes = column.getIndexesNotIncreasing(false, Messages.MAX_NUMBER_IN_MESSAGE + 1);
+    if (indexes.length > 0) {
+      throw failures.failure(info, shouldHaveNonDecreasingValues(getOffendingValues(column, indexes, null),
+                                                                 isTruncated(indexes)));
+    }
+    return assertion;
+  }
+
+  /**
+   * Returns if there are more offending indexes than in the error message.
+   *
+   * @param indexes The offending indexes.
+   * @return {@code true} if the indexes are truncated in the message.
+   */
+  private static boolean isTruncated(int[] indexes) {
+    return indexes.length > Messages.MAX_NUMBER_IN_MESSAGE;
+  }
+
+  /**
+   * Returns the representations of the offending values (in the error message) with their indexes.
+   *
+   * @param column   The column.
+   * @param indexes  The offending indexes.
+   * @param expected The bound to which the values are compared ({@code null} if there is no bound).
+   * @return The offending values with their indexes.
+   */
+  private static Map<Integer, Object> getOffendingValues(Column column, int[] indexes, Object expected) {
+    Map<Integer, Object> offendingValues = new LinkedHashMap<>();
+    int number = Math.min(indexes.length, Messages.MAX_NUMBER_IN_MESSAGE);
+    for (int index = 0; index < number; index++) {
+      Value value = column.getRowValue(indexes[index]);
+      Object representation;
+      if (expected == null) {
+        representation = Values.getRepresentationFromValueInFrontOfClass(value, DateValue.class);
+      } else {
+        representation = Values.getRepresentationFromValueInFrontOfExpected(value, expected);
+      }
+      offendingValues.put(indexes[index], representation);
+    }
+    return offendingValues;
+  }
+}
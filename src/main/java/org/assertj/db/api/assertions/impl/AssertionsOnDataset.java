@@ -0,0 +1,444 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions.impl;
+
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.core.internal.Failures;
+import org.assertj.db.api.AbstractDbAssert;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.AbstractDbData;
+import org.assertj.db.type.Dataset;
+import org.assertj.db.type.DateTimeValue;
+import org.assertj.db.type.DateValue;
+import org.assertj.db.type.Row;
+import org.assertj.db.type.TimeValue;
+import org.assertj.db.type.Value;
+import org.assertj.db.type.ValueType;
+import org.assertj.db.util.NameIndex;
+import org.assertj.db.util.Values;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Calendar;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.db.error.ShouldHaveSameContent.shouldHaveSameContent;
+import static org.assertj.db.util.Messages.MAX_NUMBER_IN_MESSAGE;
+
+/**
+ * Implements the assertion method on the comparison of the content with an expected dataset.
+ * <p>
+ * The rows of the data are indexed in a hash table (with the values of the primary keys or with all the values) and
+ * the rows of the dataset are read one by one : the comparison is in one pass on the dataset.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @see org.assertj.db.api.assertions.AssertOnDataset
+ * @since 2.0.3
+ */
+public class AssertionsOnDataset {
+
+  /**
+   * To notice failures in the assertion.
+   */
+  private static final Failures failures = Failures.instance();
+
+  /**
+   * Private constructor.
+   */
+  private AssertionsOnDataset() {
+    // Empty
+  }
+
+  /**
+   * Verifies that the content of the data is the same as the expected dataset.
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param data      The data ({@code Table} or {@code Request}).
+   * @param expected  The expected dataset.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the content is not the same as the dataset.
+   * @throws AssertJDBException If a column of the dataset is not in the columns or if the dataset can not be read.
+   */
+  public static <A extends AbstractDbAssert<?, ?, ?, ?, ?, ?>> A hasSameContentAs(A assertion,
+                                                                                WritableAssertionInfo info,
+                                                                                AbstractDbData<?> data,
+                                                                                Dataset expected) {
+    if (expected == null) {
+      throw new NullPointerException("The dataset must be not null");
+    }
+    List<Row> rowsList = data.getRowsList();
+    List<String> columnsNameList = data.getColumnsNameList();
+
+    int numberOfMissingRows = 0;
+    Map<Integer, List<Object>> missingRows = new LinkedHashMap<>();
+    int numberOfExtraRows = 0;
+    Map<Integer, List<Object>> extraRows = new LinkedHashMap<>();
+    int numberOfDifferentRows = 0;
+    Map<Integer, Map<String, List<Object>>> differentRows = new LinkedHashMap<>();
+
+    try (Dataset.RowReader reader = expected.open()) {
+      List<String> datasetColumnsName = reader.getColumnsName();
+      int[] columnsIndex = getColumnsIndex(datasetColumnsName, new NameIndex(columnsNameList,
+                                                                             data.getColumnLetterCase()));
+      ValueType[] valueTypes = getValueTypes(rowsList, columnsIndex);
+      int[] pksPosition = getPksPosition(data.getPksNameList(), new NameIndex(datasetColumnsName,
+                                                                              data.getPrimaryKeyLetterCase()));
+
+      Map<List<Object>, Deque<Integer>> rowsIndexByKey = new HashMap<>(rowsList.size() * 4 / 3 + 1);
+      for (int index = 0; index < rowsList.size(); index++) {
+        List<Object> key = pksPosition != null ? getPksKey(rowsList.get(index))
+                                               : getKey(rowsList.get(index), columnsIndex);
+        rowsIndexByKey.computeIfAbsent(key, k -> new ArrayDeque<>(1)).add(index);
+      }
+
+      boolean[] matched = new boolean[rowsList.size()];
+      Object[] values;
+      int number = 0;
+      while ((values = reader.readRow()) != null) {
+        number++;
+        List<Object> expectedKey = getExpectedKey(values, valueTypes);
+        List<Object> key = expectedKey;
+        if (pksPosition != null) {
+          key = new ArrayList<>(pksPosition.length);
+          for (int position : pksPosition) {
+            key.add(expectedKey.get(position));
+          }
+        }
+        Deque<Integer> indexes = rowsIndexByKey.get(key);
+        Integer index = indexes == null ? null : indexes.poll();
+        if (index == null) {
+          if (numberOfMissingRows++ < MAX_NUMBER_IN_MESSAGE) {
+            missingRows.put(number, Arrays.asList(values));
+          }
+          continue;
+        }
+        matched[index] = true;
+        if (pksPosition != null) {
+          Row row = rowsList.get(index);
+          Map<String, List<Object>> differences = new LinkedHashMap<>();
+          for (int position = 0; position < columnsIndex.length; position++) {
+            Value value = row.getColumnValue(columnsIndex[position]);
+            if (!equalsKeys(Values.getKey(value), expectedKey.get(position))) {
+              differences.put(datasetColumnsName.get(position), Arrays.asList(values[position],
+                                                                             getRepresentation(value)));
+            }
+          }
+          if (!differences.isEmpty() && numberOfDifferentRows++ < MAX_NUMBER_IN_MESSAGE) {
+            differentRows.put(index, differences);
+          }
+        }
+      }
+
+      for (int index = 0; index < matched.length; index++) {
+        if (!matched[index] && numberOfExtraRows++ < MAX_NUMBER_IN_MESSAGE) {
+          List<Object> representations = new ArrayList<>(columnsIndex.length);
+          for (int columnIndex : columnsIndex) {
+            representations.add(getRepresentation(rowsList.get(index).getColumnValue(columnIndex)));
+          }
+          extraRows.put(index, representations);
+        }
+      }
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+
+    if (numberOfMissingRows > 0 || numberOfExtraRows > 0 || numberOfDifferentRows > 0) {
+      throw failures.failure(info, shouldHaveSameContent(numberOfMissingRows, missingRows, numberOfExtraRows,
+                                                         extraRows, numberOfDifferentRows, differentRows));
+    }
+    return assertion;
+  }
+
+  /**
+   * Returns the indexes of the columns of the dataset in the columns of the data.
+   *
+   * @param datasetColumnsName The names of the columns of the dataset.
+   * @param columnsNameIndex   The index of the columns name of the data.
+   * @return The indexes.
+   * @throws AssertJDBException If a column of the dataset is not in the columns of the data.
+   */
+  private static int[] getColumnsIndex(List<String> datasetColumnsName, NameIndex columnsNameIndex) {
+    int[] columnsIndex = new int[datasetColumnsName.size()];
+    for (int position = 0; position < columnsIndex.length; position++) {
+      String columnName = datasetColumnsName.get(position);
+      columnsIndex[position] = columnsNameIndex.indexOf(columnName);
+      if (columnsIndex[position] == -1) {
+        throw new AssertJDBException("The column <%s> of the dataset is not in the columns %s", columnName,
+                                     columnsNameIndex.getNamesList());
+      }
+    }
+    return columnsIndex;
+  }
+
+  /**
+   * Returns the types of the columns of the dataset : the type of the first value which is not {@code null} or else
+   * the type of the column in the database.
+   *
+   * @param rowsList     The rows of the data.
+   * @param columnsIndex The indexes of the columns of the dataset in the columns of the data.
+   * @return The types.
+   */
+  private static ValueType[] getValueTypes(List<Row> rowsList, int[] columnsIndex) {
+    ValueType[] valueTypes = new ValueType[columnsIndex.length];
+    for (int position = 0; position < columnsIndex.length; position++) {
+      valueTypes[position] = ValueType.NOT_IDENTIFIED;
+      for (Row row : rowsList) {
+        Value value = row.getColumnValue(columnsIndex[position]);
+        if (valueTypes[position] == ValueType.NOT_IDENTIFIED) {
+          valueTypes[position] = value.getColumnType();
+        }
+        if (value.getValue() != null) {
+          valueTypes[position] = value.getValueType();
+          break;
+        }
+      }
+    }
+    return valueTypes;
+  }
+
+  /**
+   * Returns the positions of the primary keys in the columns of the dataset.
+   *
+   * @param pksNameList        The names of the primary keys.
+   * @param datasetColumnsName The index of the names of the columns of the dataset.
+   * @return The positions or {@code null} if there is no primary key or if a primary key is not in the dataset.
+   */
+  private static int[] getPksPosition(List<String> pksNameList, NameIndex datasetColumnsName) {
+    if (pksNameList == null || pksNameList.isEmpty()) {
+      return null;
+    }
+    int[] pksPosition = new int[pksNameList.size()];
+    for (int index = 0; index < pksPosition.length; index++) {
+      pksPosition[index] = datasetColumnsName.indexOf(pksNameList.get(index));
+      if (pksPosition[index] == -1) {
+        return null;
+      }
+    }
+    return pksPosition;
+  }
+
+  /**
+   * Returns the key of the values of the primary keys of a row.
+   *
+   * @param row The row.
+   * @return The key.
+   */
+  private static List<Object> getPksKey(Row row) {
+    return Values.getKeys(row.getPksValueList());
+  }
+
+  /**
+   * Returns the key of the values of the columns of a row.
+   *
+   * @param row          The row.
+   * @param columnsIndex The indexes of the columns.
+   * @return The key.
+   */
+  private static List<Object> getKey(Row row, int[] columnsIndex) {
+    List<Object> key = new ArrayList<>(columnsIndex.length);
+    for (int columnIndex : columnsIndex) {
+      key.add(Values.getKey(row.getColumnValue(columnIndex)));
+    }
+    return key;
+  }
+
+  /**
+   * Returns the key of the values of a row of the dataset.
+   *
+   * @param values     The values.
+   * @param valueTypes The types of the columns.
+   * @return The key.
+   */
+  private static List<Object> getExpectedKey(Object[] values, ValueType[] valueTypes) {
+    List<Object> key = new ArrayList<>(values.length);
+    for (int position = 0; position < values.length; position++) {
+      key.add(getExpectedKey(values[position], valueTypes[position]));
+    }
+    return key;
+  }
+
+  /**
+   * Returns if two keys are equal.
+   *
+   * @param key         The key of the value.
+   * @param expectedKey The key of the expected value.
+   * @return If the keys are equal.
+   */
+  private static boolean equalsKeys(Object key, Object expectedKey) {
+    return key == null ? expectedKey == null : key.equals(expectedKey);
+  }
+
+  /**
+   * Returns the key of a value of the dataset converted to the type of the column.
+   *
+   * @param expected  The value of the dataset.
+   * @param valueType The type of the column.
+   * @return The key ({@code null} for a {@code null} value and the value itself if it can not be converted).
+   */
+  private static Object getExpectedKey(Object expected, ValueType valueType) {
+    if (expected == null) {
+      return null;
+    }
+    switch (valueType) {
+    case NUMBER:
+      if (expected instanceof Number) {
+        return Values.getNumberKey((Number) expected);
+      }
+      if (expected instanceof String) {
+        try {
+          return Values.getNumberKey(new BigDecimal(((String) expected).trim()));
+        } catch (NumberFormatException e) {
+          return expected;
+        }
+      }
+      return expected;
+    case DATE:
+    case DATE_TIME:
+      return getDateTimeKey(expected);
+    case TIME:
+      return getTimeKey(expected);
+    case BOOLEAN:
+      if (expected instanceof String) {
+        String text = ((String) expected).trim();
+        if ("true".equalsIgnoreCase(text) || "false".equalsIgnoreCase(text)) {
+          return Boolean.valueOf(text);
+        }
+      }
+      return expected;
+    case UUID:
+      if (expected instanceof String) {
+        try {
+          return UUID.fromString((String) expected);
+        } catch (IllegalArgumentException e) {
+          return expected;
+        }
+      }
+      return expected;
+    case BYTES:
+      if (expected instanceof byte[]) {
+        return ByteBuffer.wrap((byte[]) expected);
+      }
+      if (expected instanceof String) {
+        try {
+          return ByteBuffer.wrap(Base64.getDecoder().decode((String) expected));
+        } catch (IllegalArgumentException e) {
+          return expected;
+        }
+      }
+      return expected;
+    case TEXT:
+      if (expected instanceof Character) {
+        return expected.toString();
+      }
+      return expected;
+    default:
+      return expected;
+    }
+  }
+
+  /**
+   * Returns the key of a value of the dataset compared with a date or a date/time.
+   *
+   * @param expected The value of the dataset (not {@code null}).
+   * @return The key.
+   */
+  private static Object getDateTimeKey(Object expected) {
+    if (expected instanceof DateTimeValue) {
+      return expected;
+    }
+    if (expected instanceof DateValue) {
+      return DateTimeValue.of((DateValue) expected);
+    }
+    if (expected instanceof Timestamp) {
+      return DateTimeValue.from((Timestamp) expected);
+    }
+    if (expected instanceof java.util.Date) {
+      Calendar calendar = Calendar.getInstance();
+      calendar.setTime((java.util.Date) expected);
+      return DateTimeValue.from(calendar);
+    }
+    if (expected instanceof LocalDate) {
+      return DateTimeValue.of(DateValue.from((LocalDate) expected));
+    }
+    if (expected instanceof LocalDateTime) {
+      return DateTimeValue.from((LocalDateTime) expected);
+    }
+    if (expected instanceof String) {
+      String text = ((String) expected).trim();
+      try {
+        if (text.length() > 10) {
+          return DateTimeValue.parse(text.replace(' ', 'T'));
+        }
+        return DateTimeValue.of(DateValue.parse(text));
+      } catch (ParseException e) {
+        return expected;
+      }
+    }
+    return expected;
+  }
+
+  /**
+   * Returns the key of a value of the dataset compared with a time.
+   *
+   * @param expected The value of the dataset (not {@code null}).
+   * @return The key.
+   */
+  private static Object getTimeKey(Object expected) {
+    if (expected instanceof TimeValue) {
+      return expected;
+    }
+    if (expected instanceof Time) {
+      return TimeValue.from((Time) expected);
+    }
+    if (expected instanceof LocalTime) {
+      return TimeValue.from((LocalTime) expected);
+    }
+    if (expected instanceof String) {
+      try {
+        return TimeValue.parse(((String) expected).trim());
+      } catch (ParseException e) {
+        return expected;
+      }
+    }
+    return expected;
+  }
+
+  /**
+   * Returns the representation of a value in the error message.
+   *
+   * @param value The value.
+   * @return The representation.
+   */
+  private static Object getRepresentation(Value value) {
+    return Values.getRepresentationFromValueInFrontOfClass(value, DateValue.class);
+  }
+}
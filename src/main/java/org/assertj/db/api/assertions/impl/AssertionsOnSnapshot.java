@@ -0,0 +1,285 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions.impl;
+
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.core.internal.Failures;
+import org.assertj.db.api.AbstractAssert;
+import org.assertj.db.api.AbstractDbAssert;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.AbstractDbData;
+import org.assertj.db.type.Change;
+import org.assertj.db.type.Changes;
+import org.assertj.db.type.Dataset;
+import org.assertj.db.type.DateTimeValue;
+import org.assertj.db.type.DateValue;
+import org.assertj.db.type.Row;
+import org.assertj.db.type.TimeValue;
+import org.assertj.db.type.Value;
+import org.assertj.db.util.Values;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.db.error.ShouldHaveSameContent.shouldHaveSameContent;
+import static org.assertj.db.util.Messages.MAX_NUMBER_IN_MESSAGE;
+
+/**
+ * Implements the assertion method on the comparison with a snapshot recorded in a file.
+ *
+ * @author Régis Pouiller
+ * @see org.assertj.db.api.assertions.AssertOnSnapshot
+ * @since 2.0.3
+ */
+public class AssertionsOnSnapshot {
+
+  /**
+   * The name of the system property to record again the snapshots.
+   */
+  public static final String UPDATE_PROPERTY = "assertj.db.snapshot.update";
+
+  /**
+   * The names of the columns of a snapshot of changes.
+   */
+  private static final List<String> CHANGES_COLUMNS_NAME = Arrays.asList("change", "data", "primary keys", "column",
+                                                                         "at start point", "at end point");
+
+  /**
+   * To notice failures in the assertion.
+   */
+  private static final Failures failures = Failures.instance();
+
+  /**
+   * Private constructor.
+   */
+  private AssertionsOnSnapshot() {
+    // Empty
+  }
+
+  /**
+   * Verifies that the content of the data is the same as the snapshot (or records the snapshot if the
+   * {@link #UPDATE_PROPERTY} system property is {@code true}).
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param data      The data ({@code Table} or {@code Request}).
+   * @param path      The path of the file of the snapshot.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the content is not the same as the snapshot.
+   * @throws AssertJDBException If the file does not exist (and the snapshot is not recorded) or can not be read or
+   *                            written.
+   */
+  public static <A extends AbstractDbAssert<?, ?, ?, ?, ?, ?>> A matchesSnapshot(A assertion,
+                                                                               WritableAssertionInfo info,
+                                                                               AbstractDbData<?> data, Path path) {
+    if (path == null) {
+      throw new NullPointerException("The path must be not null");
+    }
+    if (isRecording(path)) {
+      List<Object[]> rows = new ArrayList<>();
+      for (Row row : data.getRowsList()) {
+        List<Value> valuesList = row.getValuesList();
+        Object[] texts = new Object[valuesList.size()];
+        for (int index = 0; index < texts.length; index++) {
+          texts[index] = getText(valuesList.get(index));
+        }
+        rows.add(texts);
+      }
+      write(path, data.getColumnsNameList(), rows);
+      return assertion;
+    }
+    return AssertionsOnDataset.hasSameContentAs(assertion, info, data, Dataset.fromCsv(path));
+  }
+
+  /**
+   * Verifies that the changes are the same as the snapshot (or records the snapshot if the {@link #UPDATE_PROPERTY}
+   * system property is {@code true}).
+   * <p>
+   * A change is a row for each modified value (or each value which is not {@code null} for a creation or a deletion)
+   * or a row without column if there is no such value.
+   * </p>
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param changes   The changes.
+   * @param path      The path of the file of the snapshot.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the changes are not the same as the snapshot.
+   * @throws AssertJDBException If the file does not exist (and the snapshot is not recorded) or can not be read or
+   *                            written.
+   */
+  public static <A extends AbstractAssert<?>> A matchesSnapshot(A assertion, WritableAssertionInfo info,
+                                                                Changes changes, Path path) {
+    if (path == null) {
+      throw new NullPointerException("The path must be not null");
+    }
+    List<Object[]> rows = getChangesRows(changes);
+    if (isRecording(path)) {
+      write(path, CHANGES_COLUMNS_NAME, rows);
+      return assertion;
+    }
+
+    Map<List<Object>, Deque<Integer>> rowsIndexByKey = new HashMap<>(rows.size() * 4 / 3 + 1);
+    for (int index = 0; index < rows.size(); index++) {
+      rowsIndexByKey.computeIfAbsent(Arrays.asList(rows.get(index)), k -> new ArrayDeque<>(1)).add(index);
+    }
+    int numberOfMissingRows = 0;
+    Map<Integer, List<Object>> missingRows = new LinkedHashMap<>();
+    boolean[] matched = new boolean[rows.size()];
+    try (Dataset.RowReader reader = Dataset.fromCsv(path).open()) {
+      if (!CHANGES_COLUMNS_NAME.equals(reader.getColumnsName())) {
+        throw new AssertJDBException("The file %s is not a snapshot of changes", path);
+      }
+      Object[] values;
+      int number = 0;
+      while ((values = reader.readRow()) != null) {
+        number++;
+        Deque<Integer> indexes = rowsIndexByKey.get(Arrays.asList(values));
+        Integer index = indexes == null ? null : indexes.poll();
+        if (index != null) {
+          matched[index] = true;
+        } else if (numberOfMissingRows++ < MAX_NUMBER_IN_MESSAGE) {
+          missingRows.put(number, Arrays.asList(values));
+        }
+      }
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+
+    int numberOfExtraRows = 0;
+    Map<Integer, List<Object>> extraRows = new LinkedHashMap<>();
+    for (int index = 0; index < matched.length; index++) {
+      if (!matched[index] && numberOfExtraRows++ < MAX_NUMBER_IN_MESSAGE) {
+        extraRows.put(index, Arrays.asList(rows.get(index)));
+      }
+    }
+    if (numberOfMissingRows > 0 || numberOfExtraRows > 0) {
+      throw failures.failure(info, shouldHaveSameContent(numberOfMissingRows, missingRows, numberOfExtraRows,
+                                                         extraRows, 0, new LinkedHashMap<>()));
+    }
+    return assertion;
+  }
+
+  /**
+   * Returns if the snapshot must be recorded : if the system property is {@code true}.
+   *
+   * @param path The path of the file of the snapshot.
+   * @return If the snapshot must be recorded.
+   * @throws AssertJDBException If the snapshot must not be recorded and the file does not exist.
+   */
+  private static boolean isRecording(Path path) {
+    if (Boolean.getBoolean(UPDATE_PROPERTY)) {
+      return true;
+    }
+    if (!Files.exists(path)) {
+      throw new AssertJDBException("The snapshot %s does not exist (it is recorded with the %s system property)", path,
+                                   UPDATE_PROPERTY);
+    }
+    return false;
+  }
+
+  /**
+   * Writes the snapshot.
+   *
+   * @param path        The path of the file of the snapshot.
+   * @param columnsName The names of the columns.
+   * @param rows        The rows of texts.
+   * @throws AssertJDBException If the file can not be written.
+   */
+  private static void write(Path path, List<String> columnsName, List<Object[]> rows) {
+    try {
+      Dataset.writeCsv(path, columnsName, rows);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Returns the rows of texts of the changes.
+   *
+   * @param changes The changes.
+   * @return The rows.
+   */
+  private static List<Object[]> getChangesRows(Changes changes) {
+    List<Object[]> rows = new ArrayList<>();
+    for (Change change : changes.getChangesList()) {
+      StringBuilder pks = new StringBuilder();
+      for (Value value : change.getPksValueList()) {
+        if (pks.length() > 0) {
+          pks.append(", ");
+        }
+        pks.append(getText(value));
+      }
+      Row rowAtStartPoint = change.getRowAtStartPoint();
+      Row rowAtEndPoint = change.getRowAtEndPoint();
+      Integer[] indexes = org.assertj.db.util.Changes.getIndexesOfModifiedColumns(change);
+      if (indexes.length == 0) {
+        // A change without modified value (for example the creation of a row of null values) is still in the snapshot
+        rows.add(new Object[] { change.getChangeType().name(), change.getDataName(), pks.toString(), null, null,
+                                null });
+      }
+      for (Integer index : indexes) {
+        rows.add(new Object[] { change.getChangeType().name(), change.getDataName(), pks.toString(),
+                                change.getColumnsNameList().get(index),
+                                rowAtStartPoint == null ? null : getText(rowAtStartPoint.getColumnValue(index)),
+                                rowAtEndPoint == null ? null : getText(rowAtEndPoint.getColumnValue(index)) });
+      }
+    }
+    return rows;
+  }
+
+  /**
+   * Returns the text of a value in a snapshot (which is converted again to the type of the column by
+   * {@link AssertionsOnDataset}).
+   *
+   * @param value The value.
+   * @return The text or {@code null} for a {@code null} value.
+   */
+  private static String getText(Value value) {
+    Object object = value.getValue();
+    if (object == null) {
+      return null;
+    }
+    switch (value.getValueType()) {
+    case NUMBER:
+      Object key = Values.getNumberKey((Number) object);
+      return key instanceof BigDecimal ? ((BigDecimal) key).toPlainString() : key.toString();
+    case DATE:
+      return DateValue.from((Date) object).toString();
+    case TIME:
+      return TimeValue.from((Time) object).toString();
+    case DATE_TIME:
+      return DateTimeValue.from((Timestamp) object).toString();
+    case BYTES:
+      return Base64.getEncoder().encodeToString((byte[]) object);
+    default:
+      return object.toString();
+    }
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions.impl;
+
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.core.internal.Failures;
+import org.assertj.db.api.AbstractDbAssert;
+import org.assertj.db.type.Change;
+import org.assertj.db.type.ChangeType;
+import org.assertj.db.type.Row;
+import org.assertj.db.type.Table;
+import org.assertj.db.type.Value;
+import org.assertj.db.util.Values;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.assertj.db.error.ShouldBeEqualToTable.shouldBeEqualToTable;
+import static org.assertj.db.util.Messages.MAX_NUMBER_IN_MESSAGE;
+
+/**
+ * Implements the assertion method on the equality of the content of a table with another table.
+ *
+ * @author Régis Pouiller
+ * @see org.assertj.db.api.assertions.AssertOnTableEquality
+ * @since 2.0.3
+ */
+public class AssertionsOnTableEquality {
+
+  /**
+   * To notice failures in the assertion.
+   */
+  private static final Failures failures = Failures.instance();
+
+  /**
+   * Private constructor.
+   */
+  private AssertionsOnTableEquality() {
+    // Empty
+  }
+
+  /**
+   * Verifies that the content of the table is equal to the content of the expected table.
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param table     The table.
+   * @param expected  The expected table.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the content of the table is not equal to the content of the expected table.
+   */
+  public static <A extends AbstractDbAssert<?, ?, ?, ?, ?, ?>> A isEqualTo(A assertion, WritableAssertionInfo info,
+                                                                         Table table, Table expected) {
+    List<Change> changesList = table.getChangesFrom(expected, MAX_NUMBER_IN_MESSAGE + 1);
+    if (!changesList.isEmpty()) {
+      boolean truncated = changesList.size() > MAX_NUMBER_IN_MESSAGE;
+      List<List<Object>> descriptionsList = new ArrayList<>();
+      for (Change change : changesList.subList(0, Math.min(changesList.size(), MAX_NUMBER_IN_MESSAGE))) {
+        descriptionsList.add(Arrays.asList(change.getChangeType(), getKeys(change.getPksValueList()),
+                                           getDescription(change)));
+      }
+      throw failures.failure(info, shouldBeEqualToTable(expected.getName(), descriptionsList, truncated));
+    }
+    return assertion;
+  }
+
+  /**
+   * Returns the description of the values of a change.
+   *
+   * @param change The change.
+   * @return The values of the row or the modified values for a modification.
+   */
+  private static Object getDescription(Change change) {
+    if (change.getChangeType() == ChangeType.CREATION) {
+      return getKeys(change.getRowAtEndPoint().getValuesList());
+    }
+    if (change.getChangeType() == ChangeType.DELETION) {
+      return getKeys(change.getRowAtStartPoint().getValuesList());
+    }
+    Row rowAtStartPoint = change.getRowAtStartPoint();
+    Row rowAtEndPoint = change.getRowAtEndPoint();
+    List<String> columnsNameList = rowAtEndPoint.getColumnsNameList();
+    Map<String, List<Object>> modifiedValues = new LinkedHashMap<>();
+    for (int index = 0; index < columnsNameList.size(); index++) {
+      Object expectedKey = Values.getKey(rowAtStartPoint.getColumnValue(index));
+      Object actualKey = Values.getKey(rowAtEndPoint.getColumnValue(index));
+      if (!Objects.equals(expectedKey, actualKey)) {
+        modifiedValues.put(columnsNameList.get(index), Arrays.asList(expectedKey, actualKey));
+      }
+    }
+    return modifiedValues;
+  }
+
+  /**
+   * Returns the keys of the values (to compare and to display them independently of their class).
+   *
+   * @param valuesList The values.
+   * @return The keys.
+   */
+  private static List<Object> getKeys(List<Value> valuesList) {
+    List<Object> keysList = new ArrayList<>(valuesList.size());
+    for (Value value : valuesList) {
+      keysList.add(Values.getKey(value));
+    }
+    return keysList;
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions.impl;
+
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.core.internal.Failures;
+import org.assertj.db.api.AbstractDbAssert;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.Table;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.db.error.ShouldHaveReferentialIntegrity.shouldHaveReferentialIntegrity;
+import static org.assertj.db.error.ShouldHaveUniqueValues.shouldHaveUniqueValues;
+import static org.assertj.db.util.Messages.MAX_NUMBER_IN_MESSAGE;
+
+/**
+ * Implements the assertion methods on the integrity of the data of a table.
+ *
+ * @author Régis Pouiller
+ * @see org.assertj.db.api.assertions.AssertOnTableIntegrity
+ * @since 2.0.3
+ */
+public class AssertionsOnTableIntegrity {
+
+  /**
+   * To notice failures in the assertion.
+   */
+  private static final Failures failures = Failures.instance();
+
+  /**
+   * Private constructor.
+   */
+  private AssertionsOnTableIntegrity() {
+    // Empty
+  }
+
+  /**
+   * Verifies that the values of the columns in parameter are unique.
+   *
+   * @param <A>         The type of the assertion which call this method.
+   * @param assertion   The assertion which call this method.
+   * @param info        Writable information about an assertion.
+   * @param table       The table.
+   * @param columnsName The names of the columns.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the values of the columns are in several rows.
+   */
+  public static <A extends AbstractDbAssert<?, ?, ?, ?, ?, ?>> A hasUniqueValues(A assertion,
+                                                                               WritableAssertionInfo info,
+                                                                               Table table, String... columnsName) {
+    Map<List<Object>, Integer> duplicatedValues = table.getDuplicatedValues(MAX_NUMBER_IN_MESSAGE + 1, columnsName);
+    if (!duplicatedValues.isEmpty()) {
+      boolean truncated = duplicatedValues.size() > MAX_NUMBER_IN_MESSAGE;
+      if (truncated) {
+        Iterator<List<Object>> iterator = duplicatedValues.keySet().iterator();
+        for (int index = 0; index <= MAX_NUMBER_IN_MESSAGE; index++) {
+          iterator.next();
+        }
+        iterator.remove();
+      }
+      throw failures.failure(info, shouldHaveUniqueValues(Arrays.asList(columnsName), duplicatedValues, truncated));
+    }
+    return assertion;
+  }
+
+  /**
+   * Verifies that the foreign keys of the table to the referenced table are respected.
+   *
+   * @param <A>             The type of the assertion which call this method.
+   * @param assertion       The assertion which call this method.
+   * @param info            Writable information about an assertion.
+   * @param table           The table.
+   * @param referencedTable The referenced table.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If a row references no row of the referenced table.
+   * @throws AssertJDBException If there is no foreign key to the referenced table.
+   */
+  public static <A extends AbstractDbAssert<?, ?, ?, ?, ?, ?>> A hasReferentialIntegrityWith(A assertion,
+                                                                                           WritableAssertionInfo info,
+                                                                                           Table table,
+                                                                                           Table referencedTable) {
+    List<Table.ForeignKey> foreignKeys = table.getForeignKeys(referencedTable);
+    if (foreignKeys.isEmpty()) {
+      throw new AssertJDBException("There is no foreign key from %s table to %s table", table.getName(),
+                                   referencedTable.getName());
+    }
+    for (Table.ForeignKey foreignKey : foreignKeys) {
+      hasReferentialIntegrityWith(assertion, info, table, referencedTable, foreignKey.getColumnsName(),
+                                  foreignKey.getReferencedColumnsName());
+    }
+    return assertion;
+  }
+
+  /**
+   * Verifies that the values of the columns of the table reference a row of the referenced table.
+   *
+   * @param <A>                   The type of the assertion which call this method.
+   * @param assertion             The assertion which call this method.
+   * @param info                  Writable information about an assertion.
+   * @param table                 The table.
+   * @param referencedTable       The referenced table.
+   * @param columnsName           The names of the columns of the table.
+   * @param referencedColumnsName The names of the referenced columns.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If a row references no row of the referenced table.
+   */
+  public static <A extends AbstractDbAssert<?, ?, ?, ?, ?, ?>> A hasReferentialIntegrityWith(A assertion,
+                                                                                           WritableAssertionInfo info,
+                                                                                           Table table,
+                                                                                           Table referencedTable,
+                                                                                           String[] columnsName,
+                                                                                           String[] referencedColumnsName) {
+    List<List<Object>> valuesList = table.getValuesWithoutReference(MAX_NUMBER_IN_MESSAGE + 1, referencedTable,
+                                                                    columnsName, referencedColumnsName);
+    if (!valuesList.isEmpty()) {
+      boolean truncated = valuesList.size() > MAX_NUMBER_IN_MESSAGE;
+      if (truncated) {
+        valuesList = valuesList.subList(0, MAX_NUMBER_IN_MESSAGE);
+      }
+      throw failures.failure(info, shouldHaveReferentialIntegrity(Arrays.asList(columnsName), referencedTable.getName(),
+                                                                  Arrays.asList(referencedColumnsName), valuesList,
+                                                                  truncated));
+    }
+    return assertion;
+  }
+}
@@ -15,6 +15,7 @@ package org.assertj.db.api.assertions.impl;
 import org.assertj.core.api.WritableAssertionInfo;
 import org.assertj.core.internal.Failures;
 import org.assertj.db.api.AbstractAssert;
+import org.assertj.db.type.Column;
 import org.assertj.db.type.Value;
 
 import java.util.List;
@@ -86,4 +87,52 @@ public class AssertionsOnValuesNullity {
     }
     return assertion;
   }
+
+  /**
+   * Verifies that all the values of the column are {@code null}.
+   * <p>
+   * The values are counted by the database when they are not loaded : they are loaded only when the count finds a
+   * value which is not {@code null}, and then the result and the error message come from the loaded values (the count
+   * is a separate query and the database can change before the loading).
+   * </p>
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param column    The column.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If at least one of the values of the column are not {@code null}.
+   * @since 2.0.3
+   */
+  public static <A extends AbstractAssert<?>> A hasOnlyNullValues(A assertion, WritableAssertionInfo info,
+                                                               Column column) {
+    if (column.getNumberOfNotNullValues() == 0) {
+      return assertion;
+    }
+    return hasOnlyNullValues(assertion, info, column.getValuesList());
+  }
+
+  /**
+   * Verifies that all the values of the column are not {@code null}.
+   * <p>
+   * The values are counted by the database when they are not loaded : they are loaded only when the count finds a
+   * {@code null} value, and then the result and the error message come from the loaded values (the count is a
+   * separate query and the database can change before the loading).
+   * </p>
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param column    The column.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If at least one of the values of the column are {@code null}.
+   * @since 2.0.3
+   */
+  public static <A extends AbstractAssert<?>> A hasOnlyNotNullValues(A assertion, WritableAssertionInfo info,
+                                                                  Column column) {
+    if (column.getNumberOfNullValues() == 0) {
+      return assertion;
+    }
+    return hasOnlyNotNullValues(assertion, info, column.getValuesList());
+  }
 }
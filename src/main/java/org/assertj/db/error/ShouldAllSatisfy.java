@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that all the elements (rows or changes) satisfy
+ * a predicate or requirements failed.
+ *
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+public class ShouldAllSatisfy extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldAllSatisfy}</code> for a predicate.
+   *
+   * @param elementsName The name of the elements (for example {@code "rows"}).
+   * @param count The number of elements which do not satisfy the predicate.
+   * @param indexesList The indexes of the first elements which do not satisfy the predicate.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldAllSatisfyPredicate(String elementsName, int count,
+                                                              List<Integer> indexesList) {
+    return new ShouldAllSatisfy("%nExpecting all the " + elementsName + " to satisfy the predicate but %s of them do not"
+                                + " (index) :%n   <%s>" + (count > indexesList.size() ? "%n(and other ones)" : ""),
+                                count, indexesList);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldAllSatisfy}</code> for requirements.
+   *
+   * @param elementsName The name of the elements (for example {@code "rows"}).
+   * @param count The number of elements which do not satisfy the requirements.
+   * @param errorsMap The messages of the errors of the first elements which do not satisfy the requirements with
+   *                  their index.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldAllSatisfyRequirements(String elementsName, int count,
+                                                                 Map<Integer, String> errorsMap) {
+    StringBuilder stringBuilder = new StringBuilder("%nExpecting all the " + elementsName + " to satisfy the "
+                                                    + "requirements but %s of them do not (index : error) :");
+    List<Object> arguments = new ArrayList<>();
+    arguments.add(count);
+    for (Map.Entry<Integer, String> entry : errorsMap.entrySet()) {
+      // The message is already formatted : it is added to the format to be rendered without quotes
+      String message = String.valueOf(entry.getValue()).trim().replace("%", "%%");
+      stringBuilder.append("%n   %s : ").append(message);
+      arguments.add(entry.getKey());
+    }
+    if (count > errorsMap.size()) {
+      stringBuilder.append("%n(and other ones)");
+    }
+    return new ShouldAllSatisfy(stringBuilder.toString(), arguments.toArray());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param format The format of the message.
+   * @param arguments The arguments of the message.
+   */
+  private ShouldAllSatisfy(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that the content of a table is equal to the
+ * content of another table failed.
+ *
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+public class ShouldBeEqualToTable extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldBeEqualToTable}</code>.
+   *
+   * @param expectedTableName The name of the expected table.
+   * @param changesList The changes from the expected table : for each one the type of change, the values of the
+   *                    primary keys and the values of the row (or the modified values).
+   * @param truncated If there are other changes.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeEqualToTable(String expectedTableName, List<List<Object>> changesList,
+                                                         boolean truncated) {
+    StringBuilder stringBuilder = new StringBuilder("%nExpecting to be equal to the table :%n   <%s>%n"
+                                                    + "but there are these changes from it (type of change [primary "
+                                                    + "keys] : values or {column=[expected, actual]}) :");
+    List<Object> arguments = new ArrayList<>();
+    arguments.add(expectedTableName);
+    for (List<Object> change : changesList) {
+      stringBuilder.append("%n   %s %s : %s");
+      arguments.addAll(change);
+    }
+    if (truncated) {
+      stringBuilder.append("%n(and other ones)");
+    }
+    return new ShouldBeEqualToTable(stringBuilder.toString(), arguments.toArray());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param format The format of the message.
+   * @param arguments The arguments of the message.
+   */
+  private ShouldBeEqualToTable(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
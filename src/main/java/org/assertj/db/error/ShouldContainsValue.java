@@ -24,6 +24,7 @@ import org.assertj.core.error.ErrorMessageFactory;
 public class ShouldContainsValue extends BasicErrorMessageFactory {
 
   private static final String EXPECTED_MESSAGE = "%nExpecting:%n  <%s>%nto contain: %n  <%s>%n (parameter <%s> at index %s is not found)";
+  private static final String EXPECTED_MESSAGE_WITH_INDEXES = "%nExpecting (values at index %s to %s of the %s values):%n  <%s>%nto contain (parameters at the same indexes): %n  <%s>%n (parameter <%s> at index %s is not found)";
   private static final String EXPECTED_MESSAGE_BUT_NOT = "%nExpecting to contain values but not%n (parameter at index %s is not found)";
 
   /**
@@ -39,6 +40,25 @@ public class ShouldContainsValue extends BasicErrorMessageFactory {
     return new ShouldContainsValue(actual, expected, value, index);
   }
 
+  /**
+   * Creates a new <code>{@link org.assertj.db.error.ShouldContainsValue}</code> with only a part of the values (the
+   * values between two indexes).
+   *
+   * @param actual The part of the actual values in the failed assertion.
+   * @param expected The part of the expected values to compare to.
+   * @param value The value which is not found.
+   * @param index The index of the value which is not found.
+   * @param startIndex The index of the first value of the part.
+   * @param endIndex The index of the last value of the part.
+   * @param size The number of values.
+   * @return the created {@code ErrorMessageFactory}.
+   * @since 2.0.3
+   */
+  public static ErrorMessageFactory shouldContainsValue(Object actual, Object expected, Object value, int index,
+                                                        int startIndex, int endIndex, int size) {
+    return new ShouldContainsValue(actual, expected, value, index, startIndex, endIndex, size);
+  }
+
   /**
    * Creates a new <code>{@link org.assertj.db.error.ShouldContainsValue}</code>.
    *
@@ -61,6 +81,22 @@ public class ShouldContainsValue extends BasicErrorMessageFactory {
     super(EXPECTED_MESSAGE, actual, expected, value, index);
   }
 
+  /**
+   * Constructor.
+   *
+   * @param actual The part of the actual values in the failed assertion.
+   * @param expected The part of the expected values to compare to.
+   * @param value The value which is not found.
+   * @param index The index of the value which is not found.
+   * @param startIndex The index of the first value of the part.
+   * @param endIndex The index of the last value of the part.
+   * @param size The number of values.
+   */
+  private ShouldContainsValue(Object actual, Object expected, Object value, int index, int startIndex, int endIndex,
+                              int size) {
+    super(EXPECTED_MESSAGE_WITH_INDEXES, startIndex, endIndex, size, actual, expected, value, index);
+  }
+
   /**
    * Constructor.
    *
@@ -0,0 +1,70 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies the average of the values of a column failed.
+ *
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+public class ShouldHaveAverage extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldHaveAverage}</code>.
+   *
+   * @param actual The actual average.
+   * @param expected The expected average.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveAverage(Object actual, Object expected) {
+    return new ShouldHaveAverage(actual, expected);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldHaveAverage}</code> with a tolerance.
+   *
+   * @param actual The actual average.
+   * @param expected The expected average.
+   * @param tolerance The tolerance of the closeness.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveAverage(Object actual, Object expected, Object tolerance) {
+    return new ShouldHaveAverage(actual, expected, tolerance);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param actual The actual average.
+   * @param expected The expected average.
+   */
+  private ShouldHaveAverage(Object actual, Object expected) {
+    super("%nExpecting average of the values to be equal to :%n   <%s>%nbut was:%n   <%s>", expected, actual);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param actual The actual average.
+   * @param expected The expected average.
+   * @param tolerance The tolerance of the closeness.
+   */
+  private ShouldHaveAverage(Object actual, Object expected, Object tolerance) {
+    super("%nExpecting average of the values to be close to :%n   <%s>%n with tolerance <%s>%nbut was:%n   <%s>",
+          expected, tolerance, actual);
+  }
+}
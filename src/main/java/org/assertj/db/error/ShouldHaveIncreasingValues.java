@@ -0,0 +1,66 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.util.Map;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that the values of a column are increasing
+ * failed.
+ *
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+public class ShouldHaveIncreasingValues extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldHaveIncreasingValues}</code> for strictly increasing values.
+   *
+   * @param offendingValues The offending values with their indexes.
+   * @param truncated If there are other offending values.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveStrictlyIncreasingValues(Map<Integer, Object> offendingValues,
+                                                                       boolean truncated) {
+    return new ShouldHaveIncreasingValues("strictly increasing", offendingValues, truncated);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldHaveIncreasingValues}</code> for non-decreasing values.
+   *
+   * @param offendingValues The offending values with their indexes.
+   * @param truncated If there are other offending values.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveNonDecreasingValues(Map<Integer, Object> offendingValues,
+                                                                  boolean truncated) {
+    return new ShouldHaveIncreasingValues("non-decreasing", offendingValues, truncated);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param order The expected order.
+   * @param offendingValues The offending values with their indexes.
+   * @param truncated If there are other offending values.
+   */
+  private ShouldHaveIncreasingValues(String order, Map<Integer, Object> offendingValues, boolean truncated) {
+    super("%nExpecting the values to be " + order + "%n"
+          + "but the values at these indexes are not (index=value) :%n   <%s>"
+          + (truncated ? "%n(and other ones)" : ""),
+          offendingValues);
+  }
+}
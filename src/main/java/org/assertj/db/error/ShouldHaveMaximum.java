@@ -0,0 +1,46 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies the maximum of the values of a column failed.
+ *
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+public class ShouldHaveMaximum extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldHaveMaximum}</code>.
+   *
+   * @param actual The actual maximum.
+   * @param expected The expected maximum.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveMaximum(Object actual, Object expected) {
+    return new ShouldHaveMaximum(actual, expected);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param actual The actual maximum.
+   * @param expected The expected maximum.
+   */
+  private ShouldHaveMaximum(Object actual, Object expected) {
+    super("%nExpecting maximum of the values to be equal to :%n   <%s>%nbut was:%n   <%s>", expected, actual);
+  }
+}
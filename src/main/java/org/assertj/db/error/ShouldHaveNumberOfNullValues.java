@@ -0,0 +1,46 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies the number of null values of a column failed.
+ *
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+public class ShouldHaveNumberOfNullValues extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldHaveNumberOfNullValues}</code>.
+   *
+   * @param actual The actual number of null values.
+   * @param expected The expected number of null values.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveNumberOfNullValues(int actual, int expected) {
+    return new ShouldHaveNumberOfNullValues(actual, expected);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param actual The actual number of null values.
+   * @param expected The expected number of null values.
+   */
+  private ShouldHaveNumberOfNullValues(int actual, int expected) {
+    super("%nExpecting number of null values to be equal to :%n   <%s>%nbut was:%n   <%s>", expected, actual);
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.util.List;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that the values of columns reference rows of
+ * another table failed.
+ *
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+public class ShouldHaveReferentialIntegrity extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldHaveReferentialIntegrity}</code>.
+   *
+   * @param columnsName The names of the columns.
+   * @param referencedTableName The name of the referenced table.
+   * @param referencedColumnsName The names of the referenced columns.
+   * @param valuesList The values of the columns for the rows without reference.
+   * @param truncated If there are other rows without reference.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveReferentialIntegrity(List<String> columnsName,
+                                                                   String referencedTableName,
+                                                                   List<String> referencedColumnsName,
+                                                                   List<List<Object>> valuesList,
+                                                                   boolean truncated) {
+    return new ShouldHaveReferentialIntegrity(columnsName, referencedTableName, referencedColumnsName, valuesList,
+                                              truncated);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param columnsName The names of the columns.
+   * @param referencedTableName The name of the referenced table.
+   * @param referencedColumnsName The names of the referenced columns.
+   * @param valuesList The values of the columns for the rows without reference.
+   * @param truncated If there are other rows without reference.
+   */
+  private ShouldHaveReferentialIntegrity(List<String> columnsName, String referencedTableName,
+                                         List<String> referencedColumnsName, List<List<Object>> valuesList,
+                                         boolean truncated) {
+    super("%nExpecting the values of the columns :%n   <%s>%nto reference the columns :%n   <%s>%nof the table :%n   <%s>%n"
+          + "but these values reference no row :%n   <%s>" + (truncated ? "%n(and other ones)" : ""),
+          columnsName, referencedColumnsName, referencedTableName, valuesList);
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that the content is the same as a dataset failed.
+ *
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+public class ShouldHaveSameContent extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldHaveSameContent}</code>.
+   *
+   * @param numberOfMissingRows The number of rows of the dataset which are missing.
+   * @param missingRows The first missing rows (number of the row in the dataset with the values).
+   * @param numberOfExtraRows The number of rows which are not in the dataset.
+   * @param extraRows The first rows which are not in the dataset (index of the row with the values).
+   * @param numberOfDifferentRows The number of rows which are different.
+   * @param differentRows The first different rows (index of the row with the expected and actual values by column).
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSameContent(int numberOfMissingRows,
+                                                          Map<Integer, List<Object>> missingRows,
+                                                          int numberOfExtraRows,
+                                                          Map<Integer, List<Object>> extraRows,
+                                                          int numberOfDifferentRows,
+                                                          Map<Integer, Map<String, List<Object>>> differentRows) {
+    return new ShouldHaveSameContent(numberOfMissingRows, missingRows, numberOfExtraRows, extraRows,
+                                     numberOfDifferentRows, differentRows);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param numberOfMissingRows The number of rows of the dataset which are missing.
+   * @param missingRows The first missing rows (number of the row in the dataset with the values).
+   * @param numberOfExtraRows The number of rows which are not in the dataset.
+   * @param extraRows The first rows which are not in the dataset (index of the row with the values).
+   * @param numberOfDifferentRows The number of rows which are different.
+   * @param differentRows The first different rows (index of the row with the expected and actual values by column).
+   */
+  private ShouldHaveSameContent(int numberOfMissingRows, Map<Integer, List<Object>> missingRows,
+                                int numberOfExtraRows, Map<Integer, List<Object>> extraRows,
+                                int numberOfDifferentRows, Map<Integer, Map<String, List<Object>>> differentRows) {
+    super(getFormat(numberOfMissingRows, missingRows.size(), numberOfExtraRows, extraRows.size(),
+                    numberOfDifferentRows, differentRows.size()),
+          getArguments(numberOfMissingRows, missingRows, numberOfExtraRows, extraRows, numberOfDifferentRows,
+                       differentRows));
+  }
+
+  /**
+   * Returns the format of the message (with only the parts which are not empty).
+   *
+   * @param numberOfMissingRows The number of missing rows.
+   * @param numberOfMissingRowsInMessage The number of missing rows in the message.
+   * @param numberOfExtraRows The number of rows which are not in the dataset.
+   * @param numberOfExtraRowsInMessage The number of rows which are not in the dataset in the message.
+   * @param numberOfDifferentRows The number of different rows.
+   * @param numberOfDifferentRowsInMessage The number of different rows in the message.
+   * @return The format.
+   */
+  private static String getFormat(int numberOfMissingRows, int numberOfMissingRowsInMessage, int numberOfExtraRows,
+                                  int numberOfExtraRowsInMessage, int numberOfDifferentRows,
+                                  int numberOfDifferentRowsInMessage) {
+    StringBuilder format = new StringBuilder("%nExpecting to have the same content as the dataset but :");
+    if (numberOfMissingRows > 0) {
+      format.append("%n%s row(s) of the dataset are missing (number of the row in the dataset=values) :%n   <%s>");
+      appendOtherOnes(format, numberOfMissingRows, numberOfMissingRowsInMessage);
+    }
+    if (numberOfExtraRows > 0) {
+      format.append("%n%s row(s) are not in the dataset (index=values) :%n   <%s>");
+      appendOtherOnes(format, numberOfExtraRows, numberOfExtraRowsInMessage);
+    }
+    if (numberOfDifferentRows > 0) {
+      format.append("%n%s row(s) are different (index={column=[expected, actual]}) :%n   <%s>");
+      appendOtherOnes(format, numberOfDifferentRows, numberOfDifferentRowsInMessage);
+    }
+    return format.toString();
+  }
+
+  /**
+   * Appends the indication that there are other rows than the ones in the message.
+   *
+   * @param format The format.
+   * @param number The number of rows.
+   * @param numberInMessage The number of rows in the message.
+   */
+  private static void appendOtherOnes(StringBuilder format, int number, int numberInMessage) {
+    if (number > numberInMessage) {
+      format.append("%n(and other ones)");
+    }
+  }
+
+  /**
+   * Returns the arguments of the message (with only the parts which are not empty).
+   *
+   * @param numberOfMissingRows The number of missing rows.
+   * @param missingRows The first missing rows.
+   * @param numberOfExtraRows The number of rows which are not in the dataset.
+   * @param extraRows The first rows which are not in the dataset.
+   * @param numberOfDifferentRows The number of different rows.
+   * @param differentRows The first different rows.
+   * @return The arguments.
+   */
+  private static Object[] getArguments(int numberOfMissingRows, Map<Integer, List<Object>> missingRows,
+                                       int numberOfExtraRows, Map<Integer, List<Object>> extraRows,
+                                       int numberOfDifferentRows,
+                                       Map<Integer, Map<String, List<Object>>> differentRows) {
+    List<Object> arguments = new ArrayList<>();
+    if (numberOfMissingRows > 0) {
+      arguments.add(numberOfMissingRows);
+      arguments.add(missingRows);
+    }
+    if (numberOfExtraRows > 0) {
+      arguments.add(numberOfExtraRows);
+      arguments.add(extraRows);
+    }
+    if (numberOfDifferentRows > 0) {
+      arguments.add(numberOfDifferentRows);
+      arguments.add(differentRows);
+    }
+    return arguments.toArray();
+  }
+}
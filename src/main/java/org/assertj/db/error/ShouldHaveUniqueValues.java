@@ -0,0 +1,56 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that the values of columns are unique failed.
+ *
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+public class ShouldHaveUniqueValues extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldHaveUniqueValues}</code>.
+   *
+   * @param columnsName The names of the columns.
+   * @param duplicatedValues The duplicated values with the number of rows.
+   * @param truncated If there are other duplicated values.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveUniqueValues(List<String> columnsName,
+                                                           Map<List<Object>, Integer> duplicatedValues,
+                                                           boolean truncated) {
+    return new ShouldHaveUniqueValues(columnsName, duplicatedValues, truncated);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param columnsName The names of the columns.
+   * @param duplicatedValues The duplicated values with the number of rows.
+   * @param truncated If there are other duplicated values.
+   */
+  private ShouldHaveUniqueValues(List<String> columnsName, Map<List<Object>, Integer> duplicatedValues,
+                                 boolean truncated) {
+    super("%nExpecting the values of the columns :%n   <%s>%nto be unique but these values are in several rows "
+          + "(with the number of rows) :%n   <%s>" + (truncated ? "%n(and other ones)" : ""),
+          columnsName, duplicatedValues);
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.internal;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Rules on the names of the soft-assertion proxies and of their methods.
+ * <p>
+ * These rules are used at build time by {@code SoftProxyProcessor} which generates the proxies : this class is internal
+ * and is not part of the API.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+public final class SoftProxyMethods {
+
+  /**
+   * The suffix of the name of the proxy classes generated at build time.
+   */
+  public static final String SOFT_PROXY_SUFFIX = "_SoftProxy";
+
+  /**
+   * The names of the methods which are not proxied (the configuration of the assertion and the methods of
+   * {@code Object}).
+   */
+  private static final Set<String> METHODS_NOT_TO_PROXY = new HashSet<>(Arrays.asList(
+      "equals", "hashCode", "clone", "as", "toString", "describedAs", "descriptionText", "getWritableAssertionInfo",
+      "inBinary", "inHexadecimal", "inParallel", "newAbstractIterableAssert", "newObjectArrayAssert",
+      "removeCustomAssertRelatedElementsFromStackTraceIfNeeded", "overridingErrorMessage", "usingComparator",
+      "usingDefaultComparator", "usingElementComparator", "withComparatorsForElementPropertyOrFieldNames",
+      "withComparatorsForElementPropertyOrFieldTypes", "withIterables", "withFailMessage", "withAssertionInfo",
+      "withAssertionState", "withRepresentation", "withTypeComparators", "withThreadDumpOnError", "succeedsWithin",
+      "isEmpty"));
+
+  /**
+   * Private constructor.
+   */
+  private SoftProxyMethods() {
+    // Empty
+  }
+
+  /**
+   * Returns if the method is a navigation method : the result is proxied.
+   *
+   * @param methodName The name of the method.
+   * @return If the method is a navigation method.
+   */
+  public static boolean isNavigationMethod(String methodName) {
+    return methodName.contains("change")
+           || methodName.contains("column")
+           || methodName.contains("row")
+           || methodName.contains("value")
+           || methodName.startsWith("changeOf")
+           || methodName.startsWith("of")
+           || methodName.startsWith("rowAt");
+  }
+
+  /**
+   * Returns if the method is an assertion method : the errors are collected.
+   *
+   * @param methodName The name of the method.
+   * @return If the method is an assertion method.
+   */
+  public static boolean isAssertionMethod(String methodName) {
+    return !isNavigationMethod(methodName) && !METHODS_NOT_TO_PROXY.contains(methodName);
+  }
+}
@@ -0,0 +1,478 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.internal.processor;
+
+import org.assertj.db.internal.SoftProxyMethods;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor which generates at build time the soft-assertion proxy classes of {@code TableAssert},
+ * {@code RequestAssert}, {@code ChangesAssert} and of all the assertion classes reached with their navigation methods.
+ * <p>
+ * A proxy class (named with the {@link SoftProxyMethods#SOFT_PROXY_SUFFIX} suffix) overrides the assertion methods to
+ * collect the errors and the navigation methods to proxy their result. The processor also generates the
+ * {@code SoftProxyRegistry} class with a factory for each constructor of the proxy classes : so the soft assertions
+ * need no bytecode generation and no reflection.
+ * </p>
+ * <p>
+ * The processor is not registered as a service and is not packaged : it is only used during the build of this module.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+@SupportedAnnotationTypes("*")
+public class SoftProxyProcessor extends AbstractProcessor {
+
+  /**
+   * The package of the assertion classes.
+   */
+  private static final String PACKAGE_NAME = "org.assertj.db.api";
+  /**
+   * The assertion classes created by the soft assertions.
+   */
+  private static final String[] ROOT_CLASSES_NAME = { PACKAGE_NAME + ".TableAssert", PACKAGE_NAME + ".RequestAssert",
+                                                      PACKAGE_NAME + ".ChangesAssert" };
+  /**
+   * The name of the registry of the proxy classes.
+   */
+  private static final String REGISTRY_CLASS_NAME = PACKAGE_NAME + ".SoftProxyRegistry";
+
+  /**
+   * If the proxy classes are generated (they are generated in the first round).
+   */
+  private boolean generated;
+  /**
+   * The registrations of the factories of the proxy classes in the registry (one statement for each constructor).
+   */
+  private final List<String> registrations = new ArrayList<>();
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    Elements elements = processingEnv.getElementUtils();
+    if (generated || roundEnv.processingOver() || elements.getTypeElement(ROOT_CLASSES_NAME[0]) == null) {
+      return false;
+    }
+    generated = true;
+
+    Deque<TypeElement> typesToGenerate = new ArrayDeque<>();
+    Set<TypeElement> types = new HashSet<>();
+    for (String className : ROOT_CLASSES_NAME) {
+      TypeElement type = elements.getTypeElement(className);
+      types.add(type);
+      typesToGenerate.add(type);
+    }
+    while (!typesToGenerate.isEmpty()) {
+      TypeElement type = typesToGenerate.poll();
+      for (TypeElement navigationType : generate(type)) {
+        if (types.add(navigationType)) {
+          typesToGenerate.add(navigationType);
+        }
+      }
+    }
+    generateRegistry(types);
+    return false;
+  }
+
+  /**
+   * Generates the registry of the proxy classes : a factory creates a proxy from the array of the parameters of a
+   * constructor.
+   *
+   * @param types The assertion classes with a proxy class.
+   */
+  private void generateRegistry(Set<TypeElement> types) {
+    String simpleName = REGISTRY_CLASS_NAME.substring(PACKAGE_NAME.length() + 1);
+    try (PrintWriter writer = new PrintWriter(processingEnv.getFiler()
+                                                           .createSourceFile(REGISTRY_CLASS_NAME,
+                                                                             types.toArray(new TypeElement[0]))
+                                                           .openWriter())) {
+      writer.println("package " + PACKAGE_NAME + ";");
+      writer.println();
+      writer.println("import java.util.Arrays;");
+      writer.println("import java.util.HashMap;");
+      writer.println("import java.util.List;");
+      writer.println("import java.util.Map;");
+      writer.println("import java.util.function.Function;");
+      writer.println();
+      writer.println("/**");
+      writer.println(" * Registry of the soft-assertion proxies generated by {@code "
+                     + SoftProxyProcessor.class.getSimpleName() + "} : a factory for each constructor.");
+      writer.println(" */");
+      writer.println("@SuppressWarnings({ \"unchecked\", \"rawtypes\", \"deprecation\" })");
+      writer.println("final class " + simpleName + " {");
+      writer.println();
+      writer.println("  private static final Map<Class<?>, Map<List<Class<?>>, Function<Object[], Object>>> FACTORIES");
+      writer.println("      = new HashMap<>();");
+      writer.println();
+      writer.println("  static {");
+      for (String registration : registrations) {
+        writer.println("    " + registration);
+      }
+      writer.println("  }");
+      writer.println();
+      writer.println("  private " + simpleName + "() {");
+      writer.println("    // Empty");
+      writer.println("  }");
+      writer.println();
+      writer.println("  private static void register(Class<?> assertClass, Class<?>[] parametersClass,");
+      writer.println("                               Function<Object[], Object> factory) {");
+      writer.println("    FACTORIES.computeIfAbsent(assertClass, k -> new HashMap<>())");
+      writer.println("             .put(Arrays.asList(parametersClass), factory);");
+      writer.println("  }");
+      writer.println();
+      writer.println("  static Function<Object[], Object> getFactory(Class<?> assertClass,");
+      writer.println("                                               Class<?>[] parametersClass) {");
+      writer.println("    Map<List<Class<?>>, Function<Object[], Object>> factories = FACTORIES.get(assertClass);");
+      writer.println("    return factories == null ? null : factories.get(Arrays.asList(parametersClass));");
+      writer.println("  }");
+      writer.println("}");
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot generate " + REGISTRY_CLASS_NAME + " : "
+                                                                      + e);
+    }
+  }
+
+  /**
+   * Generates the proxy class of an assertion class.
+   *
+   * @param type The assertion class.
+   * @return The assertion classes returned by the navigation methods.
+   */
+  private Set<TypeElement> generate(TypeElement type) {
+    Types types = processingEnv.getTypeUtils();
+    DeclaredType declaredType = (DeclaredType) type.asType();
+    Set<TypeElement> navigationTypes = new HashSet<>();
+    String simpleName = type.getSimpleName() + SoftProxyMethods.SOFT_PROXY_SUFFIX;
+    String className = PACKAGE_NAME + "." + simpleName;
+
+    try (PrintWriter writer = new PrintWriter(processingEnv.getFiler().createSourceFile(className, type)
+                                                           .openWriter())) {
+      writer.println("package " + PACKAGE_NAME + ";");
+      writer.println();
+      writer.println("/**");
+      writer.println(" * Soft-assertion proxy of {@link " + type.getSimpleName() + "} generated by {@code "
+                     + SoftProxyProcessor.class.getSimpleName() + "}.");
+      writer.println(" */");
+      writer.println("@SuppressWarnings({ \"unchecked\", \"rawtypes\", \"deprecation\" })");
+      writer.println("class " + simpleName + " extends " + type.getSimpleName() + " implements SoftProxySetup {");
+      writer.println();
+      writer.println("  private ErrorCollector errorCollector;");
+      writer.println();
+      writer.println("  private ProxifyPositionResult proxifyPositionResult;");
+
+      for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+        if (!constructor.getModifiers().contains(Modifier.PRIVATE)) {
+          ExecutableType constructorType = (ExecutableType) types.asMemberOf(declaredType, constructor);
+          if (!constructorType.getThrownTypes().isEmpty()) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                                                     "Constructors with exceptions can not be proxied", constructor);
+            continue;
+          }
+          writer.println();
+          writer.println("  " + simpleName + "(" + getParameters(constructor, constructorType) + ") {");
+          writer.println("    super(" + getArguments(constructor) + ");");
+          writer.println("  }");
+          registrations.add(getRegistration(type, simpleName, constructorType));
+        }
+      }
+
+      writer.println();
+      writer.println("  @Override");
+      writer.println("  public void assertjDb$setErrorCollector(ErrorCollector errorCollector) {");
+      writer.println("    this.errorCollector = errorCollector;");
+      writer.println("  }");
+      writer.println();
+      writer.println("  @Override");
+      writer.println("  public void assertjDb$setProxifyPositionResult(ProxifyPositionResult proxifyPositionResult) {");
+      writer.println("    this.proxifyPositionResult = proxifyPositionResult;");
+      writer.println("  }");
+
+      for (Map.Entry<ExecutableElement, ExecutableType> entry : getMethods(type, declaredType).entrySet()) {
+        ExecutableElement method = entry.getKey();
+        ExecutableType methodType = entry.getValue();
+        String name = method.getSimpleName().toString();
+        TypeMirror returnType = methodType.getReturnType();
+        String call = "super." + name + "(" + getArguments(method) + ")";
+        String statement;
+        if (SoftProxyMethods.isNavigationMethod(name)) {
+          if (returnType.getKind() == TypeKind.DECLARED) {
+            TypeElement returnTypeElement = (TypeElement) ((DeclaredType) returnType).asElement();
+            if (isAssertionClass(returnTypeElement)) {
+              navigationTypes.add(returnTypeElement);
+            }
+          }
+          statement = getReturn(returnType, "ProxifyPositionResult.intercept(proxifyPositionResult, () -> " + call
+                                            + ")");
+        } else if (SoftProxyMethods.isAssertionMethod(name)) {
+          String callable = returnType.getKind() == TypeKind.VOID ? "() -> { " + call + "; return null; }"
+                                                                  : "() -> " + call;
+          statement = getReturn(returnType, "ErrorCollector.intercept(errorCollector, this, " + callable + ", "
+                                            + types.erasure(returnType) + ".class, " + getStub(returnType) + ")");
+        } else {
+          continue;
+        }
+
+        writer.println();
+        writer.println("  @Override");
+        writer.println("  " + (method.getModifiers().contains(Modifier.PUBLIC) ? "public " : "protected ")
+                       + returnType + " " + name + "(" + getParameters(method, methodType) + ")"
+                       + getThrows(methodType) + " {");
+        writer.println("    try {");
+        writer.println("      " + statement);
+        for (TypeMirror thrownType : methodType.getThrownTypes()) {
+          writer.println("    } catch (" + thrownType + " e) {");
+          writer.println("      throw e;");
+        }
+        writer.println("    } catch (RuntimeException | Error e) {");
+        writer.println("      throw e;");
+        writer.println("    } catch (Exception e) {");
+        writer.println("      throw new IllegalStateException(e);");
+        writer.println("    }");
+        writer.println("  }");
+      }
+      writer.println("}");
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot generate " + className + " : " + e,
+                                               type);
+    }
+    return navigationTypes;
+  }
+
+  /**
+   * Returns the registration in the registry of the factory of a constructor of a proxy class.
+   *
+   * @param type The assertion class.
+   * @param simpleName The simple name of the proxy class.
+   * @param constructorType The type of the constructor.
+   * @return The registration.
+   */
+  private String getRegistration(TypeElement type, String simpleName, ExecutableType constructorType) {
+    Types types = processingEnv.getTypeUtils();
+    StringBuilder parametersClass = new StringBuilder();
+    StringBuilder arguments = new StringBuilder();
+    List<? extends TypeMirror> parameterTypes = constructorType.getParameterTypes();
+    for (int index = 0; index < parameterTypes.size(); index++) {
+      TypeMirror parameterType = types.erasure(parameterTypes.get(index));
+      if (index > 0) {
+        parametersClass.append(", ");
+        arguments.append(", ");
+      }
+      parametersClass.append(parameterType).append(".class");
+      arguments.append("(").append(parameterType).append(") parameters[").append(index).append("]");
+    }
+    return "register(" + type.getSimpleName() + ".class, new Class<?>[] { " + parametersClass + " }, parameters -> new "
+           + simpleName + "(" + arguments + "));";
+  }
+
+  /**
+   * Returns the methods to override : the public or protected methods which are not static or final (the most specific
+   * one for each signature).
+   *
+   * @param type The assertion class.
+   * @param declaredType The type of the assertion class.
+   * @return The methods with their type in the assertion class.
+   */
+  private Map<ExecutableElement, ExecutableType> getMethods(TypeElement type, DeclaredType declaredType) {
+    Types types = processingEnv.getTypeUtils();
+    Map<String, ExecutableElement> methodsBySignature = new LinkedHashMap<>();
+    Map<ExecutableElement, ExecutableType> methods = new LinkedHashMap<>();
+    for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+      Set<Modifier> modifiers = method.getModifiers();
+      TypeElement enclosingType = (TypeElement) method.getEnclosingElement();
+      if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)
+          || modifiers.contains(Modifier.PRIVATE)
+          || !(modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.PROTECTED))
+          || enclosingType.getQualifiedName().contentEquals(Object.class.getName())) {
+        continue;
+      }
+      if (!method.getTypeParameters().isEmpty()) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Generic methods can not be proxied", method);
+        continue;
+      }
+      ExecutableType methodType = (ExecutableType) types.asMemberOf(declaredType, method);
+      StringBuilder signature = new StringBuilder(method.getSimpleName());
+      for (TypeMirror parameterType : methodType.getParameterTypes()) {
+        signature.append(',').append(types.erasure(parameterType));
+      }
+      ExecutableElement previousMethod = methodsBySignature.get(signature.toString());
+      if (previousMethod == null
+          || (!types.isSameType(methods.get(previousMethod).getReturnType(), methodType.getReturnType())
+              && types.isSubtype(methodType.getReturnType(), methods.get(previousMethod).getReturnType()))
+          || (previousMethod.getEnclosingElement().getKind() == ElementKind.INTERFACE
+              && enclosingType.getKind() == ElementKind.CLASS)) {
+
+        if (previousMethod != null) {
+          methods.remove(previousMethod);
+        }
+        methodsBySignature.put(signature.toString(), method);
+        methods.put(method, methodType);
+      }
+    }
+    return methods;
+  }
+
+  /**
+   * Returns if the class is an assertion class (which can be proxied).
+   *
+   * @param type The class.
+   * @return If the class is an assertion class.
+   */
+  private static boolean isAssertionClass(TypeElement type) {
+    return type.getKind() == ElementKind.CLASS
+           && !type.getModifiers().contains(Modifier.ABSTRACT)
+           && !type.getModifiers().contains(Modifier.FINAL)
+           && type.getQualifiedName().toString().equals(PACKAGE_NAME + "." + type.getSimpleName());
+  }
+
+  /**
+   * Returns the declaration of the parameters.
+   *
+   * @param method The method.
+   * @param methodType The type of the method in the assertion class.
+   * @return The declaration of the parameters.
+   */
+  private static String getParameters(ExecutableElement method, ExecutableType methodType) {
+    StringBuilder parameters = new StringBuilder();
+    List<? extends TypeMirror> parameterTypes = methodType.getParameterTypes();
+    for (int index = 0; index < parameterTypes.size(); index++) {
+      TypeMirror parameterType = parameterTypes.get(index);
+      if (index > 0) {
+        parameters.append(", ");
+      }
+      if (method.isVarArgs() && index == parameterTypes.size() - 1) {
+        parameters.append(((ArrayType) parameterType).getComponentType()).append("...");
+      } else {
+        parameters.append(parameterType);
+      }
+      parameters.append(" arg").append(index);
+    }
+    return parameters.toString();
+  }
+
+  /**
+   * Returns the arguments of a call.
+   *
+   * @param method The method.
+   * @return The arguments.
+   */
+  private static String getArguments(ExecutableElement method) {
+    StringBuilder arguments = new StringBuilder();
+    for (int index = 0; index < method.getParameters().size(); index++) {
+      if (index > 0) {
+        arguments.append(", ");
+      }
+      arguments.append("arg").append(index);
+    }
+    return arguments.toString();
+  }
+
+  /**
+   * Returns the declaration of the thrown types.
+   *
+   * @param methodType The type of the method.
+   * @return The declaration of the thrown types.
+   */
+  private static String getThrows(ExecutableType methodType) {
+    StringBuilder thrownTypes = new StringBuilder();
+    for (TypeMirror thrownType : methodType.getThrownTypes()) {
+      thrownTypes.append(thrownTypes.length() == 0 ? " throws " : ", ").append(thrownType);
+    }
+    return thrownTypes.toString();
+  }
+
+  /**
+   * Returns the statement which returns the result of an interception.
+   *
+   * @param returnType The return type of the method.
+   * @param interception The call of the interception.
+   * @return The statement.
+   */
+  private String getReturn(TypeMirror returnType, String interception) {
+    if (returnType.getKind() == TypeKind.VOID) {
+      return interception + ";";
+    }
+    if (returnType.getKind().isPrimitive()) {
+      Types types = processingEnv.getTypeUtils();
+      return "return (" + types.boxedClass((PrimitiveType) returnType).getQualifiedName() + ") " + interception + ";";
+    }
+    return "return (" + returnType + ") " + interception + ";";
+  }
+
+  /**
+   * Returns the value returned instead of the result when an assertion fails (and the result is not the assertion).
+   *
+   * @param returnType The return type of the method.
+   * @return The value.
+   */
+  private static String getStub(TypeMirror returnType) {
+    switch (returnType.getKind()) {
+      case BOOLEAN:
+        return "false";
+      case BYTE:
+        return "(byte) 0";
+      case SHORT:
+        return "(short) 0";
+      case CHAR:
+        return "(char) 0";
+      case INT:
+        return "0";
+      case LONG:
+        return "0L";
+      case FLOAT:
+        return "0F";
+      case DOUBLE:
+        return "0D";
+      default:
+        return "null";
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.navigation;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Factories of the elements of navigation.
+ * <p>
+ * The constructor of an element of navigation is found by reflection only once for each class and each list of
+ * parameters classes : it is kept as a {@link MethodHandle} in a cache shared by all the positions.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+final class ElementFactories {
+
+  /**
+   * The lookup used to create the factories.
+   */
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  /**
+   * Cache of the factories (for each class of element and each list of parameters classes).
+   */
+  private static final ClassValue<Map<List<Class<?>>, MethodHandle>> FACTORIES_CACHE
+      = new ClassValue<Map<List<Class<?>>, MethodHandle>>() {
+        @Override
+        protected Map<List<Class<?>>, MethodHandle> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  /**
+   * Private constructor.
+   */
+  private ElementFactories() {
+    // Empty
+  }
+
+  /**
+   * Creates a new instance of element of navigation.
+   *
+   * @param <N>            The class of the element of navigation.
+   * @param elementClass   The class of the element of navigation.
+   * @param parameterTypes The classes of the parameters of the constructor.
+   * @param arguments      The arguments of the constructor.
+   * @return The new instance.
+   * @throws Throwable If the constructor is not found or if the instantiation fails.
+   */
+  static <N> N newInstance(Class<N> elementClass, Class<?>[] parameterTypes, Object... arguments) throws Throwable {
+    Object instance = getFactory(elementClass, parameterTypes).invokeExact(arguments);
+    return elementClass.cast(instance);
+  }
+
+  /**
+   * Returns the factory of the elements of navigation : a method handle which takes the arguments in an array.
+   *
+   * @param elementClass   The class of the element of navigation.
+   * @param parameterTypes The classes of the parameters of the constructor.
+   * @return The factory.
+   * @throws ReflectiveOperationException If the constructor is not found or is not accessible.
+   */
+  private static MethodHandle getFactory(Class<?> elementClass, Class<?>[] parameterTypes)
+      throws ReflectiveOperationException {
+
+    Map<List<Class<?>>, MethodHandle> factories = FACTORIES_CACHE.get(elementClass);
+    List<Class<?>> key = Arrays.asList(parameterTypes);
+    MethodHandle factory = factories.get(key);
+    if (factory == null) {
+      Constructor<?> constructor = elementClass.getDeclaredConstructor(parameterTypes);
+      factory = LOOKUP.unreflectConstructor(constructor)
+                      .asType(MethodType.genericMethodType(parameterTypes.length))
+                      .asSpreader(Object[].class, parameterTypes.length);
+      factories.put(key, factory);
+    }
+    return factory;
+  }
+}
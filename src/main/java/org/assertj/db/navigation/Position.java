@@ -16,8 +16,8 @@ import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.global.AbstractElement;
 import org.assertj.db.type.DbElement;
 import org.assertj.db.type.Row;
+import org.assertj.db.util.LazyDescription;
 
-import java.lang.reflect.Constructor;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -113,12 +113,12 @@ public abstract class Position<E extends AbstractElement<E> & Navigation, N exte
     try {
 
       Class clazz = unProxy(myself.getClass());
-      Constructor<N> constructor = elementClass.getDeclaredConstructor(clazz, element.getClass());
-      N instance = constructor.newInstance(myself, element);
+      N instance = ElementFactories.newInstance(elementClass, new Class<?>[] { clazz, element.getClass() }, myself,
+                                                element);
       elementsMap.put(index, instance);
-      instance.as(getDescription(index));
+      instance.as(new LazyDescription(() -> getDescription(index)));
       return instance;
-    } catch (Exception e) {
+    } catch (Throwable e) {
       throw new AssertJDBException(String.format("There is an exception '" + e.getMessage()
                                                  + "'%n\t in the instantiation of the element " + elementClass.getName()
                                                  + "%n\t on "
@@ -17,10 +17,8 @@ import org.assertj.db.global.AbstractElement;
 import org.assertj.db.type.Change;
 import org.assertj.db.type.ChangeType;
 import org.assertj.db.type.Changes;
-import org.assertj.db.type.Value;
-import org.assertj.db.util.Values;
+import org.assertj.db.util.LazyDescription;
 
-import java.lang.reflect.Constructor;
 import java.util.*;
 
 import static org.assertj.db.util.Proxies.unProxy;
@@ -52,6 +50,11 @@ public abstract class PositionWithChanges<E extends AbstractElement<E> & Navigat
    * Map the change assert with the change in key (contains the change assert already generated).
    */
   private final Map<Change, N> changeMap = new HashMap<>();
+  /**
+   * Map the changes of a table with the table name in key (to search the changes with primary keys in the same
+   * indexed changes).
+   */
+  private final Map<String, Changes> changesOfTableMap = new HashMap<>();
   /**
    * Class of the actual element of navigation (used to make instance).
    */
@@ -126,12 +129,12 @@ public abstract class PositionWithChanges<E extends AbstractElement<E> & Navigat
 
     try {
       Class clazz = unProxy(myself.getClass());
-      Constructor<E> constructor = actualElementClass.getDeclaredConstructor(clazz, Changes.class);
-      instance = constructor.newInstance(myself, nextChanges);
-      instance.as(getChangesDescription(changeType, tableName));
+      instance = ElementFactories.newInstance(actualElementClass, new Class<?>[] { clazz, Changes.class }, myself,
+                                              nextChanges);
+      instance.as(new LazyDescription(() -> getChangesDescription(changeType, tableName)));
       setInCache(changeType, tableName, instance);
       return instance;
-    } catch (Exception e) {
+    } catch (Throwable e) {
       throw new AssertJDBException(String.format("There is an exception '" + e.getMessage()
                                                  + "'%n\t in the instantiation of the element " + actualElementClass.getName()
                                                  + "%n\t on "
@@ -194,20 +197,35 @@ public abstract class PositionWithChanges<E extends AbstractElement<E> & Navigat
    */
   public N getChangeInstance(Changes changes, ChangeType changeType, String tableName, int index) {
     Change change = getChange(changes, index, changeType, tableName);
+    return getChangeInstance(changes, change, changeType, tableName, index);
+  }
+
+  /**
+   * Gets an instance of change assert corresponding to the change. If this instance is already instanced, the method
+   * returns it from the cache.
+   *
+   * @param changes The changes
+   * @param change     The change.
+   * @param changeType Type of the change on which is the instance of change assert.
+   * @param tableName  Name of the table on which is the instance of change assert.
+   * @param index      Index of the change on which is the instance of change assert.
+   * @return The change assert implementation.
+   */
+  private N getChangeInstance(Changes changes, Change change, ChangeType changeType, String tableName, int index) {
     N instance = changeMap.get(change);
     if (instance != null) {
+      setIndexNextChange(changeType, tableName, index + 1);
       return instance;
     }
 
     try {
       Class clazz = unProxy(myself.getClass());
-      Constructor<N> constructor = nextElementClass.getDeclaredConstructor(clazz, Change.class);
-      instance = constructor.newInstance(myself, change);
-      instance.as(getChangeDescription(changes, change, index, changeType, tableName));
+      instance = ElementFactories.newInstance(nextElementClass, new Class<?>[] { clazz, Change.class }, myself, change);
+      instance.as(new LazyDescription(() -> getChangeDescription(changes, change, index, changeType, tableName)));
       changeMap.put(change, instance);
       setIndexNextChange(changeType, tableName, index + 1);
       return instance;
-    } catch (Exception e) {
+    } catch (Throwable e) {
       throw new AssertJDBException(String.format("There is an exception '" + e.getMessage()
                                                  + "'%n\t in the instantiation of the element " + nextElementClass.getName()
                                                  + "%n\t on "
@@ -221,6 +239,10 @@ public abstract class PositionWithChanges<E extends AbstractElement<E> & Navigat
   /**
    * Gets an instance of change assert corresponding to the table and the primary keys.
    * If this instance is already instanced, the method returns it from the cache.
+   * <p>
+   * The changes of the table are kept with their index by primary keys : the search does not compare the changes one
+   * by one.
+   * </p>
    *
    * @param changes The changes
    * @param tableName  Name of the table on which is the instance of change assert.
@@ -228,28 +250,13 @@ public abstract class PositionWithChanges<E extends AbstractElement<E> & Navigat
    * @return The change assert implementation.
    */
   public N getChangeInstanceWithPK(Changes changes, String tableName, Object... pksValues) {
-    Changes changesOfTable = changes.getChangesOfTable(tableName);
-    List<Change> changesList = changesOfTable.getChangesList();
-    int index = 0;
-    for (Change change : changesList) {
-      List<Value> pksValueList = change.getPksValueList();
-      Value[] values = pksValueList.toArray(new Value[0]);
-      boolean equal = false;
-      if (pksValues.length == values.length) {
-        equal = true;
-        for (int i = 0; i < pksValues.length; i++) {
-          if (!Values.areEqual(values[i], pksValues[i])) {
-            equal = false;
-          }
-        }
-      }
-      if (equal) {
-        return getChangeInstance(changesOfTable, null, tableName, index);
-      }
-      index++;
+    Changes changesOfTable = changesOfTableMap.computeIfAbsent(tableName, changes::getChangesOfTable);
+    int index = changesOfTable.getIndexOfChangeWithPksValues(pksValues);
+    if (index == -1) {
+      throw new AssertJDBException("No change found for table " + tableName + " and primary keys " + Arrays
+          .asList(pksValues));
     }
-    throw new AssertJDBException("No change found for table " + tableName + " and primary keys " + Arrays
-        .asList(pksValues));
+    return getChangeInstance(changesOfTable, changesOfTable.getChangesList().get(index), null, tableName, index);
   }
 
   /**
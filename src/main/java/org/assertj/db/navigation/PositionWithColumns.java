@@ -17,6 +17,7 @@ import org.assertj.db.global.AbstractElement;
 import org.assertj.db.type.DbElement;
 import org.assertj.db.type.lettercase.CaseComparison;
 import org.assertj.db.util.NameComparator;
+import org.assertj.db.util.NameIndex;
 
 import java.util.List;
 
@@ -63,4 +64,27 @@ public abstract class PositionWithColumns<E extends AbstractElement<E> & Navigat
     }
     return getInstance(elementsList, index);
   }
+
+  /**
+   * Gets an instance of element of navigation corresponding to the column name.
+   * If this instance is already instanced, the method returns it from the cache.
+   *
+   * @param elementsList     List of elements.
+   * @param columnsNameIndex Index of the columns name (with the case comparison for column name).
+   * @param columnName       Name of the column of the element on which is the instance of element of navigation.
+   * @return The instance of element of navigation.
+   * @since 2.0.3
+   */
+  public N getInstance(List<D> elementsList, NameIndex columnsNameIndex, String columnName) {
+    if (columnName == null) {
+      throw new NullPointerException("Column name must be not null");
+    }
+    int index = columnsNameIndex.indexOf(columnName);
+    if (index == -1) {
+      throw new AssertJDBException(String.format("Column <%s> does not exist%nin <%s>%nwith comparison %s",
+                                                 columnName, columnsNameIndex.getNamesList(),
+                                                 columnsNameIndex.getComparison().getComparisonName()));
+    }
+    return getInstance(elementsList, index);
+  }
 }
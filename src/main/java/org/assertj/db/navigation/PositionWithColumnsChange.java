@@ -19,9 +19,10 @@ import org.assertj.db.type.Row;
 import org.assertj.db.type.Value;
 import org.assertj.db.type.lettercase.CaseComparison;
 import org.assertj.db.util.Changes;
+import org.assertj.db.util.LazyDescription;
 import org.assertj.db.util.NameComparator;
+import org.assertj.db.util.NameIndex;
 
-import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -104,29 +105,25 @@ public abstract class PositionWithColumnsChange<E extends AbstractElement<E> & N
     String columnName = columnsNameList.get(index);
     Row rowAtStartPoint = change.getRowAtStartPoint();
     Row rowAtEndPoint = change.getRowAtEndPoint();
-    Value valueAtStartPoint;
-    Value valueAtEndPoint;
-    if (rowAtStartPoint != null) {
-      List<Value> valuesAtStartPoint = rowAtStartPoint.getValuesList();
-      valueAtStartPoint = valuesAtStartPoint.get(index);
-    } else {
-      valueAtStartPoint = Value.getNullValue(columnName, change.getColumnLetterCase());
+    // A change has at least one row : the missing value is a null value of the same column
+    Value valueAtStartPoint = rowAtStartPoint == null ? null : rowAtStartPoint.getValuesList().get(index);
+    Value valueAtEndPoint = rowAtEndPoint == null ? null : rowAtEndPoint.getValuesList().get(index);
+    if (valueAtStartPoint == null) {
+      valueAtStartPoint = Value.getNullValue(valueAtEndPoint);
     }
-    if (rowAtEndPoint != null) {
-      List<Value> valuesAtEndPoint = rowAtEndPoint.getValuesList();
-      valueAtEndPoint = valuesAtEndPoint.get(index);
-    } else {
-      valueAtEndPoint = Value.getNullValue(columnName, change.getColumnLetterCase());
+    if (valueAtEndPoint == null) {
+      valueAtEndPoint = Value.getNullValue(valueAtStartPoint);
     }
     try {
       Class clazz = unProxy(myself.getClass());
-      Constructor<N> constructor = elementClass.getDeclaredConstructor(clazz, String.class, Value.class, Value.class);
-      N instance = constructor.newInstance(myself, columnName, valueAtStartPoint, valueAtEndPoint);
+      N instance = ElementFactories.newInstance(elementClass,
+                                                new Class<?>[] { clazz, String.class, Value.class, Value.class },
+                                                myself, columnName, valueAtStartPoint, valueAtEndPoint);
       elementsMap.put(index, instance);
       nextIndex = index + 1;
-      instance.as(getDescription(index, columnName));
+      instance.as(new LazyDescription(() -> getDescription(index, columnName)));
       return instance;
-    } catch (Exception e) {
+    } catch (Throwable e) {
       throw new AssertJDBException(String.format("There is an exception '" + e.getMessage()
                                                  + "'%n\t in the instantiation of the element " + elementClass.getName() + "%n"
                                                  + "\t with " + myself.getClass() + ".%n "
@@ -158,6 +155,30 @@ public abstract class PositionWithColumnsChange<E extends AbstractElement<E> & N
     return getChangeColumnInstance(change, index);
   }
 
+  /**
+   * Gets an instance of element of navigation corresponding to the column name with the letter case of the columns
+   * of the change.
+   * If this instance is already instanced, the method returns it from the cache.
+   *
+   * @param change     The change.
+   * @param columnName The column name.
+   * @return The instance of element of navigation.
+   * @since 2.0.3
+   */
+  public N getChangeColumnInstance(Change change, String columnName) {
+    if (columnName == null) {
+      throw new NullPointerException("Column name must be not null");
+    }
+    NameIndex columnsNameIndex = change.getColumnsNameIndex();
+    int index = columnsNameIndex.indexOf(columnName);
+    if (index == -1) {
+      throw new AssertJDBException(String.format("Column <%s> does not exist%nin <%s>%nwith comparison %s",
+                                                 columnName, columnsNameIndex.getNamesList(),
+                                                 columnsNameIndex.getComparison().getComparisonName()));
+    }
+    return getChangeColumnInstance(change, index);
+  }
+
   /**
    * Gets an instance of next modified element. If this instance is already instanced, the method
    * returns it from the cache.
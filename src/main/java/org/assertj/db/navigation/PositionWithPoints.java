@@ -15,8 +15,7 @@ package org.assertj.db.navigation;
 import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.global.AbstractElement;
 import org.assertj.db.type.DbElement;
-
-import java.lang.reflect.Constructor;
+import org.assertj.db.util.LazyDescription;
 
 import static org.assertj.db.util.Proxies.unProxy;
 
@@ -90,7 +89,7 @@ public abstract class PositionWithPoints<E extends AbstractElement<E> & Navigati
   public N getInstanceAtStartPoint() {
     if (instanceAtStartPoint == null) {
       instanceAtStartPoint = getInstance(atStartPoint);
-      instanceAtStartPoint.as(getDescriptionAtStartPoint());
+      instanceAtStartPoint.as(new LazyDescription(this::getDescriptionAtStartPoint));
     }
     return instanceAtStartPoint;
   }
@@ -104,7 +103,7 @@ public abstract class PositionWithPoints<E extends AbstractElement<E> & Navigati
   public N getInstanceAtEndPoint() {
     if (instanceAtEndPoint == null) {
       instanceAtEndPoint = getInstance(atEndPoint);
-      instanceAtEndPoint.as(getDescriptionAtEndPoint());
+      instanceAtEndPoint.as(new LazyDescription(this::getDescriptionAtEndPoint));
     }
     return instanceAtEndPoint;
   }
@@ -118,9 +117,8 @@ public abstract class PositionWithPoints<E extends AbstractElement<E> & Navigati
   protected N getInstance(D element) {
     try {
       Class clazz = unProxy(myself.getClass());
-      Constructor<N> constructor = elementClass.getDeclaredConstructor(clazz, pointClass);
-      return constructor.newInstance(myself, element);
-    } catch (Exception e) {
+      return ElementFactories.newInstance(elementClass, new Class<?>[] { clazz, pointClass }, myself, element);
+    } catch (Throwable e) {
       throw new AssertJDBException(String.format("There is an exception '" + e.getMessage()
                                                  + "'%n\t in the instantiation of the element " + elementClass.getName()
                                                  + "%n\t on "
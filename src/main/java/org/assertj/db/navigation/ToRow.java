@@ -87,4 +87,24 @@ public interface ToRow<R extends RowElement> extends Navigation {
    * @see org.assertj.db.api.AbstractRowValueAssert#row(int)
    */
   R row(int index);
+
+  /**
+   * Returns assertion methods on the {@link org.assertj.db.type.Row} with the values of the primary keys in parameter.
+   * <p>
+   * The row is found with the values of its primary keys in a hash table (created at the first call), so the search
+   * does not depend on the number of rows.
+   * </p>
+   *
+   * @param pksValues The values of the primary keys corresponding to the {@link org.assertj.db.type.Row}.
+   * @return An object to make assertions on the {@link org.assertj.db.type.Row}.
+   * @throws AssertJDBException If the {@code pksValues} is not found.
+   * @see org.assertj.db.api.TableAssert#rowAtPrimaryKey(Object...)
+   * @see org.assertj.db.api.RequestAssert#rowAtPrimaryKey(Object...)
+   * @see org.assertj.db.api.AbstractColumnAssert#rowAtPrimaryKey(Object...)
+   * @see org.assertj.db.api.AbstractColumnValueAssert#rowAtPrimaryKey(Object...)
+   * @see org.assertj.db.api.AbstractRowAssert#rowAtPrimaryKey(Object...)
+   * @see org.assertj.db.api.AbstractRowValueAssert#rowAtPrimaryKey(Object...)
+   * @since 2.0.3
+   */
+  R rowAtPrimaryKey(Object... pksValues);
 }
@@ -12,6 +12,7 @@
  */
 package org.assertj.db.output;
 
+import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.navigation.Position;
 import org.assertj.db.navigation.PositionWithColumns;
 import org.assertj.db.navigation.origin.OriginWithColumnsAndRows;
@@ -20,6 +21,7 @@ import org.assertj.db.type.AbstractDbData;
 import org.assertj.db.type.Column;
 import org.assertj.db.type.Row;
 
+import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.db.util.Descriptions.getColumnDescription;
@@ -93,6 +95,16 @@ public abstract class AbstractDbOutputter<D extends AbstractDbData<D>, A extends
     return rowPosition.getInstance(actual.getRowsList(), index).withType(outputType);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public R rowAtPrimaryKey(Object... pksValues) {
+    int index = actual.getIndexOfRowWithPksValues(pksValues);
+    if (index == -1) {
+      throw new AssertJDBException("No row found for primary keys " + Arrays.asList(pksValues));
+    }
+    return rowPosition.getInstance(actual.getRowsList(), index).withType(outputType);
+  }
+
   /** {@inheritDoc} */
   @Override
   public C column() {
@@ -108,8 +120,7 @@ public abstract class AbstractDbOutputter<D extends AbstractDbData<D>, A extends
   /** {@inheritDoc} */
   @Override
   public C column(String columnName) {
-    return columnPosition.getInstance(actual.getColumnsList(), actual.getColumnsNameList(),
-                                      columnName, actual.getColumnLetterCase())
+    return columnPosition.getInstance(actual.getColumnsList(), actual.getColumnsNameIndex(), columnName)
                          .withType(outputType);
   }
 }
@@ -64,6 +64,14 @@ public abstract class AbstractOutputterWithOriginWithColumnsAndRows<E extends Ab
     return returnToOrigin().row(index);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public R rowAtPrimaryKey(Object... pksValues) {
+    return returnToOrigin().rowAtPrimaryKey(pksValues);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -93,8 +93,7 @@ public abstract class AbstractRowOutputter<D extends AbstractDbData<D>, A extend
   /** {@inheritDoc} */
   @Override
   public RV value(String columnName) {
-    return valuePosition.getInstance(getValuesList(), row.getColumnsNameList(), columnName, row.getColumnLetterCase())
-                        .withType(outputType);
+    return valuePosition.getInstance(getValuesList(), row.getColumnsNameIndex(), columnName).withType(outputType);
   }
 
   /**
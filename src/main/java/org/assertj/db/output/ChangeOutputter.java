@@ -102,8 +102,7 @@ public class ChangeOutputter
   /** {@inheritDoc} */
   @Override
   public ChangeColumnOutputter column(String columnName) {
-    return columnPosition.getChangeColumnInstance(change, columnName, change.getColumnLetterCase()).withType(
-            outputType);
+    return columnPosition.getChangeColumnInstance(change, columnName).withType(outputType);
   }
 
   /** {@inheritDoc} */
@@ -86,8 +86,8 @@ public class ChangeRowOutputter
     if (row == null) {
       throw new AssertJDBException("Row do not exist");
     }
-    return valuePosition.getInstance(row.getValuesList(), row.getColumnsNameList(),
-                                     columnName, row.getColumnLetterCase()).withType(outputType);
+    return valuePosition.getInstance(row.getValuesList(), row.getColumnsNameIndex(), columnName)
+                        .withType(outputType);
   }
 
   /**
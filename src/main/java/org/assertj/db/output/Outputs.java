@@ -15,6 +15,7 @@ package org.assertj.db.output;
 import org.assertj.db.type.Changes;
 import org.assertj.db.type.Request;
 import org.assertj.db.type.Table;
+import org.assertj.db.util.LazyDescription;
 
 import static org.assertj.db.util.Descriptions.getDescription;
 
@@ -40,7 +41,7 @@ public class Outputs {
    * @return The created output object.
    */
   public static TableOutputter output(Table table) {
-    return new TableOutputter(table).as(getDescription(table));
+    return new TableOutputter(table).as(new LazyDescription(() -> getDescription(table)));
   }
 
   /**
@@ -50,7 +51,7 @@ public class Outputs {
    * @return The created output object.
    */
   public static RequestOutputter output(Request request) {
-    return new RequestOutputter(request).as(getDescription(request));
+    return new RequestOutputter(request).as(new LazyDescription(() -> getDescription(request)));
   }
 
   /**
@@ -60,6 +61,6 @@ public class Outputs {
    * @return The created output object.
    */
   public static ChangesOutputter output(Changes changes) {
-    return new ChangesOutputter(changes).as(getDescription(changes));
+    return new ChangesOutputter(changes).as(new LazyDescription(() -> getDescription(changes)));
   }
 }
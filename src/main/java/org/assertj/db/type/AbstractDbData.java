@@ -13,14 +13,20 @@
 package org.assertj.db.type;
 
 import org.assertj.db.exception.AssertJDBException;
-import org.assertj.db.type.lettercase.LetterCase;
-import org.assertj.db.util.NameComparator;
+import org.assertj.db.type.lettercase.CaseComparison;
+import org.assertj.db.util.NameIndex;
 import org.assertj.db.util.RowComparator;
+import org.assertj.db.util.ValueComparator;
+import org.assertj.db.util.Values;
 
 import javax.sql.DataSource;
 import java.sql.*;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
 
 /**
  * This class represents data from the database (either a {@link Table} or a {@link Request}).
@@ -47,6 +53,15 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * List of the column names.
    */
   private List<String> columnsNameList;
+  /**
+   * Indexes of the column names for each case comparison.
+   */
+  private Map<CaseComparison, NameIndex> columnsNameIndexesMap;
+  /**
+   * Types of the columns given by the {@link ResultSetMetaData} when the columns name are loaded ({@code null} if
+   * unknown).
+   */
+  private ValueType[] columnsTypes;
   /**
    * List of the primary key names.
    */
@@ -56,7 +71,16 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    */
   private List<Row> rowsList;
   /**
-   * List of the columns.
+   * Holder of the schema shared by the rows.
+   */
+  private RowSchema.Holder rowSchemaHolder;
+  /**
+   * Map of the indexes of the rows with the keys of the values of their primary keys (created at the first search of a
+   * row with the values of its primary keys).
+   */
+  private Map<List<Object>, Integer> rowsIndexesByPksMap;
+  /**
+   * List of the columns (a view on the rows in which each column is created at its first use).
    */
   private List<Column> columnsList;
 
@@ -137,11 +161,40 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
     }
   }
 
+  /**
+   * Returns the number of rows.
+   * <p>
+   * If the rows are loaded, this is the size of {@link #getRowsList()}. Otherwise the rows are counted by the database
+   * (see {@link #countImpl(Connection)}) and are not loaded.
+   * </p>
+   * <p>
+   * The count is a separate query which is not kept : each call before the loading counts the rows in the current state
+   * of the database, and once the rows are loaded the number is always the number of loaded rows (even if the database
+   * changed between the count and the loading).
+   * </p>
+   *
+   * @return The number of rows.
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the counting.
+   * @since 2.0.3
+   */
+  public int getNumberOfRows() {
+    if (rowsList != null) {
+      return rowsList.size();
+    }
+    try (Connection connection = getConnection()) {
+      return countImpl(connection);
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
   /**
    * Sorts the list of rows.
    */
   protected void sortRows() {
     rowsList.sort(RowComparator.INSTANCE);
+    rowsIndexesByPksMap = null;
   }
 
   /**
@@ -159,6 +212,162 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    */
   protected abstract void loadImpl(Connection connection) throws SQLException;
 
+  /**
+   * Implementation of the counting of the rows that depends of the kind of data.
+   * <p>
+   * This method is called by {@link #getNumberOfRows()} when the rows are not loaded : the rows are counted without
+   * making the values.
+   * </p>
+   *
+   * @see Table#countImpl(Connection)
+   * @see Request#countImpl(Connection)
+   * @param connection {@link Connection} to the database provided by {@link #getNumberOfRows()} method.
+   * @return The number of rows.
+   * @throws SQLException SQL Exception.
+   * @since 2.0.3
+   */
+  protected abstract int countImpl(Connection connection) throws SQLException;
+
+  /**
+   * Implementation of the loading of the columns name that depends of the kind of data.
+   * <p>
+   * This method is called when the columns name are needed before the rows : the rows are not loaded.
+   * </p>
+   *
+   * @see Table#loadColumnsNameImpl(Connection)
+   * @see Request#loadColumnsNameImpl(Connection)
+   * @param connection {@link Connection} to the database.
+   * @throws SQLException SQL Exception.
+   * @since 2.0.3
+   */
+  protected abstract void loadColumnsNameImpl(Connection connection) throws SQLException;
+
+  /**
+   * Implementation of the computing of aggregate functions on a column that depends of the kind of data.
+   *
+   * @see Table#aggregateImpl(Connection, String, String...)
+   * @see Request#aggregateImpl(Connection, String, String...)
+   * @param connection {@link Connection} to the database.
+   * @param columnName The name of the column.
+   * @param functions The aggregate functions with {@code %s} in place of the column (for example {@code "SUM(%s)"}).
+   * @return The results of the functions.
+   * @throws SQLException SQL Exception.
+   * @since 2.0.3
+   */
+  protected abstract Object[] aggregateImpl(Connection connection, String columnName, String... functions)
+      throws SQLException;
+
+  /**
+   * Returns if the rows are loaded.
+   *
+   * @return {@code true} if the rows are loaded, {@code false} otherwise.
+   * @since 2.0.3
+   */
+  boolean isLoaded() {
+    return rowsList != null;
+  }
+
+  /**
+   * Returns the results of aggregate functions on a column computed by the database.
+   * <p>
+   * The rows are not loaded. If the database does not accept the request of the functions (for example if the request
+   * can not be a sub-request, see {@link #isNotAccepted(SQLException)}), the result is {@code null} and the functions
+   * must be computed on the loaded values.
+   * </p>
+   *
+   * @param index The index of the column.
+   * @param functions The aggregate functions with {@code %s} in place of the column (for example {@code "SUM(%s)"}).
+   * @return The results of the functions or {@code null} if the database does not accept the request.
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap an other {@link SQLException} (for example a
+   *                            connection failure).
+   * @since 2.0.3
+   */
+  Object[] getAggregates(int index, String... functions) {
+    String columnName = getColumnsNameList().get(index);
+    try (Connection connection = getConnection()) {
+      return aggregateImpl(connection, columnName, functions);
+    } catch (SQLException e) {
+      if (isNotAccepted(e)) {
+        return null;
+      }
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Returns if an exception means that the database does not accept a request : a syntax error or an access rule
+   * violation (SQLState class {@code 42}) or a feature not supported (SQLState class {@code 0A}).
+   * <p>
+   * The result of such a request can be computed in an other way. The other exceptions (for example a connection
+   * failure or a timeout) must be reported.
+   * </p>
+   *
+   * @param exception The exception.
+   * @return {@code true} if the database does not accept the request, {@code false} otherwise.
+   * @since 2.0.3
+   */
+  static boolean isNotAccepted(SQLException exception) {
+    if (exception instanceof SQLSyntaxErrorException || exception instanceof SQLFeatureNotSupportedException) {
+      return true;
+    }
+    String sqlState = exception.getSQLState();
+    return sqlState != null && (sqlState.startsWith("42") || sqlState.startsWith("0A"));
+  }
+
+  /**
+   * Returns the results of the first row of a {@code ResultSet} (the results of aggregate functions).
+   *
+   * @param resultSet The {@code ResultSet}.
+   * @return The results.
+   * @throws SQLException SQL Exception.
+   * @since 2.0.3
+   */
+  static Object[] getResults(ResultSet resultSet) throws SQLException {
+    ResultSetMetaData metaData = resultSet.getMetaData();
+    if (resultSet.next()) {
+      return getCurrentResults(resultSet, metaData);
+    }
+    return new Object[metaData.getColumnCount()];
+  }
+
+  /**
+   * Returns the results of the current row of a {@code ResultSet}.
+   *
+   * @param resultSet The {@code ResultSet}.
+   * @param metaData The metadata of the {@code ResultSet}.
+   * @return The results.
+   * @throws SQLException SQL Exception.
+   * @since 2.0.3
+   */
+  static Object[] getCurrentResults(ResultSet resultSet, ResultSetMetaData metaData) throws SQLException {
+    Object[] results = new Object[metaData.getColumnCount()];
+    for (int index = 0; index < results.length; index++) {
+      switch (metaData.getColumnType(index + 1)) {
+      case Types.DATE:
+        results[index] = resultSet.getDate(index + 1);
+        break;
+      case Types.TIME:
+        results[index] = resultSet.getTime(index + 1);
+        break;
+      case Types.TIMESTAMP:
+        results[index] = resultSet.getTimestamp(index + 1);
+        break;
+      case Types.BLOB:
+        results[index] = resultSet.getBytes(index + 1);
+        break;
+      case Types.CLOB:
+        results[index] = resultSet.getString(index + 1);
+        break;
+
+      default:
+        results[index] = resultSet.getObject(index + 1);
+        break;
+      }
+    }
+    return results;
+  }
+
   /**
    * Collects rows from a {@link ResultSet}.
    * <p>
@@ -170,53 +379,170 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * @throws SQLException A SQL Exception.
    */
   protected void collectRowsFromResultSet(ResultSet resultSet) throws SQLException {
-    ResultSetMetaData metaData = resultSet.getMetaData();
-    rowsList = new ArrayList<>();
+    int[] types = new int[columnsNameList.size()];
+    RowSchema.Holder schemaHolder = new RowSchema.Holder(createRowSchema(resultSet.getMetaData(), types));
+    List<Row> rows = new ArrayList<>();
     while (resultSet.next()) {
-      List<Value> valuesList = new ArrayList<>();
-      for (String columnName : columnsNameList) {
-        // TODO Improve the check of the type
-        int index = -1;
-        for (int i = 1; i <= metaData.getColumnCount(); i++) {
-          if (getColumnLetterCase().isEqual(columnName, metaData.getColumnLabel(i))) {
-            index = i;
-            break;
-          }
-        }
-        Object object;
-        int type = metaData.getColumnType(index);
-        switch (type) {
-        case Types.DATE:
-          object = resultSet.getDate(columnName);
-          break;
-        case Types.TIME:
-          object = resultSet.getTime(columnName);
-          break;
-        case Types.TIMESTAMP:
-          object = resultSet.getTimestamp(columnName);
-          break;
-        case Types.BLOB:
-          object = resultSet.getBytes(columnName);
-          break;
-        case Types.CLOB:
-          object = resultSet.getString(columnName);
-          break;
-
-        default:
-          object = resultSet.getObject(columnName);
-          break;
-        }
-        valuesList.add(new Value(columnName, object, getColumnLetterCase()));
+      rows.add(readRow(resultSet, schemaHolder, types));
+    }
+    // The rows are visible only when all are read
+    rowSchemaHolder = schemaHolder;
+    rowsIndexesByPksMap = null;
+    rowsList = rows;
+  }
+
+  /**
+   * Creates the schema of the rows read from a {@link ResultSet} : the types and the comparators of the columns are
+   * resolved once for all the rows.
+   *
+   * @param metaData The metadata of the {@link ResultSet}.
+   * @param types The array (one element for each column) to fill with the JDBC types of the columns.
+   * @return The schema.
+   * @throws SQLException A SQL Exception.
+   * @since 2.0.3
+   */
+  RowSchema createRowSchema(ResultSetMetaData metaData, int[] types) throws SQLException {
+    return createRowSchema(metaData, types, pksNameList);
+  }
+
+  /**
+   * Creates the schema of the rows read from a {@link ResultSet} with some primary keys (which can be different from
+   * the primary keys of this data).
+   *
+   * @param metaData The metadata of the {@link ResultSet}.
+   * @param types The array (one element for each column) to fill with the JDBC types of the columns.
+   * @param pksNameList The list of the primary keys name ({@code null} if unknown).
+   * @return The schema.
+   * @throws SQLException A SQL Exception.
+   * @since 2.0.3
+   */
+  RowSchema createRowSchema(ResultSetMetaData metaData, int[] types, List<String> pksNameList) throws SQLException {
+    int columnsCount = columnsNameList.size();
+    ValueComparator[] comparators = new ValueComparator[columnsCount];
+    ValueType[] valueTypes = new ValueType[columnsCount];
+    for (int columnIndex = 0; columnIndex < columnsCount; columnIndex++) {
+      types[columnIndex] = getColumnType(metaData, columnsNameList.get(columnIndex));
+      comparators[columnIndex] = ValueComparator.getComparator(types[columnIndex]);
+      valueTypes[columnIndex] = ValueType.getTypeOfColumn(types[columnIndex]);
+    }
+    NameIndex columnsNameIndex = getColumnsNameIndex(getColumnLetterCase());
+    int[] pksIndexes = pksNameList == null ? null : RowSchema.getPksIndexes(pksNameList,
+                                                                            getColumnsNameIndex(getPrimaryKeyLetterCase()));
+    // All the rows and the values share the same schema
+    return new RowSchema(columnsNameList, pksNameList, getColumnLetterCase(), getPrimaryKeyLetterCase(),
+                         columnsNameIndex, pksIndexes, comparators, valueTypes);
+  }
+
+  /**
+   * Returns the JDBC type of a column in the metadata of a {@link ResultSet}.
+   *
+   * @param metaData The metadata of the {@link ResultSet}.
+   * @param columnName The name of the column.
+   * @return The JDBC type of the column.
+   * @throws SQLException A SQL Exception.
+   */
+  private int getColumnType(ResultSetMetaData metaData, String columnName) throws SQLException {
+    int index = -1;
+    for (int i = 1; i <= metaData.getColumnCount(); i++) {
+      if (getColumnLetterCase().isEqual(columnName, metaData.getColumnLabel(i))) {
+        index = i;
+        break;
       }
-      rowsList.add(new Row(pksNameList, columnsNameList, valuesList, getColumnLetterCase(), getPrimaryKeyLetterCase()));
     }
+    return metaData.getColumnType(index);
+  }
+
+  /**
+   * Collects the types of the columns from the metadata of a {@link ResultSet} (the columns name must be collected
+   * before).
+   * <p>
+   * The types are known without loading the rows (see {@link #getColumnType(int)}).
+   * </p>
+   *
+   * @param metaData The metadata of the {@link ResultSet}.
+   * @throws SQLException A SQL Exception.
+   * @since 2.0.3
+   */
+  protected void collectColumnsTypes(ResultSetMetaData metaData) throws SQLException {
+    ValueType[] valueTypes = new ValueType[columnsNameList.size()];
+    for (int columnIndex = 0; columnIndex < valueTypes.length; columnIndex++) {
+      ValueType valueType = ValueType.getTypeOfColumn(getColumnType(metaData, columnsNameList.get(columnIndex)));
+      valueTypes[columnIndex] = valueType == null ? ValueType.NOT_IDENTIFIED : valueType;
+    }
+    columnsTypes = valueTypes;
+  }
+
+  /**
+   * Returns the type of a column given by the database.
+   * <p>
+   * The type comes from the schema of the rows if they are loaded, otherwise from the metadata read when the columns
+   * name are loaded : the rows are not loaded.
+   * </p>
+   *
+   * @param index The index of the column.
+   * @return The type of the column ({@link ValueType#NOT_IDENTIFIED} if the type can only be identified from the
+   *         values) or {@code null} if the metadata are unknown.
+   * @since 2.0.3
+   */
+  ValueType getColumnType(int index) {
+    if (rowSchemaHolder != null) {
+      ValueType valueType = rowSchemaHolder.get().getValueType(index);
+      return valueType == null ? ValueType.NOT_IDENTIFIED : valueType;
+    }
+    getColumnsNameList();
+    if (columnsTypes == null) {
+      return null;
+    }
+    return columnsTypes[index];
+  }
+
+  /**
+   * Reads the current row of a {@link ResultSet}.
+   *
+   * @param resultSet The {@link ResultSet}.
+   * @param schemaHolder The holder of the schema of the rows.
+   * @param types The JDBC types of the columns.
+   * @return The row.
+   * @throws SQLException A SQL Exception.
+   * @since 2.0.3
+   */
+  static Row readRow(ResultSet resultSet, RowSchema.Holder schemaHolder, int[] types) throws SQLException {
+    RowSchema schema = schemaHolder.get();
+    List<Value> valuesList = new ArrayList<>(types.length);
+    for (int columnIndex = 0; columnIndex < types.length; columnIndex++) {
+      String columnName = schema.getColumnName(columnIndex);
+      Object object;
+      switch (types[columnIndex]) {
+      case Types.DATE:
+        object = resultSet.getDate(columnName);
+        break;
+      case Types.TIME:
+        object = resultSet.getTime(columnName);
+        break;
+      case Types.TIMESTAMP:
+        object = resultSet.getTimestamp(columnName);
+        break;
+      case Types.BLOB:
+        object = resultSet.getBytes(columnName);
+        break;
+      case Types.CLOB:
+        object = resultSet.getString(columnName);
+        break;
+
+      default:
+        object = resultSet.getObject(columnName);
+        break;
+      }
+      valuesList.add(new Value(schema, columnIndex, object));
+    }
+    return new Row(schemaHolder, valuesList);
   }
 
   /**
    * Return the list of the columns name for the data from database.
    * <p>
-   * If it is the first call to {@code getColumnsNameList()}, the data are loaded from database by calling the
-   * {@link #load()} private method.
+   * If it is the first call to {@code getColumnsNameList()} and the data are not loaded, the columns name are loaded
+   * from database (without the rows) by calling the {@link #loadColumnsName()} private method.
    * </p>
    *
    * @return The list of the columns name.
@@ -225,11 +551,28 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    */
   public List<String> getColumnsNameList() {
     if (columnsNameList == null) {
-      load();
+      loadColumnsName();
     }
     return columnsNameList;
   }
 
+  /**
+   * Loads the columns name from the database without loading the rows.
+   * <p>
+   * This method gets a {@link Connection} and calls {@link AbstractDbData#loadColumnsNameImpl(Connection)}.
+   * </p>
+   *
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   */
+  private void loadColumnsName() {
+    try (Connection connection = getConnection()) {
+      loadColumnsNameImpl(connection);
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
   /**
    * Sets the list of the columns name.
    *
@@ -237,6 +580,41 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    */
   protected void setColumnsNameList(List<String> columnsNameList) {
     this.columnsNameList = columnsNameList;
+    columnsNameIndexesMap = null;
+    columnsTypes = null;
+  }
+
+  /**
+   * Returns the index of the columns name for the letter case of the columns.
+   * <p>
+   * If it is the first call to {@link #getColumnsNameList()}, the data are loaded from database by calling the
+   * {@link #load()} private method.
+   * </p>
+   *
+   * @return The index of the columns name.
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   * @since 2.0.3
+   */
+  public NameIndex getColumnsNameIndex() {
+    getColumnsNameList();
+    return getColumnsNameIndex(getColumnLetterCase());
+  }
+
+  /**
+   * Returns the index of the columns name for a case comparison.
+   * <p>
+   * The index is built once for each case comparison and shared (for example by all the rows).
+   * </p>
+   *
+   * @param comparison The case comparison.
+   * @return The index of the columns name.
+   */
+  NameIndex getColumnsNameIndex(CaseComparison comparison) {
+    if (columnsNameIndexesMap == null) {
+      columnsNameIndexesMap = new HashMap<>();
+    }
+    return columnsNameIndexesMap.computeIfAbsent(comparison, c -> new NameIndex(columnsNameList, c));
   }
 
   /**
@@ -261,11 +639,10 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * Controls that all the primary keys name exist in the columns.
    */
   protected void controlIfAllThePksNameExistInTheColumns() {
-    LetterCase letterCase = getPrimaryKeyLetterCase();
     if (pksNameList != null) {
       for (String pkName : pksNameList) {
         // If the list of columns name is not set, the presence of the column is not tested
-        if (columnsNameList != null && !NameComparator.INSTANCE.contains(columnsNameList, pkName, letterCase)) {
+        if (columnsNameList != null && !getColumnsNameIndex(getPrimaryKeyLetterCase()).contains(pkName)) {
           throw new AssertJDBException("Primary key %s do not exist in the columns %s", pkName, columnsNameList);
         }
       }
@@ -281,11 +658,12 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
   protected void setPksNameList(List<String> pksNameList) {
     this.pksNameList = new ArrayList<>();
     this.pksNameList.addAll(pksNameList);
-    if (rowsList != null) {
-      for (Row row : rowsList) {
-        row.setPksNameList(this.pksNameList);
-      }
+    if (rowSchemaHolder != null) {
+      // The rows share the holder of the schema : only the schema is replaced
+      int[] pksIndexes = RowSchema.getPksIndexes(this.pksNameList, getColumnsNameIndex(getPrimaryKeyLetterCase()));
+      rowSchemaHolder.set(rowSchemaHolder.get().withPksNameList(this.pksNameList, pksIndexes));
     }
+    rowsIndexesByPksMap = null;
     controlIfAllThePksNameExistInTheColumns();
   }
 
@@ -310,10 +688,11 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
   /**
    * Returns the list of the values in columns for the data from database.
    * <p>
-   * This method calls {@link #getColumnsNameList()} and {@link #getValuesList(int)} which calls {@link #getRowsList()}.
+   * This method calls {@link #getColumnsNameList()}. The list is a view : a column is created at the first use of
+   * the column and its values are a view on the rows (see {@link #getValuesList(int)}).
    * <br>
    * If it is the first call to {@link #getColumnsNameList()} or {@link #getRowsList()}, the data are loaded from
-   * database by calling the {@link #load()} private method.
+   * database.
    * </p>
    *
    * @return The list of the values in columns.
@@ -322,15 +701,7 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    */
   public List<Column> getColumnsList() {
     if (columnsList == null) {
-      columnsList = new ArrayList<>();
-      List<String> loadedColumnsNameList = getColumnsNameList();
-      int index = 0;
-      for (String name : loadedColumnsNameList) {
-        List<Value> valuesList = getValuesList(index);
-        Column column = new Column(name, valuesList, getColumnLetterCase());
-        columnsList.add(column);
-        index++;
-      }
+      columnsList = new ColumnsList(getColumnsNameList());
     }
     return columnsList;
   }
@@ -371,9 +742,11 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
   }
 
   /**
-   * Returns the values of the column corresponding to the column name.
+   * Returns the values of the column corresponding to the column index.
    * <p>
-   * This method calls {@link #getColumnsNameList()} and {@link #getRowsList()}.<br>
+   * The list is a view on the rows : the values are not copied.
+   * <br>
+   * This method calls {@link #getRowsList()}.<br>
    * If it is the first call to {@link #getColumnsNameList()} or {@link #getRowsList()}, the data are loaded from
    * database by calling the {@link #load()} private method.
    * </p>
@@ -383,13 +756,8 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
    * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
    */
-  private List<Value> getValuesList(int index) {
-    List<Value> valuesList = new ArrayList<>();
-    for (Row row : getRowsList()) {
-      valuesList.add(row.getColumnValue(index));
-    }
-
-    return valuesList;
+  List<Value> getValuesList(int index) {
+    return new ColumnValuesList(getRowsList(), index);
   }
 
   /**
@@ -406,4 +774,139 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
     }
     return null;
   }
+
+  /**
+   * Returns the index of the {@link Row} with the values of the primary keys in parameter.
+   * <p>
+   * The rows are found in a hash table with the keys of the values of their primary keys (see
+   * {@link Values#getKey(Value)}), created at the first call. Only when the values in parameter have no key for the
+   * table (for example a text for a number, see {@link Values#getKeysOfExpected(List, Object...)}), the rows are compared
+   * one by one.
+   * </p>
+   *
+   * @param pksValues The values of the primary keys.
+   * @return The index of the first {@link Row} with the same values of the primary keys or {@code -1} if not found.
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   * @since 2.0.3
+   */
+  public int getIndexOfRowWithPksValues(Object... pksValues) {
+    List<Row> rows = getRowsList();
+    if (rows.isEmpty() || pksValues.length == 0 || pksValues.length != getPksNameList().size()) {
+      return -1;
+    }
+    if (rowsIndexesByPksMap == null) {
+      Map<List<Object>, Integer> map = new HashMap<>(rows.size() * 4 / 3 + 1);
+      for (int index = 0; index < rows.size(); index++) {
+        map.putIfAbsent(Values.getKeys(rows.get(index).getPksValueList()), index);
+      }
+      rowsIndexesByPksMap = map;
+    }
+
+    List<Object> key = Values.getKeysOfExpected(rows.get(0).getPksValueList(), pksValues);
+    if (key != null) {
+      Integer index = rowsIndexesByPksMap.get(key);
+      if (index != null && Values.areEqual(rows.get(index).getPksValueList(), pksValues)) {
+        return index;
+      }
+      return -1;
+    }
+
+    // The values can be equal with values of an other kind (for example a number and a text)
+    for (int index = 0; index < rows.size(); index++) {
+      if (Values.areEqual(rows.get(index).getPksValueList(), pksValues)) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * List of the columns : a column is created at its first use.
+   */
+  private final class ColumnsList extends AbstractList<Column> implements RandomAccess {
+
+    /**
+     * The list of the columns name.
+     */
+    private final List<String> columnsNameList;
+    /**
+     * The columns already created.
+     */
+    private final Column[] columns;
+
+    /**
+     * Constructor.
+     *
+     * @param columnsNameList The list of the columns name.
+     */
+    private ColumnsList(List<String> columnsNameList) {
+      this.columnsNameList = columnsNameList;
+      columns = new Column[columnsNameList.size()];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Column get(int index) {
+      Column column = columns[index];
+      if (column == null) {
+        // The values of the column are got at the first use
+        column = new Column(columnsNameList.get(index), AbstractDbData.this, index, getColumnLetterCase());
+        columns[index] = column;
+      }
+      return column;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+      return columns.length;
+    }
+  }
+
+  /**
+   * List of the values of a column : a view on the values of the rows.
+   */
+  private static final class ColumnValuesList extends AbstractList<Value> implements RandomAccess {
+
+    /**
+     * The list of the rows.
+     */
+    private final List<Row> rowsList;
+    /**
+     * The index of the column.
+     */
+    private final int index;
+
+    /**
+     * Constructor.
+     *
+     * @param rowsList The list of the rows.
+     * @param index    The index of the column.
+     */
+    private ColumnValuesList(List<Row> rowsList, int index) {
+      this.rowsList = rowsList;
+      this.index = index;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Value get(int rowIndex) {
+      return rowsList.get(rowIndex).getColumnValue(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+      return rowsList.size();
+    }
+  }
 }
@@ -16,6 +16,7 @@ import org.assertj.db.type.lettercase.LetterCase;
 import org.assertj.db.type.lettercase.WithColumnLetterCase;
 import org.assertj.db.type.lettercase.WithPrimaryKeyLetterCase;
 import org.assertj.db.type.lettercase.WithTableLetterCase;
+import org.assertj.db.util.NameIndex;
 
 import java.util.List;
 
@@ -80,6 +81,12 @@ public class Change implements DbElement, WithTableLetterCase, WithColumnLetterC
    */
   private final LetterCase primaryKeyLetterCase;
 
+  /**
+   * The index of the columns name.
+   * @since 2.0.3
+   */
+  private NameIndex columnsNameIndex;
+
   /**
    * Returns a new instance of a creation change.
    * 
@@ -246,6 +253,24 @@ public class Change implements DbElement, WithTableLetterCase, WithColumnLetterC
     return columnsNameList;
   }
 
+  /**
+   * Returns the index of the columns name (with the letter case of the columns).
+   *
+   * @return The index of the columns name.
+   * @since 2.0.3
+   */
+  public NameIndex getColumnsNameIndex() {
+    if (columnsNameIndex == null) {
+      NameIndex rowIndex = (rowAtStartPoint != null ? rowAtStartPoint : rowAtEndPoint).getColumnsNameIndex();
+      if (rowIndex.getComparison() == columnLetterCase) {
+        columnsNameIndex = rowIndex;
+      } else {
+        columnsNameIndex = new NameIndex(columnsNameList, columnLetterCase);
+      }
+    }
+    return columnsNameIndex;
+  }
+
   /**
    * Returns the type of the change.
    * 
@@ -14,6 +14,7 @@ package org.assertj.db.type;
 
 import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.util.ChangeComparator;
+import org.assertj.db.util.Values;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -60,6 +61,15 @@ public class Changes extends AbstractDbElement<Changes> {
    * The list of the changes.
    */
   private List<Change> changesList;
+  /**
+   * The indexes of the changes with the keys of the values of their primary keys in key (built at the first search of
+   * a change with the values of its primary keys).
+   */
+  private Map<List<Object>, Integer> indexesByPksMap;
+  /**
+   * If the list of the changes is sorted (the list is sorted once : the next calls do not compare the changes).
+   */
+  private boolean changesListSorted;
 
   /**
    * Constructor.
@@ -122,6 +132,8 @@ public class Changes extends AbstractDbElement<Changes> {
     tablesAtStartPointList = null;
     tablesAtEndPointList = null;
     changesList = null;
+    changesListSorted = false;
+    indexesByPksMap = null;
     for (Table table : tables) {
       if (table == null) {
         throw new NullPointerException("The tables must be not null");
@@ -161,6 +173,8 @@ public class Changes extends AbstractDbElement<Changes> {
     requestAtStartPoint = null;
     requestAtEndPoint = null;
     changesList = null;
+    changesListSorted = false;
+    indexesByPksMap = null;
     return myself;
   }
 
@@ -304,6 +318,8 @@ public class Changes extends AbstractDbElement<Changes> {
     tablesAtEndPointList = null;
     requestAtEndPoint = null;
     changesList = null;
+    changesListSorted = false;
+    indexesByPksMap = null;
 
     return myself;
   }
@@ -331,6 +347,8 @@ public class Changes extends AbstractDbElement<Changes> {
       }
     }
     changesList = null;
+    changesListSorted = false;
+    indexesByPksMap = null;
 
     return myself;
   }
@@ -480,10 +498,56 @@ public class Changes extends AbstractDbElement<Changes> {
       }
     }
 
-    changesList.sort(ChangeComparator.INSTANCE);
+    if (!changesListSorted) {
+      changesList.sort(ChangeComparator.INSTANCE);
+      changesListSorted = true;
+    }
     return changesList;
   }
 
+  /**
+   * Returns the index of the first change with the values of the primary keys in parameter.
+   * <p>
+   * The changes are indexed with the keys of the values of their primary keys at the first call : the search is in
+   * constant time when the values in parameter are of the kind of the values of the primary keys, even if there is no
+   * change with these values (otherwise the changes are compared one by one).
+   * </p>
+   *
+   * @param pksValues The values of the primary keys.
+   * @return The index or {@code -1} if there is no change with these values of primary keys.
+   * @since 2.0.3
+   */
+  public int getIndexOfChangeWithPksValues(Object... pksValues) {
+    List<Change> changes = getChangesList();
+    if (indexesByPksMap == null) {
+      Map<List<Object>, Integer> map = new HashMap<>(changes.size() * 4 / 3 + 1);
+      for (int index = 0; index < changes.size(); index++) {
+        map.putIfAbsent(Values.getKeys(changes.get(index).getPksValueList()), index);
+      }
+      indexesByPksMap = map;
+    }
+
+    if (changes.isEmpty()) {
+      return -1;
+    }
+    List<Object> key = Values.getKeysOfExpected(changes.get(0).getPksValueList(), pksValues);
+    if (key != null) {
+      Integer index = indexesByPksMap.get(key);
+      if (index != null && Values.areEqual(changes.get(index).getPksValueList(), pksValues)) {
+        return index;
+      }
+      return -1;
+    }
+
+    // The values can be equal with values of an other kind (for example a number and a text)
+    for (int index = 0; index < changes.size(); index++) {
+      if (Values.areEqual(changes.get(index).getPksValueList(), pksValues)) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
   /**
    * Returns {@code Changes} only on the table name in parameter.
    * @param tableName The table name
@@ -12,10 +12,18 @@
  */
 package org.assertj.db.type;
 
+import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.type.lettercase.LetterCase;
 import org.assertj.db.type.lettercase.WithColumnLetterCase;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Column in a {@link AbstractDbData}.
@@ -26,6 +34,10 @@ import java.util.List;
  * Note : you never instantiate directly this class. You will get an object of this class from a {@link Table} or a
  * {@link Request} by using {@link AbstractDbData#getColumn(int)}.
  * </p>
+ * <p>
+ * The aggregates ({@link #getSum()}, {@link #getMin()}, ...) are computed by the database if the rows of the data are
+ * not loaded, and from the values otherwise.
+ * </p>
  * 
  * @author Régis Pouiller.
  * 
@@ -37,14 +49,29 @@ public class Column implements DbElement, WithColumnLetterCase {
    */
   private final String name;
   /**
-   * The values of the column.
+   * The values of the column (got from {@link #data} at the first use if {@code null}).
    */
-  private final List<Value> valuesList;
+  private List<Value> valuesList;
   /**
    * Letter case of the columns.
    * @since 1.1.0
    */
   private final LetterCase columnLetterCase;
+  /**
+   * The data of the column ({@code null} if the values are given).
+   * @since 2.0.3
+   */
+  private final AbstractDbData<?> data;
+  /**
+   * The index of the column in the data.
+   * @since 2.0.3
+   */
+  private final int index;
+  /**
+   * The schema of the standalone values of the column (the aggregates), shared by these values.
+   * @since 2.0.3
+   */
+  private final RowSchema schema;
 
   /**
    * Constructor of the column with visibility in the package.
@@ -57,6 +84,39 @@ public class Column implements DbElement, WithColumnLetterCase {
     this.name = name;
     this.valuesList = valuesList;
     this.columnLetterCase = columnLetterCase;
+    this.data = null;
+    this.index = -1;
+    schema = createSchema(name, columnLetterCase);
+  }
+
+  /**
+   * Constructor of the column of a data with visibility in the package : the values are got from the data at the first
+   * use.
+   *
+   * @param name The name of the column.
+   * @param data The data.
+   * @param index The index of the column in the data.
+   * @param columnLetterCase The letter case of the columns.
+   * @since 2.0.3
+   */
+  Column(String name, AbstractDbData<?> data, int index, LetterCase columnLetterCase) {
+    this.name = name;
+    this.columnLetterCase = columnLetterCase;
+    this.data = data;
+    this.index = index;
+    schema = createSchema(name, columnLetterCase);
+  }
+
+  /**
+   * Returns the schema of the standalone values of a column.
+   *
+   * @param name The name of the column.
+   * @param columnLetterCase The letter case of the columns.
+   * @return The schema.
+   */
+  private static RowSchema createSchema(String name, LetterCase columnLetterCase) {
+    return new RowSchema(Collections.singletonList(name), null, columnLetterCase, columnLetterCase, null, null, null,
+                         null);
   }
 
   /**
@@ -76,12 +136,42 @@ public class Column implements DbElement, WithColumnLetterCase {
     return name;
   }
 
+  /**
+   * Returns the type of the column given by the database.
+   *
+   * <p>
+   * For the column of a data, the type comes from the metadata of the database and the values are not loaded. The
+   * values are used only if the metadata are unknown.
+   * </p>
+   *
+   * @return The type of the column or {@link ValueType#NOT_IDENTIFIED} if the type can only be identified from the
+   *         values (or if it is unknown and there is no value).
+   * @see Value#getColumnType()
+   * @since 2.0.3
+   */
+  public ValueType getColumnType() {
+    if (data != null) {
+      ValueType valueType = data.getColumnType(index);
+      if (valueType != null) {
+        return valueType;
+      }
+    }
+    List<Value> values = getValuesList();
+    if (values.isEmpty()) {
+      return ValueType.NOT_IDENTIFIED;
+    }
+    return values.get(0).getColumnType();
+  }
+
   /**
    * Returns the values of the column.
    * 
    * @return The values of the column.
    */
   public List<Value> getValuesList() {
+    if (valuesList == null) {
+      valuesList = data.getValuesList(index);
+    }
     return valuesList;
   }
 
@@ -92,6 +182,323 @@ public class Column implements DbElement, WithColumnLetterCase {
    * @return The value
    */
   public Value getRowValue(int index) {
-    return valuesList.get(index);
+    return getValuesList().get(index);
+  }
+
+  /**
+   * Returns the sum of the values of the column ({@code null} values are ignored).
+   *
+   * @return The sum or {@code null} if there is no value which is not {@code null}.
+   * @throws AssertJDBException If a value is not a number.
+   * @since 2.0.3
+   */
+  public BigDecimal getSum() {
+    Object[] results = getAggregatesFromDatabase("SUM(%s)");
+    if (results != null) {
+      return toBigDecimal(results[0]);
+    }
+    BigDecimal sum = null;
+    for (Value value : getValuesList()) {
+      BigDecimal number = toBigDecimal(value.getValue());
+      if (number != null) {
+        sum = sum == null ? number : sum.add(number);
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Returns the average of the values of the column ({@code null} values are ignored).
+   * <p>
+   * The average is the sum divided by the number of values which are not {@code null} (with the precision of
+   * {@link MathContext#DECIMAL128}).
+   * </p>
+   *
+   * @return The average or {@code null} if there is no value which is not {@code null}.
+   * @throws AssertJDBException If a value is not a number.
+   * @since 2.0.3
+   */
+  public BigDecimal getAverage() {
+    BigDecimal sum;
+    long count;
+    Object[] results = getAggregatesFromDatabase("SUM(%s)", "COUNT(%s)");
+    if (results != null) {
+      sum = toBigDecimal(results[0]);
+      count = ((Number) results[1]).longValue();
+    } else {
+      sum = null;
+      count = 0;
+      for (Value value : getValuesList()) {
+        BigDecimal number = toBigDecimal(value.getValue());
+        if (number != null) {
+          sum = sum == null ? number : sum.add(number);
+          count++;
+        }
+      }
+    }
+    if (count == 0) {
+      return null;
+    }
+    return sum.divide(BigDecimal.valueOf(count), MathContext.DECIMAL128);
+  }
+
+  /**
+   * Returns the minimum of the values of the column ({@code null} values are ignored).
+   *
+   * @return The minimum (a value with {@code null} if there is no value which is not {@code null}).
+   * @throws AssertJDBException If the values can not be compared.
+   * @since 2.0.3
+   */
+  public Value getMin() {
+    return getExtremum("MIN(%s)", -1);
+  }
+
+  /**
+   * Returns the maximum of the values of the column ({@code null} values are ignored).
+   *
+   * @return The maximum (a value with {@code null} if there is no value which is not {@code null}).
+   * @throws AssertJDBException If the values can not be compared.
+   * @since 2.0.3
+   */
+  public Value getMax() {
+    return getExtremum("MAX(%s)", 1);
+  }
+
+  /**
+   * Returns the number of distinct values of the column ({@code null} values are ignored).
+   *
+   * @return The number of distinct values.
+   * @since 2.0.3
+   */
+  public int getNumberOfDistinctValues() {
+    Object[] results = getAggregatesFromDatabase("COUNT(DISTINCT %s)");
+    if (results != null) {
+      return ((Number) results[0]).intValue();
+    }
+    Set<Object> distinctValues = new HashSet<>();
+    for (Value value : getValuesList()) {
+      Object object = value.getValue();
+      if (object instanceof Number) {
+        distinctValues.add(toBigDecimal(object).stripTrailingZeros());
+      } else if (object instanceof byte[]) {
+        distinctValues.add(ByteBuffer.wrap((byte[]) object));
+      } else if (object != null) {
+        distinctValues.add(object);
+      }
+    }
+    return distinctValues.size();
+  }
+
+  /**
+   * Returns the number of rows of the column.
+   * <p>
+   * If the values are not loaded, the rows are counted by the database with a separate query (see
+   * {@link AbstractDbData#getNumberOfRows()}).
+   * </p>
+   *
+   * @return The number of rows.
+   * @since 2.0.3
+   */
+  public int getNumberOfRows() {
+    if (valuesList != null || data == null) {
+      return getValuesList().size();
+    }
+    return data.getNumberOfRows();
+  }
+
+  /**
+   * Returns the number of not {@code null} values of the column.
+   * <p>
+   * If the values are not loaded, they are counted by the database with a separate query.
+   * </p>
+   *
+   * @return The number of not {@code null} values.
+   * @since 2.0.3
+   */
+  public int getNumberOfNotNullValues() {
+    Object[] results = getAggregatesFromDatabase("COUNT(%s)");
+    if (results != null) {
+      return ((Number) results[0]).intValue();
+    }
+    int count = 0;
+    for (Value value : getValuesList()) {
+      if (value.getValue() != null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Returns the number of {@code null} values of the column.
+   * <p>
+   * If the values are not loaded, they are counted by the database with a separate query.
+   * </p>
+   *
+   * @return The number of {@code null} values.
+   * @since 2.0.3
+   */
+  public int getNumberOfNullValues() {
+    Object[] results = getAggregatesFromDatabase("COUNT(*)", "COUNT(%s)");
+    if (results != null) {
+      return ((Number) results[0]).intValue() - ((Number) results[1]).intValue();
+    }
+    int count = 0;
+    for (Value value : getValuesList()) {
+      if (value.getValue() == null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Returns the indexes of the values which are not between two bounds (included).
+   * <p>
+   * The values are compared in one loop on their keys (see {@link ColumnKeys}). A {@code null} value is never between
+   * the bounds.
+   * </p>
+   *
+   * @param start The start (a number, a date, a time or a date/time, must be not {@code null}).
+   * @param end The end (a number, a date, a time or a date/time, must be not {@code null}).
+   * @param maxNumber The maximum number of indexes to return ({@code 0} for no limit).
+   * @return The indexes in ascending order.
+   * @throws NullPointerException If one of the bounds is {@code null}.
+   * @throws AssertJDBException If the bounds can not be compared to the values.
+   * @since 2.0.3
+   */
+  public int[] getIndexesOutOf(Object start, Object end, int maxNumber) {
+    if (start == null || end == null) {
+      throw new NullPointerException("The bounds must be not null");
+    }
+    return new ColumnKeys(getValuesList(), start, end).getIndexesOutOf(start, true, end, true, maxNumber);
+  }
+
+  /**
+   * Returns the indexes of the values which are not before a bound (the values equal to the bound included).
+   *
+   * @param bound The bound (a number, a date, a time or a date/time, must be not {@code null}).
+   * @param maxNumber The maximum number of indexes to return ({@code 0} for no limit).
+   * @return The indexes in ascending order.
+   * @throws NullPointerException If the bound is {@code null}.
+   * @throws AssertJDBException If the bound can not be compared to the values.
+   * @since 2.0.3
+   */
+  public int[] getIndexesNotBefore(Object bound, int maxNumber) {
+    if (bound == null) {
+      throw new NullPointerException("The bound must be not null");
+    }
+    return new ColumnKeys(getValuesList(), bound).getIndexesOutOf(null, false, bound, false, maxNumber);
+  }
+
+  /**
+   * Returns the indexes of the values which are not after a bound (the values equal to the bound included).
+   *
+   * @param bound The bound (a number, a date, a time or a date/time, must be not {@code null}).
+   * @param maxNumber The maximum number of indexes to return ({@code 0} for no limit).
+   * @return The indexes in ascending order.
+   * @throws NullPointerException If the bound is {@code null}.
+   * @throws AssertJDBException If the bound can not be compared to the values.
+   * @since 2.0.3
+   */
+  public int[] getIndexesNotAfter(Object bound, int maxNumber) {
+    if (bound == null) {
+      throw new NullPointerException("The bound must be not null");
+    }
+    return new ColumnKeys(getValuesList(), bound).getIndexesOutOf(bound, false, null, false, maxNumber);
+  }
+
+  /**
+   * Returns the indexes of the values which are not greater (or not greater or equal) than the previous value.
+   * <p>
+   * The index of a {@code null} value is always returned.
+   * </p>
+   *
+   * @param strictly If the values must be strictly increasing.
+   * @param maxNumber The maximum number of indexes to return ({@code 0} for no limit).
+   * @return The indexes in ascending order.
+   * @throws AssertJDBException If the values can not be compared.
+   * @since 2.0.3
+   */
+  public int[] getIndexesNotIncreasing(boolean strictly, int maxNumber) {
+    return new ColumnKeys(getValuesList()).getIndexesNotIncreasing(strictly, maxNumber);
+  }
+
+  /**
+   * Returns the results of aggregate functions computed by the database if the rows of the data are not loaded.
+   *
+   * @param functions The aggregate functions with {@code %s} in place of the column.
+   * @return The results or {@code null} if the aggregates must be computed from the values.
+   */
+  private Object[] getAggregatesFromDatabase(String... functions) {
+    if (valuesList != null || data.isLoaded()) {
+      return null;
+    }
+    return data.getAggregates(index, functions);
+  }
+
+  /**
+   * Returns the minimum or the maximum of the values of the column.
+   *
+   * @param function The aggregate function ({@code MIN} or {@code MAX}).
+   * @param sign The sign of the comparison for a new extremum ({@code -1} for the minimum, {@code 1} for the maximum).
+   * @return The extremum.
+   * @throws AssertJDBException If the values can not be compared.
+   */
+  private Value getExtremum(String function, int sign) {
+    Object[] results = getAggregatesFromDatabase(function);
+    if (results != null) {
+      return new Value(schema, 0, results[0]);
+    }
+    Object extremum = null;
+    for (Value value : getValuesList()) {
+      Object object = value.getValue();
+      if (object != null && (extremum == null || Integer.signum(compare(object, extremum)) == sign)) {
+        extremum = object;
+      }
+    }
+    return new Value(schema, 0, extremum);
+  }
+
+  /**
+   * Compares two values of the column.
+   *
+   * @param object The first value.
+   * @param other The second value.
+   * @return The result of the comparison.
+   * @throws AssertJDBException If the values can not be compared.
+   */
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private int compare(Object object, Object other) {
+    if (object instanceof Number && other instanceof Number) {
+      return toBigDecimal(object).compareTo(toBigDecimal(other));
+    }
+    if (object instanceof Comparable && object.getClass() == other.getClass()) {
+      return ((Comparable) object).compareTo(other);
+    }
+    throw new AssertJDBException("The values of the column %s can not be compared : %s and %s", name, object, other);
+  }
+
+  /**
+   * Returns a number as a {@code BigDecimal}.
+   *
+   * @param object The number (or {@code null}).
+   * @return The {@code BigDecimal} or {@code null}.
+   * @throws AssertJDBException If the object is not a number.
+   */
+  private BigDecimal toBigDecimal(Object object) {
+    if (object == null || object instanceof BigDecimal) {
+      return (BigDecimal) object;
+    }
+    if (object instanceof BigInteger) {
+      return new BigDecimal((BigInteger) object);
+    }
+    if (object instanceof Long || object instanceof Integer || object instanceof Short || object instanceof Byte) {
+      return BigDecimal.valueOf(((Number) object).longValue());
+    }
+    if (object instanceof Number) {
+      return new BigDecimal(object.toString());
+    }
+    throw new AssertJDBException("The values of the column %s must be numbers : %s", name, object);
   }
 }
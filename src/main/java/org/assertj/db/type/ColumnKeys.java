@@ -0,0 +1,434 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Keys of the values of a {@link Column} encoded in primitive arrays to compare all the values in one loop.
+ * <p>
+ * The kind of keys depends on the values and on the bounds to which they are compared :
+ * </p>
+ * <ul>
+ * <li>integral numbers are {@code long} keys,</li>
+ * <li>numbers with floating point are {@code double} keys,</li>
+ * <li>the other numbers ({@code BigDecimal} and {@code BigInteger}) are {@code BigDecimal} keys,</li>
+ * <li>times are the number of nanoseconds since midnight,</li>
+ * <li>dates and dates/times are the number of days since the epoch and the number of nanoseconds since midnight.</li>
+ * </ul>
+ * <p>
+ * A {@code null} value can not be compared : it is always at an offending index.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+final class ColumnKeys {
+
+  /**
+   * The kinds of keys.
+   */
+  private enum Kind {
+    LONG, DOUBLE, DECIMAL, TIME, DATE_TIME
+  }
+
+  /**
+   * The kind of the keys.
+   */
+  private final Kind kind;
+  /**
+   * The number of values.
+   */
+  private final int size;
+  /**
+   * Indicates the {@code null} values.
+   */
+  private final boolean[] nulls;
+  /**
+   * The keys of the {@code LONG}, {@code TIME} and {@code DATE_TIME} (for the date part) kinds.
+   */
+  private final long[] keys;
+  /**
+   * The keys of the time part of the {@code DATE_TIME} kind.
+   */
+  private final long[] lowKeys;
+  /**
+   * The keys of the {@code DOUBLE} kind.
+   */
+  private final double[] doubles;
+  /**
+   * The keys of the {@code DECIMAL} kind.
+   */
+  private final BigDecimal[] decimals;
+
+  /**
+   * Constructor.
+   *
+   * @param valuesList The values of the column.
+   * @param bounds The bounds to which the values will be compared (to choose the kind of keys).
+   * @throws AssertJDBException If the values can not be compared (or can not be compared to the bounds).
+   */
+  ColumnKeys(List<Value> valuesList, Object... bounds) {
+    size = valuesList.size();
+    nulls = new boolean[size];
+    kind = getKind(valuesList, bounds);
+    keys = kind == Kind.LONG || kind == Kind.TIME || kind == Kind.DATE_TIME ? new long[size] : null;
+    lowKeys = kind == Kind.DATE_TIME ? new long[size] : null;
+    doubles = kind == Kind.DOUBLE ? new double[size] : null;
+    decimals = kind == Kind.DECIMAL ? new BigDecimal[size] : null;
+
+    long[] key = new long[2];
+    for (int index = 0; index < size; index++) {
+      Object object = valuesList.get(index).getValue();
+      if (object == null) {
+        nulls[index] = true;
+        continue;
+      }
+      switch (kind) {
+      case LONG:
+        keys[index] = ((Number) object).longValue();
+        break;
+      case DOUBLE:
+        doubles[index] = ((Number) object).doubleValue();
+        break;
+      case DECIMAL:
+        decimals[index] = toBigDecimal(object);
+        break;
+      case TIME:
+        keys[index] = toNanoOfDay(object);
+        break;
+      default:
+        toDateTimeKey(object, key);
+        keys[index] = key[0];
+        lowKeys[index] = key[1];
+        break;
+      }
+    }
+  }
+
+  /**
+   * Returns the kind of keys to compare the values between them and to the bounds.
+   *
+   * @param valuesList The values.
+   * @param bounds The bounds.
+   * @return The kind.
+   * @throws AssertJDBException If the values can not be compared.
+   */
+  private static Kind getKind(List<Value> valuesList, Object[] bounds) {
+    Kind kind = null;
+    for (Value value : valuesList) {
+      kind = getKind(kind, value.getValue());
+    }
+    for (Object bound : bounds) {
+      kind = getKind(kind, bound);
+    }
+    return kind == null ? Kind.LONG : kind;
+  }
+
+  /**
+   * Returns the kind of keys to compare the objects with the kind of the previous ones and the object in parameter.
+   *
+   * @param kind The kind of the previous objects ({@code null} if there is no previous object).
+   * @param object The object.
+   * @return The kind.
+   * @throws AssertJDBException If the object can not be compared to the previous ones.
+   */
+  private static Kind getKind(Kind kind, Object object) {
+    if (object == null) {
+      return kind;
+    }
+    Kind objectKind;
+    if (object instanceof Long || object instanceof Integer || object instanceof Short || object instanceof Byte) {
+      objectKind = Kind.LONG;
+    } else if (object instanceof Double || object instanceof Float) {
+      objectKind = Kind.DOUBLE;
+    } else if (object instanceof BigDecimal || object instanceof BigInteger) {
+      objectKind = Kind.DECIMAL;
+    } else if (object instanceof Time || object instanceof TimeValue || object instanceof LocalTime) {
+      objectKind = Kind.TIME;
+    } else if (object instanceof java.sql.Date || object instanceof Timestamp || object instanceof DateValue || object instanceof DateTimeValue
+               || object instanceof LocalDate || object instanceof LocalDateTime) {
+      objectKind = Kind.DATE_TIME;
+    } else if (object instanceof String && kind != null && kind.compareTo(Kind.TIME) >= 0) {
+      // A text is parsed like a date, a time or a date/time
+      objectKind = kind;
+    } else {
+      throw new AssertJDBException("<%s> can not be compared", object);
+    }
+
+    if (kind == null || kind == objectKind) {
+      return objectKind;
+    }
+    boolean numbers = kind.compareTo(Kind.DECIMAL) <= 0 && objectKind.compareTo(Kind.DECIMAL) <= 0;
+    if (!numbers) {
+      throw new AssertJDBException("<%s> can not be compared to the values of the column", object);
+    }
+    // The kind which can represent both numbers
+    return kind.compareTo(objectKind) > 0 ? kind : objectKind;
+  }
+
+  /**
+   * Returns the indexes of the values which are not in a range.
+   * <p>
+   * The indexes are in ascending order.
+   * </p>
+   *
+   * @param start The start of the range ({@code null} if there is no start).
+   * @param startIncluded If the start is in the range.
+   * @param end The end of the range ({@code null} if there is no end).
+   * @param endIncluded If the end is in the range.
+   * @param maxNumber The maximum number of indexes to return ({@code 0} for no limit).
+   * @return The indexes.
+   * @throws AssertJDBException If a bound can not be compared to the values.
+   */
+  int[] getIndexesOutOf(Object start, boolean startIncluded, Object end, boolean endIncluded, int maxNumber) {
+    // The comparison of a value to a bound must be greater than these minimums
+    int startMinimum = startIncluded ? -1 : 0;
+    int endMaximum = endIncluded ? 1 : 0;
+    int[] indexes = new int[maxNumber > 0 ? Math.min(maxNumber, size) : size];
+    int number = 0;
+
+    switch (kind) {
+    case LONG:
+    case TIME: {
+      long startKey = start == null ? 0 : toKey(start);
+      long endKey = end == null ? 0 : toKey(end);
+      for (int index = 0; index < size && number < indexes.length; index++) {
+        if (nulls[index]
+            || (start != null && Long.compare(keys[index], startKey) <= startMinimum)
+            || (end != null && Long.compare(keys[index], endKey) >= endMaximum)) {
+          indexes[number++] = index;
+        }
+      }
+      break;
+    }
+    case DOUBLE: {
+      double startKey = start == null ? 0 : ((Number) start).doubleValue();
+      double endKey = end == null ? 0 : ((Number) end).doubleValue();
+      for (int index = 0; index < size && number < indexes.length; index++) {
+        if (nulls[index]
+            || (start != null && Double.compare(doubles[index], startKey) <= startMinimum)
+            || (end != null && Double.compare(doubles[index], endKey) >= endMaximum)) {
+          indexes[number++] = index;
+        }
+      }
+      break;
+    }
+    case DECIMAL: {
+      BigDecimal startKey = start == null ? null : toBigDecimal(start);
+      BigDecimal endKey = end == null ? null : toBigDecimal(end);
+      for (int index = 0; index < size && number < indexes.length; index++) {
+        if (nulls[index]
+            || (startKey != null && decimals[index].compareTo(startKey) <= startMinimum)
+            || (endKey != null && decimals[index].compareTo(endKey) >= endMaximum)) {
+          indexes[number++] = index;
+        }
+      }
+      break;
+    }
+    default: {
+      long[] startKey = new long[2];
+      long[] endKey = new long[2];
+      if (start != null) {
+        toDateTimeKey(start, startKey);
+      }
+      if (end != null) {
+        toDateTimeKey(end, endKey);
+      }
+      for (int index = 0; index < size && number < indexes.length; index++) {
+        if (nulls[index]
+            || (start != null && compare(keys[index], lowKeys[index], startKey[0], startKey[1]) <= startMinimum)
+            || (end != null && compare(keys[index], lowKeys[index], endKey[0], endKey[1]) >= endMaximum)) {
+          indexes[number++] = index;
+        }
+      }
+      break;
+    }
+    }
+    return Arrays.copyOf(indexes, number);
+  }
+
+  /**
+   * Returns the indexes of the values which are not greater than the previous value (or not greater or equal).
+   * <p>
+   * The indexes are in ascending order. The index of a {@code null} value is an offending index and the value after
+   * it is not compared.
+   * </p>
+   *
+   * @param strictly If the values must be strictly increasing.
+   * @param maxNumber The maximum number of indexes to return ({@code 0} for no limit).
+   * @return The indexes.
+   */
+  int[] getIndexesNotIncreasing(boolean strictly, int maxNumber) {
+    // The comparison of a value to the previous one must be greater than this minimum
+    int minimum = strictly ? 0 : -1;
+    int[] indexes = new int[maxNumber > 0 ? Math.min(maxNumber, size) : size];
+    int number = 0;
+
+    for (int index = 0; index < size && number < indexes.length; index++) {
+      if (nulls[index]) {
+        indexes[number++] = index;
+        continue;
+      }
+      if (index == 0 || nulls[index - 1]) {
+        continue;
+      }
+      int comparison;
+      switch (kind) {
+      case LONG:
+      case TIME:
+        comparison = Long.compare(keys[index], keys[index - 1]);
+        break;
+      case DOUBLE:
+        comparison = Double.compare(doubles[index], doubles[index - 1]);
+        break;
+      case DECIMAL:
+        comparison = decimals[index].compareTo(decimals[index - 1]);
+        break;
+      default:
+        comparison = compare(keys[index], lowKeys[index], keys[index - 1], lowKeys[index - 1]);
+        break;
+      }
+      if (comparison <= minimum) {
+        indexes[number++] = index;
+      }
+    }
+    return Arrays.copyOf(indexes, number);
+  }
+
+  /**
+   * Compares two keys of the {@code DATE_TIME} kind.
+   *
+   * @param key The date part of the first key.
+   * @param lowKey The time part of the first key.
+   * @param otherKey The date part of the second key.
+   * @param otherLowKey The time part of the second key.
+   * @return The result of the comparison.
+   */
+  private static int compare(long key, long lowKey, long otherKey, long otherLowKey) {
+    int comparison = Long.compare(key, otherKey);
+    return comparison != 0 ? comparison : Long.compare(lowKey, otherLowKey);
+  }
+
+  /**
+   * Returns the key of a bound for the {@code LONG} or {@code TIME} kind.
+   *
+   * @param bound The bound.
+   * @return The key.
+   */
+  private long toKey(Object bound) {
+    if (kind == Kind.TIME) {
+      return toNanoOfDay(bound);
+    }
+    return ((Number) bound).longValue();
+  }
+
+  /**
+   * Returns a number as a {@code BigDecimal}.
+   *
+   * @param object The number.
+   * @return The {@code BigDecimal}.
+   */
+  private static BigDecimal toBigDecimal(Object object) {
+    if (object instanceof BigDecimal) {
+      return (BigDecimal) object;
+    }
+    if (object instanceof BigInteger) {
+      return new BigDecimal((BigInteger) object);
+    }
+    if (object instanceof Double || object instanceof Float) {
+      return new BigDecimal(object.toString());
+    }
+    return BigDecimal.valueOf(((Number) object).longValue());
+  }
+
+  /**
+   * Returns the number of nanoseconds since midnight of a time.
+   *
+   * @param object The time.
+   * @return The number of nanoseconds.
+   * @throws AssertJDBException If the object is not a correct time.
+   */
+  private static long toNanoOfDay(Object object) {
+    TimeValue time;
+    if (object instanceof Time) {
+      time = TimeValue.from((Time) object);
+    } else if (object instanceof LocalTime) {
+      time = TimeValue.from((LocalTime) object);
+    } else if (object instanceof String) {
+      try {
+        time = TimeValue.parse((String) object);
+      } catch (ParseException e) {
+        throw new AssertJDBException("Expected <%s> is not correct to compare to the values of the column", object);
+      }
+    } else {
+      time = (TimeValue) object;
+    }
+    long nanoOfDay = TimeValue.toNanoOfDay(time.getHours(), time.getMinutes(), time.getSeconds(),
+                                           time.getNanoSeconds());
+    if (nanoOfDay == DateValue.NOT_ENCODED) {
+      throw new AssertJDBException("<%s> is not a correct time", time);
+    }
+    return nanoOfDay;
+  }
+
+  /**
+   * Fills the key of a date or a date/time (the number of days since the epoch and the number of nanoseconds since
+   * midnight).
+   *
+   * @param object The date or the date/time.
+   * @param key The array in which the key is filled.
+   * @throws AssertJDBException If the object is not a correct date or date/time.
+   */
+  private static void toDateTimeKey(Object object, long[] key) {
+    DateTimeValue dateTime;
+    if (object instanceof Timestamp) {
+      dateTime = DateTimeValue.from((Timestamp) object);
+    } else if (object instanceof java.sql.Date) {
+      dateTime = DateTimeValue.of(DateValue.from((java.sql.Date) object));
+    } else if (object instanceof DateValue) {
+      dateTime = DateTimeValue.of((DateValue) object);
+    } else if (object instanceof LocalDate) {
+      dateTime = DateTimeValue.of(DateValue.from((LocalDate) object));
+    } else if (object instanceof LocalDateTime) {
+      dateTime = DateTimeValue.from((LocalDateTime) object);
+    } else if (object instanceof String) {
+      try {
+        String text = (String) object;
+        dateTime = text.contains("T") ? DateTimeValue.parse(text) : DateTimeValue.of(DateValue.parse(text));
+      } catch (ParseException e) {
+        throw new AssertJDBException("Expected <%s> is not correct to compare to the values of the column", object);
+      }
+    } else if (object instanceof DateTimeValue) {
+      dateTime = (DateTimeValue) object;
+    } else {
+      throw new AssertJDBException("<%s> can not be compared to the values of the column", object);
+    }
+    key[0] = dateTime.getEpochDay();
+    key[1] = dateTime.getNanoOfDay();
+    if (key[0] == DateValue.NOT_ENCODED || key[1] == DateValue.NOT_ENCODED) {
+      throw new AssertJDBException("<%s> is not a correct date/time", dateTime);
+    }
+  }
+}
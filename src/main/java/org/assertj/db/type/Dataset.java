@@ -0,0 +1,769 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Expected content of a {@link Table} or of a {@link Request} : the names of columns and the rows of values.
+ * <p>
+ * The rows of a dataset are read one by one with a {@link RowReader} : a file is not loaded in memory. There are three
+ * kinds of datasets :
+ * </p>
+ * <ul>
+ * <li>a CSV file ({@link #fromCsv(Path)}) : the first line contains the names of the columns and the values are texts
+ * (an empty field without quotes is {@code null}),</li>
+ * <li>a JSON Lines file ({@link #fromJsonLines(Path)}) : each line is an object with the names of the columns as keys
+ * and texts, numbers, booleans or {@code null} as values,</li>
+ * <li>a dataset in memory ({@link #of(String...)} and {@link #values(Object...)}).</li>
+ * </ul>
+ * <p>
+ * Example with a dataset in memory :
+ * </p>
+ *
+ * <pre><code class='java'>
+ * Dataset dataset = Dataset.of(&quot;id&quot;, &quot;title&quot;, &quot;year&quot;)
+ *                          .values(1, &quot;Alien&quot;, 1979)
+ *                          .values(2, &quot;The Village&quot;, 2004);
+ * </code></pre>
+ *
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+public abstract class Dataset {
+
+  /**
+   * Reader of the rows of a dataset.
+   */
+  public interface RowReader extends Closeable {
+
+    /**
+     * Returns the names of the columns of the dataset.
+     *
+     * @return The names of the columns.
+     * @throws IOException If the names can not be read.
+     */
+    List<String> getColumnsName() throws IOException;
+
+    /**
+     * Reads the next row of the dataset.
+     *
+     * @return The values of the row (in the order of the names of the columns) or {@code null} if there is no other
+     *         row.
+     * @throws IOException If the row can not be read.
+     */
+    Object[] readRow() throws IOException;
+  }
+
+  /**
+   * Returns a dataset in memory.
+   *
+   * @param columnsName The names of the columns.
+   * @return The dataset (without rows).
+   * @throws NullPointerException If {@code columnsName} is {@code null}.
+   */
+  public static Dataset of(String... columnsName) {
+    if (columnsName == null) {
+      throw new NullPointerException("The names of the columns must be not null");
+    }
+    return new InMemoryDataset(Arrays.asList(columnsName));
+  }
+
+  /**
+   * Returns a dataset read from a CSV file (encoded in UTF-8, with the names of the columns in the first line).
+   *
+   * @param path The path of the file.
+   * @return The dataset.
+   * @throws NullPointerException If {@code path} is {@code null}.
+   */
+  public static Dataset fromCsv(Path path) {
+    if (path == null) {
+      throw new NullPointerException("The path must be not null");
+    }
+    return new FileDataset(path, false);
+  }
+
+  /**
+   * Returns a dataset read from a CSV content (with the names of the columns in the first line).
+   * <p>
+   * The reader can be read only once.
+   * </p>
+   *
+   * @param reader The reader of the content.
+   * @return The dataset.
+   * @throws NullPointerException If {@code reader} is {@code null}.
+   */
+  public static Dataset fromCsv(Reader reader) {
+    if (reader == null) {
+      throw new NullPointerException("The reader must be not null");
+    }
+    return new ReaderDataset(reader, false);
+  }
+
+  /**
+   * Returns a dataset read from a JSON Lines file (encoded in UTF-8, with an object on each line).
+   *
+   * @param path The path of the file.
+   * @return The dataset.
+   * @throws NullPointerException If {@code path} is {@code null}.
+   */
+  public static Dataset fromJsonLines(Path path) {
+    if (path == null) {
+      throw new NullPointerException("The path must be not null");
+    }
+    return new FileDataset(path, true);
+  }
+
+  /**
+   * Returns a dataset read from a JSON Lines content (with an object on each line).
+   * <p>
+   * The reader can be read only once.
+   * </p>
+   *
+   * @param reader The reader of the content.
+   * @return The dataset.
+   * @throws NullPointerException If {@code reader} is {@code null}.
+   */
+  public static Dataset fromJsonLines(Reader reader) {
+    if (reader == null) {
+      throw new NullPointerException("The reader must be not null");
+    }
+    return new ReaderDataset(reader, true);
+  }
+
+  /**
+   * Writes a CSV file (encoded in UTF-8) which can be read with {@link #fromCsv(Path)}.
+   * <p>
+   * The values are written with their {@code toString()} : a {@code null} value is an empty field and an empty text
+   * is a quoted field. The parent directories of the file are created if needed.
+   * </p>
+   *
+   * @param path        The path of the file.
+   * @param columnsName The names of the columns.
+   * @param rows        The rows of values (in the order of the names of the columns).
+   * @throws IOException If the file can not be written.
+   */
+  public static void writeCsv(Path path, List<String> columnsName, Iterable<Object[]> rows) throws IOException {
+    Path parent = path.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+      writeCsvRecord(writer, columnsName.toArray());
+      for (Object[] values : rows) {
+        writeCsvRecord(writer, values);
+      }
+    }
+  }
+
+  /**
+   * Writes a record of a CSV content.
+   *
+   * @param writer The writer.
+   * @param values The values.
+   * @throws IOException If the record can not be written.
+   */
+  private static void writeCsvRecord(Writer writer, Object[] values) throws IOException {
+    for (int index = 0; index < values.length; index++) {
+      if (index > 0) {
+        writer.write(',');
+      }
+      if (values[index] != null) {
+        String text = values[index].toString();
+        if (text.isEmpty() || text.indexOf(',') != -1 || text.indexOf('"') != -1 || text.indexOf('\n') != -1
+            || text.indexOf('\r') != -1) {
+          writer.write('"');
+          writer.write(text.replace("\"", "\"\""));
+          writer.write('"');
+        } else {
+          writer.write(text);
+        }
+      }
+    }
+    writer.write('\n');
+  }
+
+  /**
+   * Adds a row of values to a dataset in memory.
+   *
+   * @param values The values (in the order of the names of the columns).
+   * @return {@code this} dataset.
+   * @throws AssertJDBException If the dataset is not in memory or if the number of values is different from the
+   *                            number of columns.
+   */
+  public Dataset values(Object... values) {
+    throw new AssertJDBException("Only the rows of a dataset in memory can be added");
+  }
+
+  /**
+   * Opens a reader of the rows of the dataset.
+   *
+   * @return The reader (which must be closed).
+   * @throws IOException If the dataset can not be read.
+   */
+  public abstract RowReader open() throws IOException;
+
+  /**
+   * Dataset in memory.
+   */
+  private static class InMemoryDataset extends Dataset {
+
+    /**
+     * The names of the columns.
+     */
+    private final List<String> columnsName;
+    /**
+     * The rows.
+     */
+    private final List<Object[]> rows = new ArrayList<>();
+
+    /**
+     * Constructor.
+     *
+     * @param columnsName The names of the columns.
+     */
+    private InMemoryDataset(List<String> columnsName) {
+      this.columnsName = Collections.unmodifiableList(columnsName);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Dataset values(Object... values) {
+      if (values == null) {
+        values = new Object[] { null };
+      }
+      if (values.length != columnsName.size()) {
+        throw new AssertJDBException("The number of values (%s) must be the number of columns (%s)", values.length,
+                                     columnsName.size());
+      }
+      rows.add(values.clone());
+      return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RowReader open() {
+      return new RowReader() {
+        private int index;
+
+        @Override
+        public List<String> getColumnsName() {
+          return columnsName;
+        }
+
+        @Override
+        public Object[] readRow() {
+          return index < rows.size() ? rows.get(index++) : null;
+        }
+
+        @Override
+        public void close() {
+          // Nothing to close
+        }
+      };
+    }
+  }
+
+  /**
+   * Dataset in a file.
+   */
+  private static class FileDataset extends Dataset {
+
+    /**
+     * The path of the file.
+     */
+    private final Path path;
+    /**
+     * If the file is a JSON Lines file (or a CSV file).
+     */
+    private final boolean jsonLines;
+
+    /**
+     * Constructor.
+     *
+     * @param path The path of the file.
+     * @param jsonLines If the file is a JSON Lines file (or a CSV file).
+     */
+    private FileDataset(Path path, boolean jsonLines) {
+      this.path = path;
+      this.jsonLines = jsonLines;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RowReader open() throws IOException {
+      BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+      return jsonLines ? new JsonLinesRowReader(reader) : new CsvRowReader(reader);
+    }
+  }
+
+  /**
+   * Dataset read from a reader.
+   */
+  private static class ReaderDataset extends Dataset {
+
+    /**
+     * The reader (or {@code null} if it is already read).
+     */
+    private Reader reader;
+    /**
+     * If the content is JSON Lines (or CSV).
+     */
+    private final boolean jsonLines;
+
+    /**
+     * Constructor.
+     *
+     * @param reader The reader.
+     * @param jsonLines If the content is JSON Lines (or CSV).
+     */
+    private ReaderDataset(Reader reader, boolean jsonLines) {
+      this.reader = reader;
+      this.jsonLines = jsonLines;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RowReader open() {
+      if (reader == null) {
+        throw new AssertJDBException("The dataset from a reader can be read only once");
+      }
+      BufferedReader bufferedReader = reader instanceof BufferedReader ? (BufferedReader) reader
+                                                                       : new BufferedReader(reader);
+      reader = null;
+      return jsonLines ? new JsonLinesRowReader(bufferedReader) : new CsvRowReader(bufferedReader);
+    }
+  }
+
+  /**
+   * Reader of the rows of a CSV content.
+   * <p>
+   * The fields are separated by commas and can be quoted with double quotes (a double quote in a quoted field is
+   * doubled). An empty field without quotes is {@code null}.
+   * </p>
+   */
+  private static class CsvRowReader implements RowReader {
+
+    /**
+     * The reader of the content.
+     */
+    private final BufferedReader reader;
+    /**
+     * The names of the columns (read at the first use).
+     */
+    private List<String> columnsName;
+
+    /**
+     * Constructor.
+     *
+     * @param reader The reader of the content.
+     */
+    private CsvRowReader(BufferedReader reader) {
+      this.reader = reader;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<String> getColumnsName() throws IOException {
+      if (columnsName == null) {
+        List<String> fields = readFields();
+        if (fields == null) {
+          throw new AssertJDBException("The CSV content must contain the names of the columns");
+        }
+        columnsName = Collections.unmodifiableList(fields);
+      }
+      return columnsName;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Object[] readRow() throws IOException {
+      int size = getColumnsName().size();
+      List<String> fields = readFields();
+      while (fields != null && fields.size() == 1 && fields.get(0) == null && size != 1) {
+        // An empty line
+        fields = readFields();
+      }
+      if (fields == null) {
+        return null;
+      }
+      if (fields.size() != size) {
+        throw new AssertJDBException("The number of fields (%s) must be the number of columns (%s) : %s",
+                                     fields.size(), size, fields);
+      }
+      return fields.toArray();
+    }
+
+    /**
+     * Reads the fields of the next record.
+     *
+     * @return The fields or {@code null} at the end of the content.
+     * @throws IOException If the content can not be read.
+     */
+    private List<String> readFields() throws IOException {
+      int character = reader.read();
+      if (character == -1) {
+        return null;
+      }
+      List<String> fields = new ArrayList<>();
+      StringBuilder field = new StringBuilder();
+      boolean quoted = false;
+      boolean inQuotes = false;
+      while (true) {
+        if (inQuotes) {
+          if (character == -1) {
+            throw new AssertJDBException("A quoted field of the CSV content is not closed");
+          }
+          if (character == '"') {
+            reader.mark(1);
+            int next = reader.read();
+            if (next == '"') {
+              field.append('"');
+            } else {
+              inQuotes = false;
+              reader.reset();
+            }
+          } else {
+            field.append((char) character);
+          }
+        } else if (character == '"' && field.length() == 0 && !quoted) {
+          quoted = true;
+          inQuotes = true;
+        } else if (character == ',' || character == '\n' || character == '\r' || character == -1) {
+          fields.add(quoted || field.length() > 0 ? field.toString() : null);
+          field.setLength(0);
+          quoted = false;
+          if (character != ',') {
+            if (character == '\r') {
+              reader.mark(1);
+              if (reader.read() != '\n') {
+                reader.reset();
+              }
+            }
+            return fields;
+          }
+        } else {
+          field.append((char) character);
+        }
+        character = reader.read();
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+      reader.close();
+    }
+  }
+
+  /**
+   * Reader of the rows of a JSON Lines content.
+   * <p>
+   * Each line is an object whose values are texts, numbers ({@code Long} or {@code BigDecimal}), booleans or
+   * {@code null}. The names of the columns are the keys of the first object : a missing key in another object is a
+   * {@code null} value.
+   * </p>
+   */
+  private static class JsonLinesRowReader implements RowReader {
+
+    /**
+     * The reader of the content.
+     */
+    private final BufferedReader reader;
+    /**
+     * The names of the columns (read with the first object).
+     */
+    private List<String> columnsName;
+    /**
+     * The indexes of the names of the columns.
+     */
+    private Map<String, Integer> indexes;
+    /**
+     * The first row (read with the names of the columns and not yet returned).
+     */
+    private Object[] firstRow;
+    /**
+     * The current line (for the error messages).
+     */
+    private String line;
+    /**
+     * The position in the current line.
+     */
+    private int position;
+
+    /**
+     * Constructor.
+     *
+     * @param reader The reader of the content.
+     */
+    private JsonLinesRowReader(BufferedReader reader) {
+      this.reader = reader;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<String> getColumnsName() throws IOException {
+      if (columnsName == null) {
+        Map<String, Object> object = readObject();
+        if (object == null) {
+          throw new AssertJDBException("The JSON Lines content must contain at least one object");
+        }
+        columnsName = Collections.unmodifiableList(new ArrayList<>(object.keySet()));
+        indexes = new HashMap<>();
+        for (String columnName : columnsName) {
+          indexes.put(columnName, indexes.size());
+        }
+        firstRow = object.values().toArray();
+      }
+      return columnsName;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Object[] readRow() throws IOException {
+      getColumnsName();
+      if (firstRow != null) {
+        Object[] row = firstRow;
+        firstRow = null;
+        return row;
+      }
+      Map<String, Object> object = readObject();
+      if (object == null) {
+        return null;
+      }
+      Object[] row = new Object[columnsName.size()];
+      for (Map.Entry<String, Object> entry : object.entrySet()) {
+        Integer index = indexes.get(entry.getKey());
+        if (index == null) {
+          throw new AssertJDBException("The key <%s> is not in the first object of the JSON Lines content : %s",
+                                       entry.getKey(), line);
+        }
+        row[index] = entry.getValue();
+      }
+      return row;
+    }
+
+    /**
+     * Reads the next object.
+     *
+     * @return The object (keys in the order of the line) or {@code null} at the end of the content.
+     * @throws IOException If the content can not be read.
+     */
+    private Map<String, Object> readObject() throws IOException {
+      do {
+        line = reader.readLine();
+        if (line == null) {
+          return null;
+        }
+        position = 0;
+        skipWhitespaces();
+      } while (position == line.length());
+
+      Map<String, Object> object = new java.util.LinkedHashMap<>();
+      expect('{');
+      skipWhitespaces();
+      if (peek() == '}') {
+        position++;
+      } else {
+        while (true) {
+          skipWhitespaces();
+          String key = readString();
+          skipWhitespaces();
+          expect(':');
+          skipWhitespaces();
+          object.put(key, readValue());
+          skipWhitespaces();
+          char character = next();
+          if (character == '}') {
+            break;
+          }
+          if (character != ',') {
+            throw error();
+          }
+        }
+      }
+      skipWhitespaces();
+      if (position != line.length()) {
+        throw error();
+      }
+      return object;
+    }
+
+    /**
+     * Reads a value (a text, a number, a boolean or {@code null}).
+     *
+     * @return The value.
+     */
+    private Object readValue() {
+      char character = peek();
+      if (character == '"') {
+        return readString();
+      }
+      if (line.startsWith("true", position)) {
+        position += 4;
+        return Boolean.TRUE;
+      }
+      if (line.startsWith("false", position)) {
+        position += 5;
+        return Boolean.FALSE;
+      }
+      if (line.startsWith("null", position)) {
+        position += 4;
+        return null;
+      }
+      int start = position;
+      while (position < line.length() && "+-0123456789.eE".indexOf(line.charAt(position)) != -1) {
+        position++;
+      }
+      if (start == position) {
+        throw error();
+      }
+      BigDecimal number;
+      try {
+        number = new BigDecimal(line.substring(start, position));
+      } catch (NumberFormatException e) {
+        throw error();
+      }
+      if (number.scale() <= 0 && number.precision() - number.scale() < 19) {
+        return number.longValueExact();
+      }
+      return number;
+    }
+
+    /**
+     * Reads a text.
+     *
+     * @return The text.
+     */
+    private String readString() {
+      expect('"');
+      StringBuilder builder = new StringBuilder();
+      while (true) {
+        char character = next();
+        if (character == '"') {
+          return builder.toString();
+        }
+        if (character == '\\') {
+          character = next();
+          switch (character) {
+          case 'b':
+            builder.append('\b');
+            break;
+          case 'f':
+            builder.append('\f');
+            break;
+          case 'n':
+            builder.append('\n');
+            break;
+          case 'r':
+            builder.append('\r');
+            break;
+          case 't':
+            builder.append('\t');
+            break;
+          case 'u':
+            if (position + 4 > line.length()) {
+              throw error();
+            }
+            try {
+              builder.append((char) Integer.parseInt(line.substring(position, position + 4), 16));
+            } catch (NumberFormatException e) {
+              throw error();
+            }
+            position += 4;
+            break;
+          default:
+            builder.append(character);
+            break;
+          }
+        } else {
+          builder.append(character);
+        }
+      }
+    }
+
+    /**
+     * Skips the whitespaces.
+     */
+    private void skipWhitespaces() {
+      while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+        position++;
+      }
+    }
+
+    /**
+     * Returns the current character without moving.
+     *
+     * @return The character.
+     */
+    private char peek() {
+      if (position >= line.length()) {
+        throw error();
+      }
+      return line.charAt(position);
+    }
+
+    /**
+     * Returns the current character and moves to the next one.
+     *
+     * @return The character.
+     */
+    private char next() {
+      char character = peek();
+      position++;
+      return character;
+    }
+
+    /**
+     * Verifies the current character and moves to the next one.
+     *
+     * @param expected The expected character.
+     */
+    private void expect(char expected) {
+      if (next() != expected) {
+        throw error();
+      }
+    }
+
+    /**
+     * Returns the exception for an incorrect line.
+     *
+     * @return The exception.
+     */
+    private AssertJDBException error() {
+      return new AssertJDBException("The line is not a correct JSON object (at the position %s) : %s", position, line);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+      reader.close();
+    }
+  }
+}
@@ -14,11 +14,20 @@ package org.assertj.db.type;
 
 import java.sql.Timestamp;
 import java.text.ParseException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Calendar;
+import java.util.Objects;
+import java.util.regex.Pattern;
 
 /**
  * This class represents a date/time value in the database.
+ * <p>
+ * When the date and the time are valid (see {@link DateValue#toEpochDay(int, int, int)} and
+ * {@link TimeValue#toNanoOfDay(int, int, int, int)}), the value is encoded with the number of days since the epoch and
+ * the number of nanoseconds since midnight : the comparisons, the hash code and the representation use these two
+ * numbers and the date value and the time value are only made if they are asked.
+ * </p>
  * 
  * @author Régis Pouiller
  * 
@@ -27,31 +36,44 @@ public class DateTimeValue implements Comparable<DateTimeValue>, DateValueContai
 
   public static final String DATE_TIME_SHOULD_BE_NOT_NULL = "date/time should be not null";
   /**
-   * The date part.
+   * Number of days since the epoch of the date part or {@link DateValue#NOT_ENCODED} if the value is not encoded.
+   * @since 2.0.3
    */
-  private final DateValue date;
+  private final long epochDay;
   /**
-   * The time part.
+   * Number of nanoseconds since midnight of the time part or {@link DateValue#NOT_ENCODED} if the value is not
+   * encoded.
+   * @since 2.0.3
    */
-  private final TimeValue time;
+  private final long nanoOfDay;
+  /**
+   * The date part (made at the first use if the value is encoded).
+   */
+  private DateValue date;
+  /**
+   * The time part (made at the first use if the value is encoded).
+   */
+  private TimeValue time;
   /**
    * Indicates where there are the digits in the {@code String} for {@link DateValue#DateValue(String)}.
    */
-  private static final String DATE_FORMAT = "\\d\\d\\d\\d-\\d\\d-\\d\\d";
+  private static final Pattern DATE_FORMAT = Pattern.compile("\\d\\d\\d\\d-\\d\\d-\\d\\d");
   /**
    * Indicates where there are the digits for {@code String} for {@link TimeValue#TimeValue(String)}.
    */
-  private static final String TIME_FORMAT = "\\d\\d\\d\\d-\\d\\d-\\d\\dT\\d\\d:\\d\\d";
+  private static final Pattern TIME_FORMAT = Pattern.compile("\\d\\d\\d\\d-\\d\\d-\\d\\dT\\d\\d:\\d\\d");
   /**
    * Indicates where there are the digits in style with seconds for {@code String} for
    * {@link TimeValue#TimeValue(String)}.
    */
-  private static final String TIME_FORMAT_WITH_SECONDS = "\\d\\d\\d\\d-\\d\\d-\\d\\dT\\d\\d:\\d\\d:\\d\\d";
+  private static final Pattern TIME_FORMAT_WITH_SECONDS =
+      Pattern.compile("\\d\\d\\d\\d-\\d\\d-\\d\\dT\\d\\d:\\d\\d:\\d\\d");
   /**
    * Indicates where there are the digits in style with nanoseconds for {@code String} for
    * {@link TimeValue#TimeValue(String)}.
    */
-  private static final String TIME_FORMAT_WITH_NANO = "\\d\\d\\d\\d-\\d\\d-\\d\\dT\\d\\d:\\d\\d:\\d\\d.\\d\\d\\d\\d\\d\\d\\d\\d\\d";
+  private static final Pattern TIME_FORMAT_WITH_NANO =
+      Pattern.compile("\\d\\d\\d\\d-\\d\\d-\\d\\dT\\d\\d:\\d\\d:\\d\\d.\\d\\d\\d\\d\\d\\d\\d\\d\\d");
 
   /**
    * Makes an instance of date/time value from a date with time at 00:00AM.
@@ -96,7 +118,14 @@ public class DateTimeValue implements Comparable<DateTimeValue>, DateValueContai
    * @return An instance of date/time value.
    */
   public static DateTimeValue from(Timestamp timestamp) {
-    return new DateTimeValue(timestamp);
+    long localMillis = DateValue.getLocalMillis(timestamp, DATE_TIME_SHOULD_BE_NOT_NULL);
+    if (localMillis < DateValue.GREGORIAN_CUTOVER_MILLIS) {
+      return new DateTimeValue(DateValue.fromLocalMillis(localMillis),
+                               TimeValue.fromLocalMillis(localMillis, timestamp.getNanos()));
+    }
+    long secondOfDay = Math.floorMod(localMillis, DateValue.MILLIS_PER_DAY) / 1000;
+    return new DateTimeValue(Math.floorDiv(localMillis, DateValue.MILLIS_PER_DAY),
+                             secondOfDay * TimeValue.NANOS_PER_SECOND + timestamp.getNanos());
   }
 
   /**
@@ -147,10 +176,32 @@ public class DateTimeValue implements Comparable<DateTimeValue>, DateValueContai
     if (time == null) {
       throw new NullPointerException("time should be not null");
     }
+    long epochDay = DateValue.toEpochDay(date.getYear(), date.getMonth(), date.getDayOfTheMonth());
+    long nanoOfDay = TimeValue.toNanoOfDay(time.getHours(), time.getMinutes(), time.getSeconds(),
+                                           time.getNanoSeconds());
+    if (epochDay == DateValue.NOT_ENCODED || nanoOfDay == DateValue.NOT_ENCODED) {
+      this.epochDay = DateValue.NOT_ENCODED;
+      this.nanoOfDay = DateValue.NOT_ENCODED;
+    } else {
+      this.epochDay = epochDay;
+      this.nanoOfDay = nanoOfDay;
+    }
     this.date = date;
     this.time = time;
   }
 
+  /**
+   * Constructor of an encoded value.
+   *
+   * @param epochDay The number of days since the epoch.
+   * @param nanoOfDay The number of nanoseconds since midnight.
+   * @since 2.0.3
+   */
+  private DateTimeValue(long epochDay, long nanoOfDay) {
+    this.epochDay = epochDay;
+    this.nanoOfDay = nanoOfDay;
+  }
+
   /**
    * Constructor.
    * 
@@ -161,18 +212,30 @@ public class DateTimeValue implements Comparable<DateTimeValue>, DateValueContai
    *           {@code yyyy-mm-ddThh:mm:ss} or {@code yyyy-mm-ddThh:mm:ss.nnnnnnnnn} format.
    */
   public DateTimeValue(String dateTime) throws ParseException {
+    this(parseDateAndTime(dateTime));
+  }
+
+  /**
+   * Parses the date and the time of a {@code String}.
+   *
+   * @param dateTime Time in {@code String} format ({@code yyyy-mm-dd}, {@code yyyy-mm-ddThh:mm},
+   *          {@code yyyy-mm-ddThh:mm:ss} or {@code yyyy-mm-ddThh:mm:ss.nnnnnnnnn}).
+   * @return The date/time value.
+   * @throws NullPointerException If {@code dateTime} is {@code null}.
+   * @throws ParseException If {@code date} don't respect the {@code yyyy-mm-dd}, {@code yyyy-mm-ddThh:mm},
+   *           {@code yyyy-mm-ddThh:mm:ss} or {@code yyyy-mm-ddThh:mm:ss.nnnnnnnnn} format.
+   */
+  private static DateTimeValue parseDateAndTime(String dateTime) throws ParseException {
     if (dateTime == null) {
       throw new NullPointerException(DATE_TIME_SHOULD_BE_NOT_NULL);
     }
 
-    if (dateTime.matches(DATE_FORMAT)) {
-      date = DateValue.parse(dateTime);
-      time = new TimeValue(0, 0);
-    } else if (dateTime.matches(TIME_FORMAT) || dateTime.matches(TIME_FORMAT_WITH_SECONDS)
-        || dateTime.matches(TIME_FORMAT_WITH_NANO)) {
+    if (DATE_FORMAT.matcher(dateTime).matches()) {
+      return new DateTimeValue(DateValue.parse(dateTime), new TimeValue(0, 0));
+    } else if (TIME_FORMAT.matcher(dateTime).matches() || TIME_FORMAT_WITH_SECONDS.matcher(dateTime).matches()
+        || TIME_FORMAT_WITH_NANO.matcher(dateTime).matches()) {
 
-      date = DateValue.parse(dateTime.substring(0, 10));
-      time = TimeValue.parse(dateTime.substring(11));
+      return new DateTimeValue(DateValue.parse(dateTime.substring(0, 10)), TimeValue.parse(dateTime.substring(11)));
     } else {
       throw new ParseException("date/time must respect yyyy-mm-dd, yyyy-mm-ddThh:mm, "
           + "yyyy-mm-ddThh:mm:ss or yyyy-mm-ddThh:mm:ss.nnnnnnnnn format", dateTime.length());
@@ -186,17 +249,19 @@ public class DateTimeValue implements Comparable<DateTimeValue>, DateValueContai
    * @throws NullPointerException If {@code dateTime} is {@code null}.
    */
   public DateTimeValue(Timestamp timestamp) {
-    if (timestamp == null) {
-      throw new NullPointerException(DATE_TIME_SHOULD_BE_NOT_NULL);
-    }
-
-    Calendar calendar = Calendar.getInstance();
-    calendar.setTimeInMillis(timestamp.getTime());
+    this(from(timestamp));
+  }
 
-    date = DateValue.of(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH) + 1,
-        calendar.get(Calendar.DAY_OF_MONTH));
-    time = TimeValue.of(calendar.get(Calendar.HOUR_OF_DAY), calendar.get(Calendar.MINUTE),
-        calendar.get(Calendar.SECOND), timestamp.getNanos());
+  /**
+   * Copy constructor.
+   *
+   * @param dateTime The date/time value to copy.
+   */
+  private DateTimeValue(DateTimeValue dateTime) {
+    epochDay = dateTime.epochDay;
+    nanoOfDay = dateTime.nanoOfDay;
+    date = dateTime.date;
+    time = dateTime.time;
   }
 
   /**
@@ -206,12 +271,7 @@ public class DateTimeValue implements Comparable<DateTimeValue>, DateValueContai
    * @throws NullPointerException If {@code calendar} is {@code null}.
    */
   public DateTimeValue(Calendar calendar) {
-    if (calendar == null) {
-      throw new NullPointerException(DATE_TIME_SHOULD_BE_NOT_NULL);
-    }
-
-    date = DateValue.from(calendar);
-    time = TimeValue.from(calendar);
+    this(DateValue.from(Objects.requireNonNull(calendar, DATE_TIME_SHOULD_BE_NOT_NULL)), TimeValue.from(calendar));
   }
 
   /**
@@ -222,21 +282,58 @@ public class DateTimeValue implements Comparable<DateTimeValue>, DateValueContai
    * @since 2.0.0
    */
   public DateTimeValue(LocalDateTime localDateTime) {
-    if (localDateTime == null) {
-      throw new NullPointerException(DATE_TIME_SHOULD_BE_NOT_NULL);
+    this(Objects.requireNonNull(localDateTime, DATE_TIME_SHOULD_BE_NOT_NULL).toLocalDate().toEpochDay(),
+         localDateTime.toLocalTime().toNanoOfDay());
+  }
+
+  /**
+   * Returns if the value is encoded (with {@link #epochDay} and {@link #nanoOfDay}).
+   *
+   * @return If the value is encoded.
+   */
+  private boolean isEncoded() {
+    return epochDay != DateValue.NOT_ENCODED;
+  }
+
+  /**
+   * Returns the number of days since the epoch of the date part.
+   *
+   * @return The number of days or {@link DateValue#NOT_ENCODED} if the date part can not be encoded.
+   * @since 2.0.3
+   */
+  long getEpochDay() {
+    if (isEncoded()) {
+      return epochDay;
     }
+    return DateValue.toEpochDay(date.getYear(), date.getMonth(), date.getDayOfTheMonth());
+  }
 
-    date = DateValue.from(localDateTime.toLocalDate());
-    time = TimeValue.from(localDateTime.toLocalTime());
+  /**
+   * Returns the number of nanoseconds since midnight of the time part.
+   *
+   * @return The number of nanoseconds or {@link DateValue#NOT_ENCODED} if the time part can not be encoded.
+   * @since 2.0.3
+   */
+  long getNanoOfDay() {
+    if (isEncoded()) {
+      return nanoOfDay;
+    }
+    return TimeValue.toNanoOfDay(time.getHours(), time.getMinutes(), time.getSeconds(), time.getNanoSeconds());
   }
 
   /** {@inheritDoc} */
   @Override
   public DateValue getDate() {
+    if (date == null) {
+      date = DateValue.fromEpochDay(epochDay);
+    }
     return date;
   }
 
   public boolean isMidnight() {
+    if (isEncoded()) {
+      return nanoOfDay == 0;
+    }
     return time.getHours() == 0 && time.getMinutes() == 0 && time.getSeconds() == 0 && time.getNanoSeconds() == 0;
   }
 
@@ -246,43 +343,88 @@ public class DateTimeValue implements Comparable<DateTimeValue>, DateValueContai
    * @return The time.
    */
   public TimeValue getTime() {
+    if (time == null) {
+      time = TimeValue.fromNanoOfDay(nanoOfDay);
+    }
     return time;
   }
 
   @Override
   public String toString() {
-    return String.format("%4d-%02d-%02dT%02d:%02d:%02d.%09d", date.getYear(), date.getMonth(), date.getDayOfTheMonth(),
-        time.getHours(), time.getMinutes(), time.getSeconds(), time.getNanoSeconds());
+    StringBuilder builder = new StringBuilder(29);
+    if (isEncoded()) {
+      LocalDate localDate = LocalDate.ofEpochDay(epochDay);
+      int secondOfDay = (int) (nanoOfDay / TimeValue.NANOS_PER_SECOND);
+      DateValue.appendTo(builder, localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth());
+      TimeValue.appendTo(builder.append('T'), secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60,
+                         (int) (nanoOfDay % TimeValue.NANOS_PER_SECOND));
+    } else {
+      DateValue.appendTo(builder, date.getYear(), date.getMonth(), date.getDayOfTheMonth());
+      TimeValue.appendTo(builder.append('T'), time.getHours(), time.getMinutes(), time.getSeconds(),
+                         time.getNanoSeconds());
+    }
+    return builder.toString();
   }
 
   @Override
   public boolean equals(Object obj) {
     if (obj instanceof DateTimeValue) {
       DateTimeValue dateTimeValue = (DateTimeValue) obj;
+      if (isEncoded() || dateTimeValue.isEncoded()) {
+        // An encoded value can only be equal to an encoded value
+        return epochDay == dateTimeValue.epochDay && nanoOfDay == dateTimeValue.nanoOfDay;
+      }
       return date.equals(dateTimeValue.date) && time.equals(dateTimeValue.time);
     } else if (obj instanceof DateValueContainer) {
       DateValueContainer value = (DateValueContainer) obj;
-      return date.equals(value.getDate()) && isMidnight();
+      if (!isMidnight()) {
+        return false;
+      }
+      DateValue dateValue = value.getDate();
+      if (isEncoded()) {
+        return epochDay == DateValue.toEpochDay(dateValue.getYear(), dateValue.getMonth(),
+                                                dateValue.getDayOfTheMonth());
+      }
+      return date.equals(dateValue);
     }
     return false;
   }
 
   @Override
   public int hashCode() {
+    int dateHashCode;
+    int timeHashCode;
+    if (isEncoded()) {
+      LocalDate localDate = LocalDate.ofEpochDay(epochDay);
+      int secondOfDay = (int) (nanoOfDay / TimeValue.NANOS_PER_SECOND);
+      dateHashCode = DateValue.hashCode(localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth());
+      timeHashCode = TimeValue.hashCode(secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60,
+                                        (int) (nanoOfDay % TimeValue.NANOS_PER_SECOND));
+    } else {
+      dateHashCode = date.hashCode();
+      timeHashCode = time.hashCode();
+    }
     final int prime = 31;
     int result = 1;
-    result = prime * result + date.hashCode();
-    result = prime * result + time.hashCode();
+    result = prime * result + dateHashCode;
+    result = prime * result + timeHashCode;
     return result;
   }
 
   @Override
   public int compareTo(DateTimeValue other) {
-    int compareDate = date.compareTo(other.date);
+    if (isEncoded() && other.isEncoded()) {
+      int compareDate = Long.compare(epochDay, other.epochDay);
+      if (compareDate != 0) {
+        return compareDate;
+      }
+      return Long.compare(nanoOfDay, other.nanoOfDay);
+    }
+    int compareDate = getDate().compareTo(other.getDate());
     if (compareDate != 0) {
       return compareDate;
     }
-    return time.compareTo(other.time);
+    return getTime().compareTo(other.getTime());
   }
 
   /**
@@ -363,6 +505,6 @@ public class DateTimeValue implements Comparable<DateTimeValue>, DateValueContai
    * @return The reverse.
    */
   public DateTimeValue reverse() {
-    return of(date.reverse(), time.reverse());
+    return of(getDate().reverse(), getTime().reverse());
   }
 }
@@ -16,6 +16,8 @@ import java.sql.Date;
 import java.text.ParseException;
 import java.time.LocalDate;
 import java.util.Calendar;
+import java.util.TimeZone;
+import java.util.regex.Pattern;
 
 /**
  * This class represents a date value in the database.
@@ -41,7 +43,37 @@ public class DateValue implements Comparable<DateValue>, DateValueContainer {
   /**
    * Indicates where there are the digits in the {@code String} for {@link DateValue#DateValue(String)}.
    */
-  private static final String DATE_FORMAT = "\\d\\d\\d\\d-\\d\\d-\\d\\d";
+  private static final Pattern DATE_FORMAT = Pattern.compile("\\d\\d\\d\\d-\\d\\d-\\d\\d");
+  /**
+   * Number of milliseconds in a day.
+   */
+  static final long MILLIS_PER_DAY = 86400000L;
+  /**
+   * Milliseconds of the first day of the Gregorian calendar (1582-10-15) : the dates before are in the Julian
+   * calendar with {@link Calendar}.
+   */
+  static final long GREGORIAN_CUTOVER_MILLIS = -12219292800000L;
+  /**
+   * Value of an encoding ({@link #toEpochDay(int, int, int)} or {@link TimeValue#toNanoOfDay(int, int, int, int)})
+   * when the fields are not a valid date or time.
+   */
+  static final long NOT_ENCODED = Long.MIN_VALUE;
+  /**
+   * Number of days from 0000-01-01 to 1970-01-01.
+   */
+  private static final long DAYS_0000_TO_1970 = 719528L;
+  /**
+   * Minimum year with an encoding (the one of {@link LocalDate}).
+   */
+  private static final int MIN_YEAR = -999999999;
+  /**
+   * Maximum year with an encoding (the one of {@link LocalDate}).
+   */
+  private static final int MAX_YEAR = 999999999;
+  /**
+   * The UTC time zone.
+   */
+  private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
 
   /**
    * Makes an instance of date value from a day of month, a month and an year.
@@ -75,7 +107,156 @@ public class DateValue implements Comparable<DateValue>, DateValueContainer {
    * @return An instance of date value.
    */
   public static DateValue from(Date date) {
-    return new DateValue(date);
+    return fromLocalMillis(getLocalMillis(date, DATE_SHOULD_BE_NOT_NULL));
+  }
+
+  /**
+   * Makes an instance of date value from a number of milliseconds since the epoch in the local time (the fields of a
+   * date in the default time zone of the JVM, see {@link #getLocalMillis(java.util.Date, String)}).
+   * <p>
+   * The date is computed from the number of days since the epoch, without {@link Calendar}.
+   * </p>
+   *
+   * @param localMillis The number of milliseconds since the epoch in the local time.
+   * @return An instance of date value.
+   * @since 2.0.3
+   */
+  static DateValue fromLocalMillis(long localMillis) {
+    if (localMillis >= GREGORIAN_CUTOVER_MILLIS) {
+      return fromEpochDay(Math.floorDiv(localMillis, MILLIS_PER_DAY));
+    }
+    Calendar calendar = Calendar.getInstance(UTC);
+    calendar.setTimeInMillis(localMillis);
+    return new DateValue(calendar);
+  }
+
+  /**
+   * Makes an instance of date value from a number of days since the epoch (1970-01-01).
+   *
+   * @param epochDay The number of days since the epoch.
+   * @return An instance of date value.
+   * @since 2.0.3
+   */
+  static DateValue fromEpochDay(long epochDay) {
+    LocalDate localDate = LocalDate.ofEpochDay(epochDay);
+    return new DateValue(localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth());
+  }
+
+  /**
+   * Returns the number of days since the epoch (1970-01-01) of a date in the proleptic Gregorian calendar.
+   * <p>
+   * The fields of a date value are not always a date (for example the values used to move a date), so the encoding
+   * is {@link #NOT_ENCODED} when the month or the day of the month is out of its range.
+   * </p>
+   *
+   * @param year Year.
+   * @param month Month.
+   * @param dayOfTheMonth Day of the month.
+   * @return The number of days since the epoch or {@link #NOT_ENCODED}.
+   * @since 2.0.3
+   */
+  static long toEpochDay(int year, int month, int dayOfTheMonth) {
+    if (year < MIN_YEAR || year > MAX_YEAR || month < 1 || month > 12 || dayOfTheMonth < 1) {
+      return NOT_ENCODED;
+    }
+    boolean leapYear = (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    int lengthOfMonth = 31;
+    if (month == 2) {
+      lengthOfMonth = leapYear ? 29 : 28;
+    } else if (month == 4 || month == 6 || month == 9 || month == 11) {
+      lengthOfMonth = 30;
+    }
+    if (dayOfTheMonth > lengthOfMonth) {
+      return NOT_ENCODED;
+    }
+
+    long y = year;
+    long total = 365 * y;
+    if (y >= 0) {
+      total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+    } else {
+      total -= y / -4 - y / -100 + y / -400;
+    }
+    total += (367 * month - 362) / 12;
+    total += dayOfTheMonth - 1;
+    if (month > 2) {
+      total -= leapYear ? 1 : 2;
+    }
+    return total - DAYS_0000_TO_1970;
+  }
+
+  /**
+   * Appends the representation of the fields of a date (the same as {@link #toString()}) to a builder.
+   *
+   * @param builder The builder.
+   * @param year Year.
+   * @param month Month.
+   * @param dayOfTheMonth Day of the month.
+   * @return The builder.
+   * @since 2.0.3
+   */
+  static StringBuilder appendTo(StringBuilder builder, int year, int month, int dayOfTheMonth) {
+    if (month < 0 || dayOfTheMonth < 0) {
+      return builder.append(String.format("%4d-%02d-%02d", year, month, dayOfTheMonth));
+    }
+    appendPadded(builder, year, 4, ' ').append('-');
+    appendPadded(builder, month, 2, '0').append('-');
+    return appendPadded(builder, dayOfTheMonth, 2, '0');
+  }
+
+  /**
+   * Appends a number padded to a width (like with {@code %4d} or {@code %02d} in {@link String#format(String,
+   * Object...)} for a positive number).
+   *
+   * @param builder The builder.
+   * @param number The number.
+   * @param width The width.
+   * @param padding The character of the padding.
+   * @return The builder.
+   * @since 2.0.3
+   */
+  static StringBuilder appendPadded(StringBuilder builder, int number, int width, char padding) {
+    String text = Integer.toString(number);
+    for (int length = text.length(); length < width; length++) {
+      builder.append(padding);
+    }
+    return builder.append(text);
+  }
+
+  /**
+   * Returns the hash code of the fields of a date (the same as {@link #hashCode()}).
+   *
+   * @param year Year.
+   * @param month Month.
+   * @param dayOfTheMonth Day of the month.
+   * @return The hash code.
+   * @since 2.0.3
+   */
+  static int hashCode(int year, int month, int dayOfTheMonth) {
+    final int prime = 31;
+    int result = 1;
+    result = prime * result + dayOfTheMonth;
+    result = prime * result + month;
+    result = prime * result + year;
+    return result;
+  }
+
+  /**
+   * Returns the number of milliseconds since the epoch in the local time : the number of milliseconds of a date in UTC
+   * with the same fields as the date in the default time zone of the JVM.
+   *
+   * @param date    The date.
+   * @param message The message of the exception if the date is {@code null}.
+   * @return The number of milliseconds since the epoch in the local time.
+   * @throws NullPointerException If {@code date} is {@code null}.
+   * @since 2.0.3
+   */
+  static long getLocalMillis(java.util.Date date, String message) {
+    if (date == null) {
+      throw new NullPointerException(message);
+    }
+    long millis = date.getTime();
+    return millis + TimeZone.getDefault().getOffset(millis);
   }
 
   /**
@@ -137,7 +318,7 @@ public class DateValue implements Comparable<DateValue>, DateValueContainer {
       throw new NullPointerException(DATE_SHOULD_BE_NOT_NULL);
     }
 
-    if (date.matches(DATE_FORMAT)) {
+    if (DATE_FORMAT.matcher(date).matches()) {
       year = Integer.parseInt(date.substring(0, 4));
       month = Integer.parseInt(date.substring(5, 7));
       dayOfTheMonth = Integer.parseInt(date.substring(8));
@@ -153,16 +334,16 @@ public class DateValue implements Comparable<DateValue>, DateValueContainer {
    * @throws NullPointerException If {@code date} is {@code null}.
    */
   public DateValue(Date date) {
-    if (date == null) {
-      throw new NullPointerException(DATE_SHOULD_BE_NOT_NULL);
-    }
-
-    Calendar calendar = Calendar.getInstance();
-    calendar.setTimeInMillis(date.getTime());
+    this(fromLocalMillis(getLocalMillis(date, DATE_SHOULD_BE_NOT_NULL)));
+  }
 
-    dayOfTheMonth = calendar.get(Calendar.DAY_OF_MONTH);
-    month = calendar.get(Calendar.MONTH) + 1;
-    year = calendar.get(Calendar.YEAR);
+  /**
+   * Copy constructor.
+   *
+   * @param date The date value to copy.
+   */
+  private DateValue(DateValue date) {
+    this(date.year, date.month, date.dayOfTheMonth);
   }
 
   /**
@@ -237,7 +418,7 @@ public class DateValue implements Comparable<DateValue>, DateValueContainer {
 
   @Override
   public String toString() {
-    return String.format("%4d-%02d-%02d", year, month, dayOfTheMonth);
+    return appendTo(new StringBuilder(10), year, month, dayOfTheMonth).toString();
   }
 
   @Override
@@ -254,12 +435,7 @@ public class DateValue implements Comparable<DateValue>, DateValueContainer {
 
   @Override
   public int hashCode() {
-    final int prime = 31;
-    int result = 1;
-    result = prime * result + dayOfTheMonth;
-    result = prime * result + month;
-    result = prime * result + year;
-    return result;
+    return hashCode(year, month, dayOfTheMonth);
   }
 
   @Override
@@ -69,6 +69,10 @@ public class Request extends AbstractDbData<Request> {
    * Parameters of the SQL request.
    */
   private Object[] parameters;
+  /**
+   * The labels of the columns as given by the database (the names of the columns are converted with the letter case).
+   */
+  private List<String> columnsLabelList;
 
   /**
    * Default constructor.
@@ -177,14 +181,153 @@ public class Request extends AbstractDbData<Request> {
     LetterCase letterCase = getColumnLetterCase();
     ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
     List<String> columnsNameList = new ArrayList<>();
+    List<String> labelsList = new ArrayList<>();
     for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
       String columnName = resultSetMetaData.getColumnLabel(i);
+      labelsList.add(columnName);
       columnsNameList.add(letterCase.convert(columnName));
     }
+    columnsLabelList = labelsList;
     setColumnsNameList(columnsNameList);
+    collectColumnsTypes(resultSetMetaData);
     controlIfAllThePksNameExistInTheColumns();
   }
 
+  /**
+   * Specific implementation of the counting for a {@code Request} : the request is a sub-request of a request with
+   * {@code COUNT(*)}.
+   * <p>
+   * The request can not always be in a sub-request (for example with an {@code ORDER BY} on some databases) : if the
+   * database does not accept it, the rows are counted by browsing the {@code ResultSet} without reading the values.
+   * </p>
+   *
+   * @see AbstractDbData#countImpl(Connection)
+   * @param connection {@link Connection} to the database provided by {@link AbstractDbData#getNumberOfRows()} method.
+   * @return The number of rows.
+   * @throws NullPointerException If the {@link #request} field is {@code null}.
+   * @throws SQLException SQL Exception.
+   * @since 2.0.3
+   */
+  @Override
+  protected int countImpl(Connection connection) throws SQLException {
+    if (request == null) {
+      throw new NullPointerException("request can not be null");
+    }
+
+    try (PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM (" + request
+                                                                   + ") COUNTED_REQUEST")) {
+      for (int i = 0; i < parameters.length; i++) {
+        statement.setObject(i + 1, parameters[i]);
+      }
+      try (ResultSet resultSet = statement.executeQuery()) {
+        resultSet.next();
+        return resultSet.getInt(1);
+      }
+    } catch (SQLException e) {
+      if (!isNotAccepted(e)) {
+        throw e;
+      }
+      // The request can not be a sub-request
+    }
+
+    try (PreparedStatement statement = connection.prepareStatement(request)) {
+      for (int i = 0; i < parameters.length; i++) {
+        statement.setObject(i + 1, parameters[i]);
+      }
+      try (ResultSet resultSet = statement.executeQuery()) {
+        int count = 0;
+        while (resultSet.next()) {
+          count++;
+        }
+        return count;
+      }
+    }
+  }
+
+  /**
+   * Specific implementation of the loading of the columns name for a {@code Request} : the request is executed for one
+   * row at most.
+   *
+   * @see AbstractDbData#loadColumnsNameImpl(Connection)
+   * @param connection {@link Connection} to the database.
+   * @throws NullPointerException If the {@link #request} field is {@code null}.
+   * @throws SQLException SQL Exception.
+   * @since 2.0.3
+   */
+  @Override
+  protected void loadColumnsNameImpl(Connection connection) throws SQLException {
+    if (request == null) {
+      throw new NullPointerException("request can not be null");
+    }
+
+    try (PreparedStatement statement = connection.prepareStatement(request)) {
+      for (int i = 0; i < parameters.length; i++) {
+        statement.setObject(i + 1, parameters[i]);
+      }
+      statement.setMaxRows(1);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        collectColumnsNameFromResultSet(resultSet);
+      }
+    }
+  }
+
+  /**
+   * Specific implementation of the computing of aggregate functions for a {@code Request} : the request is a
+   * sub-request of a request with the functions.
+   *
+   * @see AbstractDbData#aggregateImpl(Connection, String, String...)
+   * @param connection {@link Connection} to the database.
+   * @param columnName The name of the column.
+   * @param functions The aggregate functions with {@code %s} in place of the column.
+   * @return The results of the functions.
+   * @throws NullPointerException If the {@link #request} field is {@code null}.
+   * @throws SQLException SQL Exception (for example if the database does not accept the request as a sub-request).
+   * @since 2.0.3
+   */
+  @Override
+  protected Object[] aggregateImpl(Connection connection, String columnName, String... functions)
+      throws SQLException {
+    if (request == null) {
+      throw new NullPointerException("request can not be null");
+    }
+
+    StringBuilder stringBuilder = new StringBuilder("SELECT ");
+    String column = encode(connection, columnsLabelList.get(getColumnsNameIndex().indexOf(columnName)));
+    for (int index = 0; index < functions.length; index++) {
+      if (index > 0) {
+        stringBuilder.append(", ");
+      }
+      stringBuilder.append(String.format(functions[index], column));
+    }
+    stringBuilder.append(" FROM (").append(request).append(") AGGREGATED_REQUEST");
+    try (PreparedStatement statement = connection.prepareStatement(stringBuilder.toString())) {
+      for (int i = 0; i < parameters.length; i++) {
+        statement.setObject(i + 1, parameters[i]);
+      }
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return getResults(resultSet);
+      }
+    }
+  }
+
+  /**
+   * Encode the label of a column of the request with the quote of the identifiers of the database (the label is used
+   * as it is given by the database).
+   *
+   * @param connection {@link Connection} to the database.
+   * @param label The label of the column.
+   * @return The encoded label.
+   * @throws SQLException SQL Exception.
+   * @since 2.0.3
+   */
+  private static String encode(Connection connection, String label) throws SQLException {
+    String quote = connection.getMetaData().getIdentifierQuoteString();
+    if (quote == null || quote.trim().isEmpty()) {
+      return label;
+    }
+    return quote + label.replace(quote, quote + quote) + quote;
+  }
+
   /**
    * Specific implementation of the loading for a {@code Request}.
    * 
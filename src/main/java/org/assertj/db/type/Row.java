@@ -15,10 +15,11 @@ package org.assertj.db.type;
 import org.assertj.db.type.lettercase.LetterCase;
 import org.assertj.db.type.lettercase.WithColumnLetterCase;
 import org.assertj.db.type.lettercase.WithPrimaryKeyLetterCase;
-import org.assertj.db.util.NameComparator;
-import org.assertj.db.util.Values;
+import org.assertj.db.util.NameIndex;
+import org.assertj.db.util.ValueComparator;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -38,27 +39,24 @@ import java.util.List;
 public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLetterCase {
 
   /**
-   * List of the primary key names.
+   * The holder of the schema (shared by the rows of the same data).
+   * @since 2.0.3
    */
-  private List<String> pksNameList;
-  /**
-   * The list of columns name.
-   */
-  private final List<String> columnsNameList;
+  private final RowSchema.Holder schemaHolder;
   /**
    * The list of value.
    */
   private final List<Value> valuesList;
   /**
-   * Letter case of the columns.
-   * @since 1.1.0
+   * The values of the primary keys : the key of the row (computed at the first use and again after a change of the
+   * primary keys).
+   * <p>
+   * The values and the schema with which they are computed are in a single immutable object : the rows can be read by
+   * several threads (see {@link org.assertj.db.api.AbstractDbAssert#inParallel()}).
+   * </p>
+   * @since 2.0.3
    */
-  private final LetterCase columnLetterCase;
-  /**
-   * Letter case of the primary keys.
-   * @since 1.1.0
-   */
-  private final LetterCase primaryKeyLetterCase;
+  private PksValues pksValues;
 
   /**
    * Constructor of the row with visibility in the package.
@@ -72,11 +70,21 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
   Row(List<String> pksNameList, List<String> columnsNameList, List<Value> valuesList,
       LetterCase columnLetterCase, LetterCase primaryKeyLetterCase) {
 
-    this.pksNameList = pksNameList;
-    this.columnsNameList = columnsNameList;
+    this(new RowSchema.Holder(new RowSchema(columnsNameList, pksNameList, columnLetterCase, primaryKeyLetterCase,
+                                            null, null, null, null)),
+         valuesList);
+  }
+
+  /**
+   * Constructor of the row with visibility in the package.
+   *
+   * @param schemaHolder The holder of the schema shared by the rows of the same data.
+   * @param valuesList The values in the row.
+   * @since 2.0.3
+   */
+  Row(RowSchema.Holder schemaHolder, List<Value> valuesList) {
+    this.schemaHolder = schemaHolder;
     this.valuesList = valuesList;
-    this.columnLetterCase = columnLetterCase;
-    this.primaryKeyLetterCase = primaryKeyLetterCase;
   }
 
   /**
@@ -84,7 +92,7 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
    */
   @Override
   public LetterCase getColumnLetterCase() {
-    return columnLetterCase;
+    return schemaHolder.get().getColumnLetterCase();
   }
 
   /**
@@ -92,7 +100,7 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
    */
   @Override
   public LetterCase getPrimaryKeyLetterCase() {
-    return primaryKeyLetterCase;
+    return schemaHolder.get().getPrimaryKeyLetterCase();
   }
 
   /**
@@ -101,7 +109,7 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
    * @return The list of the primary keys name.
    */
   public List<String> getPksNameList() {
-    return pksNameList;
+    return schemaHolder.get().getPksNameList();
   }
 
   /**
@@ -110,24 +118,17 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
    * @return The list of the primary keys value.
    */
   public List<Value> getPksValueList() {
-    List<Value> pksValueList = new ArrayList<>();
-    if (pksNameList != null) {
-      for (String name : pksNameList) {
-        int index = NameComparator.INSTANCE.indexOf(columnsNameList, name, primaryKeyLetterCase);
-        Value value = valuesList.get(index);
-        pksValueList.add(value);
-      }
-    }
-    return pksValueList;
+    return getComputedPksValues().valuesList;
   }
 
   /**
-   * Sets the list of the primary keys name.
+   * Sets the list of the primary keys name of this row and of the rows sharing its schema.
    *
    * @param pksNameList The list of the primary keys name.
+   * @param pksIndexes The indexes of the primary keys in the columns or {@code null} to compute them.
    */
-  void setPksNameList(List<String> pksNameList) {
-    this.pksNameList = pksNameList;
+  void setPksNameList(List<String> pksNameList, int[] pksIndexes) {
+    schemaHolder.set(schemaHolder.get().withPksNameList(pksNameList, pksIndexes));
   }
 
   /**
@@ -136,7 +137,17 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
    * @return The list of the columns name.
    */
   public List<String> getColumnsNameList() {
-    return columnsNameList;
+    return schemaHolder.get().getColumnsNameList();
+  }
+
+  /**
+   * Returns the index of the columns name (with the letter case of the columns).
+   *
+   * @return The index of the columns name.
+   * @since 2.0.3
+   */
+  public NameIndex getColumnsNameIndex() {
+    return schemaHolder.get().getColumnsNameIndex();
   }
 
   /**
@@ -148,21 +159,47 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
     return valuesList;
   }
 
+  /**
+   * Returns the comparator of the values of the column at the index.
+   *
+   * @param index The index of the column.
+   * @return The comparator.
+   * @since 2.0.3
+   */
+  public ValueComparator getValueComparator(int index) {
+    return schemaHolder.get().getValueComparator(index);
+  }
+
   /**
    * Returns the primary keys value.
+   * <p>
+   * The returned array is a copy : use {@link #getPksValueList()} to read the values without copying them.
+   * </p>
    * 
    * @return The primary keys value.
    */
   public Value[] getPksValues() {
-    List<Value> pksValuesList = new ArrayList<>();
-    if (pksNameList != null) {
-      for (String pkName : pksNameList) {
-        int index = NameComparator.INSTANCE.indexOf(columnsNameList, pkName, primaryKeyLetterCase);
-        Value value = valuesList.get(index);
-        pksValuesList.add(value);
+    return getComputedPksValues().values.clone();
+  }
+
+  /**
+   * Returns the values of the primary keys computed with the current schema.
+   *
+   * @return The values of the primary keys.
+   */
+  private PksValues getComputedPksValues() {
+    RowSchema schema = schemaHolder.get();
+    PksValues computedPksValues = pksValues;
+    if (computedPksValues == null || computedPksValues.schema != schema) {
+      int[] pksIndexes = schema.getPksIndexes();
+      Value[] values = new Value[pksIndexes.length];
+      for (int index = 0; index < pksIndexes.length; index++) {
+        values[index] = valuesList.get(pksIndexes[index]);
       }
+      computedPksValues = new PksValues(schema, values);
+      pksValues = computedPksValues;
     }
-    return pksValuesList.toArray(new Value[0]);
+    return computedPksValues;
   }
 
   /**
@@ -172,10 +209,13 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
    * @return If the values of the primary keys are equal.
    */
   public boolean hasPksValuesEqualTo(Value[] pksValues) {
-    Value[] pksValues1 = getPksValues();
+    PksValues computedPksValues = getComputedPksValues();
+    Value[] pksValues1 = computedPksValues.values;
+    RowSchema schema = computedPksValues.schema;
     if (pksValues1.length != 0 && pksValues1.length == pksValues.length) {
+      int[] pksIndexes = schema.getPksIndexes();
       for (int index = 0; index < pksValues1.length; index++) {
-        if (!Values.areEqual(pksValues1[index], pksValues[index].getValue())) {
+        if (!schema.getValueComparator(pksIndexes[index]).areEqual(pksValues1[index], pksValues[index])) {
           return false;
         }
       }
@@ -191,12 +231,13 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
    * @return If the values are equal.
    */
   public boolean hasValues(Row row) {
+    RowSchema schema = schemaHolder.get();
     List<Value> currentValuesList = getValuesList();
     List<Value> rowValuesList = row.getValuesList();
     for (int index = 0; index < currentValuesList.size(); index++) {
       Value value = currentValuesList.get(index);
       Value rowValue = rowValuesList.get(index);
-      if (!Values.areEqual(value, rowValue.getValue())) {
+      if (!schema.getValueComparator(index).areEqual(value, rowValue)) {
         return false;
       }
     }
@@ -226,10 +267,41 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
       throw new NullPointerException("Column name must be not null");
     }
 
-    int index = NameComparator.INSTANCE.indexOf(columnsNameList, columnName, columnLetterCase);
+    int index = getColumnsNameIndex().indexOf(columnName);
     if (index == -1) {
       return null;
     }
     return getColumnValue(index);
   }
+
+  /**
+   * Values of the primary keys with the schema with which they are computed.
+   */
+  private static final class PksValues {
+
+    /**
+     * The schema with which the values are computed.
+     */
+    private final RowSchema schema;
+    /**
+     * The values of the primary keys.
+     */
+    private final Value[] values;
+    /**
+     * The unmodifiable list of the values of the primary keys.
+     */
+    private final List<Value> valuesList;
+
+    /**
+     * Constructor.
+     *
+     * @param schema The schema with which the values are computed.
+     * @param values The values of the primary keys.
+     */
+    private PksValues(RowSchema schema, Value[] values) {
+      this.schema = schema;
+      this.values = values;
+      valuesList = Collections.unmodifiableList(Arrays.asList(values));
+    }
+  }
 }
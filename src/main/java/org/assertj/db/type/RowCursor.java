@@ -0,0 +1,122 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Cursor on the rows of a {@link Table} : the rows are read from the database one by one and are not kept (so the
+ * memory does not depend of the number of rows).
+ * <p>
+ * Note : you never instantiate directly this class. You will get an object of this class with
+ * {@link Table#openRowCursor()} and you must close it.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+public class RowCursor implements AutoCloseable {
+
+  /**
+   * The connection.
+   */
+  private final Connection connection;
+  /**
+   * The statement.
+   */
+  private final Statement statement;
+  /**
+   * The {@code ResultSet} of the rows.
+   */
+  private final ResultSet resultSet;
+  /**
+   * The holder of the schema shared by the rows.
+   */
+  private final RowSchema.Holder schemaHolder;
+  /**
+   * The JDBC types of the columns.
+   */
+  private final int[] types;
+
+  /**
+   * Constructor with visibility in the package.
+   *
+   * @param connection The connection.
+   * @param statement The statement.
+   * @param resultSet The {@code ResultSet} of the rows.
+   * @param schema The schema of the rows.
+   * @param types The JDBC types of the columns.
+   */
+  RowCursor(Connection connection, Statement statement, ResultSet resultSet, RowSchema schema, int[] types) {
+    this.connection = connection;
+    this.statement = statement;
+    this.resultSet = resultSet;
+    this.schemaHolder = new RowSchema.Holder(schema);
+    this.types = types;
+  }
+
+  /**
+   * Returns the list of the columns name.
+   *
+   * @return The list of the columns name.
+   */
+  public List<String> getColumnsNameList() {
+    return schemaHolder.get().getColumnsNameList();
+  }
+
+  /**
+   * Returns the list of the primary keys name.
+   *
+   * @return The list of the primary keys name.
+   */
+  public List<String> getPksNameList() {
+    return schemaHolder.get().getPksNameList();
+  }
+
+  /**
+   * Reads the next row.
+   *
+   * @return The row or {@code null} if there is no other row.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the reading.
+   */
+  public Row next() {
+    try {
+      if (resultSet.next()) {
+        return AbstractDbData.readRow(resultSet, schemaHolder, types);
+      }
+      return null;
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Closes the cursor (and its connection).
+   *
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the closing.
+   */
+  @Override
+  public void close() {
+    try (Connection connection = this.connection; Statement statement = this.statement) {
+      resultSet.close();
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+}
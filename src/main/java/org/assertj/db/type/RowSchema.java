@@ -0,0 +1,267 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.type.lettercase.LetterCase;
+import org.assertj.db.util.NameIndex;
+import org.assertj.db.util.ValueComparator;
+
+import java.util.List;
+
+/**
+ * Schema of the {@link Row}s and of the {@link Value}s loaded together : the names of the columns and of the primary
+ * keys, the letter cases and what is computed from them.
+ * <p>
+ * A schema is immutable and shared : the rows reference it through a {@link Holder} (so the change of the primary keys
+ * of all the rows is one assignment) and the values reference it with the index of their column.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+final class RowSchema {
+
+  /**
+   * The list of columns name.
+   */
+  private final List<String> columnsNameList;
+  /**
+   * List of the primary key names.
+   */
+  private final List<String> pksNameList;
+  /**
+   * Letter case of the columns.
+   */
+  private final LetterCase columnLetterCase;
+  /**
+   * Letter case of the primary keys.
+   */
+  private final LetterCase primaryKeyLetterCase;
+  /**
+   * The comparators of the values (one for each column) or {@code null} to use the default one.
+   */
+  private final ValueComparator[] comparators;
+  /**
+   * The types of the values (one for each column, {@code null} when identified from each value) or {@code null} to
+   * identify all the types from the values.
+   */
+  private final ValueType[] valueTypes;
+  /**
+   * The index of the columns name (computed by the constructor if not given).
+   */
+  private final NameIndex columnsNameIndex;
+  /**
+   * The indexes of the primary keys in the columns (computed by the constructor if not given).
+   */
+  private final int[] pksIndexes;
+
+  /**
+   * Constructor.
+   *
+   * @param columnsNameList The list of the columns name.
+   * @param pksNameList The list of the primary keys name.
+   * @param columnLetterCase The letter case of the columns.
+   * @param primaryKeyLetterCase The letter case of the primary keys.
+   * @param columnsNameIndex The index of the columns name or {@code null} to compute it.
+   * @param pksIndexes The indexes of the primary keys in the columns or {@code null} to compute them.
+   * @param comparators The comparators of the values (one for each column) or {@code null} to use the default one.
+   * @param valueTypes The types of the values (one for each column) or {@code null} to identify them from the values.
+   */
+  RowSchema(List<String> columnsNameList, List<String> pksNameList, LetterCase columnLetterCase,
+            LetterCase primaryKeyLetterCase, NameIndex columnsNameIndex, int[] pksIndexes,
+            ValueComparator[] comparators, ValueType[] valueTypes) {
+
+    this.columnsNameList = columnsNameList;
+    this.pksNameList = pksNameList;
+    this.columnLetterCase = columnLetterCase;
+    this.primaryKeyLetterCase = primaryKeyLetterCase;
+    this.comparators = comparators;
+    this.valueTypes = valueTypes;
+    // The indexes are computed here (and not at the first use) because the schema is shared between threads
+    if (columnsNameIndex == null && columnsNameList != null && columnLetterCase != null) {
+      columnsNameIndex = new NameIndex(columnsNameList, columnLetterCase);
+    }
+    this.columnsNameIndex = columnsNameIndex;
+    if (pksIndexes == null && columnsNameIndex != null && primaryKeyLetterCase != null) {
+      NameIndex pksNameIndex = columnsNameIndex;
+      if (pksNameIndex.getComparison() != primaryKeyLetterCase) {
+        pksNameIndex = new NameIndex(columnsNameList, primaryKeyLetterCase);
+      }
+      pksIndexes = getPksIndexes(pksNameList, pksNameIndex);
+    }
+    this.pksIndexes = pksIndexes;
+  }
+
+  /**
+   * Returns a schema with the same columns and other primary keys.
+   *
+   * @param pksNameList The list of the primary keys name.
+   * @param pksIndexes The indexes of the primary keys in the columns or {@code null} to compute them.
+   * @return The new schema.
+   */
+  RowSchema withPksNameList(List<String> pksNameList, int[] pksIndexes) {
+    return new RowSchema(columnsNameList, pksNameList, columnLetterCase, primaryKeyLetterCase, columnsNameIndex,
+                         pksIndexes, comparators, valueTypes);
+  }
+
+  /**
+   * Returns the indexes of the primary keys in the columns.
+   *
+   * @param pksNameList The list of the primary keys name.
+   * @param columnsNameIndex The index of the columns name with the letter case of the primary keys.
+   * @return The indexes.
+   */
+  static int[] getPksIndexes(List<String> pksNameList, NameIndex columnsNameIndex) {
+    if (pksNameList == null) {
+      return new int[0];
+    }
+    int[] indexes = new int[pksNameList.size()];
+    int index = 0;
+    for (String pkName : pksNameList) {
+      indexes[index++] = columnsNameIndex.indexOf(pkName);
+    }
+    return indexes;
+  }
+
+  /**
+   * Returns the list of the columns name.
+   *
+   * @return The list of the columns name.
+   */
+  List<String> getColumnsNameList() {
+    return columnsNameList;
+  }
+
+  /**
+   * Returns the name of the column at the index.
+   *
+   * @param index The index of the column.
+   * @return The name of the column.
+   */
+  String getColumnName(int index) {
+    return columnsNameList.get(index);
+  }
+
+  /**
+   * Returns the list of the primary keys name.
+   *
+   * @return The list of the primary keys name.
+   */
+  List<String> getPksNameList() {
+    return pksNameList;
+  }
+
+  /**
+   * Returns the letter case of the columns.
+   *
+   * @return The letter case of the columns.
+   */
+  LetterCase getColumnLetterCase() {
+    return columnLetterCase;
+  }
+
+  /**
+   * Returns the letter case of the primary keys.
+   *
+   * @return The letter case of the primary keys.
+   */
+  LetterCase getPrimaryKeyLetterCase() {
+    return primaryKeyLetterCase;
+  }
+
+  /**
+   * Returns the index of the columns name (with the letter case of the columns).
+   *
+   * @return The index of the columns name.
+   */
+  NameIndex getColumnsNameIndex() {
+    return columnsNameIndex;
+  }
+
+  /**
+   * Returns the indexes of the primary keys in the columns.
+   *
+   * @return The indexes of the primary keys.
+   */
+  int[] getPksIndexes() {
+    return pksIndexes;
+  }
+
+  /**
+   * Returns the comparator of the values of the column at the index.
+   *
+   * @param index The index of the column.
+   * @return The comparator.
+   */
+  ValueComparator getValueComparator(int index) {
+    if (comparators == null || index >= comparators.length) {
+      return ValueComparator.DEFAULT;
+    }
+    return comparators[index];
+  }
+
+  /**
+   * Returns the type of the values of the column at the index.
+   *
+   * @param index The index of the column.
+   * @return The type or {@code null} if the type is identified from each value.
+   */
+  ValueType getValueType(int index) {
+    if (valueTypes == null || index >= valueTypes.length) {
+      return null;
+    }
+    return valueTypes[index];
+  }
+
+  /**
+   * Holder of the current schema of rows.
+   * <p>
+   * All the rows of a same data share the holder. The schema is replaced when the primary keys change, possibly after
+   * the rows are read by other threads (see {@code inParallel}) : the field is {@code volatile}.
+   * </p>
+   */
+  static final class Holder {
+
+    /**
+     * The current schema.
+     */
+    private volatile RowSchema schema;
+
+    /**
+     * Constructor.
+     *
+     * @param schema The schema.
+     */
+    Holder(RowSchema schema) {
+      this.schema = schema;
+    }
+
+    /**
+     * Returns the current schema.
+     *
+     * @return The schema.
+     */
+    RowSchema get() {
+      return schema;
+    }
+
+    /**
+     * Sets the current schema.
+     *
+     * @param schema The schema.
+     */
+    void set(RowSchema schema) {
+      this.schema = schema;
+    }
+  }
+}
@@ -14,13 +14,20 @@ package org.assertj.db.type;
 
 import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.type.lettercase.LetterCase;
-import org.assertj.db.util.NameComparator;
+import org.assertj.db.util.NameIndex;
+import org.assertj.db.util.Values;
 
 import javax.sql.DataSource;
+import java.nio.ByteBuffer;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * A table in the database to read to get the values.
@@ -70,6 +77,11 @@ import java.util.List;
  */
 public class Table extends AbstractDbData<Table> {
 
+  /**
+   * Number of rows fetched together by a {@link RowCursor}.
+   */
+  private static final int FETCH_SIZE = 100;
+
   /**
    * The name of the table.
    */
@@ -78,6 +90,10 @@ public class Table extends AbstractDbData<Table> {
    * The list of columns of the table.
    */
   private List<String> columnsList;
+  /**
+   * The index of the list of columns of the table.
+   */
+  private NameIndex columnsListIndex;
   /**
    * The columns to check.
    */
@@ -205,6 +221,67 @@ public class Table extends AbstractDbData<Table> {
     }
   }
 
+  /**
+   * Indicates a foreign key with the columns of the table and the columns of the referenced table.
+   *
+   * @see Table#getForeignKeys(Table)
+   * @since 2.0.3
+   */
+  public static class ForeignKey {
+    /**
+     * The name of the foreign key (can be {@code null}).
+     */
+    private final String name;
+    /**
+     * The names of the columns of the table.
+     */
+    private final String[] columnsName;
+    /**
+     * The names of the referenced columns (in the same order).
+     */
+    private final String[] referencedColumnsName;
+
+    /**
+     * Constructor.
+     *
+     * @param name The name of the foreign key (can be {@code null}).
+     * @param columnsName The names of the columns of the table.
+     * @param referencedColumnsName The names of the referenced columns (in the same order).
+     */
+    public ForeignKey(String name, String[] columnsName, String[] referencedColumnsName) {
+      this.name = name;
+      this.columnsName = columnsName;
+      this.referencedColumnsName = referencedColumnsName;
+    }
+
+    /**
+     * Returns the name of the foreign key.
+     *
+     * @return The name of the foreign key (can be {@code null}).
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * Returns the names of the columns of the table.
+     *
+     * @return The names of the columns.
+     */
+    public String[] getColumnsName() {
+      return columnsName;
+    }
+
+    /**
+     * Returns the names of the referenced columns.
+     *
+     * @return The names of the referenced columns.
+     */
+    public String[] getReferencedColumnsName() {
+      return referencedColumnsName;
+    }
+  }
+
   /**
    * Default constructor.
    */
@@ -524,6 +601,20 @@ public class Table extends AbstractDbData<Table> {
     }
   }
 
+  /**
+   * Returns the index of the list of columns of the table with the letter case of the columns.
+   *
+   * @return The index.
+   */
+  private NameIndex getColumnsListIndex() {
+    LetterCase letterCase = getColumnLetterCase();
+    if (columnsListIndex == null || columnsListIndex.getNamesList() != columnsList
+        || columnsListIndex.getComparison() != letterCase) {
+      columnsListIndex = new NameIndex(columnsList, letterCase);
+    }
+    return columnsListIndex;
+  }
+
   /**
    * Returns the columns to check (which are present in {@link AbstractDbData#getColumnsNameList()}).
    *
@@ -551,7 +642,7 @@ public class Table extends AbstractDbData<Table> {
       throw new AssertJDBException("The table name and the source or datasource must be set first");
     }
     if (columnsToCheck != null) {
-      LetterCase letterCase = getColumnLetterCase();
+      NameIndex index = getColumnsListIndex();
       // If the parameter is not null, all the names are convert
       // before setting the instance field
       List<String> columnsToCheckList = new ArrayList<>();
@@ -559,7 +650,7 @@ public class Table extends AbstractDbData<Table> {
         if (column == null) {
           throw new NullPointerException("The name of the column can not be null");
         }
-        int indexOf = NameComparator.INSTANCE.indexOf(columnsList, column, letterCase);
+        int indexOf = index.indexOf(column);
         if (indexOf != -1) {
           columnsToCheckList.add(columnsList.get(indexOf));
         }
@@ -596,14 +687,14 @@ public class Table extends AbstractDbData<Table> {
       throw new AssertJDBException("The table name and the source or datasource must be set first");
     }
     if (columnsToExclude != null) {
-      LetterCase letterCase = getColumnLetterCase();
+      NameIndex index = getColumnsListIndex();
       this.columnsToExclude = new String[columnsToExclude.length];
       List<String> columnsToExcludeList = new ArrayList<>();
       for (String column : columnsToExclude) {
         if (column == null) {
           throw new NullPointerException("The name of the column can not be null");
         }
-        int indexOf = NameComparator.INSTANCE.indexOf(columnsList, column, letterCase);
+        int indexOf = index.indexOf(column);
         if (indexOf != -1) {
           columnsToExcludeList.add(columnsList.get(indexOf));
         }
@@ -640,7 +731,7 @@ public class Table extends AbstractDbData<Table> {
       throw new AssertJDBException("The table name and the source or datasource must be set first");
     }
     if (columnsToOrder != null) {
-      LetterCase letterCase = getColumnLetterCase();
+      NameIndex index = getColumnsListIndex();
       this.columnsToOrder = new Order[columnsToOrder.length];
       List<Order> columnsToOrderList = new ArrayList<>();
       for (Order order : columnsToOrder) {
@@ -651,7 +742,7 @@ public class Table extends AbstractDbData<Table> {
         if (column == null) {
           throw new NullPointerException("The name of the column for order can not be null");
         }
-        int indexOf = NameComparator.INSTANCE.indexOf(columnsList, column, letterCase);
+        int indexOf = index.indexOf(column);
         if (indexOf != -1) {
           String columnName = columnsList.get(indexOf);
           columnsToOrderList.add(Order.getOrder(columnName, order.getType()));
@@ -735,6 +826,43 @@ public class Table extends AbstractDbData<Table> {
    * @see AbstractDbData#getRequest()
    */
   public String getRequest() {
+    return getRequest(columnsToOrder);
+  }
+
+  /**
+   * Returns the SQL request on the table and the columns to check in the order of some columns.
+   *
+   * @param orders The columns to order ({@code null} for no order).
+   * @return The SQL request.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   * @since 2.0.3
+   */
+  private String getRequest(Order[] orders) {
+    StringBuilder stringBuilder = new StringBuilder(getSelectRequest());
+    if (orders != null) {
+      for (int index = 0; index < orders.length; index++) {
+        if (index == 0) {
+          stringBuilder.append(" ORDER BY ");
+        } else {
+          stringBuilder.append(", ");
+        }
+        stringBuilder.append(encode(orders[index].getName()));
+        if (orders[index].getType() == Order.OrderType.DESC) {
+          stringBuilder.append(" DESC");
+        }
+      }
+    }
+    return stringBuilder.toString();
+  }
+
+  /**
+   * Returns the SQL request on the table and the columns to check without order.
+   *
+   * @return The SQL request.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   * @since 2.0.3
+   */
+  private String getSelectRequest() {
     if (name == null) {
       throw new NullPointerException("name can not be null");
     }
@@ -753,19 +881,6 @@ public class Table extends AbstractDbData<Table> {
     }
     stringBuilder.append(" FROM ");
     stringBuilder.append(encode(name));
-    if (columnsToOrder != null) {
-      for (int index = 0; index < columnsToOrder.length; index++) {
-        if (index == 0) {
-          stringBuilder.append(" ORDER BY ");
-        } else {
-          stringBuilder.append(", ");
-        }
-        stringBuilder.append(encode(columnsToOrder[index].getName()));
-        if (columnsToOrder[index].getType() == Order.OrderType.DESC) {
-          stringBuilder.append(" DESC");
-        }
-      }
-    }
     return stringBuilder.toString();
   }
 
@@ -783,20 +898,20 @@ public class Table extends AbstractDbData<Table> {
     LetterCase letterCase = getColumnLetterCase();
     ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
     List<String> columnsNameList = new ArrayList<>();
-    List<String> columnsToExcludeList = null;
+    NameIndex columnsToExcludeIndex = null;
     if (columnsToExclude != null) {
-      columnsToExcludeList = Arrays.asList(columnsToExclude);
+      columnsToExcludeIndex = new NameIndex(Arrays.asList(columnsToExclude), letterCase);
     }
 
     for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
       String columnName = letterCase.convert(resultSetMetaData.getColumnLabel(i));
-      if (columnsToExcludeList == null
-          || !NameComparator.INSTANCE.contains(columnsToExcludeList, columnName, letterCase)) {
+      if (columnsToExcludeIndex == null || !columnsToExcludeIndex.contains(columnName)) {
 
         columnsNameList.add(columnName);
       }
     }
     setColumnsNameList(columnsNameList);
+    collectColumnsTypes(resultSetMetaData);
   }
 
   /**
@@ -810,34 +925,556 @@ public class Table extends AbstractDbData<Table> {
    * @throws SQLException SQL Exception.
    */
   private void collectPrimaryKeyName(Connection connection) throws SQLException {
+    setPksNameList(readPrimaryKeyName(connection));
+  }
+
+  /**
+   * Reads the primary key name from the {@link DatabaseMetaData} of the {@code Connection} to the database (without
+   * setting them).
+   *
+   * @param connection The {@code Connection} to the database.
+   * @return The list of the primary keys name.
+   * @throws SQLException SQL Exception.
+   */
+  private List<String> readPrimaryKeyName(Connection connection) throws SQLException {
     String catalog = getCatalog(connection);
     String schema = getSchema(connection);
     List<String> pksNameList = new ArrayList<>();
     DatabaseMetaData metaData = connection.getMetaData();
 
-    String tableName = name;
+    String tableName = getNameInDb(metaData, catalog, schema);
+    try (ResultSet resultSet = metaData.getPrimaryKeys(catalog, schema, tableName)) {
+      LetterCase letterCase = getPrimaryKeyLetterCase();
+      getColumnsNameList();
+      NameIndex columnsNameIndex = getColumnsNameIndex(letterCase);
+      while (resultSet.next()) {
+        String columnName = resultSet.getString("COLUMN_NAME");
+        if (columnsNameIndex.contains(columnName)) {
+          String pkName = letterCase.convert(columnName);
+          pksNameList.add(pkName);
+        }
+      }
+    }
+    return pksNameList;
+  }
+
+  /**
+   * Returns the list of the primary keys name read from the metadata of the database (without loading the rows and
+   * without changing the primary keys of this table).
+   *
+   * @return The list of the primary keys name.
+   * @throws AssertJDBException If there is a SQL exception.
+   * @since 2.0.3
+   */
+  List<String> getPksNameListFromMetaData() {
+    try (Connection connection = getConnection()) {
+      return readPrimaryKeyName(connection);
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Returns the name of the table as it is in the database.
+   *
+   * @param metaData The metadata of the database.
+   * @param catalog The catalog.
+   * @param schema The schema.
+   * @return The name in the database (or the name of the table if not found).
+   * @throws SQLException SQL Exception.
+   */
+  private String getNameInDb(DatabaseMetaData metaData, String catalog, String schema) throws SQLException {
     try (ResultSet resultSet = metaData.getTables(catalog, schema, null, new String[] { "TABLE" })) {
       LetterCase letterCase = getTableLetterCase();
       while (resultSet.next()) {
         String tableResult = resultSet.getString("TABLE_NAME");
-        if (letterCase.isEqual(tableName, tableResult)) {
-          tableName = tableResult;
-          break;
+        if (letterCase.isEqual(name, tableResult)) {
+          return tableResult;
+        }
+      }
+    }
+    return name;
+  }
+
+  /**
+   * Returns the foreign keys of this table which reference the table in parameter.
+   * <p>
+   * The foreign keys are found with {@link DatabaseMetaData#getImportedKeys(String, String, String)}.
+   * </p>
+   *
+   * @param referencedTable The referenced table.
+   * @return The foreign keys (empty if there is no foreign key to the referenced table).
+   * @throws NullPointerException If the {@link #name} field or the {@code referencedTable} parameter is {@code null}.
+   * @throws AssertJDBException   If there is a SQL exception.
+   * @since 2.0.3
+   */
+  public List<ForeignKey> getForeignKeys(Table referencedTable) {
+    if (name == null) {
+      throw new NullPointerException("name can not be null");
+    }
+    if (referencedTable == null || referencedTable.getName() == null) {
+      throw new NullPointerException("The referenced table must be not null");
+    }
+
+    try (Connection connection = getConnection()) {
+      String catalog = getCatalog(connection);
+      String schema = getSchema(connection);
+      DatabaseMetaData metaData = connection.getMetaData();
+      LetterCase tableLetterCase = getTableLetterCase();
+      LetterCase columnLetterCase = getColumnLetterCase();
+
+      // The columns of a foreign key are grouped by name (or by sequence when the name is not given)
+      Map<String, List<String[]>> columnsByKey = new LinkedHashMap<>();
+      List<String[]> currentColumns = null;
+      try (ResultSet resultSet = metaData.getImportedKeys(catalog, schema, getNameInDb(metaData, catalog, schema))) {
+        while (resultSet.next()) {
+          if (!tableLetterCase.isEqual(referencedTable.getName(), resultSet.getString("PKTABLE_NAME"))) {
+            continue;
+          }
+          String keyName = resultSet.getString("FK_NAME");
+          int keySeq = resultSet.getInt("KEY_SEQ");
+          if (keyName == null) {
+            if (keySeq <= 1 || currentColumns == null) {
+              currentColumns = new ArrayList<>();
+              columnsByKey.put("#" + columnsByKey.size(), currentColumns);
+            }
+          } else {
+            currentColumns = columnsByKey.computeIfAbsent(keyName, k -> new ArrayList<>());
+          }
+          String[] columns = { columnLetterCase.convert(resultSet.getString("FKCOLUMN_NAME")),
+                               columnLetterCase.convert(resultSet.getString("PKCOLUMN_NAME")) };
+          int position = Math.max(0, Math.min(keySeq - 1, currentColumns.size()));
+          currentColumns.add(position, columns);
         }
       }
+
+      List<ForeignKey> foreignKeys = new ArrayList<>();
+      for (Map.Entry<String, List<String[]>> entry : columnsByKey.entrySet()) {
+        List<String[]> columns = entry.getValue();
+        String[] columnsName = new String[columns.size()];
+        String[] referencedColumnsName = new String[columns.size()];
+        for (int index = 0; index < columns.size(); index++) {
+          columnsName[index] = columns.get(index)[0];
+          referencedColumnsName[index] = columns.get(index)[1];
+        }
+        String keyName = entry.getKey().startsWith("#") ? null : entry.getKey();
+        foreignKeys.add(new ForeignKey(keyName, columnsName, referencedColumnsName));
+      }
+      return foreignKeys;
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
     }
+  }
 
-    try (ResultSet resultSet = metaData.getPrimaryKeys(catalog, schema, tableName)) {
-      LetterCase letterCase = getPrimaryKeyLetterCase();
+  /**
+   * Returns the values of columns which are in several rows of the table, with the number of these rows.
+   * <p>
+   * The values are found by the database with a {@code GROUP BY ... HAVING COUNT(*) > 1} request, so only the
+   * duplicated values are transferred. Like with a unique constraint, the rows with a {@code null} value in one of
+   * the columns are ignored.
+   * </p>
+   *
+   * @param maxNumber The maximum number of duplicated values to return ({@code 0} for no limit).
+   * @param columnsName The names of the columns.
+   * @return The duplicated values (the values of the columns in the order of the parameters) with the number of rows.
+   * @throws NullPointerException If the {@link #name} field or the {@code columnsName} parameter is {@code null}.
+   * @throws AssertJDBException   If there is no column or if there is a SQL exception.
+   * @since 2.0.3
+   */
+  public Map<List<Object>, Integer> getDuplicatedValues(int maxNumber, String... columnsName) {
+    if (name == null) {
+      throw new NullPointerException("name can not be null");
+    }
+    checkColumnsName(columnsName);
+
+    StringBuilder columns = new StringBuilder();
+    StringBuilder conditions = new StringBuilder();
+    for (String columnName : columnsName) {
+      if (columns.length() > 0) {
+        columns.append(", ");
+        conditions.append(" AND ");
+      }
+      columns.append(encode(columnName));
+      conditions.append(encode(columnName)).append(" IS NOT NULL");
+    }
+    String request = "SELECT " + columns + ", COUNT(*) FROM " + encode(name) + " WHERE " + conditions
+                     + " GROUP BY " + columns + " HAVING COUNT(*) > 1";
+
+    Map<List<Object>, Integer> duplicatedValues = new LinkedHashMap<>();
+    try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+      statement.setMaxRows(maxNumber);
+      try (ResultSet resultSet = statement.executeQuery(request)) {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        while (resultSet.next()) {
+          Object[] results = getCurrentResults(resultSet, metaData);
+          List<Object> values = Arrays.asList(Arrays.copyOf(results, columnsName.length));
+          duplicatedValues.put(values, ((Number) results[columnsName.length]).intValue());
+        }
+      }
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+    return duplicatedValues;
+  }
+
+  /**
+   * Returns the values of columns of the table which reference no row of another table.
+   * <p>
+   * When the two tables are read from the same database (same {@code DataSource} or same url and user of
+   * {@link Source}), the values are found by the database with an anti-join ({@code WHERE NOT EXISTS (...)}), so only
+   * the rows without reference are transferred. Otherwise, the referenced values are read from the database of the
+   * referenced table and compared in memory. Like with a foreign key, the rows with a {@code null} value in one of the
+   * columns are ignored.
+   * </p>
+   *
+   * @param maxNumber The maximum number of rows to return ({@code 0} for no limit).
+   * @param referencedTable The referenced table.
+   * @param columnsName The names of the columns of this table.
+   * @param referencedColumnsName The names of the referenced columns (in the same order).
+   * @return The values of the columns (in the order of the parameter) for each row without reference.
+   * @throws NullPointerException If the {@link #name} field or one of the parameters is {@code null}.
+   * @throws AssertJDBException   If the number of columns is different or if there is a SQL exception.
+   * @since 2.0.3
+   */
+  public List<List<Object>> getValuesWithoutReference(int maxNumber, Table referencedTable, String[] columnsName,
+                                                      String[] referencedColumnsName) {
+    if (name == null) {
+      throw new NullPointerException("name can not be null");
+    }
+    if (referencedTable == null || referencedTable.getName() == null) {
+      throw new NullPointerException("The referenced table must be not null");
+    }
+    checkColumnsName(columnsName);
+    checkColumnsName(referencedColumnsName);
+    if (columnsName.length != referencedColumnsName.length) {
+      throw new AssertJDBException("The number of columns (%s) is different from the number of referenced columns (%s)",
+                                   columnsName.length, referencedColumnsName.length);
+    }
+
+    if (!hasSameDatabaseAs(referencedTable)) {
+      return getValuesWithoutReferenceInMemory(maxNumber, referencedTable, columnsName, referencedColumnsName);
+    }
+
+    StringBuilder columns = new StringBuilder();
+    StringBuilder conditions = new StringBuilder();
+    StringBuilder joins = new StringBuilder();
+    for (int index = 0; index < columnsName.length; index++) {
+      if (index > 0) {
+        columns.append(", ");
+        conditions.append(" AND ");
+        joins.append(" AND ");
+      }
+      String column = "REFERENCING_TABLE." + encode(columnsName[index]);
+      columns.append(column);
+      conditions.append(column).append(" IS NOT NULL");
+      joins.append("REFERENCED_TABLE.").append(referencedTable.encode(referencedColumnsName[index]))
+           .append(" = ").append(column);
+    }
+    String request = "SELECT " + columns + " FROM " + encode(name) + " REFERENCING_TABLE WHERE " + conditions
+                     + " AND NOT EXISTS (SELECT * FROM " + referencedTable.encode(referencedTable.getName())
+                     + " REFERENCED_TABLE WHERE " + joins + ")";
+
+    List<List<Object>> valuesList = new ArrayList<>();
+    try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+      statement.setMaxRows(maxNumber);
+      try (ResultSet resultSet = statement.executeQuery(request)) {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        while (resultSet.next()) {
+          valuesList.add(Arrays.asList(getCurrentResults(resultSet, metaData)));
+        }
+      }
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+    return valuesList;
+  }
+
+  /**
+   * Returns if this table and another table are read from the same database.
+   *
+   * @param table The other table.
+   * @return {@code true} if the tables use the same {@code DataSource} or a {@link Source} with the same url and user.
+   */
+  private boolean hasSameDatabaseAs(Table table) {
+    if (getDataSource() != null || table.getDataSource() != null) {
+      return getDataSource() == table.getDataSource();
+    }
+    Source source = getSource();
+    Source otherSource = table.getSource();
+    return source != null && otherSource != null
+           && Objects.equals(source.getUrl(), otherSource.getUrl())
+           && Objects.equals(source.getUser(), otherSource.getUser());
+  }
+
+  /**
+   * Returns the values of columns of the table which reference no row of a table of another database : the referenced
+   * values are read and compared in memory.
+   *
+   * @param maxNumber The maximum number of rows to return ({@code 0} for no limit).
+   * @param referencedTable The referenced table.
+   * @param columnsName The names of the columns of this table.
+   * @param referencedColumnsName The names of the referenced columns (in the same order).
+   * @return The values of the columns (in the order of the parameter) for each row without reference.
+   * @throws AssertJDBException If there is a SQL exception.
+   */
+  private List<List<Object>> getValuesWithoutReferenceInMemory(int maxNumber, Table referencedTable,
+                                                               String[] columnsName, String[] referencedColumnsName) {
+    Set<List<Object>> referencedKeys = new HashSet<>();
+    String referencedRequest = getNotNullValuesRequest(referencedTable, referencedColumnsName);
+    try (Connection connection = referencedTable.getConnection();
+         Statement statement = connection.createStatement();
+         ResultSet resultSet = statement.executeQuery(referencedRequest)) {
+      ResultSetMetaData metaData = resultSet.getMetaData();
       while (resultSet.next()) {
-        String columnName = resultSet.getString("COLUMN_NAME");
-        if (NameComparator.INSTANCE.contains(getColumnsNameList(), columnName, letterCase)) {
-          String pkName = letterCase.convert(columnName);
-          pksNameList.add(pkName);
+        referencedKeys.add(getReferenceKeys(getCurrentResults(resultSet, metaData)));
+      }
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+
+    List<List<Object>> valuesList = new ArrayList<>();
+    String request = getNotNullValuesRequest(this, columnsName);
+    try (Connection connection = getConnection();
+         Statement statement = connection.createStatement();
+         ResultSet resultSet = statement.executeQuery(request)) {
+      ResultSetMetaData metaData = resultSet.getMetaData();
+      while ((maxNumber == 0 || valuesList.size() < maxNumber) && resultSet.next()) {
+        Object[] results = getCurrentResults(resultSet, metaData);
+        if (!referencedKeys.contains(getReferenceKeys(results))) {
+          valuesList.add(Arrays.asList(results));
         }
       }
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+    return valuesList;
+  }
+
+  /**
+   * Returns the request to read the values of columns of a table without the rows with a {@code null} value.
+   *
+   * @param table The table.
+   * @param columnsName The names of the columns.
+   * @return The request.
+   */
+  private static String getNotNullValuesRequest(Table table, String[] columnsName) {
+    StringBuilder columns = new StringBuilder();
+    StringBuilder conditions = new StringBuilder();
+    for (int index = 0; index < columnsName.length; index++) {
+      if (index > 0) {
+        columns.append(", ");
+        conditions.append(" AND ");
+      }
+      String column = table.encode(columnsName[index]);
+      columns.append(column);
+      conditions.append(column).append(" IS NOT NULL");
+    }
+    return "SELECT " + columns + " FROM " + table.encode(table.getName()) + " WHERE " + conditions;
+  }
+
+  /**
+   * Returns the keys to compare the values of a referencing row with the values of a referenced row : the numbers with
+   * the same numeric value (even if they are read with different types) and the same bytes have the same key.
+   *
+   * @param results The values of the row.
+   * @return The keys.
+   */
+  private static List<Object> getReferenceKeys(Object[] results) {
+    List<Object> keys = new ArrayList<>(results.length);
+    for (Object result : results) {
+      if (result instanceof Number) {
+        keys.add(Values.getNumberKey((Number) result));
+      } else if (result instanceof byte[]) {
+        keys.add(ByteBuffer.wrap((byte[]) result));
+      } else {
+        keys.add(result);
+      }
+    }
+    return keys;
+  }
+
+  /**
+   * Opens a cursor on the rows of the table : the rows are read from the database one by one (in the order of the
+   * columns to order if they are set) and are not loaded.
+   * <p>
+   * The primary keys are read from the metadata of the database (the primary keys of this table are not changed). The
+   * cursor must be closed.
+   * </p>
+   *
+   * @return The cursor.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   * @throws AssertJDBException   If there is a SQL exception.
+   * @since 2.0.3
+   */
+  public RowCursor openRowCursor() {
+    return openRowCursor(columnsToOrder);
+  }
+
+  /**
+   * Opens a cursor on the rows of the table in the order of some columns (the columns to order of this table are not
+   * used and are not changed).
+   *
+   * @param orders The columns to order ({@code null} for no order).
+   * @return The cursor.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   * @throws AssertJDBException   If there is a SQL exception.
+   * @see #openRowCursor()
+   * @since 2.0.3
+   */
+  RowCursor openRowCursor(Order[] orders) {
+    if (name == null) {
+      throw new NullPointerException("name can not be null");
+    }
+
+    int[] types = new int[getColumnsNameList().size()];
+    Connection connection = null;
+    Statement statement = null;
+    try {
+      connection = getConnection();
+      List<String> pksNameList = readPrimaryKeyName(connection);
+      statement = connection.createStatement();
+      statement.setFetchSize(FETCH_SIZE);
+      ResultSet resultSet = statement.executeQuery(getRequest(orders));
+      RowSchema schema = createRowSchema(resultSet.getMetaData(), types, pksNameList);
+      return new RowCursor(connection, statement, resultSet, schema, types);
+    } catch (SQLException e) {
+      try (Connection toClose = connection; Statement statementToClose = statement) {
+        // Closes the connection and the statement
+      } catch (SQLException closingException) {
+        e.addSuppressed(closingException);
+      }
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Returns the differences between another table and this table as changes : the rows of the other table are at the
+   * start point and the rows of this table are at the end point.
+   * <p>
+   * The two tables can be on different data sources (with different drivers) : the rows of the table with the fewest
+   * rows are indexed in memory by the primary keys of this table (or by all the columns if there is no primary key) and
+   * the rows of the other table are read one by one with a cursor, so the result does not depend on the way each
+   * database orders the rows. The values are compared with {@link org.assertj.db.util.Values#getKey(Value)}. The two
+   * tables are not changed.
+   * </p>
+   *
+   * @param table The other table (at the start point).
+   * @param maxNumber The maximum number of changes to return ({@code 0} for no limit).
+   * @return The changes.
+   * @throws NullPointerException If the {@link #name} field or the other table is {@code null}.
+   * @throws AssertJDBException   If the two tables have not the same columns or if there is a SQL exception.
+   * @since 2.0.3
+   */
+  public List<Change> getChangesFrom(Table table, int maxNumber) {
+    if (table == null) {
+      throw new NullPointerException("The other table must be not null");
+    }
+    return new TablesMerge(table, this).getChanges(maxNumber);
+  }
+
+  /**
+   * Verifies that the names of columns are given.
+   *
+   * @param columnsName The names of the columns.
+   * @throws NullPointerException If the {@code columnsName} parameter or one of the names is {@code null}.
+   * @throws AssertJDBException   If there is no name.
+   */
+  private static void checkColumnsName(String[] columnsName) {
+    if (columnsName == null) {
+      throw new NullPointerException("The names of the columns must be not null");
+    }
+    if (columnsName.length == 0) {
+      throw new AssertJDBException("At least one column must be given");
+    }
+    for (String columnName : columnsName) {
+      if (columnName == null) {
+        throw new NullPointerException("The name of a column must be not null");
+      }
+    }
+  }
+
+  /**
+   * Specific implementation of the counting for a {@code Table} : the rows are counted with a {@code COUNT(*)} request.
+   *
+   * @param connection {@link Connection} to the database provided by {@link AbstractDbData#getNumberOfRows()} method.
+   * @return The number of rows.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   * @throws SQLException         SQL Exception.
+   * @see AbstractDbData#countImpl(Connection)
+   * @since 2.0.3
+   */
+  @Override
+  protected int countImpl(Connection connection) throws SQLException {
+    if (name == null) {
+      throw new NullPointerException("name can not be null");
+    }
+
+    try (Statement statement = connection.createStatement()) {
+      try (ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + encode(name))) {
+        resultSet.next();
+        return resultSet.getInt(1);
+      }
+    }
+  }
+
+  /**
+   * Specific implementation of the loading of the columns name for a {@code Table} : the request of the table is
+   * executed without order and with a condition which is never true (only the metadata are read).
+   *
+   * @param connection {@link Connection} to the database.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   * @throws SQLException         SQL Exception.
+   * @see AbstractDbData#loadColumnsNameImpl(Connection)
+   * @since 2.0.3
+   */
+  @Override
+  protected void loadColumnsNameImpl(Connection connection) throws SQLException {
+    if (name == null) {
+      throw new NullPointerException("name can not be null");
+    }
+
+    try (Statement statement = connection.createStatement()) {
+      try (ResultSet resultSet = statement.executeQuery(getSelectRequest() + " WHERE 1 = 0")) {
+        collectColumnsNameFromResultSet(resultSet);
+      }
+    }
+  }
+
+  /**
+   * Specific implementation of the computing of aggregate functions for a {@code Table} : the functions are in a
+   * request on the table.
+   *
+   * @param connection {@link Connection} to the database.
+   * @param columnName The name of the column.
+   * @param functions The aggregate functions with {@code %s} in place of the column.
+   * @return The results of the functions.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   * @throws SQLException         SQL Exception.
+   * @see AbstractDbData#aggregateImpl(Connection, String, String...)
+   * @since 2.0.3
+   */
+  @Override
+  protected Object[] aggregateImpl(Connection connection, String columnName, String... functions)
+      throws SQLException {
+    if (name == null) {
+      throw new NullPointerException("name can not be null");
+    }
+
+    StringBuilder stringBuilder = new StringBuilder("SELECT ");
+    String column = encode(columnName);
+    for (int index = 0; index < functions.length; index++) {
+      if (index > 0) {
+        stringBuilder.append(", ");
+      }
+      stringBuilder.append(String.format(functions[index], column));
+    }
+    stringBuilder.append(" FROM ");
+    stringBuilder.append(encode(name));
+    try (Statement statement = connection.createStatement()) {
+      try (ResultSet resultSet = statement.executeQuery(stringBuilder.toString())) {
+        return getResults(resultSet);
+      }
     }
-    setPksNameList(pksNameList);
   }
 
   /**
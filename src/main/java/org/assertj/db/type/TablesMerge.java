@@ -0,0 +1,291 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.util.NameIndex;
+import org.assertj.db.util.Values;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Merge of the rows of two tables (which can be on different data sources) to find the changes between them.
+ * <p>
+ * The rows of the table with the fewest rows are read with a {@link RowCursor} and indexed by their key (see
+ * {@link Values#getKey(Value)}), then the rows of the other table are read one by one and searched in this index : the
+ * merge does not depend on the order of the rows given by the databases (which can sort the {@code null} values and
+ * the texts in different ways). The rows are read in the order of the key only to give the changes in a readable
+ * order.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+final class TablesMerge {
+
+  /**
+   * The table at start point.
+   */
+  private final Table tableAtStartPoint;
+  /**
+   * The table at end point.
+   */
+  private final Table tableAtEndPoint;
+  /**
+   * The indexes in the table at start point of the columns of the table at end point.
+   */
+  private int[] indexesAtStartPoint;
+  /**
+   * The indexes of the columns of the key (in the table at end point).
+   */
+  private int[] keyIndexes;
+  /**
+   * The holder of the schema of the rows of the table at start point with the columns in the order of the table at end
+   * point.
+   */
+  private RowSchema.Holder schemaHolderAtStartPoint;
+
+  /**
+   * Constructor.
+   *
+   * @param tableAtStartPoint The table at start point.
+   * @param tableAtEndPoint The table at end point.
+   */
+  TablesMerge(Table tableAtStartPoint, Table tableAtEndPoint) {
+    this.tableAtStartPoint = tableAtStartPoint;
+    this.tableAtEndPoint = tableAtEndPoint;
+  }
+
+  /**
+   * Returns the changes between the two tables.
+   * <p>
+   * The tables are not changed : the primary keys and the order of the rows are local to the merge.
+   * </p>
+   *
+   * @param maxNumber The maximum number of changes to return ({@code 0} for no limit).
+   * @return The changes (the changes of the rows of the streamed table in the order of the key, then the rows only in
+   *         the indexed table).
+   * @throws AssertJDBException If the two tables have not the same columns or if there is a SQL exception.
+   */
+  List<Change> getChanges(int maxNumber) {
+    List<String> columnsNameList = tableAtEndPoint.getColumnsNameList();
+    List<String> columnsNameListAtStartPoint = tableAtStartPoint.getColumnsNameList();
+    NameIndex columnsNameIndexAtStartPoint = new NameIndex(columnsNameListAtStartPoint,
+                                                           tableAtEndPoint.getColumnLetterCase());
+    indexesAtStartPoint = new int[columnsNameList.size()];
+    for (int index = 0; index < indexesAtStartPoint.length; index++) {
+      indexesAtStartPoint[index] = columnsNameIndexAtStartPoint.indexOf(columnsNameList.get(index));
+      if (indexesAtStartPoint[index] == -1 || columnsNameList.size() != columnsNameListAtStartPoint.size()) {
+        throw new AssertJDBException("The columns %s of %s table are not the columns %s of %s table", columnsNameList,
+                                     tableAtEndPoint.getName(), columnsNameListAtStartPoint,
+                                     tableAtStartPoint.getName());
+      }
+    }
+
+    // The key is the primary keys or else all the columns
+    List<String> pksNameList = tableAtEndPoint.getPksNameListFromMetaData();
+    NameIndex pksNameIndex = new NameIndex(columnsNameList, tableAtEndPoint.getPrimaryKeyLetterCase());
+    keyIndexes = pksNameList.isEmpty() ? new int[columnsNameList.size()] : new int[pksNameList.size()];
+    Table.Order[] orders = new Table.Order[keyIndexes.length];
+    Table.Order[] ordersAtStartPoint = new Table.Order[keyIndexes.length];
+    for (int index = 0; index < keyIndexes.length; index++) {
+      keyIndexes[index] = pksNameList.isEmpty() ? index : pksNameIndex.indexOf(pksNameList.get(index));
+      orders[index] = Table.Order.asc(columnsNameList.get(keyIndexes[index]));
+      ordersAtStartPoint[index] = Table.Order.asc(columnsNameListAtStartPoint.get(
+              indexesAtStartPoint[keyIndexes[index]]));
+    }
+    schemaHolderAtStartPoint = new RowSchema.Holder(new RowSchema(columnsNameList, pksNameList,
+                                                                  tableAtEndPoint.getColumnLetterCase(),
+                                                                  tableAtEndPoint.getPrimaryKeyLetterCase(),
+                                                                  null, null, null, null));
+
+    // The table with the fewest rows is indexed
+    boolean indexAtStartPoint = tableAtStartPoint.getNumberOfRows() <= tableAtEndPoint.getNumberOfRows();
+    Map<List<Object>, Deque<Row>> rowsByKey;
+    if (indexAtStartPoint) {
+      try (RowCursor cursorAtStartPoint = tableAtStartPoint.openRowCursor(ordersAtStartPoint)) {
+        rowsByKey = index(cursorAtStartPoint, true);
+      }
+      try (RowCursor cursor = tableAtEndPoint.openRowCursor(orders)) {
+        return merge(rowsByKey, cursor, false, maxNumber);
+      }
+    }
+    try (RowCursor cursor = tableAtEndPoint.openRowCursor(orders)) {
+      rowsByKey = index(cursor, false);
+    }
+    try (RowCursor cursorAtStartPoint = tableAtStartPoint.openRowCursor(ordersAtStartPoint)) {
+      return merge(rowsByKey, cursorAtStartPoint, true, maxNumber);
+    }
+  }
+
+  /**
+   * Indexes the rows of a cursor by their key (the rows with the same key are kept in the order of the cursor).
+   *
+   * @param cursor The cursor.
+   * @param atStartPoint If the cursor is on the table at start point.
+   * @return The rows by key.
+   */
+  private Map<List<Object>, Deque<Row>> index(RowCursor cursor, boolean atStartPoint) {
+    Map<List<Object>, Deque<Row>> rowsByKey = new LinkedHashMap<>();
+    for (Row row = getRow(cursor, atStartPoint); row != null; row = getRow(cursor, atStartPoint)) {
+      rowsByKey.computeIfAbsent(getKey(row), k -> new ArrayDeque<>()).add(row);
+    }
+    return rowsByKey;
+  }
+
+  /**
+   * Merges the rows of a cursor with the indexed rows of the other table.
+   *
+   * @param rowsByKey The indexed rows of the other table (the matched rows are removed).
+   * @param cursor The cursor.
+   * @param atStartPoint If the cursor is on the table at start point.
+   * @param maxNumber The maximum number of changes to return ({@code 0} for no limit).
+   * @return The changes.
+   */
+  private List<Change> merge(Map<List<Object>, Deque<Row>> rowsByKey, RowCursor cursor, boolean atStartPoint,
+                             int maxNumber) {
+    List<Change> changesList = new ArrayList<>();
+    for (Row row = getRow(cursor, atStartPoint); row != null && !isComplete(changesList, maxNumber);
+         row = getRow(cursor, atStartPoint)) {
+      List<Object> key = getKey(row);
+      Deque<Row> rows = rowsByKey.get(key);
+      Row indexedRow = rows == null ? null : rows.poll();
+      if (rows != null && rows.isEmpty()) {
+        rowsByKey.remove(key);
+      }
+      if (indexedRow == null) {
+        changesList.add(atStartPoint ? createDeletionChange(row) : createCreationChange(row));
+      } else if (!haveSameValues(indexedRow, row)) {
+        changesList.add(atStartPoint ? createModificationChange(row, indexedRow)
+                                     : createModificationChange(indexedRow, row));
+      }
+    }
+    Iterator<Deque<Row>> iterator = rowsByKey.values().iterator();
+    while (iterator.hasNext() && !isComplete(changesList, maxNumber)) {
+      for (Row row : iterator.next()) {
+        if (isComplete(changesList, maxNumber)) {
+          break;
+        }
+        changesList.add(atStartPoint ? createCreationChange(row) : createDeletionChange(row));
+      }
+    }
+    return changesList;
+  }
+
+  /**
+   * Returns if the maximum number of changes is reached.
+   *
+   * @param changesList The changes.
+   * @param maxNumber The maximum number of changes ({@code 0} for no limit).
+   * @return {@code true} if the maximum number is reached, {@code false} otherwise.
+   */
+  private static boolean isComplete(List<Change> changesList, int maxNumber) {
+    return maxNumber != 0 && changesList.size() >= maxNumber;
+  }
+
+  /**
+   * Returns the next row of a cursor with the columns in the order of the table at end point.
+   *
+   * @param cursor The cursor.
+   * @param atStartPoint If the cursor is on the table at start point.
+   * @return The row or {@code null} if there is no more row.
+   */
+  private Row getRow(RowCursor cursor, boolean atStartPoint) {
+    Row row = cursor.next();
+    if (row == null || !atStartPoint) {
+      return row;
+    }
+    List<Value> valuesList = new ArrayList<>(indexesAtStartPoint.length);
+    for (int index : indexesAtStartPoint) {
+      valuesList.add(row.getColumnValue(index));
+    }
+    return new Row(schemaHolderAtStartPoint, valuesList);
+  }
+
+  /**
+   * Returns a creation change.
+   *
+   * @param row The row at end point.
+   * @return The change.
+   */
+  private Change createCreationChange(Row row) {
+    return Change.createCreationChange(DataType.TABLE, tableAtEndPoint.getName(), row,
+                                       tableAtEndPoint.getTableLetterCase(), tableAtEndPoint.getColumnLetterCase(),
+                                       tableAtEndPoint.getPrimaryKeyLetterCase());
+  }
+
+  /**
+   * Returns a modification change.
+   *
+   * @param rowAtStartPoint The row at start point.
+   * @param row The row at end point.
+   * @return The change.
+   */
+  private Change createModificationChange(Row rowAtStartPoint, Row row) {
+    return Change.createModificationChange(DataType.TABLE, tableAtEndPoint.getName(), rowAtStartPoint, row,
+                                           tableAtEndPoint.getTableLetterCase(),
+                                           tableAtEndPoint.getColumnLetterCase(),
+                                           tableAtEndPoint.getPrimaryKeyLetterCase());
+  }
+
+  /**
+   * Returns a deletion change.
+   *
+   * @param rowAtStartPoint The row at start point.
+   * @return The change.
+   */
+  private Change createDeletionChange(Row rowAtStartPoint) {
+    return Change.createDeletionChange(DataType.TABLE, tableAtEndPoint.getName(), rowAtStartPoint,
+                                       tableAtEndPoint.getTableLetterCase(), tableAtEndPoint.getColumnLetterCase(),
+                                       tableAtEndPoint.getPrimaryKeyLetterCase());
+  }
+
+  /**
+   * Returns the key of a row.
+   *
+   * @param row The row (with the columns in the order of the table at end point).
+   * @return The key.
+   */
+  private List<Object> getKey(Row row) {
+    List<Object> key = new ArrayList<>(keyIndexes.length);
+    for (int index : keyIndexes) {
+      key.add(Values.getKey(row.getColumnValue(index)));
+    }
+    return key;
+  }
+
+  /**
+   * Returns if the two rows (with the columns in the same order) have the same values.
+   *
+   * @param row1 The first row.
+   * @param row2 The second row.
+   * @return If the rows have the same values.
+   */
+  private static boolean haveSameValues(Row row1, Row row2) {
+    List<Value> valuesList1 = row1.getValuesList();
+    List<Value> valuesList2 = row2.getValuesList();
+    for (int index = 0; index < valuesList1.size(); index++) {
+      if (!Objects.equals(Values.getKey(valuesList1.get(index)), Values.getKey(valuesList2.get(index)))) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
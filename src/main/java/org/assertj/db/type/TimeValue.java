@@ -16,6 +16,7 @@ import java.sql.Time;
 import java.text.ParseException;
 import java.time.LocalTime;
 import java.util.Calendar;
+import java.util.regex.Pattern;
 
 /**
  * This class represents a time value in the database.
@@ -42,20 +43,25 @@ public class TimeValue implements Comparable<TimeValue> {
    * Nanoseconds.
    */
   private final int nanoSeconds;
+  /**
+   * Number of nanoseconds in a second.
+   */
+  static final long NANOS_PER_SECOND = 1000000000L;
   /**
    * Indicates where there are the digits for {@code String} for {@link TimeValue#TimeValue(String)}.
    */
-  private static final String TIME_FORMAT = "\\d\\d:\\d\\d";
+  private static final Pattern TIME_FORMAT = Pattern.compile("\\d\\d:\\d\\d");
   /**
    * Indicates where there are the digits in style with seconds for {@code String} for
    * {@link TimeValue#TimeValue(String)}.
    */
-  private static final String TIME_FORMAT_WITH_SECONDS = "\\d\\d:\\d\\d:\\d\\d";
+  private static final Pattern TIME_FORMAT_WITH_SECONDS = Pattern.compile("\\d\\d:\\d\\d:\\d\\d");
   /**
    * Indicates where there are the digits in style with nanoseconds for {@code String} for
    * {@link TimeValue#TimeValue(String)}.
    */
-  private static final String TIME_FORMAT_WITH_NANO = "\\d\\d:\\d\\d:\\d\\d.\\d\\d\\d\\d\\d\\d\\d\\d\\d";
+  private static final Pattern TIME_FORMAT_WITH_NANO =
+      Pattern.compile("\\d\\d:\\d\\d:\\d\\d.\\d\\d\\d\\d\\d\\d\\d\\d\\d");
 
   /**
    * Makes an instance of time value from a hours, minutes, seconds and nanoseconds.
@@ -115,7 +121,98 @@ public class TimeValue implements Comparable<TimeValue> {
    * @return An instance of time value.
    */
   public static TimeValue from(Time time) {
-    return new TimeValue(time);
+    long localMillis = DateValue.getLocalMillis(time, "time should be not null");
+    return fromLocalMillis(localMillis, (int) Math.floorMod(localMillis, 1000L) * 1000000);
+  }
+
+  /**
+   * Makes an instance of time value from a number of milliseconds since the epoch in the local time (see
+   * {@link DateValue#getLocalMillis(java.util.Date, String)}), without {@link Calendar}.
+   *
+   * @param localMillis The number of milliseconds since the epoch in the local time.
+   * @param nanoSeconds The nanoseconds.
+   * @return An instance of time value.
+   * @since 2.0.3
+   */
+  static TimeValue fromLocalMillis(long localMillis, int nanoSeconds) {
+    int secondOfDay = (int) (Math.floorMod(localMillis, DateValue.MILLIS_PER_DAY) / 1000);
+    return new TimeValue(secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60, nanoSeconds);
+  }
+
+  /**
+   * Makes an instance of time value from a number of nanoseconds since midnight.
+   *
+   * @param nanoOfDay The number of nanoseconds since midnight.
+   * @return An instance of time value.
+   * @since 2.0.3
+   */
+  static TimeValue fromNanoOfDay(long nanoOfDay) {
+    int secondOfDay = (int) (nanoOfDay / NANOS_PER_SECOND);
+    return new TimeValue(secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60,
+                         (int) (nanoOfDay % NANOS_PER_SECOND));
+  }
+
+  /**
+   * Returns the number of nanoseconds since midnight of a time.
+   * <p>
+   * The fields of a time value are not always a time of the day (for example the values used to move a time), so the
+   * encoding is {@link DateValue#NOT_ENCODED} when a field is out of its range.
+   * </p>
+   *
+   * @param hours Hours.
+   * @param minutes Minutes.
+   * @param seconds Seconds.
+   * @param nanoSeconds Nanoseconds.
+   * @return The number of nanoseconds since midnight or {@link DateValue#NOT_ENCODED}.
+   * @since 2.0.3
+   */
+  static long toNanoOfDay(int hours, int minutes, int seconds, int nanoSeconds) {
+    if (hours < 0 || hours > 23 || minutes < 0 || minutes > 59 || seconds < 0 || seconds > 59
+        || nanoSeconds < 0 || nanoSeconds >= NANOS_PER_SECOND) {
+      return DateValue.NOT_ENCODED;
+    }
+    return ((hours * 60 + minutes) * 60 + seconds) * NANOS_PER_SECOND + nanoSeconds;
+  }
+
+  /**
+   * Appends the representation of the fields of a time (the same as {@link #toString()}) to a builder.
+   *
+   * @param builder The builder.
+   * @param hours Hours.
+   * @param minutes Minutes.
+   * @param seconds Seconds.
+   * @param nanoSeconds Nanoseconds.
+   * @return The builder.
+   * @since 2.0.3
+   */
+  static StringBuilder appendTo(StringBuilder builder, int hours, int minutes, int seconds, int nanoSeconds) {
+    if (hours < 0 || minutes < 0 || seconds < 0 || nanoSeconds < 0) {
+      return builder.append(String.format("%02d:%02d:%02d.%09d", hours, minutes, seconds, nanoSeconds));
+    }
+    DateValue.appendPadded(builder, hours, 2, '0').append(':');
+    DateValue.appendPadded(builder, minutes, 2, '0').append(':');
+    DateValue.appendPadded(builder, seconds, 2, '0').append('.');
+    return DateValue.appendPadded(builder, nanoSeconds, 9, '0');
+  }
+
+  /**
+   * Returns the hash code of the fields of a time (the same as {@link #hashCode()}).
+   *
+   * @param hours Hours.
+   * @param minutes Minutes.
+   * @param seconds Seconds.
+   * @param nanoSeconds Nanoseconds.
+   * @return The hash code.
+   * @since 2.0.3
+   */
+  static int hashCode(int hours, int minutes, int seconds, int nanoSeconds) {
+    final int prime = 31;
+    int result = 1;
+    result = prime * result + hours;
+    result = prime * result + minutes;
+    result = prime * result + nanoSeconds;
+    result = prime * result + seconds;
+    return result;
   }
 
   /**
@@ -201,17 +298,17 @@ public class TimeValue implements Comparable<TimeValue> {
       throw new NullPointerException("time should be not null");
     }
 
-    if (time.matches(TIME_FORMAT)) {
+    if (TIME_FORMAT.matcher(time).matches()) {
       hours = Integer.parseInt(time.substring(0, 2));
       minutes = Integer.parseInt(time.substring(3));
       seconds = 0;
       nanoSeconds = 0;
-    } else if (time.matches(TIME_FORMAT_WITH_SECONDS)) {
+    } else if (TIME_FORMAT_WITH_SECONDS.matcher(time).matches()) {
       hours = Integer.parseInt(time.substring(0, 2));
       minutes = Integer.parseInt(time.substring(3, 5));
       seconds = Integer.parseInt(time.substring(6));
       nanoSeconds = 0;
-    } else if (time.matches(TIME_FORMAT_WITH_NANO)) {
+    } else if (TIME_FORMAT_WITH_NANO.matcher(time).matches()) {
       hours = Integer.parseInt(time.substring(0, 2));
       minutes = Integer.parseInt(time.substring(3, 5));
       seconds = Integer.parseInt(time.substring(6, 8));
@@ -228,17 +325,16 @@ public class TimeValue implements Comparable<TimeValue> {
    * @throws NullPointerException If {@code time} is {@code null}.
    */
   public TimeValue(Time time) {
-    if (time == null) {
-      throw new NullPointerException("time should be not null");
-    }
-
-    Calendar calendar = Calendar.getInstance();
-    calendar.setTimeInMillis(time.getTime());
+    this(from(time));
+  }
 
-    hours = calendar.get(Calendar.HOUR_OF_DAY);
-    minutes = calendar.get(Calendar.MINUTE);
-    seconds = calendar.get(Calendar.SECOND);
-    nanoSeconds = calendar.get(Calendar.MILLISECOND) * 1000000;
+  /**
+   * Copy constructor.
+   *
+   * @param time The time value to copy.
+   */
+  private TimeValue(TimeValue time) {
+    this(time.hours, time.minutes, time.seconds, time.nanoSeconds);
   }
 
   /**
@@ -314,7 +410,7 @@ public class TimeValue implements Comparable<TimeValue> {
 
   @Override
   public String toString() {
-    return String.format("%02d:%02d:%02d.%09d", hours, minutes, seconds, nanoSeconds);
+    return appendTo(new StringBuilder(18), hours, minutes, seconds, nanoSeconds).toString();
   }
 
   @Override
@@ -329,13 +425,7 @@ public class TimeValue implements Comparable<TimeValue> {
 
   @Override
   public int hashCode() {
-    final int prime = 31;
-    int result = 1;
-    result = prime * result + hours;
-    result = prime * result + minutes;
-    result = prime * result + nanoSeconds;
-    result = prime * result + seconds;
-    return result;
+    return hashCode(hours, minutes, seconds, nanoSeconds);
   }
 
   @Override
@@ -20,6 +20,7 @@ import java.math.BigInteger;
 import java.sql.Date;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.util.Collections;
 import java.util.UUID;
 
 /**
@@ -34,9 +35,15 @@ import java.util.UUID;
 public class Value implements DbElement, WithColumnLetterCase {
 
   /**
-   * The name of the column.
+   * The schema giving the name of the column and the letter case.
+   * @since 2.0.3
    */
-  private final String columnName;
+  private final RowSchema schema;
+  /**
+   * The index of the column in the schema.
+   * @since 2.0.3
+   */
+  private final int columnIndex;
   /**
    * The value.
    */
@@ -46,11 +53,6 @@ public class Value implements DbElement, WithColumnLetterCase {
    * The type of value.
    */
   private final ValueType valueType;
-  /**
-   * Letter case of the columns.
-   * @since 1.1.0
-   */
-  private final LetterCase columnLetterCase;
 
   /**
    * Returns a NULL value.
@@ -62,6 +64,16 @@ public class Value implements DbElement, WithColumnLetterCase {
     return new Value(columnName, null, columnLetterCase);
   }
 
+  /**
+   * Returns a NULL value in the same column as another value (the schema of the column is shared).
+   * @param value The other value.
+   * @return A NULL value.
+   * @since 2.0.3
+   */
+  public static Value getNullValue(Value value) {
+    return new Value(value.schema, value.columnIndex, null);
+  }
+
   /**
    * Returns the type of the actual value (data).
    *
@@ -106,6 +118,59 @@ public class Value implements DbElement, WithColumnLetterCase {
     return ValueType.NOT_IDENTIFIED;
   }
 
+  /**
+   * Returns the type of the actual value (data) in a column of known type.
+   * <p>
+   * The type of the column is checked with the class of the object and the type is identified from the object only
+   * when the class is not the one expected (for example with a driver giving another class than the usual one).
+   * </p>
+   *
+   * @param object The actual object contained in the value.
+   * @param columnType The type of the column or {@code null} if not known.
+   * @return The type of the actual value
+   */
+  static ValueType getType(Object object, ValueType columnType) {
+    if (columnType != null && isOfType(object, columnType)) {
+      return columnType;
+    }
+    return getType(object);
+  }
+
+  /**
+   * Returns if the object is of the class expected for the type.
+   *
+   * @param object The object.
+   * @param type The type.
+   * @return {@code true} if the object is of the type (always {@code false} if the object is {@code null}).
+   */
+  private static boolean isOfType(Object object, ValueType type) {
+    switch (type) {
+    case BYTES:
+      return object instanceof byte[];
+    case BOOLEAN:
+      return object instanceof Boolean;
+    case TEXT:
+      return object instanceof String || object instanceof Character;
+    case DATE:
+      return object instanceof Date;
+    case TIME:
+      return object instanceof Time;
+    case DATE_TIME:
+      return object instanceof Timestamp;
+    case NUMBER:
+      return object instanceof BigDecimal
+             || object instanceof Integer
+             || object instanceof Long
+             || object instanceof Double
+             || object instanceof Short
+             || object instanceof Byte
+             || object instanceof Float
+             || object instanceof BigInteger;
+    default:
+      return false;
+    }
+  }
+
   /**
    * Constructor.
    *
@@ -114,10 +179,24 @@ public class Value implements DbElement, WithColumnLetterCase {
    * @param columnLetterCase The letter case of the columns.
    */
   Value(String columnName, Object value, LetterCase columnLetterCase) {
-    this.columnName = columnName;
+    this(new RowSchema(Collections.singletonList(columnName), null, columnLetterCase, columnLetterCase, null, null,
+                       null, null),
+         0, value);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param schema The schema shared by the values loaded together.
+   * @param columnIndex The index of the column in the schema.
+   * @param value The value.
+   * @since 2.0.3
+   */
+  Value(RowSchema schema, int columnIndex, Object value) {
+    this.schema = schema;
+    this.columnIndex = columnIndex;
     this.value = value;
-    this.columnLetterCase = columnLetterCase;
-    valueType = getType(value);
+    valueType = getType(value, schema.getValueType(columnIndex));
   }
 
   /**
@@ -125,7 +204,7 @@ public class Value implements DbElement, WithColumnLetterCase {
    */
   @Override
   public LetterCase getColumnLetterCase() {
-    return columnLetterCase;
+    return schema.getColumnLetterCase();
   }
 
   /**
@@ -134,7 +213,22 @@ public class Value implements DbElement, WithColumnLetterCase {
    * @return The name of the column.
    */
   public String getColumnName() {
-    return columnName;
+    return schema.getColumnName(columnIndex);
+  }
+
+  /**
+   * Returns the type of the column of the value.
+   * <p>
+   * The type is the one given by the database for the column : it is known even if the value is {@code null}.
+   * </p>
+   *
+   * @return The type of the column or {@link ValueType#NOT_IDENTIFIED} if the type can only be identified from the
+   *         values.
+   * @since 2.0.3
+   */
+  public ValueType getColumnType() {
+    ValueType columnType = schema.getValueType(columnIndex);
+    return columnType == null ? ValueType.NOT_IDENTIFIED : columnType;
   }
 
   /**
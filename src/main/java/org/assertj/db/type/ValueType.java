@@ -12,6 +12,8 @@
  */
 package org.assertj.db.type;
 
+import java.sql.Types;
+
 /**
  * Enumeration of the different type of value that are in the database.
  * 
@@ -58,6 +60,53 @@ public enum ValueType {
    */
   NOT_IDENTIFIED;
 
+  /**
+   * Returns the type of the values of a column from the JDBC type of this column.
+   *
+   * @param sqlType The JDBC type of the column (see {@link Types}).
+   * @return The type of the values or {@code null} if the type can only be identified from each value (for example
+   *         for {@link Types#OTHER} or {@link Types#JAVA_OBJECT}).
+   * @since 2.0.3
+   */
+  static ValueType getTypeOfColumn(int sqlType) {
+    switch (sqlType) {
+    case Types.BINARY:
+    case Types.VARBINARY:
+    case Types.LONGVARBINARY:
+    case Types.BLOB:
+      return BYTES;
+    case Types.BIT:
+    case Types.BOOLEAN:
+      return BOOLEAN;
+    case Types.CHAR:
+    case Types.VARCHAR:
+    case Types.LONGVARCHAR:
+    case Types.NCHAR:
+    case Types.NVARCHAR:
+    case Types.LONGNVARCHAR:
+    case Types.CLOB:
+      return TEXT;
+    case Types.DATE:
+      return DATE;
+    case Types.TIME:
+      return TIME;
+    case Types.TIMESTAMP:
+      return DATE_TIME;
+    case Types.TINYINT:
+    case Types.SMALLINT:
+    case Types.INTEGER:
+    case Types.BIGINT:
+    case Types.REAL:
+    case Types.FLOAT:
+    case Types.DOUBLE:
+    case Types.NUMERIC:
+    case Types.DECIMAL:
+      return NUMBER;
+    default:
+      return null;
+    }
+  }
+
   /**
    * Returns the types which are possible for the actual value (data) for the comparison with an expected value.
    *
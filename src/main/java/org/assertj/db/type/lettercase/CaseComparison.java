@@ -34,4 +34,19 @@ public interface CaseComparison extends Comparator<String> {
    * @return If the two values are equal.
    */
   boolean isEqual(String value1, String value2);
+
+  /**
+   * Returns the key of {@code value} for this comparison : two values are equal with {@link #isEqual(String, String)}
+   * if and only if they have the same key.
+   * <p>
+   * The key is used to index names in hash tables. The default implementation returns {@code null} which means that
+   * there is no key and that the names must be compared one by one.
+   * </p>
+   * @param value The value (not {@code null}).
+   * @return The key or {@code null}.
+   * @since 2.0.3
+   */
+  default String getKey(String value) {
+    return null;
+  }
 }
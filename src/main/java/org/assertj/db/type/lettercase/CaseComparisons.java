@@ -61,6 +61,26 @@ public enum CaseComparisons implements CaseComparison {
       }
       return value1.equalsIgnoreCase(value2);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getKey(String value) {
+      // Same folding of the characters than String.equalsIgnoreCase
+      int length = value.length();
+      for (int index = 0; index < length; index++) {
+        char character = value.charAt(index);
+        if (Character.toLowerCase(Character.toUpperCase(character)) != character) {
+          char[] characters = value.toCharArray();
+          for (int i = index; i < length; i++) {
+            characters[i] = Character.toLowerCase(Character.toUpperCase(characters[i]));
+          }
+          return new String(characters);
+        }
+      }
+      return value;
+    }
   },
   /**
    * Comparison on {@link java.lang.String} which strictly consider the case.
@@ -104,5 +124,13 @@ public enum CaseComparisons implements CaseComparison {
       }
       return value1.equals(value2);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getKey(String value) {
+      return value;
+    }
   }
 }
@@ -117,6 +117,14 @@ public class LetterCase implements CaseConversion, CaseComparison {
     return comparison.compare(value1, value2);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getKey(String value) {
+    return comparison.getKey(value);
+  }
+
   /**
    * {@inheritDoc}
    */
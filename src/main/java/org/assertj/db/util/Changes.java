@@ -36,6 +36,10 @@ public class Changes {
 
   /**
    * Returns the indexes of the modified columns.
+   * <p>
+   * The values are compared with {@code equals} (and not with the comparators of the rows) : for example
+   * {@code 1.0} and {@code 1.00} in a {@code BigDecimal} are different.
+   * </p>
    * @param change    The change.
    * @return The indexes.
    */
@@ -53,6 +57,7 @@ public class Changes {
         Object objectAtStartPoint = valueAtStartPoint.getValue();
         Object objectAtEndPoint = valueAtEndPoint.getValue();
 
+        // Strict equality : a change of scale or of class is a modification even if the values are comparable
         if ((objectAtStartPoint == null && objectAtEndPoint != null) ||
             (objectAtStartPoint != null && !objectAtStartPoint.equals(objectAtEndPoint))) {
 
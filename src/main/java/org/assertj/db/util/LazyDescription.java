@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import org.assertj.core.description.Description;
+
+import java.util.function.Supplier;
+
+/**
+ * Description composed at the first use.
+ * <p>
+ * The descriptions of the elements are given at each navigation but are only used when an assertion fails or when an
+ * element is output : the text is composed by the supplier the first time it is needed, and kept for the next times.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+public class LazyDescription extends Description {
+
+  /**
+   * The supplier of the text (or {@code null} when the text is composed).
+   */
+  private Supplier<String> supplier;
+  /**
+   * The text of the description (composed at the first use).
+   */
+  private String value;
+
+  /**
+   * Constructor.
+   *
+   * @param supplier The supplier of the text (must be not {@code null}).
+   * @throws NullPointerException If {@code supplier} is {@code null}.
+   */
+  public LazyDescription(Supplier<String> supplier) {
+    if (supplier == null) {
+      throw new NullPointerException("Supplier must be not null");
+    }
+    this.supplier = supplier;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized String value() {
+    if (supplier != null) {
+      value = supplier.get();
+      supplier = null;
+    }
+    return value;
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.util;
+
+/**
+ * Utility constants related to the error messages.
+ *
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+public class Messages {
+
+  /**
+   * The maximum number of values (or rows, changes, indexes...) listed in the error messages.
+   */
+  public static final int MAX_NUMBER_IN_MESSAGE = 10;
+
+  /**
+   * Private constructor.
+   */
+  private Messages() {
+    // Empty
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import org.assertj.db.type.lettercase.CaseComparison;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of a list of names for a case comparison.
+ * <p>
+ * The names are indexed in a hash table with the key given by {@link CaseComparison#getKey(String)}, so
+ * {@link #indexOf(String)} and {@link #contains(String)} are in constant time. When the comparison gives no key, the
+ * names are compared one by one with {@link NameComparator}.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+public class NameIndex {
+
+  /**
+   * The list of the names.
+   */
+  private final List<String> namesList;
+  /**
+   * The case comparison.
+   */
+  private final CaseComparison comparison;
+  /**
+   * Map of the indexes of the names with the keys of the names (or {@code null} if the comparison gives no key).
+   */
+  private final Map<String, Integer> indexesMap;
+
+  /**
+   * Constructor.
+   *
+   * @param namesList The list of the names (must be not {@code null}).
+   * @param comparison The case comparison (must be not {@code null}).
+   * @throws NullPointerException If one of the parameters is {@code null}.
+   */
+  public NameIndex(List<String> namesList, CaseComparison comparison) {
+    if (namesList == null) {
+      throw new NullPointerException("The list of names must be not null");
+    }
+    if (comparison == null) {
+      throw new NullPointerException("The case comparison must be not null");
+    }
+    this.namesList = namesList;
+    this.comparison = comparison;
+    indexesMap = createIndexesMap(namesList, comparison);
+  }
+
+  /**
+   * Creates the map of the indexes.
+   *
+   * @param namesList The list of the names.
+   * @param comparison The case comparison.
+   * @return The map or {@code null} if the comparison gives no key.
+   */
+  private static Map<String, Integer> createIndexesMap(List<String> namesList, CaseComparison comparison) {
+    Map<String, Integer> map = new HashMap<>(namesList.size() * 4 / 3 + 1);
+    int index = 0;
+    for (String name : namesList) {
+      if (name != null) {
+        String key = comparison.getKey(name);
+        if (key == null) {
+          return null;
+        }
+        // The first name wins like with NameComparator#indexOf
+        map.putIfAbsent(key, index);
+      }
+      index++;
+    }
+    return map;
+  }
+
+  /**
+   * Returns the list of the names.
+   *
+   * @return The list of the names.
+   */
+  public List<String> getNamesList() {
+    return namesList;
+  }
+
+  /**
+   * Returns the case comparison.
+   *
+   * @return The case comparison.
+   */
+  public CaseComparison getComparison() {
+    return comparison;
+  }
+
+  /**
+   * Returns the index of {@code name} in the names.
+   *
+   * @param name The name to search.
+   * @return The index or {@code -1} if the name is not found.
+   */
+  public int indexOf(String name) {
+    if (indexesMap == null || name == null) {
+      return NameComparator.INSTANCE.indexOf(namesList, name, comparison);
+    }
+    Integer index = indexesMap.get(comparison.getKey(name));
+    return index == null ? -1 : index;
+  }
+
+  /**
+   * Returns if the names contain {@code name}.
+   *
+   * @param name The name to search.
+   * @return The result.
+   */
+  public boolean contains(String name) {
+    return indexOf(name) != -1;
+  }
+}
@@ -12,6 +12,8 @@
  */
 package org.assertj.db.util;
 
+import org.assertj.db.internal.SoftProxyMethods;
+
 /**
  * Utilities for manage proxies.
  *
@@ -25,10 +27,11 @@ public class Proxies {
    * Check if class is proxified.
    *
    * @param clazz Class to check
-   * @return True if class is proxified by CGLIB
+   * @return True if class is proxified by ByteBuddy or by a proxy class generated at build time
    */
   public static boolean isProxified(Class clazz) {
-    return clazz.getName().contains(BYTE_BUDDY_PATTERN);
+    return clazz.getName().contains(BYTE_BUDDY_PATTERN)
+           || clazz.getName().endsWith(SoftProxyMethods.SOFT_PROXY_SUFFIX);
   }
 
   /**
@@ -32,32 +32,19 @@ public enum RowComparator implements Comparator<Row>{
   INSTANCE;
 
   /**
-   * Compare one array of values to another.
-   * @param values1 The first array of values.
-   * @param values2 The second array of values.
+   * Compare one list of values to another.
+   * @param row The row which gives the comparators of the values.
+   * @param values1 The first list of values.
+   * @param values2 The second list of values.
    * @return The result.
    * @see Comparator#compare(Object, Object)
    */
-  private static int compare(Value[] values1, Value[] values2) {
-    if (values1.length == values2.length) {
-      for (int index = 0; index < values1.length; index++) {
-        Value value1 = values1[index];
-        Value value2 = values2[index];
-        Object object1 = value1.getValue();
-        Object object2 = value2.getValue();
-        if (object1 == null && object2 != null) {
-          return 1;
-        }
-        if (object1 != null && object2 == null) {
-          return -1;
-        }
-        if (object1 instanceof Comparable && object2 instanceof Comparable) {
-          @SuppressWarnings("unchecked")
-          Comparable<Object> comparable1 = (Comparable) object1;
-          int compare = comparable1.compareTo(object2);
-          if (compare != 0) {
-            return compare;
-          }
+  private static int compare(Row row, List<Value> values1, List<Value> values2) {
+    if (values1.size() == values2.size()) {
+      for (int index = 0; index < values1.size(); index++) {
+        int compare = row.getValueComparator(index).compare(values1.get(index), values2.get(index));
+        if (compare != 0) {
+          return compare;
         }
       }
     }
@@ -67,16 +54,17 @@ public enum RowComparator implements Comparator<Row>{
   /** {@inheritDoc} */
   @Override
   public int compare(Row row1, Row row2) {
-    Value[] pksValues1 = row1.getPksValues();
-    Value[] pksValues2 = row2.getPksValues();
-    int compare = compare(pksValues1, pksValues2);
-    if (compare != 0) {
-      return compare;
+    // The primary keys values are the key of the row cached in the row
+    List<Value> pksValues1 = row1.getPksValueList();
+    List<Value> pksValues2 = row2.getPksValueList();
+    if (pksValues1.size() == pksValues2.size()) {
+      for (int index = 0; index < pksValues1.size(); index++) {
+        int compare = ValueComparator.DEFAULT.compare(pksValues1.get(index), pksValues2.get(index));
+        if (compare != 0) {
+          return compare;
+        }
+      }
     }
-    List<Value> valuesList1 = row1.getValuesList();
-    List<Value> valuesList2 = row2.getValuesList();
-    Value[] values1 = valuesList1.toArray(new Value[0]);
-    Value[] values2 = valuesList2.toArray(new Value[0]);
-    return compare(values1, values2);
+    return compare(row1, row1.getValuesList(), row2.getValuesList());
   }
 }
@@ -0,0 +1,349 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import org.assertj.db.type.Value;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.TimeZone;
+
+/**
+ * Comparator for the {@code Value}s of a same column.
+ * <p>
+ * An instance is chosen once for each column from the JDBC type of this column (see {@link #getComparator(int)}) and
+ * is then used to compare the values of the rows of the data (for example during the computation of the changes).
+ * The comparison gives the same result as {@link Values#areEqual(Value, Object)} but without the instantiation of
+ * intermediate objects (like {@link org.assertj.db.type.DateValue}) for each comparison.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 2.0.3
+ */
+public abstract class ValueComparator implements Comparator<Value> {
+
+  /**
+   * Number of milliseconds in a day.
+   */
+  private static final long MILLIS_PER_DAY = 86400000L;
+
+  /**
+   * Comparator used when the type of the column is not known : the comparison is delegated to {@link Values}.
+   */
+  public static final ValueComparator DEFAULT = new ValueComparator() {
+    @Override
+    protected boolean areEqualObjects(Object object1, Object object2) {
+      return false;
+    }
+  };
+
+  /**
+   * Returns the comparator corresponding to the JDBC type of a column.
+   * <p>
+   * The temporal comparators capture the default time zone at the moment of the call.
+   * </p>
+   *
+   * @param sqlType The JDBC type of the column (see {@link Types}).
+   * @return The comparator.
+   */
+  public static ValueComparator getComparator(int sqlType) {
+    switch (sqlType) {
+    case Types.DATE:
+      return new DateComparator(TimeZone.getDefault());
+    case Types.TIME:
+      return new TimeComparator(TimeZone.getDefault());
+    case Types.TIMESTAMP:
+      return new TimestampComparator(TimeZone.getDefault());
+    case Types.BINARY:
+    case Types.VARBINARY:
+    case Types.LONGVARBINARY:
+    case Types.BLOB:
+      return BytesComparator.INSTANCE;
+    case Types.TINYINT:
+    case Types.SMALLINT:
+    case Types.INTEGER:
+    case Types.BIGINT:
+    case Types.REAL:
+    case Types.FLOAT:
+    case Types.DOUBLE:
+    case Types.NUMERIC:
+    case Types.DECIMAL:
+      return NumberComparator.INSTANCE;
+    case Types.BIT:
+    case Types.BOOLEAN:
+    case Types.CHAR:
+    case Types.VARCHAR:
+    case Types.LONGVARCHAR:
+    case Types.NCHAR:
+    case Types.NVARCHAR:
+    case Types.LONGNVARCHAR:
+    case Types.CLOB:
+    case Types.NCLOB:
+      return EqualsComparator.INSTANCE;
+    default:
+      return DEFAULT;
+    }
+  }
+
+  /**
+   * Returns if the two values are equal.
+   * <p>
+   * Two {@code null} values are equal. If the objects in the values are not of the type expected by this comparator,
+   * the comparison is delegated to {@link Values#areEqual(Value, Object)}.
+   * </p>
+   *
+   * @param value1 The first value.
+   * @param value2 The second value.
+   * @return {@code true} if the values are equal, {@code false} otherwise.
+   */
+  public boolean areEqual(Value value1, Value value2) {
+    Object object1 = value1.getValue();
+    Object object2 = value2.getValue();
+    if (object1 == null || object2 == null) {
+      return object1 == object2;
+    }
+    return areEqualObjects(object1, object2) || (object1.getClass() != object2.getClass() || !isExpectedType(object1))
+                                                && Values.areEqual(value1, object2);
+  }
+
+  /**
+   * Returns if the object in parameter is of the type handled by this comparator.
+   *
+   * @param object The object (not {@code null}).
+   * @return {@code true} if the object is handled by {@link #areEqualObjects(Object, Object)}.
+   */
+  protected boolean isExpectedType(Object object) {
+    return false;
+  }
+
+  /**
+   * Returns if the two objects (not {@code null}) are equal.
+   * <p>
+   * A {@code false} result is only definitive if the two objects are of the same class and of the expected type.
+   * </p>
+   *
+   * @param object1 The first object.
+   * @param object2 The second object.
+   * @return {@code true} if the objects are equal.
+   */
+  protected abstract boolean areEqualObjects(Object object1, Object object2);
+
+  /**
+   * Compares two values to sort them : the {@code null} values are after the others and the values are compared
+   * with their natural order when possible.
+   *
+   * @param value1 The first value.
+   * @param value2 The second value.
+   * @return The result.
+   * @see Comparator#compare(Object, Object)
+   */
+  @Override
+  public int compare(Value value1, Value value2) {
+    Object object1 = value1.getValue();
+    Object object2 = value2.getValue();
+    if (object1 == null && object2 != null) {
+      return 1;
+    }
+    if (object1 != null && object2 == null) {
+      return -1;
+    }
+    if (object1 instanceof Comparable && object2 instanceof Comparable) {
+      @SuppressWarnings("unchecked")
+      Comparable<Object> comparable1 = (Comparable<Object>) object1;
+      return comparable1.compareTo(object2);
+    }
+    return 0;
+  }
+
+  /**
+   * Comparator for the objects with a consistent {@code equals} method (text, boolean).
+   */
+  private static final class EqualsComparator extends ValueComparator {
+
+    /**
+     * The singleton.
+     */
+    private static final EqualsComparator INSTANCE = new EqualsComparator();
+
+    @Override
+    protected boolean isExpectedType(Object object) {
+      return object instanceof String || object instanceof Boolean;
+    }
+
+    @Override
+    protected boolean areEqualObjects(Object object1, Object object2) {
+      return object1.equals(object2);
+    }
+  }
+
+  /**
+   * Comparator for the arrays of bytes.
+   */
+  private static final class BytesComparator extends ValueComparator {
+
+    /**
+     * The singleton.
+     */
+    private static final BytesComparator INSTANCE = new BytesComparator();
+
+    @Override
+    protected boolean isExpectedType(Object object) {
+      return object instanceof byte[];
+    }
+
+    @Override
+    protected boolean areEqualObjects(Object object1, Object object2) {
+      return object1 instanceof byte[] && object2 instanceof byte[]
+             && Arrays.equals((byte[]) object1, (byte[]) object2);
+    }
+  }
+
+  /**
+   * Comparator for the numbers.
+   */
+  private static final class NumberComparator extends ValueComparator {
+
+    /**
+     * The singleton.
+     */
+    private static final NumberComparator INSTANCE = new NumberComparator();
+
+    @Override
+    protected boolean isExpectedType(Object object) {
+      return object instanceof Number;
+    }
+
+    @Override
+    protected boolean areEqualObjects(Object object1, Object object2) {
+      if (object1.getClass() != object2.getClass()) {
+        return false;
+      }
+      if (object1 instanceof BigDecimal) {
+        return ((BigDecimal) object1).compareTo((BigDecimal) object2) == 0;
+      }
+      if (object1 instanceof Double) {
+        return (Double) object1 == ((Double) object2).doubleValue();
+      }
+      if (object1 instanceof Float) {
+        return (Float) object1 == ((Float) object2).floatValue();
+      }
+      return object1.equals(object2);
+    }
+  }
+
+  /**
+   * Base of the comparators for the temporal values : the fields of the values are computed in the time zone.
+   */
+  private abstract static class TemporalComparator extends ValueComparator {
+
+    /**
+     * The time zone used to compute the local fields.
+     */
+    private final TimeZone timeZone;
+
+    /**
+     * Constructor.
+     *
+     * @param timeZone The time zone used to compute the local fields.
+     */
+    TemporalComparator(TimeZone timeZone) {
+      this.timeZone = timeZone;
+    }
+
+    /**
+     * Returns the number of milliseconds since the epoch in the local time.
+     *
+     * @param date The date.
+     * @return The local milliseconds.
+     */
+    long getLocalMillis(java.util.Date date) {
+      long millis = date.getTime();
+      return millis + timeZone.getOffset(millis);
+    }
+  }
+
+  /**
+   * Comparator for the dates : equal if on the same day.
+   */
+  private static final class DateComparator extends TemporalComparator {
+
+    DateComparator(TimeZone timeZone) {
+      super(timeZone);
+    }
+
+    @Override
+    protected boolean isExpectedType(Object object) {
+      return object instanceof Date;
+    }
+
+    @Override
+    protected boolean areEqualObjects(Object object1, Object object2) {
+      return object1 instanceof Date && object2 instanceof Date
+             && Math.floorDiv(getLocalMillis((Date) object1), MILLIS_PER_DAY)
+                == Math.floorDiv(getLocalMillis((Date) object2), MILLIS_PER_DAY);
+    }
+  }
+
+  /**
+   * Comparator for the times : equal if at the same time of the day.
+   */
+  private static final class TimeComparator extends TemporalComparator {
+
+    TimeComparator(TimeZone timeZone) {
+      super(timeZone);
+    }
+
+    @Override
+    protected boolean isExpectedType(Object object) {
+      return object instanceof Time;
+    }
+
+    @Override
+    protected boolean areEqualObjects(Object object1, Object object2) {
+      return object1 instanceof Time && object2 instanceof Time
+             && Math.floorMod(getLocalMillis((Time) object1), MILLIS_PER_DAY)
+                == Math.floorMod(getLocalMillis((Time) object2), MILLIS_PER_DAY);
+    }
+  }
+
+  /**
+   * Comparator for the timestamps : equal if at the same second with the same nanoseconds.
+   */
+  private static final class TimestampComparator extends TemporalComparator {
+
+    TimestampComparator(TimeZone timeZone) {
+      super(timeZone);
+    }
+
+    @Override
+    protected boolean isExpectedType(Object object) {
+      return object instanceof Timestamp;
+    }
+
+    @Override
+    protected boolean areEqualObjects(Object object1, Object object2) {
+      if (object1 instanceof Timestamp && object2 instanceof Timestamp) {
+        Timestamp timestamp1 = (Timestamp) object1;
+        Timestamp timestamp2 = (Timestamp) object2;
+        return timestamp1.getNanos() == timestamp2.getNanos()
+               && Math.floorDiv(getLocalMillis(timestamp1), 1000L) == Math.floorDiv(getLocalMillis(timestamp2), 1000L);
+      }
+      return false;
+    }
+  }
+}
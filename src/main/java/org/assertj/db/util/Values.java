@@ -17,6 +17,7 @@ import org.assertj.db.type.*;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.sql.Date;
 import java.sql.Time;
 import java.sql.Timestamp;
@@ -24,6 +25,8 @@ import java.text.ParseException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -1200,4 +1203,191 @@ public class Values {
     }
     return false;
   }
+
+  /**
+   * Returns the key of a value : the values which are equal (even if they are read by different drivers) have equal
+   * keys and the keys of the values of a same column are comparable.
+   * <p>
+   * A number gives a {@code BigDecimal} without trailing zeros, a date or a date/time gives a {@link DateTimeValue},
+   * a time gives a {@link TimeValue}, bytes give a {@code ByteBuffer} and a text gives a {@code String}.
+   * </p>
+   *
+   * @param value The value.
+   * @return The key ({@code null} for a {@code null} value).
+   * @since 2.0.3
+   */
+  public static Object getKey(Value value) {
+    Object object = value.getValue();
+    if (object == null) {
+      return null;
+    }
+    switch (value.getValueType()) {
+    case NUMBER:
+      return getNumberKey((Number) object);
+    case DATE:
+      return DateTimeValue.of(DateValue.from((Date) object));
+    case TIME:
+      return TimeValue.from((Time) object);
+    case DATE_TIME:
+      return DateTimeValue.from((Timestamp) object);
+    case BYTES:
+      return ByteBuffer.wrap((byte[]) object);
+    case TEXT:
+      return object.toString();
+    default:
+      return object;
+    }
+  }
+
+  /**
+   * Returns the key of an expected object : a value equal to the object has the same key (see
+   * {@link #getKey(Value)}) when the object is of the kind of the value.
+   *
+   * @param expected The expected object.
+   * @return The key or {@code null} if the object has no key (then it can only be compared with
+   *         {@link #areEqual(Value, Object)}, for example a text for a number).
+   * @since 2.0.3
+   */
+  public static Object getKeyOfExpected(Object expected) {
+    if (expected instanceof Number) {
+      return getExactNumberKey((Number) expected);
+    }
+    if (expected instanceof DateValue) {
+      return DateTimeValue.of((DateValue) expected);
+    }
+    if (expected instanceof byte[]) {
+      return ByteBuffer.wrap((byte[]) expected);
+    }
+    if (expected instanceof String || expected instanceof Boolean || expected instanceof UUID
+        || expected instanceof TimeValue || expected instanceof DateTimeValue) {
+      return expected;
+    }
+    return null;
+  }
+
+  /**
+   * Returns the list of the keys of the values (see {@link #getKey(Value)}).
+   *
+   * @param values The values.
+   * @return The list of the keys.
+   * @since 2.0.3
+   */
+  public static List<Object> getKeys(List<Value> values) {
+    List<Object> keys = new ArrayList<>(values.size());
+    for (Value value : values) {
+      keys.add(getKey(value));
+    }
+    return keys;
+  }
+
+  /**
+   * Returns the list of the keys of the expected objects (see {@link #getKeyOfExpected(Object)}) to search them in a
+   * hash table with the keys of the values of the same columns as the reference values.
+   * <p>
+   * An object of an other kind than the values of its column (for example a text for a number) can be equal to a value
+   * but its key is not in the table : it has no key here.
+   * </p>
+   *
+   * @param referenceValues Values of the columns (for example the values of the first row).
+   * @param expected The expected objects.
+   * @return The list of the keys or {@code null} if one of the objects has no key.
+   * @since 2.0.3
+   */
+  public static List<Object> getKeysOfExpected(List<Value> referenceValues, Object... expected) {
+    if (referenceValues.size() != expected.length) {
+      return null;
+    }
+    List<Object> keys = new ArrayList<>(expected.length);
+    for (int index = 0; index < expected.length; index++) {
+      Object key = getKeyOfExpected(expected[index]);
+      Value referenceValue = referenceValues.get(index);
+      Object referenceKey = isFloatingPointNumber(referenceValue.getValue()) ? null : getKey(referenceValue);
+      if (key == null || referenceKey == null || key.getClass() != referenceKey.getClass()) {
+        return null;
+      }
+      keys.add(key);
+    }
+    return keys;
+  }
+
+  /**
+   * Returns if the values are equal to the expected objects (see {@link #areEqual(Value, Object)}).
+   *
+   * @param values The values.
+   * @param expected The expected objects.
+   * @return {@code true} if the values are equal to the objects one by one, {@code false} otherwise.
+   * @since 2.0.3
+   */
+  public static boolean areEqual(List<Value> values, Object[] expected) {
+    if (values.size() != expected.length) {
+      return false;
+    }
+    for (int index = 0; index < expected.length; index++) {
+      if (!areEqual(values.get(index), expected[index])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the key of a number compared with an expected number : the key is equal to the key of an other number only
+   * if {@link #areEqual(Value, Number)} compares them as equal.
+   * <p>
+   * A {@code Float} or a {@code Double} (even NaN or an infinity) has no key : {@link #areEqual(Value, Number)}
+   * compares it with the precision of the floating point numbers (for example {@code 16777217} is equal to
+   * {@code 16777216f}) and it must be compared one by one.
+   * </p>
+   *
+   * @param number The number (not {@code null}).
+   * @return The key (see {@link #getNumberKey(Number)}) or {@code null} for a floating point number.
+   * @since 2.0.3
+   */
+  public static Object getExactNumberKey(Number number) {
+    if (isFloatingPointNumber(number)) {
+      return null;
+    }
+    return getNumberKey(number);
+  }
+
+  /**
+   * Returns if an object is a floating point number ({@code Float} or {@code Double}).
+   *
+   * @param object The object.
+   * @return {@code true} if the object is a {@code Float} or a {@code Double}, {@code false} otherwise.
+   */
+  private static boolean isFloatingPointNumber(Object object) {
+    return object instanceof Float || object instanceof Double;
+  }
+
+  /**
+   * Returns the key of a number : the numbers with the same numeric value have the same key.
+   * <p>
+   * This key compares the values between them : to compare a value with an expected number, use
+   * {@link #getExactNumberKey(Number)}.
+   * </p>
+   *
+   * @param number The number (not {@code null}).
+   * @return The key (a {@code BigDecimal} without trailing zeros or the number itself for NaN and the infinities).
+   * @since 2.0.3
+   */
+  public static Object getNumberKey(Number number) {
+    BigDecimal bigDecimal;
+    if (number instanceof BigDecimal) {
+      bigDecimal = (BigDecimal) number;
+    } else if (number instanceof BigInteger) {
+      bigDecimal = new BigDecimal((BigInteger) number);
+    } else if (number instanceof Float || number instanceof Double) {
+      try {
+        // The text of the floating point number is its shortest exact representation
+        bigDecimal = new BigDecimal(number.toString());
+      } catch (NumberFormatException e) {
+        // NaN or infinity
+        return number;
+      }
+    } else {
+      bigDecimal = BigDecimal.valueOf(number.longValue());
+    }
+    return bigDecimal.signum() == 0 ? BigDecimal.ZERO : bigDecimal.stripTrailingZeros();
+  }
 }
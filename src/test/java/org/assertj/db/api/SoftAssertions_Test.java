@@ -115,4 +115,69 @@ public class SoftAssertions_Test extends AbstractTest {
       }
     }).isInstanceOf(SoftAssertionError.class);
   }
+
+  /**
+   * This method tests that the proxy classes are generated once for each assertion class.
+   */
+  @Test
+  public void test_soft_assert_proxy_classes_are_reused() {
+    Table table = new Table(source, "test");
+    SoftAssertions softly = new SoftAssertions();
+    SoftAssertions otherSoftly = new SoftAssertions();
+
+    assertThat(softly.assertThat(table).getClass()).isSameAs(otherSoftly.assertThat(table).getClass());
+    assertThat(softly.assertThat(table).column(0).getClass())
+        .isSameAs(softly.assertThat(table).column(1).getClass())
+        .isSameAs(otherSoftly.assertThat(table).column(2).getClass());
+    assertThat(softly.assertThat(table).column(0).value(0).getClass())
+        .isSameAs(otherSoftly.assertThat(table).column(1).value(1).getClass());
+
+    // Each proxy keeps the errors in the collector of its soft assertions
+    otherSoftly.assertThat(table).column(0).value(0).isEqualTo(-1);
+    assertThat(softly.errorsCollected()).isEmpty();
+    assertThat(otherSoftly.errorsCollected()).hasSize(1);
+  }
+
+  /**
+   * This method tests that the proxy classes generated at build time are used.
+   */
+  @Test
+  public void test_soft_assert_proxy_classes_are_generated_at_build_time() {
+    SoftAssertions softly = new SoftAssertions();
+
+    assertThat(softly.assertThat(new Table(source, "test")).column(0).value(0).getClass())
+        .isEqualTo(TableColumnValueAssert_SoftProxy.class);
+    assertThat(softly.assertThat(new Request(source, "select * from test")).row(0).getClass())
+        .isEqualTo(RequestRowAssert_SoftProxy.class);
+    assertThat(softly.assertThat(new Changes(source)).getClass()).isEqualTo(ChangesAssert_SoftProxy.class);
+  }
+
+  /**
+   * This method tests that there is no proxy for an assertion class without proxy generated at build time.
+   */
+  @Test
+  public void test_soft_assert_without_proxy_class_generated_at_build_time() {
+    SoftProxies proxies = new SoftProxies();
+
+    assertThatThrownBy(() -> proxies.create(AbstractDbAssert.class, Table.class, new Table(source, "test")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("There is no soft-assertion proxy of org.assertj.db.api.AbstractDbAssert with the parameters "
+                    + "[class org.assertj.db.type.Table]");
+  }
+
+  /**
+   * This method tests that the failures of the assertions on all the rows verified in parallel are collected.
+   */
+  @Test
+  public void test_soft_assert_all_rows_in_parallel() {
+    SoftAssertions softly = new SoftAssertions();
+
+    softly.assertThat(new Table(source, "movie")).inParallel()
+          .allRowsSatisfy(row -> row.getColumnValue("title").getValue() != null)
+          .allRowsSatisfy(row -> ((Number) row.getColumnValue("year").getValue()).intValue() < 2000)
+          .allColumnsSatisfy(column -> column.getName().length() > 5);
+    assertThat(softly.errorsCollected()).hasSize(2);
+    assertThat(softly.errorsCollected().get(0)).hasMessageContaining("2 of them do not (index) :");
+    assertThat(softly.errorsCollected().get(1)).hasMessageContaining("3 of them do not (index) :");
+  }
 }
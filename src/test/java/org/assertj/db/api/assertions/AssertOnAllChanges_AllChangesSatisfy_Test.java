@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.ChangesAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.type.ChangeType;
+import org.assertj.db.type.Changes;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link org.assertj.db.api.assertions.AssertOnAllChanges} class :
+ * {@link org.assertj.db.api.assertions.AssertOnAllChanges#allChangesSatisfy(java.util.function.Predicate)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertOnAllChanges_AllChangesSatisfy_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code allChangesSatisfy} assertion method.
+   */
+  @Test
+  @NeedReload
+  public void test_all_changes_satisfy() {
+    Table table = new Table(source, "actor");
+    Changes changes = new Changes(table).setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+
+    ChangesAssert changesAssert = assertThat(changes);
+    ChangesAssert changesAssert2 = changesAssert.allChangesSatisfy(
+        change -> "ACTOR".equalsIgnoreCase(change.getDataName()));
+    Assertions.assertThat(changesAssert).isSameAs(changesAssert2);
+  }
+
+  /**
+   * This method should fail because some changes of a type do not satisfy the predicate when verified in parallel
+   * (the executor is the one of the origin).
+   */
+  @Test
+  @NeedReload
+  public void should_fail_because_changes_do_not_satisfy_the_predicate_in_parallel() {
+    Changes changes = new Changes(source).setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+
+    try {
+      assertThat(changes).inParallel().ofCreation()
+                         .allChangesSatisfy(change -> "ACTOR".equalsIgnoreCase(change.getDataName()));
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[Changes on tables of 'sa/jdbc:h2:mem:test' source (only creation changes)] %n"
+                                                                    + "Expecting all the changes to satisfy the predicate but 2 of them do not (index) :%n"
+                                                                    + "   <[1, 2]>"));
+    }
+  }
+
+  /**
+   * This method should fail because some changes do not satisfy the predicate.
+   */
+  @Test
+  @NeedReload
+  public void should_fail_because_changes_do_not_satisfy_the_predicate() {
+    Table table = new Table(source, "actor");
+    Changes changes = new Changes(table).setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+
+    try {
+      assertThat(changes).allChangesSatisfy(change -> change.getChangeType() == ChangeType.MODIFICATION);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[Changes on ACTOR table of 'sa/jdbc:h2:mem:test' source] %n"
+                                                                    + "Expecting all the changes to satisfy the predicate but 2 of them do not (index) :%n"
+                                                                    + "   <[0, 2]>"));
+    }
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.TableAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link org.assertj.db.api.assertions.AssertOnAllColumns} class :
+ * {@link org.assertj.db.api.assertions.AssertOnAllColumns#allColumnsSatisfy(java.util.function.Predicate)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertOnAllColumns_AllColumnsSatisfy_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code allColumnsSatisfy} assertion method.
+   */
+  @Test
+  public void test_all_columns_satisfy() {
+    Table table = new Table(source, "movie");
+    TableAssert tableAssert = assertThat(table);
+    TableAssert tableAssert2 = tableAssert.allColumnsSatisfy(column -> column.getValuesList().size() == 3);
+    Assertions.assertThat(tableAssert).isSameAs(tableAssert2);
+  }
+
+  /**
+   * This method tests the {@code allColumnsSatisfy} assertion method in parallel.
+   */
+  @Test
+  public void test_all_columns_satisfy_in_parallel() {
+    Table table = new Table(source, "movie");
+    TableAssert tableAssert = assertThat(table).inParallel();
+    TableAssert tableAssert2 = tableAssert.allColumnsSatisfy(column -> column.getValuesList().size() == 3);
+    Assertions.assertThat(tableAssert).isSameAs(tableAssert2);
+  }
+
+  /**
+   * This method tests that the data are loaded in the calling thread before the columns are verified in parallel.
+   */
+  @Test
+  public void test_all_columns_satisfy_in_parallel_loads_the_data_before() throws Exception {
+    Field fieldRows = Table.class.getSuperclass().getDeclaredField("rowsList");
+    fieldRows.setAccessible(true);
+    Table table = new Table(source, "movie");
+    ExecutorService executor = new AbstractExecutorService() {
+      @Override
+      public void execute(Runnable command) {
+        try {
+          Assertions.assertThat(fieldRows.get(table)).isNotNull();
+        } catch (IllegalAccessException e) {
+          throw new IllegalStateException(e);
+        }
+        ForkJoinPool.commonPool().execute(command);
+      }
+
+      @Override
+      public void shutdown() {
+      }
+
+      @Override
+      public List<Runnable> shutdownNow() {
+        return Collections.emptyList();
+      }
+
+      @Override
+      public boolean isShutdown() {
+        return false;
+      }
+
+      @Override
+      public boolean isTerminated() {
+        return false;
+      }
+
+      @Override
+      public boolean awaitTermination(long timeout, TimeUnit unit) {
+        return true;
+      }
+    };
+    assertThat(table).inParallel(executor).allColumnsSatisfy(column -> column.getValuesList().size() == 3);
+  }
+
+  /**
+   * This method should fail because some columns do not satisfy the predicate.
+   */
+  @Test
+  public void should_fail_because_columns_do_not_satisfy_the_predicate() {
+    Table table = new Table(source, "movie");
+    try {
+      assertThat(table).inParallel().allColumnsSatisfy(column -> column.getName().contains("I"));
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[MOVIE table] %n"
+                                                                    + "Expecting all the columns to satisfy the predicate but 1 of them do not (index) :%n"
+                                                                    + "   <[2]>"));
+    }
+  }
+
+  /**
+   * This method should fail because the predicate is {@code null}.
+   */
+  @Test
+  public void should_fail_because_predicate_is_null() {
+    Table table = new Table(source, "movie");
+    try {
+      assertThat(table).allColumnsSatisfy(null);
+      fail("An exception must be raised");
+    } catch (NullPointerException e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo("Predicate must be not null");
+    }
+  }
+}
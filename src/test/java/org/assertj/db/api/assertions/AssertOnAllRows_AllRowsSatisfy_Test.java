@@ -0,0 +1,129 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.RequestAssert;
+import org.assertj.db.api.TableAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.Request;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link org.assertj.db.api.assertions.AssertOnAllRows} class :
+ * {@link org.assertj.db.api.assertions.AssertOnAllRows#allRowsSatisfy(java.util.function.Predicate)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertOnAllRows_AllRowsSatisfy_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code allRowsSatisfy} assertion method.
+   */
+  @Test
+  public void test_all_rows_satisfy() {
+    Table table = new Table(source, "movie");
+    TableAssert tableAssert = assertThat(table);
+    TableAssert tableAssert2 = tableAssert.allRowsSatisfy(
+        row -> ((Number) row.getColumnValue("year").getValue()).intValue() > 1970);
+    Assertions.assertThat(tableAssert).isSameAs(tableAssert2);
+  }
+
+  /**
+   * This method should fail because some rows do not satisfy the predicate.
+   */
+  @Test
+  public void should_fail_because_rows_do_not_satisfy_the_predicate() {
+    Table table = new Table(source, "movie");
+    try {
+      assertThat(table).allRowsSatisfy(row -> ((Number) row.getColumnValue("year").getValue()).intValue() < 2000);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[MOVIE table] %n"
+                                                                    + "Expecting all the rows to satisfy the predicate but 2 of them do not (index) :%n"
+                                                                    + "   <[1, 2]>"));
+    }
+  }
+
+  /**
+   * This method tests the {@code allRowsSatisfy} assertion method in parallel.
+   */
+  @Test
+  public void test_all_rows_satisfy_in_parallel() {
+    Request request = new Request(source, "select x from system_range(1, 10000)");
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      RequestAssert requestAssert = assertThat(request).inParallel(executor);
+      RequestAssert requestAssert2 = requestAssert.allRowsSatisfy(
+          row -> ((Number) row.getColumnValue(0).getValue()).intValue() > 0);
+      Assertions.assertThat(requestAssert).isSameAs(requestAssert2);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * This method should fail because some rows do not satisfy the predicate when verified in parallel : the failures
+   * are in the order of the rows.
+   */
+  @Test
+  public void should_fail_because_rows_do_not_satisfy_the_predicate_in_parallel() {
+    Request request = new Request(source, "select x from system_range(1, 10000)");
+    try {
+      assertThat(request).inParallel()
+                         .allRowsSatisfy(row -> ((Number) row.getColumnValue(0).getValue()).intValue() % 500 != 0);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("['select x from system_range(1, ...' request] %n"
+                                                                    + "Expecting all the rows to satisfy the predicate but 20 of them do not (index) :%n"
+                                                                    + "   <[499, 999, 1499, 1999, 2499, 2999, 3499, 3999, 4499, 4999]>%n"
+                                                                    + "(and other ones)"));
+    }
+  }
+
+  /**
+   * This method should fail because the executor is {@code null}.
+   */
+  @Test
+  public void should_fail_because_executor_is_null() {
+    Table table = new Table(source, "movie");
+    try {
+      assertThat(table).inParallel(null);
+      fail("An exception must be raised");
+    } catch (NullPointerException e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo("Executor must be not null");
+    }
+  }
+
+  /**
+   * This method should fail because the predicate is {@code null}.
+   */
+  @Test
+  public void should_fail_because_predicate_is_null() {
+    Table table = new Table(source, "movie");
+    try {
+      assertThat(table).allRowsSatisfy(null);
+      fail("An exception must be raised");
+    } catch (NullPointerException e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo("Predicate must be not null");
+    }
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.RequestAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.Request;
+import org.junit.Test;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link org.assertj.db.api.assertions.AssertOnAllRows} class :
+ * {@link org.assertj.db.api.assertions.AssertOnAllRows#forEachRow(java.util.function.Consumer)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertOnAllRows_ForEachRow_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code forEachRow} assertion method.
+   */
+  @Test
+  public void test_for_each_row() {
+    Request request = new Request(source, "select * from movie");
+    RequestAssert requestAssert = assertThat(request);
+    RequestAssert requestAssert2 = requestAssert.forEachRow(
+        row -> Assertions.assertThat(row.getColumnValue("title").getValue()).isNotNull());
+    Assertions.assertThat(requestAssert).isSameAs(requestAssert2);
+  }
+
+  /**
+   * This method should fail because some rows do not satisfy the requirements.
+   */
+  @Test
+  public void should_fail_because_rows_do_not_satisfy_the_requirements() {
+    Request request = new Request(source, "select * from movie");
+    try {
+      assertThat(request).forEachRow(
+          row -> Assertions.assertThat((String) row.getColumnValue("title").getValue()).startsWith("A"));
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("['select * from movie' request] %n"
+                                                                    + "Expecting all the rows to satisfy the requirements but 1 of them do not (index : error) :%n"
+                                                                    + "   1 : Expecting:%n"
+                                                                    + " <\"The Village\">%n"
+                                                                    + "to start with:%n"
+                                                                    + " <\"A\">"));
+    }
+  }
+
+  /**
+   * This method should fail because the requirements are {@code null}.
+   */
+  @Test
+  public void should_fail_because_requirements_are_null() {
+    Request request = new Request(source, "select * from movie");
+    try {
+      assertThat(request).forEachRow(null);
+      fail("An exception must be raised");
+    } catch (NullPointerException e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo("Requirements must be not null");
+    }
+  }
+}
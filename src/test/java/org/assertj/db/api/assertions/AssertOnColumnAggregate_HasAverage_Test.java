@@ -0,0 +1,109 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.TableColumnAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link AssertOnColumnAggregate} class :
+ * {@link org.assertj.db.api.assertions.AssertOnColumnAggregate#hasAverage(Number)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertOnColumnAggregate_HasAverage_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code hasAverage} assertion method.
+   */
+  @Test
+  public void test_has_average() {
+    Table table = new Table(source, "interpretation");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("id_movie");
+    TableColumnAssert tableColumnAssert2 = tableColumnAssert.hasAverage(2.2);
+    Assertions.assertThat(tableColumnAssert).isSameAs(tableColumnAssert2);
+
+    assertThat(new Table(source, "test")).column("var1").hasAverage(277.75);
+  }
+
+  /**
+   * This method tests the {@code hasAverage} assertion method with a tolerance.
+   */
+  @Test
+  public void test_has_average_with_tolerance() {
+    Table table = new Table(source, "movie");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("year");
+    TableColumnAssert tableColumnAssert2 = tableColumnAssert.hasAverage(1997.33, 0.01);
+    Assertions.assertThat(tableColumnAssert).isSameAs(tableColumnAssert2);
+
+    Table table2 = new Table(source, "movie");
+    table2.getRowsList();
+    assertThat(table2).column("year").hasAverage(1997.3333, 0.0001);
+  }
+
+  /**
+   * This method tests the {@code hasAverage} assertion method with the average computed from the loaded values.
+   */
+  @Test
+  public void test_has_average_with_values_loaded() {
+    Table table = new Table(source, "interpretation");
+    table.getRowsList();
+    assertThat(table).column("id_movie").hasAverage(2.2);
+  }
+
+  /**
+   * This method should fail because the average is different.
+   */
+  @Test
+  public void should_fail_because_average_is_different() {
+    Table table = new Table(source, "interpretation");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("id_movie");
+    try {
+      tableColumnAssert.hasAverage(2);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[Column at index 1 (column name : ID_MOVIE) of INTERPRETATION table] %n"
+                                                                    + "Expecting average of the values to be equal to :%n"
+                                                                    + "   <2>%n"
+                                                                    + "but was:%n"
+                                                                    + "   <2.2>"));
+    }
+  }
+
+  /**
+   * This method should fail because the average is not close enough.
+   */
+  @Test
+  public void should_fail_because_average_is_not_close() {
+    Table table = new Table(source, "interpretation");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("id_movie");
+    try {
+      tableColumnAssert.hasAverage(2, 0.1);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[Column at index 1 (column name : ID_MOVIE) of INTERPRETATION table] %n"
+                                                                    + "Expecting average of the values to be close to :%n"
+                                                                    + "   <2>%n"
+                                                                    + " with tolerance <0.1>%n"
+                                                                    + "but was:%n"
+                                                                    + "   <2.2>"));
+    }
+  }
+}
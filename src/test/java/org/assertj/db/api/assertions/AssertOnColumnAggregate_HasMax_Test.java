@@ -0,0 +1,80 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.TableColumnAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.DateValue;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link AssertOnColumnAggregate} class :
+ * {@link org.assertj.db.api.assertions.AssertOnColumnAggregate#hasMax(Object)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertOnColumnAggregate_HasMax_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code hasMax} assertion method.
+   */
+  @Test
+  public void test_has_max() {
+    Table table = new Table(source, "movie");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("year");
+    TableColumnAssert tableColumnAssert2 = tableColumnAssert.hasMax(2009);
+    Assertions.assertThat(tableColumnAssert).isSameAs(tableColumnAssert2);
+
+    assertThat(new Table(source, "actor")).column("birth").hasMax(DateValue.of(1976, 8, 2))
+                                          .column("birth").hasMax("1976-08-02");
+  }
+
+  /**
+   * This method tests the {@code hasMax} assertion method with the maximum computed from the loaded values.
+   */
+  @Test
+  public void test_has_max_with_values_loaded() {
+    Table table = new Table(source, "movie");
+    table.getRowsList();
+    assertThat(table).column("year").hasMax(2009);
+
+    Table table2 = new Table(source, "actor");
+    table2.getRowsList();
+    assertThat(table2).column("birth").hasMax(DateValue.of(1976, 8, 2));
+  }
+
+  /**
+   * This method should fail because the maximum is different.
+   */
+  @Test
+  public void should_fail_because_max_is_different() {
+    Table table = new Table(source, "movie");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("year");
+    try {
+      tableColumnAssert.hasMax(2010);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[Column at index 2 (column name : YEAR) of MOVIE table] %n"
+                                                                    + "Expecting maximum of the values to be equal to :%n"
+                                                                    + "   <2010>%n"
+                                                                    + "but was:%n"
+                                                                    + "   <2009>"));
+    }
+  }
+}
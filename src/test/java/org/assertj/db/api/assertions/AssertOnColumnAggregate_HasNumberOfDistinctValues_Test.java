@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.TableColumnAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link AssertOnColumnAggregate} class :
+ * {@link org.assertj.db.api.assertions.AssertOnColumnAggregate#hasNumberOfDistinctValues(int)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertOnColumnAggregate_HasNumberOfDistinctValues_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code hasNumberOfDistinctValues} assertion method.
+   */
+  @Test
+  public void test_has_number_of_distinct_values() {
+    Table table = new Table(source, "test");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("var14");
+    TableColumnAssert tableColumnAssert2 = tableColumnAssert.hasNumberOfDistinctValues(3);
+    Assertions.assertThat(tableColumnAssert).isSameAs(tableColumnAssert2);
+
+    assertThat(new Table(source, "interpretation")).column("id_actor").hasNumberOfDistinctValues(3);
+    assertThat(new Table(source, "test2")).column("var1").hasNumberOfDistinctValues(1);
+  }
+
+  /**
+   * This method tests the {@code hasNumberOfDistinctValues} assertion method with the values loaded.
+   */
+  @Test
+  public void test_has_number_of_distinct_values_with_values_loaded() {
+    Table table = new Table(source, "test");
+    table.getRowsList();
+    assertThat(table).column("var14").hasNumberOfDistinctValues(3)
+                     .column("var8").hasNumberOfDistinctValues(2)
+                     .column("var10").hasNumberOfDistinctValues(3);
+
+    Table table2 = new Table(source, "test2");
+    table2.getRowsList();
+    assertThat(table2).column("var1").hasNumberOfDistinctValues(1);
+  }
+
+  /**
+   * This method should fail because the number of distinct values is different.
+   */
+  @Test
+  public void should_fail_because_number_of_distinct_values_is_different() {
+    Table table = new Table(source, "test");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("var14");
+    try {
+      tableColumnAssert.hasNumberOfDistinctValues(4);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[Column at index 13 (column name : VAR14) of TEST table] %n"
+                                                                    + "Expecting number of distinct values to be equal to :%n"
+                                                                    + "   <4>%n"
+                                                                    + "but was:%n"
+                                                                    + "   <3>"));
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.TableColumnAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link AssertOnColumnAggregate} class :
+ * {@link org.assertj.db.api.assertions.AssertOnColumnAggregate#hasNumberOfNullValues(int)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertOnColumnAggregate_HasNumberOfNullValues_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code hasNumberOfNullValues} assertion method.
+   */
+  @Test
+  public void test_has_number_of_null_values() {
+    Table table = new Table(source, "test2");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("var1");
+    TableColumnAssert tableColumnAssert2 = tableColumnAssert.hasNumberOfNullValues(1);
+    Assertions.assertThat(tableColumnAssert).isSameAs(tableColumnAssert2);
+
+    assertThat(table).column("var15").hasNumberOfNullValues(2);
+    assertThat(new Table(source, "movie")).column("title").hasNumberOfNullValues(0);
+  }
+
+  /**
+   * This method tests the {@code hasNumberOfNullValues} assertion method with the values loaded.
+   */
+  @Test
+  public void test_has_number_of_null_values_with_values_loaded() {
+    Table table = new Table(source, "test2");
+    table.getRowsList();
+    assertThat(table).column("var1").hasNumberOfNullValues(1)
+                     .column("var15").hasNumberOfNullValues(2);
+  }
+
+  /**
+   * This method should fail because the number of null values is different.
+   */
+  @Test
+  public void should_fail_because_number_of_null_values_is_different() {
+    Table table = new Table(source, "test2");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("var1");
+    try {
+      tableColumnAssert.hasNumberOfNullValues(0);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[Column at index 0 (column name : VAR1) of TEST2 table] %n"
+                                                                    + "Expecting number of null values to be equal to :%n"
+                                                                    + "   <0>%n"
+                                                                    + "but was:%n"
+                                                                    + "   <1>"));
+    }
+  }
+}
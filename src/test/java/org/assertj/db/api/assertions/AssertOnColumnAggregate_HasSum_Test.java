@@ -0,0 +1,121 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.TableColumnAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.AbstractDbData;
+import org.assertj.db.type.Request;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link AssertOnColumnAggregate} class :
+ * {@link org.assertj.db.api.assertions.AssertOnColumnAggregate#hasSum(Number)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertOnColumnAggregate_HasSum_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code hasSum} assertion method with the sum computed by the database.
+   */
+  @Test
+  public void test_has_sum() {
+    Table table = new Table(source, "movie");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("year");
+    TableColumnAssert tableColumnAssert2 = tableColumnAssert.hasSum(5992);
+    Assertions.assertThat(tableColumnAssert).isSameAs(tableColumnAssert2);
+
+    assertThat(new Table(source, "test")).column("var6").hasSum(556.8);
+    assertThat(new Table(source, "test2")).column("var1").hasSum(1L);
+  }
+
+  /**
+   * This method tests the {@code hasSum} assertion method with the sum computed from the loaded values.
+   */
+  @Test
+  public void test_has_sum_with_values_loaded() {
+    Table table = new Table(source, "movie");
+    table.getRowsList();
+    assertThat(table).column("year").hasSum(5992);
+
+    Table table2 = new Table(source, "test");
+    table2.getRowsList();
+    assertThat(table2).column("var6").hasSum(556.8);
+  }
+
+  /**
+   * This method tests the {@code hasSum} assertion method on a column of a request with the sum computed by the
+   * database (the label of the column is quoted).
+   */
+  @Test
+  public void test_has_sum_on_request() throws Exception {
+    Field field = AbstractDbData.class.getDeclaredField("rowsList");
+    field.setAccessible(true);
+    Request request = new Request(source, "select title, year as \"the year\" from movie");
+    assertThat(request).column("the year").hasSum(5992);
+    Assertions.assertThat(field.get(request)).isNull();
+  }
+
+  /**
+   * This method tests the {@code hasSum} assertion method on a column without not null value.
+   */
+  @Test
+  public void test_has_sum_without_value() {
+    assertThat(new Table(source, "test2").setColumnsToCheck(new String[] { "var15" })).column("var15").hasSum(null);
+  }
+
+  /**
+   * This method should fail because the sum is different.
+   */
+  @Test
+  public void should_fail_because_sum_is_different() {
+    Table table = new Table(source, "movie");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("year");
+    try {
+      tableColumnAssert.hasSum(6000);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[Column at index 2 (column name : YEAR) of MOVIE table] %n"
+                                                                    + "Expecting sum of the values to be equal to :%n"
+                                                                    + "   <6000>%n"
+                                                                    + "but was:%n"
+                                                                    + "   <5992>"));
+    }
+  }
+
+  /**
+   * This method should fail because the values are not numbers.
+   */
+  @Test
+  public void should_fail_because_values_are_not_numbers() {
+    Table table = new Table(source, "movie");
+    table.getRowsList();
+    TableColumnAssert tableColumnAssert = assertThat(table).column("title");
+    try {
+      tableColumnAssert.hasSum(0);
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      Assertions.assertThat(e.getMessage()).isNotNull();
+    }
+  }
+}
@@ -15,9 +15,12 @@ package org.assertj.db.api.assertions;
 import org.assertj.core.api.Assertions;
 import org.assertj.db.api.TableColumnAssert;
 import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.AbstractDbData;
 import org.assertj.db.type.Table;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
+
 import static org.assertj.db.api.Assertions.assertThat;
 import static org.junit.Assert.fail;
 
@@ -57,4 +60,16 @@ public class AssertOnColumnNullity_HasOnlyNotNullValues_Test extends AbstractTes
                                                       + "but contains null at index: 1"));
     }
   }
+
+  /**
+   * This method tests that the {@code hasOnlyNotNullValues} assertion method counts the values without loading them.
+   */
+  @Test
+  public void test_has_only_not_null_values_without_loading() throws Exception {
+    Field field = AbstractDbData.class.getDeclaredField("rowsList");
+    field.setAccessible(true);
+    Table table = new Table(source, "test");
+    assertThat(table).column("var14").hasOnlyNotNullValues();
+    Assertions.assertThat(field.get(table)).isNull();
+  }
 }
@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.TableColumnAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link AssertOnColumnRange} class :
+ * {@link org.assertj.db.api.assertions.AssertOnColumnRange#hasNonDecreasingValues()} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertOnColumnRange_HasNonDecreasingValues_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code hasNonDecreasingValues} assertion method.
+   */
+  @Test
+  public void test_has_non_decreasing_values() {
+    Table table = new Table(source, "test");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("var8");
+    TableColumnAssert tableColumnAssert2 = tableColumnAssert.hasNonDecreasingValues();
+    Assertions.assertThat(tableColumnAssert).isSameAs(tableColumnAssert2);
+
+    assertThat(table).column("var1").hasNonDecreasingValues()
+                     .column("var9").hasNonDecreasingValues();
+  }
+
+  /**
+   * This method tests that the error message contains the first offending values only.
+   */
+  @Test
+  @NeedReload
+  public void should_fail_with_the_first_offending_values() {
+    for (int id = 4; id <= 20; id++) {
+      update("insert into movie values(" + id + ", 'Movie " + id + "', " + (2000 - id) + ", null)");
+    }
+    Table table = new Table(source, "movie");
+    try {
+      assertThat(table).column("year").hasNonDecreasingValues();
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[Column at index 2 (column name : YEAR) of MOVIE table] %n"
+                                                                    + "Expecting the values to be non-decreasing%n"
+                                                                    + "but the values at these indexes are not (index=value) :%n"
+                                                                    + "   <{3=1996, 4=1995, 5=1994, 6=1993, 7=1992, 8=1991, 9=1990, 10=1989, 11=1988, 12=1987}>%n"
+                                                                    + "(and other ones)"));
+    }
+  }
+
+  /**
+   * This method should fail because values are decreasing.
+   */
+  @Test
+  public void should_fail_because_values_are_decreasing() {
+    Table table = new Table(source, "test");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("var10");
+    try {
+      tableColumnAssert.hasNonDecreasingValues();
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[Column at index 9 (column name : VAR10) of TEST table] %n"
+                                                                    + "Expecting the values to be non-decreasing%n"
+                                                                    + "but the values at these indexes are not (index=value) :%n"
+                                                                    + "   <{2=2014-05-30T00:00:00.000000000}>"));
+    }
+  }
+}
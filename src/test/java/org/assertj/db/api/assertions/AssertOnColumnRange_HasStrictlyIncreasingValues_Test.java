@@ -0,0 +1,100 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.TableColumnAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link AssertOnColumnRange} class :
+ * {@link org.assertj.db.api.assertions.AssertOnColumnRange#hasStrictlyIncreasingValues()} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertOnColumnRange_HasStrictlyIncreasingValues_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code hasStrictlyIncreasingValues} assertion method.
+   */
+  @Test
+  public void test_has_strictly_increasing_values() {
+    Table table = new Table(source, "test");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("var1");
+    TableColumnAssert tableColumnAssert2 = tableColumnAssert.hasStrictlyIncreasingValues();
+    Assertions.assertThat(tableColumnAssert).isSameAs(tableColumnAssert2);
+
+    assertThat(new Table(source, "movie")).column("year").hasStrictlyIncreasingValues();
+    assertThat(new Table(source, "actor")).column("birth").hasStrictlyIncreasingValues();
+  }
+
+  /**
+   * This method should fail because values are equal.
+   */
+  @Test
+  public void should_fail_because_values_are_equal() {
+    Table table = new Table(source, "test");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("var8");
+    try {
+      tableColumnAssert.hasStrictlyIncreasingValues();
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[Column at index 7 (column name : VAR8) of TEST table] %n"
+                                                                    + "Expecting the values to be strictly increasing%n"
+                                                                    + "but the values at these indexes are not (index=value) :%n"
+                                                                    + "   <{2=12:29:49.000000000, 3=12:29:49.000000000}>"));
+    }
+  }
+
+  /**
+   * This method should fail because values are decreasing.
+   */
+  @Test
+  public void should_fail_because_values_are_decreasing() {
+    Table table = new Table(source, "test");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("var6");
+    try {
+      tableColumnAssert.hasStrictlyIncreasingValues();
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[Column at index 5 (column name : VAR6) of TEST table] %n"
+                                                                    + "Expecting the values to be strictly increasing%n"
+                                                                    + "but the values at these indexes are not (index=value) :%n"
+                                                                    + "   <{3=0.00}>"));
+    }
+  }
+
+  /**
+   * This method should fail because a value is null.
+   */
+  @Test
+  public void should_fail_because_value_is_null() {
+    Table table = new Table(source, "test2");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("var1");
+    try {
+      tableColumnAssert.hasStrictlyIncreasingValues();
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[Column at index 0 (column name : VAR1) of TEST2 table] %n"
+                                                                    + "Expecting the values to be strictly increasing%n"
+                                                                    + "but the values at these indexes are not (index=value) :%n"
+                                                                    + "   <{1=null}>"));
+    }
+  }
+}
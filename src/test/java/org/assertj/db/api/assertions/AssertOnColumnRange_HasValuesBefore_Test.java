@@ -0,0 +1,72 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.TableColumnAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.DateTimeValue;
+import org.assertj.db.type.DateValue;
+import org.assertj.db.type.Table;
+import org.assertj.db.type.TimeValue;
+import org.junit.Test;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link AssertOnColumnRange} class :
+ * {@link org.assertj.db.api.assertions.AssertOnColumnRange#hasValuesBefore(DateValue)} method,
+ * {@link org.assertj.db.api.assertions.AssertOnColumnRange#hasValuesBefore(TimeValue)} method and
+ * {@link org.assertj.db.api.assertions.AssertOnColumnRange#hasValuesBefore(DateTimeValue)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertOnColumnRange_HasValuesBefore_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code hasValuesBefore} assertion method.
+   */
+  @Test
+  public void test_has_values_before() {
+    Table table = new Table(source, "test");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("var9");
+    TableColumnAssert tableColumnAssert2 = tableColumnAssert.hasValuesBefore(DateValue.of(2014, 5, 31));
+    Assertions.assertThat(tableColumnAssert).isSameAs(tableColumnAssert2);
+
+    assertThat(table).column("var8").hasValuesBefore(TimeValue.of(12, 29, 50))
+                     .column("var10").hasValuesBefore(DateTimeValue.of(DateValue.of(2014, 5, 30), TimeValue.of(12, 29, 50)))
+                     .column("var10").hasValuesBefore(DateValue.of(2014, 5, 31));
+    assertThat(new Table(source, "actor")).column("birth").hasValuesBefore(DateValue.of(1980, 1, 1));
+  }
+
+  /**
+   * This method should fail because values are not before the bound.
+   */
+  @Test
+  public void should_fail_because_values_are_not_before() {
+    Table table = new Table(source, "test");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("var9");
+    try {
+      tableColumnAssert.hasValuesBefore(DateValue.of(2014, 5, 30));
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[Column at index 8 (column name : VAR9) of TEST table] %n"
+                                                                    + "Expecting all the values to be before :%n"
+                                                                    + "   <2014-05-30>%n"
+                                                                    + "but the values at these indexes are not (index=value) :%n"
+                                                                    + "   <{1=2014-05-30, 2=2014-05-30, 3=2014-05-30}>"));
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.TableColumnAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.DateTimeValue;
+import org.assertj.db.type.DateValue;
+import org.assertj.db.type.Table;
+import org.assertj.db.type.TimeValue;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import org.junit.Test;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link AssertOnColumnRange} class :
+ * {@link org.assertj.db.api.assertions.AssertOnColumnRange#hasValuesBetween(Number, Number)} method,
+ * {@link org.assertj.db.api.assertions.AssertOnColumnRange#hasValuesBetween(DateValue, DateValue)} method,
+ * {@link org.assertj.db.api.assertions.AssertOnColumnRange#hasValuesBetween(TimeValue, TimeValue)} method and
+ * {@link org.assertj.db.api.assertions.AssertOnColumnRange#hasValuesBetween(DateTimeValue, DateTimeValue)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertOnColumnRange_HasValuesBetween_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code hasValuesBetween} assertion method.
+   */
+  @Test
+  public void test_has_values_between() {
+    Table table = new Table(source, "test");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("var1");
+    TableColumnAssert tableColumnAssert2 = tableColumnAssert.hasValuesBetween(1, 1000);
+    Assertions.assertThat(tableColumnAssert).isSameAs(tableColumnAssert2);
+
+    assertThat(table).column("var1").hasValuesBetween(0.5, 1000.5)
+                     .column("var1").hasValuesBetween(new BigDecimal("1"), new BigInteger("1000"))
+                     .column("var6").hasValuesBetween(0, 500.6)
+                     .column("var7").hasValuesBetween(0, 701)
+                     .column("var6").hasValuesBetween(new BigDecimal("0"), new BigDecimal("500.6"))
+                     .column("var8").hasValuesBetween(TimeValue.of(9, 46, 30), TimeValue.of(12, 29, 49))
+                     .column("var9").hasValuesBetween(DateValue.of(2014, 5, 24), DateValue.of(2014, 5, 30))
+                     .column("var10").hasValuesBetween(DateTimeValue.of(DateValue.of(2014, 5, 24), TimeValue.of(9, 46, 30)),
+                                                       DateTimeValue.of(DateValue.of(2014, 5, 30), TimeValue.of(12, 29, 49)))
+                     .column("var10").hasValuesBetween(DateValue.of(2014, 5, 24), DateValue.of(2014, 5, 31));
+  }
+
+  /**
+   * This method should fail because values are not between the bounds.
+   */
+  @Test
+  public void should_fail_because_values_are_not_between() {
+    Table table = new Table(source, "test");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("var1");
+    try {
+      tableColumnAssert.hasValuesBetween(5, 100);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[Column at index 0 (column name : VAR1) of TEST table] %n"
+                                                                    + "Expecting all the values to be between :%n"
+                                                                    + "   <5> and <100>%n"
+                                                                    + "but the values at these indexes are not (index=value) :%n"
+                                                                    + "   <{0=1, 3=1000}>"));
+    }
+  }
+
+  /**
+   * This method should fail because dates are not between the bounds.
+   */
+  @Test
+  public void should_fail_because_dates_are_not_between() {
+    Table table = new Table(source, "test");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("var9");
+    try {
+      tableColumnAssert.hasValuesBetween(DateValue.of(2014, 5, 25), DateValue.of(2014, 5, 31));
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[Column at index 8 (column name : VAR9) of TEST table] %n"
+                                                                    + "Expecting all the values to be between :%n"
+                                                                    + "   <2014-05-25> and <2014-05-31>%n"
+                                                                    + "but the values at these indexes are not (index=value) :%n"
+                                                                    + "   <{0=2014-05-24}>"));
+    }
+  }
+
+  /**
+   * This method should fail because null values are not between the bounds.
+   */
+  @Test
+  public void should_fail_because_null_values_are_not_between() {
+    Table table = new Table(source, "test2");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("var1");
+    try {
+      tableColumnAssert.hasValuesBetween(0, 10);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[Column at index 0 (column name : VAR1) of TEST2 table] %n"
+                                                                    + "Expecting all the values to be between :%n"
+                                                                    + "   <0> and <10>%n"
+                                                                    + "but the values at these indexes are not (index=value) :%n"
+                                                                    + "   <{1=null}>"));
+    }
+  }
+
+  /**
+   * This method should fail because the bounds can not be compared to the values.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_bounds_can_not_be_compared() {
+    assertThat(new Table(source, "test")).column("var9").hasValuesBetween(1, 2);
+  }
+}
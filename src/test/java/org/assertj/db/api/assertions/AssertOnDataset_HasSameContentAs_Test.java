@@ -0,0 +1,201 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.RequestAssert;
+import org.assertj.db.api.TableAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.Dataset;
+import org.assertj.db.type.DateValue;
+import org.assertj.db.type.Request;
+import org.assertj.db.type.Table;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link AssertOnDataset} class :
+ * {@link AssertOnDataset#hasSameContentAs(Dataset)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertOnDataset_HasSameContentAs_Test extends AbstractTest {
+
+  /**
+   * The temporary folder of the files.
+   */
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  /**
+   * This method tests the {@code hasSameContentAs} assertion method with a dataset in memory.
+   */
+  @Test
+  public void test_has_same_content_as_in_memory() {
+    Table table = new Table(source, "movie");
+    TableAssert tableAssert = assertThat(table);
+    TableAssert tableAssert2 = tableAssert.hasSameContentAs(Dataset.of("id", "title", "year")
+                                                                   .values(3, "Avatar", 2009)
+                                                                   .values(1, "Alien", new BigDecimal("1979.0"))
+                                                                   .values(2L, "The Village", "2004"));
+    Assertions.assertThat(tableAssert).isSameAs(tableAssert2);
+
+    assertThat(new Table(source, "actor")).hasSameContentAs(Dataset.of("ID", "BIRTH", "ACTOR_IMDB")
+                                                                   .values(1, DateValue.of(1949, 10, 8),
+                                                                           UUID.fromString(
+                                                                                   "30B443AE-C0C9-4790-9BEC-CE1380808435"))
+                                                                   .values(2, "1974-10-28",
+                                                                           "16319617-AE95-4087-9264-D3D21BF611B6")
+                                                                   .values(3, "1976-08-02T00:00",
+                                                                           "D735221B-5DE5-4112-AA1E-49090CB75ADA"));
+  }
+
+  /**
+   * This method tests the {@code hasSameContentAs} assertion method with a CSV content.
+   */
+  @Test
+  public void test_has_same_content_as_csv() throws Exception {
+    Request request = new Request(source, "select title, year from movie");
+    RequestAssert requestAssert = assertThat(request);
+    RequestAssert requestAssert2 = requestAssert.hasSameContentAs(Dataset.fromCsv(new StringReader(
+            "year,title\n2004,The Village\n1979,\"Alien\"\n2009,Avatar\n")));
+    Assertions.assertThat(requestAssert).isSameAs(requestAssert2);
+
+    Path path = folder.newFile("test.csv").toPath();
+    Files.write(path, Arrays.asList("var1,var2,var6,var7,var8,var9,var10,var12",
+                                    "10,false,50.6,70.8,12:29:49,2014-05-30,2014-05-30 12:29:49,\"another text\"",
+                                    "1,TRUE,5.60,7.8,09:46:30,2014-05-24,2014-05-24T09:46:30,text",
+                                    "100,false,500.6,700.80,12:29:49,2014-05-30,2014-05-30,another text again",
+                                    "1000,false,0,0,12:29:49,2014-05-30,2014-05-30T00:00:00,\"another text again\""),
+                StandardCharsets.UTF_8);
+    assertThat(new Table(source, "test")).hasSameContentAs(Dataset.fromCsv(path));
+  }
+
+  /**
+   * This method tests the {@code hasSameContentAs} assertion method with a JSON Lines content.
+   */
+  @Test
+  public void test_has_same_content_as_json_lines() throws Exception {
+    assertThat(new Table(source, "movie")).hasSameContentAs(Dataset.fromJsonLines(new StringReader(
+            "{\"id\": 2, \"title\": \"The Village\", \"year\": 2004}\n"
+            + "{\"id\": 1, \"title\": \"Alien\", \"year\": 1979.00}\n"
+            + "\n"
+            + "{\"id\": 3, \"title\": \"Avatar\", \"year\": 2009}")));
+
+    Path path = folder.newFile("test2.jsonl").toPath();
+    Files.write(path, Arrays.asList("{\"var1\": 1, \"var15\": null, \"var12\": \"\\u0074ext\"}",
+                                    "{\"var1\": null}"),
+                StandardCharsets.UTF_8);
+    assertThat(new Table(source, "test2")).hasSameContentAs(Dataset.fromJsonLines(path));
+  }
+
+  /**
+   * This method should fail because rows are missing, not in the dataset or different (with the primary keys).
+   */
+  @Test
+  public void should_fail_because_rows_are_different_with_primary_keys() {
+    Table table = new Table(source, "movie");
+    TableAssert tableAssert = assertThat(table);
+    try {
+      tableAssert.hasSameContentAs(Dataset.of("id", "title", "year")
+                                          .values(1, "Alien", 1979)
+                                          .values(2, "The Village", 2005)
+                                          .values(4, "Ghostbusters", 1984));
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[MOVIE table] %n"
+                                                                    + "Expecting to have the same content as the dataset but :%n"
+                                                                    + "1 row(s) of the dataset are missing (number of the row in the dataset=values) :%n"
+                                                                    + "   <{3=[4, \"Ghostbusters\", 1984]}>%n"
+                                                                    + "1 row(s) are not in the dataset (index=values) :%n"
+                                                                    + "   <{2=[3, \"Avatar\", 2009]}>%n"
+                                                                    + "1 row(s) are different (index={column=[expected, actual]}) :%n"
+                                                                    + "   <{1={\"year\"=[2005, 2004]}}>"));
+    }
+  }
+
+  /**
+   * This method should fail because rows are missing or not in the dataset (without the primary keys).
+   */
+  @Test
+  public void should_fail_because_rows_are_different_without_primary_keys() {
+    Request request = new Request(source, "select title, year from movie");
+    RequestAssert requestAssert = assertThat(request);
+    try {
+      requestAssert.hasSameContentAs(Dataset.fromCsv(new StringReader("title,year\r\n"
+                                                                      + "Alien,1979\r\n"
+                                                                      + "Alien,1979\r\n"
+                                                                      + "Avatar,\r\n"
+                                                                      + "\"The \"\"Village\"\"\",2004")));
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("['select title, year from movie' request] %n"
+                                                                    + "Expecting to have the same content as the dataset but :%n"
+                                                                    + "3 row(s) of the dataset are missing (number of the row in the dataset=values) :%n"
+                                                                    + "   <{2=[\"Alien\", \"1979\"], 3=[\"Avatar\", null], 4=[\"The \"Village\"\", \"2004\"]}>%n"
+                                                                    + "2 row(s) are not in the dataset (index=values) :%n"
+                                                                    + "   <{1=[\"The Village\", 2004], 2=[\"Avatar\", 2009]}>"));
+    }
+  }
+
+  /**
+   * This method should fail because there are too many rows for the message.
+   */
+  @Test
+  public void should_fail_because_rows_are_missing_with_other_ones() {
+    Dataset dataset = Dataset.of("id", "title", "year");
+    for (int index = 10; index < 22; index++) {
+      dataset.values(index, "Movie " + index, 2000);
+    }
+    Table table = new Table(source, "movie");
+    try {
+      assertThat(table).hasSameContentAs(dataset);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).startsWith(String.format("[MOVIE table] %n"
+                                                                     + "Expecting to have the same content as the dataset but :%n"
+                                                                     + "12 row(s) of the dataset are missing"))
+                .contains(String.format("10=[19, \"Movie 19\", 2000]}>%n(and other ones)%n3 row(s) are not in"))
+                .doesNotContain("Movie 20");
+    }
+  }
+
+  /**
+   * This method should fail because a column of the dataset is not in the table.
+   */
+  @Test
+  public void should_fail_because_column_is_unknown() {
+    Table table = new Table(source, "movie");
+    try {
+      assertThat(table).hasSameContentAs(Dataset.of("id", "name").values(1, "Alien"));
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo("The column <name> of the dataset is not in the columns "
+                                                      + "[ID, TITLE, YEAR, MOVIE_IMDB]");
+    }
+  }
+}
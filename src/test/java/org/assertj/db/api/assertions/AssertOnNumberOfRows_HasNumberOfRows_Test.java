@@ -16,10 +16,13 @@ import org.assertj.core.api.Assertions;
 import org.assertj.db.api.TableAssert;
 import org.assertj.db.api.TableColumnAssert;
 import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.AbstractDbData;
 import org.assertj.db.type.Request;
 import org.assertj.db.type.Table;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
+
 import static org.assertj.db.api.Assertions.assertThat;
 import static org.junit.Assert.fail;
 
@@ -73,4 +76,20 @@ public class AssertOnNumberOfRows_HasNumberOfRows_Test extends AbstractTest {
                                                       + "   <3>"));
     }
   }
+
+  /**
+   * This method tests that the {@code hasNumberOfRows} assertion method on a column counts the rows without loading
+   * them.
+   */
+  @Test
+  public void test_has_number_of_rows_of_column_without_loading() throws Exception {
+    Field field = AbstractDbData.class.getDeclaredField("rowsList");
+    field.setAccessible(true);
+    Table table = new Table(source, "actor");
+    assertThat(table).column().hasNumberOfRows(3);
+    Request request = new Request(source, "select * from movie where year > ? order by title", 2000);
+    assertThat(request).column("title").hasNumberOfRows(2).hasNumberOfRowsGreaterThan(1);
+    Assertions.assertThat(field.get(table)).isNull();
+    Assertions.assertThat(field.get(request)).isNull();
+  }
 }
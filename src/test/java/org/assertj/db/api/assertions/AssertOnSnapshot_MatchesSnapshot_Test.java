@@ -0,0 +1,240 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.ChangesAssert;
+import org.assertj.db.api.TableAssert;
+import org.assertj.db.api.assertions.impl.AssertionsOnSnapshot;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.Changes;
+import org.assertj.db.type.Request;
+import org.assertj.db.type.Table;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link AssertOnSnapshot} class :
+ * {@link AssertOnSnapshot#matchesSnapshot(Path)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertOnSnapshot_MatchesSnapshot_Test extends AbstractTest {
+
+  /**
+   * The temporary folder of the snapshots.
+   */
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  /**
+   * Calls an assertion method with the system property to record the snapshots.
+   *
+   * @param supplier The call of the assertion method.
+   * @param <T> The type of the assertion.
+   * @return The assertion returned by the method.
+   */
+  private static <T> T recording(Supplier<T> supplier) {
+    System.setProperty(AssertionsOnSnapshot.UPDATE_PROPERTY, "true");
+    try {
+      return supplier.get();
+    } finally {
+      System.clearProperty(AssertionsOnSnapshot.UPDATE_PROPERTY);
+    }
+  }
+
+  /**
+   * This method tests the {@code matchesSnapshot} assertion method on a table.
+   */
+  @Test
+  public void test_matches_snapshot_on_table() throws Exception {
+    Path path = folder.getRoot().toPath().resolve("snapshots/test.csv");
+    Table table = new Table(source, "test");
+    TableAssert tableAssert = assertThat(table);
+    TableAssert tableAssert2 = recording(() -> tableAssert.matchesSnapshot(path));
+    Assertions.assertThat(tableAssert).isSameAs(tableAssert2);
+    List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+    Assertions.assertThat(lines).hasSize(5)
+              .startsWith("VAR1,VAR2,VAR3,VAR4,VAR5,VAR6,VAR7,VAR8,VAR9,VAR10,VAR11,VAR12,VAR13,VAR14,VAR15,VAR16");
+    // The bytes are in Base64
+    Assertions.assertThat(lines.get(2))
+              .startsWith("10,false,20,30,40,50.6,70.8,12:29:49.000000000,2014-05-30,2014-05-30T12:29:49.000000000,")
+              .endsWith(",another text,50,70,0e2a1269-eff0-4233-b87b-b53e8b6f164d,e");
+
+    assertThat(new Table(source, "test")).matchesSnapshot(path);
+    recording(() -> assertThat(new Table(source, "test2")).matchesSnapshot(folder.getRoot().toPath().resolve("test2.csv")))
+        .matchesSnapshot(folder.getRoot().toPath().resolve("test2.csv"));
+  }
+
+  /**
+   * This method tests the {@code matchesSnapshot} assertion method on a request.
+   */
+  @Test
+  public void test_matches_snapshot_on_request() throws Exception {
+    Path path = folder.newFolder().toPath().resolve("request.csv");
+    recording(() -> assertThat(new Request(source, "select title, year from movie where year > 2000")).matchesSnapshot(path));
+    Assertions.assertThat(Files.readAllLines(path, StandardCharsets.UTF_8))
+              .containsExactly("TITLE,YEAR", "The Village,2004", "Avatar,2009");
+    assertThat(new Request(source, "select title, year from movie where year > 2000")).matchesSnapshot(path);
+  }
+
+  /**
+   * This method tests the {@code matchesSnapshot} assertion method on changes.
+   */
+  @Test
+  @NeedReload
+  public void test_matches_snapshot_on_changes() throws Exception {
+    Path path = folder.getRoot().toPath().resolve("changes.csv");
+    Changes changes = new Changes(new Table(source, "movie")).setStartPointNow();
+    update("insert into movie values(4, 'Ghostbusters', 1984, null)");
+    update("update movie set title = 'Alien, the 8th passenger' where id = 1");
+    changes.setEndPointNow();
+
+    ChangesAssert changesAssert = assertThat(changes);
+    ChangesAssert changesAssert2 = recording(() -> changesAssert.matchesSnapshot(path));
+    Assertions.assertThat(changesAssert).isSameAs(changesAssert2);
+    Assertions.assertThat(Files.readAllLines(path, StandardCharsets.UTF_8))
+              .containsExactly("change,data,primary keys,column,at start point,at end point",
+                               "CREATION,MOVIE,4,ID,,4",
+                               "CREATION,MOVIE,4,TITLE,,Ghostbusters",
+                               "CREATION,MOVIE,4,YEAR,,1984",
+                               "MODIFICATION,MOVIE,1,TITLE,Alien,\"Alien, the 8th passenger\"");
+
+    assertThat(changes).matchesSnapshot(path);
+  }
+
+  /**
+   * This method tests that the snapshot is recorded again with the system property.
+   */
+  @Test
+  public void test_matches_snapshot_with_update() throws Exception {
+    Path path = folder.newFile("movie.csv").toPath();
+    Files.write(path, "ID,TITLE\n1,Other title\n".getBytes(StandardCharsets.UTF_8));
+    System.setProperty(AssertionsOnSnapshot.UPDATE_PROPERTY, "true");
+    try {
+      assertThat(new Table(source, "movie", new String[] { "id", "title" }, null)).matchesSnapshot(path);
+    } finally {
+      System.clearProperty(AssertionsOnSnapshot.UPDATE_PROPERTY);
+    }
+    Assertions.assertThat(Files.readAllLines(path, StandardCharsets.UTF_8))
+              .containsExactly("ID,TITLE", "1,Alien", "2,The Village", "3,Avatar");
+  }
+
+  /**
+   * This method tests the {@code matchesSnapshot} assertion method on changes with a change without value.
+   */
+  @Test
+  @NeedReload
+  public void test_matches_snapshot_on_changes_without_value() throws Exception {
+    Path path = folder.getRoot().toPath().resolve("changes.csv");
+    Changes changes = new Changes(new Table(source, "test2")).setStartPointNow();
+    update("insert into test2(var1) values(null)");
+    changes.setEndPointNow();
+
+    recording(() -> assertThat(changes).matchesSnapshot(path));
+    Assertions.assertThat(Files.readAllLines(path, StandardCharsets.UTF_8))
+              .containsExactly("change,data,primary keys,column,at start point,at end point",
+                               "CREATION,TEST2,\"\",,,");
+    assertThat(changes).matchesSnapshot(path);
+
+    Changes otherChanges = new Changes(new Table(source, "test2")).setStartPointNow();
+    otherChanges.setEndPointNow();
+    try {
+      assertThat(otherChanges).matchesSnapshot(path);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).contains("1 row(s) of the dataset are missing");
+    }
+  }
+
+  /**
+   * This method should fail because the snapshot does not exist and is not recorded.
+   */
+  @Test
+  public void should_fail_because_snapshot_does_not_exist() {
+    Path path = folder.getRoot().toPath().resolve("movie.csv");
+    try {
+      assertThat(new Table(source, "movie")).matchesSnapshot(path);
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("The snapshot %s does not exist (it is recorded with "
+                                                                    + "the assertj.db.snapshot.update system property)",
+                                                                    path));
+    }
+    Assertions.assertThat(Files.exists(path)).isFalse();
+  }
+
+  /**
+   * This method should fail because the table is different from the snapshot.
+   */
+  @Test
+  @NeedReload
+  public void should_fail_because_table_is_different() {
+    Path path = folder.getRoot().toPath().resolve("movie.csv");
+    recording(() -> assertThat(new Table(source, "movie")).matchesSnapshot(path));
+    update("update movie set year = 1980 where id = 1");
+    update("insert into movie values(4, 'Ghostbusters', 1984, null)");
+    try {
+      assertThat(new Table(source, "movie")).matchesSnapshot(path);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[MOVIE table] %n"
+                                                                    + "Expecting to have the same content as the dataset but :%n"
+                                                                    + "1 row(s) are not in the dataset (index=values) :%n"
+                                                                    + "   <{3=[4, \"Ghostbusters\", 1984, null]}>%n"
+                                                                    + "1 row(s) are different (index={column=[expected, actual]}) :%n"
+                                                                    + "   <{0={\"YEAR\"=[\"1979\", 1980]}}>"));
+    }
+  }
+
+  /**
+   * This method should fail because the changes are different from the snapshot.
+   */
+  @Test
+  @NeedReload
+  public void should_fail_because_changes_are_different() {
+    Path path = folder.getRoot().toPath().resolve("changes.csv");
+    Changes changes = new Changes(new Table(source, "movie")).setStartPointNow();
+    update("update movie set year = 1980 where id = 1");
+    changes.setEndPointNow();
+    recording(() -> assertThat(changes).matchesSnapshot(path));
+
+    Changes otherChanges = new Changes(new Table(source, "movie")).setStartPointNow();
+    update("update movie set year = 1981 where id = 1");
+    otherChanges.setEndPointNow();
+    try {
+      assertThat(otherChanges).matchesSnapshot(path);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[Changes on MOVIE table of 'sa/jdbc:h2:mem:test' source] %n"
+                                                                    + "Expecting to have the same content as the dataset but :%n"
+                                                                    + "1 row(s) of the dataset are missing (number of the row in the dataset=values) :%n"
+                                                                    + "   <{1=[\"MODIFICATION\", \"MOVIE\", \"1\", \"YEAR\", \"1979\", \"1980\"]}>%n"
+                                                                    + "1 row(s) are not in the dataset (index=values) :%n"
+                                                                    + "   <{0=[\"MODIFICATION\", \"MOVIE\", \"1\", \"YEAR\", \"1980\", \"1981\"]}>"));
+    }
+  }
+}
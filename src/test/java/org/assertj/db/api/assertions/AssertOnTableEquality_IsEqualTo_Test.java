@@ -0,0 +1,212 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.TableAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.AbstractDbData;
+import org.assertj.db.type.Source;
+import org.assertj.db.type.Table;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link AssertOnTableEquality} class :
+ * {@link AssertOnTableEquality#isEqualTo(Table)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertOnTableEquality_IsEqualTo_Test extends AbstractTest {
+
+  /**
+   * The source on another database (with another driver).
+   */
+  private final Source otherSource = new Source("jdbc:hsqldb:mem:testTableEquality", "SA", "");
+
+  /**
+   * Creates the movie table in the other database.
+   */
+  @Before
+  public void createOtherTable() throws SQLException {
+    execute("create table movie (id integer primary key, title varchar(255), year decimal(4, 0))",
+            "insert into movie values (3, 'Avatar', 2009)",
+            "insert into movie values (1, 'Alien', 1979)",
+            "insert into movie values (2, 'The Village', 2004)");
+  }
+
+  /**
+   * Drops the movie table in the other database.
+   */
+  @After
+  public void dropOtherTable() throws SQLException {
+    execute("drop table movie");
+  }
+
+  /**
+   * Executes statements on the other database.
+   *
+   * @param sqls The statements.
+   */
+  private void execute(String... sqls) throws SQLException {
+    try (Connection connection = DriverManager.getConnection(otherSource.getUrl(), otherSource.getUser(),
+                                                             otherSource.getPassword());
+         Statement statement = connection.createStatement()) {
+      for (String sql : sqls) {
+        statement.executeUpdate(sql);
+      }
+    }
+  }
+
+  /**
+   * Returns the movie table with the columns of the other database.
+   *
+   * @return The table.
+   */
+  private Table getMovieTable() {
+    return new Table(source, "movie", new String[] { "id", "title", "year" }, null);
+  }
+
+  /**
+   * This method tests the {@code isEqualTo} assertion method.
+   */
+  @Test
+  public void test_is_equal_to() {
+    Table table = new Table(source, "movie");
+    TableAssert tableAssert = assertThat(table);
+    TableAssert tableAssert2 = tableAssert.isEqualTo(new Table(source, "movie"));
+    Assertions.assertThat(tableAssert).isSameAs(tableAssert2);
+
+    assertThat(new Table(source, "test")).isEqualTo(new Table(source, "test"));
+    // Without primary key
+    assertThat(new Table(source, "test2")).isEqualTo(new Table(source, "test2"));
+  }
+
+  /**
+   * This method tests the {@code isEqualTo} assertion method with a table in another database.
+   */
+  @Test
+  public void test_is_equal_to_with_another_database() {
+    assertThat(getMovieTable()).isEqualTo(new Table(otherSource, "movie"));
+    assertThat(new Table(otherSource, "movie")).isEqualTo(getMovieTable());
+  }
+
+  /**
+   * This method tests that the order of the columns is not compared.
+   */
+  @Test
+  public void test_is_equal_to_with_columns_in_another_order() {
+    assertThat(getMovieTable()).isEqualTo(new Table(source, "movie", new String[] { "year", "id", "title" }, null));
+  }
+
+  /**
+   * This method tests that the rows are matched whatever the order of the rows in the two databases (here the texts
+   * are ordered without the case in one database and with the case in the other one, and there is no primary key).
+   */
+  @Test
+  public void test_is_equal_to_with_rows_in_another_order() throws SQLException {
+    update("create table merge_test (name varchar_ignorecase(10), number integer)");
+    execute("create table merge_test (name varchar(10), number integer)");
+    try {
+      for (String values : new String[] { "('b', null)", "('B', 1)", "(null, 2)", "('a', 3)", "('a', 3)" }) {
+        String sql = "insert into merge_test values " + values;
+        update(sql);
+        execute(sql);
+      }
+      assertThat(new Table(source, "merge_test")).isEqualTo(new Table(otherSource, "merge_test"));
+      assertThat(new Table(otherSource, "merge_test")).isEqualTo(new Table(source, "merge_test"));
+
+      execute("delete from merge_test where name = 'B'", "insert into merge_test values ('a', 3)");
+      try {
+        assertThat(new Table(source, "merge_test")).isEqualTo(new Table(otherSource, "merge_test"));
+        fail("An exception must be raised");
+      } catch (AssertionError e) {
+        Assertions.assertThat(e.getMessage()).contains("CREATION [] : [\"B\", 1]", "DELETION [] : [\"a\", 3]");
+      }
+    } finally {
+      update("drop table merge_test");
+      execute("drop table merge_test");
+    }
+  }
+
+  /**
+   * This method tests that the tables are not changed by the comparison.
+   */
+  @Test
+  public void test_is_equal_to_without_changing_the_tables() throws Exception {
+    Table table = new Table(source, "movie", new String[] { "id", "title", "year" }, null)
+        .setColumnsToOrder(new Table.Order[] { Table.Order.desc("title") });
+    Table otherTable = new Table(otherSource, "movie");
+    assertThat(table).isEqualTo(otherTable);
+
+    Field field = AbstractDbData.class.getDeclaredField("pksNameList");
+    field.setAccessible(true);
+    Assertions.assertThat(field.get(table)).isNull();
+    Assertions.assertThat(field.get(otherTable)).isNull();
+    Assertions.assertThat(table.getColumnsToOrder()).hasSize(1);
+    Assertions.assertThat(table.getColumnsToOrder()[0].getType()).isEqualTo(Table.Order.OrderType.DESC);
+    Assertions.assertThat(otherTable.getColumnsToOrder()).isNull();
+    Assertions.assertThat(table.getRowsList().get(0).getColumnValue("title").getValue()).isEqualTo("The Village");
+  }
+
+  /**
+   * This method should fail because the tables have different rows.
+   */
+  @Test
+  public void should_fail_because_rows_are_different() throws SQLException {
+    execute("update movie set title = 'Village', year = 2005 where id = 2",
+            "delete from movie where id = 1",
+            "insert into movie values (4, 'Titanic', 1997)");
+    try {
+      assertThat(getMovieTable()).isEqualTo(new Table(otherSource, "movie"));
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[MOVIE table] %n"
+                                                                    + "Expecting to be equal to the table :%n"
+                                                                    + "   <\"MOVIE\">%n"
+                                                                    + "but there are these changes from it (type of "
+                                                                    + "change [primary keys] : values or "
+                                                                    + "{column=[expected, actual]}) :%n"
+                                                                    + "   CREATION [1] : [1, \"Alien\", 1979]%n"
+                                                                    + "   MODIFICATION [2] : {\"TITLE\"=[\"Village\", "
+                                                                    + "\"The Village\"], \"YEAR\"=[2005, 2004]}%n"
+                                                                    + "   DELETION [4] : [4, \"Titanic\", 1997]"));
+    }
+  }
+
+  /**
+   * This method should fail because the tables have not the same columns.
+   */
+  @Test
+  public void should_fail_because_columns_are_different() {
+    try {
+      assertThat(new Table(source, "movie")).isEqualTo(new Table(otherSource, "movie"));
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo("The columns [ID, TITLE, YEAR, MOVIE_IMDB] of MOVIE table are "
+                                                      + "not the columns [ID, TITLE, YEAR] of MOVIE table");
+    }
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.TableAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link AssertOnTableIntegrity} class :
+ * {@link AssertOnTableIntegrity#hasReferentialIntegrityWith(Table)} method and
+ * {@link AssertOnTableIntegrity#hasReferentialIntegrityWith(Table, String[], String[])} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertOnTableIntegrity_HasReferentialIntegrityWith_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code hasReferentialIntegrityWith} assertion method with the foreign keys of the database.
+   */
+  @Test
+  public void test_has_referential_integrity_with() {
+    Table table = new Table(source, "interpretation");
+    TableAssert tableAssert = assertThat(table);
+    TableAssert tableAssert2 = tableAssert.hasReferentialIntegrityWith(new Table(source, "movie"));
+    Assertions.assertThat(tableAssert).isSameAs(tableAssert2);
+
+    assertThat(table).hasReferentialIntegrityWith(new Table(source, "actor"));
+  }
+
+  /**
+   * This method tests the {@code hasReferentialIntegrityWith} assertion method with the columns.
+   */
+  @Test
+  public void test_has_referential_integrity_with_columns() {
+    Table table = new Table(source, "interpretation");
+    TableAssert tableAssert = assertThat(table);
+    TableAssert tableAssert2 = tableAssert.hasReferentialIntegrityWith(new Table(source, "movie"),
+                                                                       new String[] { "id_movie" },
+                                                                       new String[] { "id" });
+    Assertions.assertThat(tableAssert).isSameAs(tableAssert2);
+
+    assertThat(new Table(source, "test2")).hasReferentialIntegrityWith(new Table(source, "test"),
+                                                                       new String[] { "var1", "var14" },
+                                                                       new String[] { "var1", "var14" });
+  }
+
+  /**
+   * This method tests the {@code hasReferentialIntegrityWith} assertion method with a referenced table read from
+   * another source (the values are compared in memory).
+   */
+  @Test
+  public void test_has_referential_integrity_with_table_of_another_source() {
+    assertThat(new Table(dataSource, "interpretation")).hasReferentialIntegrityWith(new Table(source, "movie"),
+                                                                                   new String[] { "id_movie" },
+                                                                                   new String[] { "id" });
+    assertThat(new Table(dataSource, "test2")).hasReferentialIntegrityWith(new Table(source, "test"),
+                                                                           new String[] { "var1", "var14" },
+                                                                           new String[] { "var1", "var14" });
+  }
+
+  /**
+   * This method should fail because the values of the columns reference no row of a table read from another source.
+   */
+  @Test
+  public void should_fail_because_values_reference_no_row_of_table_of_another_source() {
+    try {
+      assertThat(new Table(dataSource, "test")).hasReferentialIntegrityWith(new Table(source, "movie"),
+                                                                            new String[] { "var1" },
+                                                                            new String[] { "id" });
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[TEST table] %n"
+                                                                    + "Expecting the values of the columns :%n"
+                                                                    + "   <[\"var1\"]>%n"
+                                                                    + "to reference the columns :%n"
+                                                                    + "   <[\"id\"]>%n"
+                                                                    + "of the table :%n"
+                                                                    + "   <\"MOVIE\">%n"
+                                                                    + "but these values reference no row :%n"
+                                                                    + "   <[[10], [100], [1000]]>"));
+    }
+  }
+
+  /**
+   * This method should fail because the foreign key is not respected.
+   */
+  @Test
+  @NeedReload
+  public void should_fail_because_foreign_key_is_not_respected() {
+    update("SET REFERENTIAL_INTEGRITY FALSE");
+    try {
+      update("insert into interpretation values(6, 9, 1, 'Nobody')");
+    } finally {
+      update("SET REFERENTIAL_INTEGRITY TRUE");
+    }
+    Table table = new Table(source, "interpretation");
+    assertThat(table).hasReferentialIntegrityWith(new Table(source, "actor"));
+    try {
+      assertThat(table).hasReferentialIntegrityWith(new Table(source, "movie"));
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[INTERPRETATION table] %n"
+                                                                    + "Expecting the values of the columns :%n"
+                                                                    + "   <[\"ID_MOVIE\"]>%n"
+                                                                    + "to reference the columns :%n"
+                                                                    + "   <[\"ID\"]>%n"
+                                                                    + "of the table :%n"
+                                                                    + "   <\"MOVIE\">%n"
+                                                                    + "but these values reference no row :%n"
+                                                                    + "   <[[9]]>"));
+    }
+  }
+
+  /**
+   * This method should fail because the values of the columns reference no row.
+   */
+  @Test
+  public void should_fail_because_values_reference_no_row() {
+    Table table = new Table(source, "test");
+    TableAssert tableAssert = assertThat(table);
+    try {
+      tableAssert.hasReferentialIntegrityWith(new Table(source, "movie"), new String[] { "var1" },
+                                              new String[] { "id" });
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[TEST table] %n"
+                                                                    + "Expecting the values of the columns :%n"
+                                                                    + "   <[\"var1\"]>%n"
+                                                                    + "to reference the columns :%n"
+                                                                    + "   <[\"id\"]>%n"
+                                                                    + "of the table :%n"
+                                                                    + "   <\"MOVIE\">%n"
+                                                                    + "but these values reference no row :%n"
+                                                                    + "   <[[10], [100], [1000]]>"));
+    }
+  }
+
+  /**
+   * This method should fail because there is no foreign key.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_there_is_no_foreign_key() {
+    assertThat(new Table(source, "movie")).hasReferentialIntegrityWith(new Table(source, "actor"));
+  }
+
+  /**
+   * This method should fail because the numbers of columns are different.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_numbers_of_columns_are_different() {
+    assertThat(new Table(source, "interpretation")).hasReferentialIntegrityWith(new Table(source, "movie"),
+                                                                               new String[] { "id_movie", "id" },
+                                                                               new String[] { "id" });
+  }
+}
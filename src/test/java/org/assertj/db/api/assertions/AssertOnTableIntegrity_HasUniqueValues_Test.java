@@ -0,0 +1,119 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.TableAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.AbstractDbData;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link AssertOnTableIntegrity} class :
+ * {@link AssertOnTableIntegrity#hasUniqueValues(String...)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertOnTableIntegrity_HasUniqueValues_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code hasUniqueValues} assertion method.
+   */
+  @Test
+  public void test_has_unique_values() {
+    Table table = new Table(source, "test");
+    TableAssert tableAssert = assertThat(table);
+    TableAssert tableAssert2 = tableAssert.hasUniqueValues("var1");
+    Assertions.assertThat(tableAssert).isSameAs(tableAssert2);
+
+    assertThat(table).hasUniqueValues("var13", "var15")
+                     .hasUniqueValues("var1", "var9");
+    assertThat(new Table(source, "interpretation")).hasUniqueValues("id_movie", "id_actor");
+    // The null values are ignored
+    assertThat(new Table(source, "test2")).hasUniqueValues("var15");
+  }
+
+  /**
+   * This method tests that the rows are not loaded.
+   */
+  @Test
+  public void test_has_unique_values_without_loading() throws Exception {
+    Table table = new Table(source, "movie");
+    assertThat(table).hasUniqueValues("title");
+    Field field = AbstractDbData.class.getDeclaredField("rowsList");
+    field.setAccessible(true);
+    Assertions.assertThat(field.get(table)).isNull();
+  }
+
+  /**
+   * This method should fail because the values are duplicated.
+   */
+  @Test
+  public void should_fail_because_values_are_duplicated() {
+    Table table = new Table(source, "test");
+    TableAssert tableAssert = assertThat(table);
+    try {
+      tableAssert.hasUniqueValues("var13", "var14");
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[TEST table] %n"
+                                                                    + "Expecting the values of the columns :%n"
+                                                                    + "   <[\"var13\", \"var14\"]>%n"
+                                                                    + "to be unique but these values are in several rows (with the number of rows) :%n"
+                                                                    + "   <{[500.00, 700.0f]=2}>"));
+    }
+  }
+
+  /**
+   * This method should fail because there are many duplicated values (the message is truncated).
+   */
+  @Test
+  @NeedReload
+  public void should_fail_because_many_values_are_duplicated() {
+    for (int id = 4; id <= 27; id++) {
+      update("insert into movie values(" + id + ", 'Movie " + (id / 2) + "', 1984, null)");
+    }
+    Table table = new Table(source, "movie");
+    try {
+      assertThat(table).hasUniqueValues("title");
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).endsWith(String.format("%n(and other ones)"));
+    }
+  }
+
+  /**
+   * This method should fail because no column is given.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_no_column() {
+    assertThat(new Table(source, "test")).hasUniqueValues();
+  }
+
+  /**
+   * This method should fail because a column is null.
+   */
+  @Test(expected = NullPointerException.class)
+  public void should_fail_because_column_is_null() {
+    assertThat(new Table(source, "test")).hasUniqueValues("var1", null);
+  }
+}
@@ -18,8 +18,11 @@ import org.assertj.db.api.TableAssert;
 import org.assertj.db.common.AbstractTest;
 import org.assertj.db.type.Table;
 import org.assertj.db.type.Value;
+import org.assertj.db.util.Values;
 import org.junit.Test;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -56,6 +59,112 @@ public class AssertionsOnColumnContent_ContainsValues_Number_Test extends Abstra
     Assertions.assertThat(tableAssert2).isSameAs(tableAssert);
   }
 
+  /**
+   * This method tests the {@code containsValues} assertion method with floating point numbers (they are compared one by
+   * one).
+   */
+  @Test
+  public void test_contains_values_with_floating_point_numbers() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    Table table = new Table();
+    TableAssert tableAssert = assertThat(table);
+    List<Value> list = new ArrayList<>(Arrays.asList(getValue(null, 1.5d), getValue(null, 2.5d),
+                                                     getValue(null, new BigInteger("3")), getValue(null, 0.1f)));
+    TableAssert tableAssert2 = AssertionsOnColumnContent.containsValues(tableAssert, info, list, 3L,
+                                                                        new BigDecimal("2.50"), 0.1f, 1.5f);
+    Assertions.assertThat(tableAssert2).isSameAs(tableAssert);
+    Assertions.assertThat(Values.getNumberKey(1.5f)).isEqualTo(Values.getKey(list.get(0)));
+  }
+
+  /**
+   * This method tests that the floating point numbers are compared as {@code Values.areEqual} compares them.
+   */
+  @Test
+  public void test_contains_values_with_the_precision_of_floating_point_numbers() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    Table table = new Table();
+    TableAssert tableAssert = assertThat(table);
+    List<Value> list = new ArrayList<>(Arrays.asList(getValue(null, 16777217), getValue(null, 1)));
+    TableAssert tableAssert2 = AssertionsOnColumnContent.containsValues(tableAssert, info, list, 1, 16777216f);
+    Assertions.assertThat(tableAssert2).isSameAs(tableAssert);
+    Assertions.assertThat(Values.areEqual(list.get(0), 16777216f)).isTrue();
+  }
+
+  /**
+   * This method should fail because a {@code Double} is not equal to the nearest {@code Float}.
+   */
+  @Test
+  public void should_fail_because_float_is_different_from_double() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    Table table = new Table();
+    TableAssert tableAssert = assertThat(table);
+    List<Value> list = new ArrayList<>(Arrays.asList(getValue(null, 0.1d), getValue(null, 1)));
+    Assertions.assertThat(Values.areEqual(list.get(0), 0.1f)).isFalse();
+    try {
+      AssertionsOnColumnContent.containsValues(tableAssert, info, list, 1, 0.1f);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).endsWith(" (parameter <0.1f> at index 1 is not found)");
+    }
+  }
+
+  /**
+   * This method should fail because NaN is not equal to NaN.
+   */
+  @Test
+  public void should_fail_because_nan_is_different_from_nan() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    Table table = new Table();
+    TableAssert tableAssert = assertThat(table);
+    List<Value> list = new ArrayList<>(Arrays.asList(getValue(null, Float.NaN), getValue(null, 1)));
+    Assertions.assertThat(Values.areEqual(list.get(0), Double.NaN)).isFalse();
+    try {
+      AssertionsOnColumnContent.containsValues(tableAssert, info, list, 1, Double.NaN);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).endsWith(" (parameter <NaN> at index 1 is not found)");
+    }
+  }
+
+  /**
+   * This method tests the {@code containsValues} assertion method with numbers of different types.
+   */
+  @Test
+  public void test_contains_values_with_different_types() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    Table table = new Table();
+    TableAssert tableAssert = assertThat(table);
+    List<Value> list = new ArrayList<>(Arrays.asList(getValue(null, new BigDecimal("7.00")), getValue(null, 8L),
+                                                     getValue(null, 10.5f), getValue(null, (byte) 0)));
+    TableAssert tableAssert2 = AssertionsOnColumnContent.containsValues(tableAssert, info, list, 8, 10.5f,
+                                                                        new BigDecimal("0.0"), 7L);
+    Assertions.assertThat(tableAssert2).isSameAs(tableAssert);
+    list = new ArrayList<>(Arrays.asList(getValue(null, new BigDecimal("7.00")), getValue(null, 8L),
+                                         getValue(null, new BigInteger("9")), getValue(null, (byte) 0)));
+    tableAssert2 = AssertionsOnColumnContent.containsValues(tableAssert, info, list, 8, new BigDecimal("0.0"), 7L,
+                                                            (short) 9);
+    Assertions.assertThat(tableAssert2).isSameAs(tableAssert);
+  }
+
+  /**
+   * This method tests the {@code containsValues} assertion method with a lot of values.
+   */
+  @Test
+  public void test_contains_values_with_a_lot_of_values() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    Table table = new Table();
+    TableAssert tableAssert = assertThat(table);
+    int size = 100000;
+    List<Value> list = new ArrayList<>(size);
+    Number[] expected = new Number[size];
+    for (int index = 0; index < size; index++) {
+      list.add(getValue(null, index));
+      expected[index] = (long) (size - index - 1);
+    }
+    TableAssert tableAssert2 = AssertionsOnColumnContent.containsValues(tableAssert, info, list, expected);
+    Assertions.assertThat(tableAssert2).isSameAs(tableAssert);
+  }
+
   /**
    * This method should fail because the values are different.
    */
@@ -93,6 +202,75 @@ public class AssertionsOnColumnContent_ContainsValues_Number_Test extends Abstra
     }
   }
 
+  /**
+   * This method should fail because the values are different : only the values around the index of the value which is
+   * not found are in the message.
+   */
+  @Test
+  public void should_fail_because_values_are_different_with_a_lot_of_values() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    info.description("description");
+    Table table = new Table();
+    TableAssert tableAssert = assertThat(table);
+    int size = 100000;
+    List<Value> list = new ArrayList<>(size);
+    Number[] expected = new Number[size];
+    for (int index = 0; index < size; index++) {
+      list.add(getValue(null, index));
+      expected[index] = size - index - 1;
+    }
+    expected[50000] = -1;
+    try {
+      AssertionsOnColumnContent.containsValues(tableAssert, info, list, expected);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[description] %n"
+                                                                    + "Expecting (values at index 49990 to 50009 of the 100000 values):%n"
+                                                                    + "  <[49990,%n"
+                                                                    + "    49991,%n"
+                                                                    + "    49992,%n"
+                                                                    + "    49993,%n"
+                                                                    + "    49994,%n"
+                                                                    + "    49995,%n"
+                                                                    + "    49996,%n"
+                                                                    + "    49997,%n"
+                                                                    + "    49998,%n"
+                                                                    + "    49999,%n"
+                                                                    + "    50000,%n"
+                                                                    + "    50001,%n"
+                                                                    + "    50002,%n"
+                                                                    + "    50003,%n"
+                                                                    + "    50004,%n"
+                                                                    + "    50005,%n"
+                                                                    + "    50006,%n"
+                                                                    + "    50007,%n"
+                                                                    + "    50008,%n"
+                                                                    + "    50009]>%n"
+                                                                    + "to contain (parameters at the same indexes): %n"
+                                                                    + "  <[50009,%n"
+                                                                    + "    50008,%n"
+                                                                    + "    50007,%n"
+                                                                    + "    50006,%n"
+                                                                    + "    50005,%n"
+                                                                    + "    50004,%n"
+                                                                    + "    50003,%n"
+                                                                    + "    50002,%n"
+                                                                    + "    50001,%n"
+                                                                    + "    50000,%n"
+                                                                    + "    -1,%n"
+                                                                    + "    49998,%n"
+                                                                    + "    49997,%n"
+                                                                    + "    49996,%n"
+                                                                    + "    49995,%n"
+                                                                    + "    49994,%n"
+                                                                    + "    49993,%n"
+                                                                    + "    49992,%n"
+                                                                    + "    49991,%n"
+                                                                    + "    49990]>%n"
+                                                                    + " (parameter <-1> at index 50000 is not found)"));
+    }
+  }
+
   /**
    * This method should fail because one of the values is not a number.
    */
@@ -16,10 +16,14 @@ import org.assertj.core.api.Assertions;
 import org.assertj.core.api.WritableAssertionInfo;
 import org.assertj.db.api.TableAssert;
 import org.assertj.db.common.AbstractTest;
+import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.type.Table;
 import org.assertj.db.type.Value;
 import org.junit.Test;
 
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -55,6 +59,57 @@ public class AssertionsOnColumnContent_ContainsValues_String_Test extends Abstra
     Assertions.assertThat(tableAssert2).isSameAs(tableAssert);
   }
 
+  /**
+   * This method tests the {@code containsValues} assertion method with dates, times and dates/times.
+   */
+  @Test
+  public void test_contains_values_with_dates_and_times() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    Table table = new Table();
+    TableAssert tableAssert = assertThat(table);
+    List<Value> list = new ArrayList<>(Arrays.asList(getValue(null, Date.valueOf("2007-12-23")),
+                                                     getValue(null, Timestamp.valueOf("2007-12-23 09:01:00")),
+                                                     getValue(null, null)));
+    TableAssert tableAssert2 = AssertionsOnColumnContent.containsValues(tableAssert, info, list, null,
+                                                                        "2007-12-23T09:01", "2007-12-23");
+    Assertions.assertThat(tableAssert2).isSameAs(tableAssert);
+    list = new ArrayList<>(Arrays.asList(getValue(null, Time.valueOf("09:01:00")),
+                                         getValue(null, Time.valueOf("10:01:05"))));
+    tableAssert2 = AssertionsOnColumnContent.containsValues(tableAssert, info, list, "10:01:05", "09:01");
+    Assertions.assertThat(tableAssert2).isSameAs(tableAssert);
+  }
+
+  /**
+   * This method should fail because the dates are different.
+   */
+  @Test
+  public void should_fail_because_dates_are_different() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    info.description("description");
+    Table table = new Table();
+    TableAssert tableAssert = assertThat(table);
+    List<Value> list = new ArrayList<>(Arrays.asList(getValue(null, Date.valueOf("2007-12-23")),
+                                                     getValue(null, Date.valueOf("2002-07-25"))));
+    try {
+      AssertionsOnColumnContent.containsValues(tableAssert, info, list, "2002-07-25", "2007-12-24");
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).endsWith(" (parameter <\"2007-12-24\"> at index 1 is not found)");
+    }
+  }
+
+  /**
+   * This method should fail because the text is not a date.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_text_is_not_a_date() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    Table table = new Table();
+    TableAssert tableAssert = assertThat(table);
+    List<Value> list = new ArrayList<>(Arrays.asList(getValue(null, Date.valueOf("2007-12-23"))));
+    AssertionsOnColumnContent.containsValues(tableAssert, info, list, "***");
+  }
+
   /**
    * This method should fail because the values are different.
    */
@@ -0,0 +1,68 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.navigation;
+
+import org.assertj.db.api.TableAssert;
+import org.assertj.db.api.TableColumnAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.Column;
+import org.assertj.db.type.Row;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.db.api.Assertions.assertThat;
+
+/**
+ * Tests on {@link ElementFactories} class :
+ * {@link ElementFactories#newInstance(Class, Class[], Object...)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class ElementFactories_NewInstance_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code newInstance} method.
+   */
+  @Test
+  public void test_new_instance() throws Throwable {
+    Table table = new Table(source, "movie");
+    TableAssert tableAssert = assertThat(table);
+    Column column = table.getColumn(1);
+
+    TableColumnAssert columnAssert = ElementFactories.newInstance(TableColumnAssert.class,
+                                                                  new Class<?>[] { TableAssert.class, Column.class },
+                                                                  tableAssert, column);
+    TableColumnAssert otherColumnAssert = ElementFactories.newInstance(TableColumnAssert.class,
+                                                                       new Class<?>[] { TableAssert.class,
+                                                                                        Column.class },
+                                                                       tableAssert, column);
+
+    assertThat(columnAssert).isNotSameAs(otherColumnAssert);
+    assertThat(columnAssert.returnToTable()).isSameAs(tableAssert);
+    columnAssert.hasColumnName("title");
+  }
+
+  /**
+   * This method should fail because there is no constructor with the parameters.
+   */
+  @Test
+  public void should_fail_because_there_is_no_constructor() {
+    assertThatThrownBy(() -> ElementFactories.newInstance(TableColumnAssert.class,
+                                                          new Class<?>[] { TableAssert.class, Row.class },
+                                                          null, null))
+        .isInstanceOf(NoSuchMethodException.class);
+  }
+}
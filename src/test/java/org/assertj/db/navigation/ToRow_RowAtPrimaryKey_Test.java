@@ -0,0 +1,112 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.navigation;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.RequestAssert;
+import org.assertj.db.api.RequestRowAssert;
+import org.assertj.db.api.TableAssert;
+import org.assertj.db.api.TableRowAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.output.TableOutputter;
+import org.assertj.db.output.TableRowOutputter;
+import org.assertj.db.type.Request;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.assertj.db.output.Outputs.output;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link org.assertj.db.navigation.ToRow} class :
+ * {@link org.assertj.db.navigation.ToRow#rowAtPrimaryKey(Object...)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class ToRow_RowAtPrimaryKey_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code rowAtPrimaryKey} navigation method.
+   */
+  @Test
+  public void test_row_at_primary_key_from_table_with_assertions() {
+    Table table = new Table(source, "movie");
+    TableAssert tableAssert = assertThat(table);
+    TableRowAssert tableRowAssert1 = tableAssert.row(1);
+
+    Assertions.assertThat(tableAssert.rowAtPrimaryKey(2)).isSameAs(tableRowAssert1);
+    Assertions.assertThat(tableAssert.rowAtPrimaryKey(2L)).isSameAs(tableRowAssert1);
+    Assertions.assertThat(tableAssert.rowAtPrimaryKey("2")).isSameAs(tableRowAssert1);
+    Assertions.assertThat(tableRowAssert1.rowAtPrimaryKey(3)).isSameAs(tableAssert.row(2));
+    Assertions.assertThat(tableRowAssert1.value().rowAtPrimaryKey(1)).isSameAs(tableAssert.row(0));
+    Assertions.assertThat(tableAssert.column().rowAtPrimaryKey(1)).isSameAs(tableAssert.row(0));
+    tableAssert.rowAtPrimaryKey(3).value("title").isEqualTo("Avatar");
+
+    try {
+      tableAssert.rowAtPrimaryKey(4);
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo("No row found for primary keys [4]");
+    }
+    try {
+      tableAssert.rowAtPrimaryKey(1, 2);
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo("No row found for primary keys [1, 2]");
+    }
+  }
+
+  /**
+   * This method tests the {@code rowAtPrimaryKey} navigation method.
+   */
+  @Test
+  public void test_row_at_primary_key_from_request_with_assertions() {
+    Request request = new Request(source, "select * from movie").setPksName("ID");
+    RequestAssert requestAssert = assertThat(request);
+    RequestRowAssert requestRowAssert2 = requestAssert.row(2);
+
+    Assertions.assertThat(requestAssert.rowAtPrimaryKey(3)).isSameAs(requestRowAssert2);
+    Assertions.assertThat(requestRowAssert2.rowAtPrimaryKey(1)).isSameAs(requestAssert.row(0));
+
+    try {
+      assertThat(new Request(source, "select * from movie")).rowAtPrimaryKey(1);
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo("No row found for primary keys [1]");
+    }
+  }
+
+  /**
+   * This method tests the {@code rowAtPrimaryKey} navigation method.
+   */
+  @Test
+  public void test_row_at_primary_key_from_table_with_displays() {
+    Table table = new Table(source, "movie");
+    TableOutputter tableOutputter = output(table);
+    TableRowOutputter tableRowOutputter1 = tableOutputter.row(1);
+
+    Assertions.assertThat(tableOutputter.rowAtPrimaryKey(2)).isSameAs(tableRowOutputter1);
+    Assertions.assertThat(tableRowOutputter1.rowAtPrimaryKey(3)).isSameAs(tableOutputter.row(2));
+    Assertions.assertThat(tableRowOutputter1.value().rowAtPrimaryKey(1)).isSameAs(tableOutputter.row(0));
+
+    try {
+      tableOutputter.rowAtPrimaryKey(4);
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo("No row found for primary keys [4]");
+    }
+  }
+}
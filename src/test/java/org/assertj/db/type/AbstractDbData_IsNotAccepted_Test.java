@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.SQLTimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the {@code isNotAccepted} method of {@code AbstractDbData}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AbstractDbData_IsNotAccepted_Test extends AbstractTest {
+
+  /**
+   * This method tests the exceptions of a request not accepted by the database.
+   */
+  @Test
+  public void test_is_not_accepted() {
+    assertThat(AbstractDbData.isNotAccepted(new SQLSyntaxErrorException("syntax"))).isTrue();
+    assertThat(AbstractDbData.isNotAccepted(new SQLFeatureNotSupportedException("feature"))).isTrue();
+    assertThat(AbstractDbData.isNotAccepted(new SQLException("syntax", "42000"))).isTrue();
+    assertThat(AbstractDbData.isNotAccepted(new SQLException("column not found", "42S22"))).isTrue();
+    assertThat(AbstractDbData.isNotAccepted(new SQLException("feature", "0A000"))).isTrue();
+  }
+
+  /**
+   * This method tests the other exceptions.
+   */
+  @Test
+  public void test_is_accepted() {
+    assertThat(AbstractDbData.isNotAccepted(new SQLException("connection", "08001"))).isFalse();
+    assertThat(AbstractDbData.isNotAccepted(new SQLException("division by zero", "22012"))).isFalse();
+    assertThat(AbstractDbData.isNotAccepted(new SQLTimeoutException("timeout"))).isFalse();
+    assertThat(AbstractDbData.isNotAccepted(new SQLException("unknown"))).isFalse();
+  }
+}
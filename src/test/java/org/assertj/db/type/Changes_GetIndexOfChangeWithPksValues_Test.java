@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the {@code getIndexOfChangeWithPksValues} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Changes_GetIndexOfChangeWithPksValues_Test extends AbstractTest {
+
+  /**
+   * This method tests the search of the changes with the values of the primary keys.
+   */
+  @Test
+  @NeedReload
+  public void test_get_index_of_change_with_pks_values() {
+    Changes changes = new Changes(new Table(source, "actor")).setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+
+    assertThat(changes.getIndexOfChangeWithPksValues(4)).isEqualTo(0);
+    assertThat(changes.getIndexOfChangeWithPksValues(1L)).isEqualTo(1);
+    assertThat(changes.getIndexOfChangeWithPksValues(new BigDecimal("3.00"))).isEqualTo(2);
+    // Values of an other kind than the primary keys
+    assertThat(changes.getIndexOfChangeWithPksValues("3")).isEqualTo(2);
+    assertThat(changes.getIndexOfChangeWithPksValues('a')).isEqualTo(-1);
+    // Values of no change
+    assertThat(changes.getIndexOfChangeWithPksValues(2)).isEqualTo(-1);
+    assertThat(changes.getIndexOfChangeWithPksValues(1, 2)).isEqualTo(-1);
+    assertThat(changes.getIndexOfChangeWithPksValues()).isEqualTo(-1);
+  }
+
+  /**
+   * This method tests that the changes are indexed again when the end point changes.
+   */
+  @Test
+  @NeedReload
+  public void test_get_index_of_change_with_pks_values_after_a_new_end_point() {
+    Changes changes = new Changes(new Table(source, "actor")).setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+
+    assertThat(changes.getIndexOfChangeWithPksValues(1)).isEqualTo(1);
+
+    update("insert into actor values(5, 'Weaver', 'Sigourney', PARSEDATETIME('08/10/1949', 'dd/MM/yyyy'), null)");
+    changes.setEndPointNow();
+
+    assertThat(changes.getIndexOfChangeWithPksValues(5)).isEqualTo(1);
+    assertThat(changes.getIndexOfChangeWithPksValues(1)).isEqualTo(2);
+  }
+
+  /**
+   * This method tests the search in the changes of a table.
+   */
+  @Test
+  @NeedReload
+  public void test_get_index_of_change_with_pks_values_in_changes_of_table() {
+    Changes changes = new Changes(source).setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+
+    Changes changesOfMovie = changes.getChangesOfTable("movie");
+    assertThat(changesOfMovie.getIndexOfChangeWithPksValues(4)).isEqualTo(0);
+    assertThat(changesOfMovie.getIndexOfChangeWithPksValues(3)).isEqualTo(1);
+    assertThat(changesOfMovie.getIndexOfChangeWithPksValues(1)).isEqualTo(-1);
+  }
+}
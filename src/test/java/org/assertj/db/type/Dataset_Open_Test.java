@@ -0,0 +1,141 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on the {@code open} method of {@code Dataset} (and the reading of the rows).
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Dataset_Open_Test extends AbstractTest {
+
+  /**
+   * This method tests the reading of a dataset in memory.
+   */
+  @Test
+  public void test_open_in_memory() throws IOException {
+    Dataset dataset = Dataset.of("a", "b").values(1, "x").values(null, null);
+    try (Dataset.RowReader reader = dataset.open()) {
+      assertThat(reader.getColumnsName()).containsExactly("a", "b");
+      assertThat(reader.readRow()).containsExactly(1, "x");
+      assertThat(reader.readRow()).containsExactly(null, null);
+      assertThat(reader.readRow()).isNull();
+    }
+    // A dataset in memory can be read again
+    try (Dataset.RowReader reader = dataset.open()) {
+      assertThat(reader.readRow()).containsExactly(1, "x");
+    }
+  }
+
+  /**
+   * This method tests the reading of a CSV content.
+   */
+  @Test
+  public void test_open_csv() throws IOException {
+    Dataset dataset = Dataset.fromCsv(new StringReader("a,\"b,c\",d\r\n"
+                                                       + "1,\"multi\nline\",\"\"\"quoted\"\"\"\n"
+                                                       + "\n"
+                                                       + ",\"\",text\n"));
+    try (Dataset.RowReader reader = dataset.open()) {
+      assertThat(reader.getColumnsName()).containsExactly("a", "b,c", "d");
+      assertThat(reader.readRow()).containsExactly("1", "multi\nline", "\"quoted\"");
+      assertThat(reader.readRow()).containsExactly(null, "", "text");
+      assertThat(reader.readRow()).isNull();
+    }
+  }
+
+  /**
+   * This method tests the reading of a JSON Lines content.
+   */
+  @Test
+  public void test_open_json_lines() throws IOException {
+    Dataset dataset = Dataset.fromJsonLines(new StringReader("{\"a\": 1, \"b\": \"x\\\"y\\n\", \"c\": true}\n"
+                                                             + "  \n"
+                                                             + "{\"c\": false, \"a\": 1.50}\n"
+                                                             + "{ \"b\" : null , \"a\" : -12345678901234567890 }"));
+    try (Dataset.RowReader reader = dataset.open()) {
+      assertThat(reader.getColumnsName()).containsExactly("a", "b", "c");
+      assertThat(reader.readRow()).containsExactly(1L, "x\"y\n", true);
+      assertThat(reader.readRow()).containsExactly(new BigDecimal("1.50"), null, false);
+      assertThat(reader.readRow()).containsExactly(new BigDecimal("-12345678901234567890"), null, null);
+      assertThat(reader.readRow()).isNull();
+    }
+  }
+
+  /**
+   * This method should fail because the number of values is not the number of columns.
+   */
+  @Test
+  public void should_fail_because_number_of_values_is_different() throws IOException {
+    try {
+      Dataset.of("a", "b").values(1);
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo("The number of values (1) must be the number of columns (2)");
+    }
+    try (Dataset.RowReader reader = Dataset.fromCsv(new StringReader("a,b\n1,2,3")).open()) {
+      reader.readRow();
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo("The number of fields (3) must be the number of columns (2) : [1, 2, 3]");
+    }
+  }
+
+  /**
+   * This method should fail because the JSON Lines content is not correct.
+   */
+  @Test
+  public void should_fail_because_json_lines_are_not_correct() throws IOException {
+    try (Dataset.RowReader reader = Dataset.fromJsonLines(new StringReader("{\"a\": 1}\n{\"b\": 2}")).open()) {
+      reader.readRow();
+      reader.readRow();
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo("The key <b> is not in the first object of the JSON Lines content : "
+                                           + "{\"b\": 2}");
+    }
+    try (Dataset.RowReader reader = Dataset.fromJsonLines(new StringReader("{\"a\": [1]}")).open()) {
+      reader.readRow();
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo("The line is not a correct JSON object (at the position 6) : {\"a\": [1]}");
+    }
+  }
+
+  /**
+   * This method should fail because a dataset from a reader is read twice.
+   */
+  @Test
+  public void should_fail_because_reader_is_read_twice() throws IOException {
+    Dataset dataset = Dataset.fromCsv(new StringReader("a\n1"));
+    dataset.open().close();
+    try {
+      dataset.open();
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo("The dataset from a reader can be read only once");
+    }
+  }
+}
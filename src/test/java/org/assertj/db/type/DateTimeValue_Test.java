@@ -90,6 +90,21 @@ public class DateTimeValue_Test extends AbstractTest {
     assertThat(dateTimeValue.getTime().getNanoSeconds()).isEqualTo(3);
   }
 
+  /**
+   * This method tests the {@code from} static method with a timestamp before the epoch.
+   */
+  @Test
+  public void test_from_with_timestamp_before_epoch() {
+    DateTimeValue dateTimeValue = DateTimeValue.from(Timestamp.valueOf("1965-03-04 23:59:59.999999999"));
+    assertThat(dateTimeValue.getDate().getDayOfTheMonth()).isEqualTo(4);
+    assertThat(dateTimeValue.getDate().getMonth()).isEqualTo(3);
+    assertThat(dateTimeValue.getDate().getYear()).isEqualTo(1965);
+    assertThat(dateTimeValue.getTime().getHours()).isEqualTo(23);
+    assertThat(dateTimeValue.getTime().getMinutes()).isEqualTo(59);
+    assertThat(dateTimeValue.getTime().getSeconds()).isEqualTo(59);
+    assertThat(dateTimeValue.getTime().getNanoSeconds()).isEqualTo(999999999);
+  }
+
   /**
    * This method should throw a {@code NullPointerException} because passing a {@code null} parameter to constructor
    * with a {@code String}.
@@ -986,4 +1001,29 @@ public class DateTimeValue_Test extends AbstractTest {
     assertThat(DateTimeValue.of(DateValue.of(1, 1, 1), TimeValue.of(1, 1, 1, 1)).reverse())
                             .isEqualTo(DateTimeValue.of(DateValue.of(-1, -1, -1), TimeValue.of(-1, -1, -1, -1)));
   }
+
+  /**
+   * This method tests that the values with a date or a time out of their ranges (like the values to move) keep their
+   * fields and are compared like the other values.
+   */
+  @Test
+  public void test_with_values_out_of_ranges() {
+    DateTimeValue dateTimeValue = DateTimeValue.of(DateValue.of(2007, 2, 30), TimeValue.of(25, 61));
+    assertThat(dateTimeValue.getDate()).isEqualTo(DateValue.of(2007, 2, 30));
+    assertThat(dateTimeValue.getTime()).isEqualTo(TimeValue.of(25, 61));
+    assertThat(dateTimeValue.toString()).isEqualTo("2007-02-30T25:61:00.000000000");
+    assertThat(dateTimeValue).isEqualTo(DateTimeValue.of(DateValue.of(2007, 2, 30), TimeValue.of(25, 61)));
+    assertThat(dateTimeValue.hashCode())
+        .isEqualTo(DateTimeValue.of(DateValue.of(2007, 2, 30), TimeValue.of(25, 61)).hashCode());
+    assertThat(dateTimeValue).isNotEqualTo(DateTimeValue.of(DateValue.of(2007, 3, 2), TimeValue.of(2, 1)));
+    assertThat(dateTimeValue.compareTo(DateTimeValue.of(DateValue.of(2007, 3, 2), TimeValue.of(2, 1)))).isEqualTo(-1);
+    assertThat(dateTimeValue.compareTo(DateTimeValue.of(DateValue.of(2007, 2, 28), TimeValue.of(2, 1)))).isEqualTo(1);
+
+    DateTimeValue localDateTimeValue = DateTimeValue.from(LocalDateTime.of(2007, 12, 23, 9, 1, 6, 3));
+    assertThat(localDateTimeValue).isEqualTo(DateTimeValue.of(DateValue.of(2007, 12, 23), TimeValue.of(9, 1, 6, 3)));
+    assertThat(localDateTimeValue.hashCode()).isEqualTo(2876124);
+    assertThat(localDateTimeValue.toString()).isEqualTo("2007-12-23T09:01:06.000000003");
+    assertThat(DateTimeValue.of(DateValue.of(-2007, -12, -23), TimeValue.of(-9, -1)).toString())
+        .isEqualTo("-2007--12--23T-9:-1:00.000000000");
+  }
 }
@@ -193,6 +193,21 @@ public class DateValue_Test extends AbstractTest {
     assertThat(dateValue.getYear()).isEqualTo(2002);
   }
 
+  /**
+   * This method tests the {@code from} static method with dates before the epoch and before the Gregorian calendar.
+   */
+  @Test
+  public void test_from_with_old_dates() {
+    DateValue dateValue = DateValue.from(Date.valueOf("1965-03-04"));
+    assertThat(dateValue.getDayOfTheMonth()).isEqualTo(4);
+    assertThat(dateValue.getMonth()).isEqualTo(3);
+    assertThat(dateValue.getYear()).isEqualTo(1965);
+    dateValue = DateValue.from(Date.valueOf("1500-03-10"));
+    assertThat(dateValue.getDayOfTheMonth()).isEqualTo(10);
+    assertThat(dateValue.getMonth()).isEqualTo(3);
+    assertThat(dateValue.getYear()).isEqualTo(1500);
+  }
+
   /**
    * This method should throw a {@code NullPointerException} because passing a {@code null} parameter to the
    * {@code from} static method.
@@ -0,0 +1,62 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the {@code getNumberOfRows} method of {@code Request}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Request_GetNumberOfRows_Test extends AbstractTest {
+
+  /**
+   * This method tests that the rows are counted without being loaded.
+   */
+  @Test
+  public void test_get_number_of_rows_without_loading() throws Exception {
+    Request request = new Request(source, "select * from movie where year > ? order by title", 2000);
+
+    assertThat(request.getNumberOfRows()).isEqualTo(2);
+    Field field = AbstractDbData.class.getDeclaredField("rowsList");
+    field.setAccessible(true);
+    assertThat(field.get(request)).isNull();
+
+    assertThat(request.getRowsList()).hasSize(2);
+    assertThat(request.getNumberOfRows()).isEqualTo(2);
+  }
+
+  /**
+   * This method tests that the number of rows is the number of loaded rows once the rows are loaded.
+   */
+  @Test
+  public void test_get_number_of_rows_after_loading() throws Exception {
+    Request request = new Request(source, "select x from system_range(1, 10000)");
+
+    assertThat(request.getNumberOfRows()).isEqualTo(10000);
+    Field field = AbstractDbData.class.getDeclaredField("rowsList");
+    field.setAccessible(true);
+    assertThat(field.get(request)).isNull();
+
+    assertThat(request.getRowsList()).hasSize(10000);
+    assertThat(request.getNumberOfRows()).isEqualTo(10000);
+    assertThat(request.getColumn(0).getNumberOfRows()).isEqualTo(10000);
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.lettercase.LetterCase;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test on the constructor of {@code RowSchema} and on the schema of the null values.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class RowSchema_Constructor_Test extends AbstractTest {
+
+  /**
+   * This method tests that the indexes are computed by the constructor.
+   */
+  @Test
+  public void test_constructor() {
+    RowSchema schema = new RowSchema(Arrays.asList("ID", "TITLE", "YEAR"), Collections.singletonList("year"),
+                                     LetterCase.COLUMN_DEFAULT, LetterCase.PRIMARY_KEY_DEFAULT, null, null, null, null);
+    assertThat(schema.getColumnsNameIndex().indexOf("title")).isEqualTo(1);
+    assertThat(schema.getPksIndexes()).containsExactly(2);
+
+    RowSchema otherSchema = schema.withPksNameList(Collections.singletonList("id"), null);
+    assertThat(otherSchema.getColumnsNameIndex()).isSameAs(schema.getColumnsNameIndex());
+    assertThat(otherSchema.getPksIndexes()).containsExactly(0);
+    assertThat(schema.getPksIndexes()).containsExactly(2);
+  }
+
+  /**
+   * This method tests the null value in the same column as another value.
+   */
+  @Test
+  public void test_get_null_value() throws Exception {
+    Value value = getValue("TITLE", "Alien");
+    Value nullValue = Value.getNullValue(value);
+    assertThat(nullValue.getValue()).isNull();
+    assertThat(nullValue.getColumnName()).isEqualTo("TITLE");
+    assertThat(nullValue.getColumnLetterCase()).isSameAs(value.getColumnLetterCase());
+  }
+}
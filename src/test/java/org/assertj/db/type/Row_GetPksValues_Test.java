@@ -16,8 +16,10 @@ import org.assertj.db.common.AbstractTest;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Tests on the primary keys value of {@code Row}.
@@ -54,4 +56,41 @@ public class Row_GetPksValues_Test extends AbstractTest {
     assertThat(primaryKeysValue[1].getValue()).isEqualTo("val1");
   }
 
+  /**
+   * This method test that the primary keys value are computed once and recomputed when the primary keys name change.
+   * 
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_when_getprimarykeysvalue_is_cached() throws Exception {
+    Row row = getRow(Arrays.asList("col1"), Arrays.asList("col1", "col2", "col3"),
+        Arrays.asList(getValue(null, "val1"), getValue(null, "val2"), getValue(null, "val3")));
+    List<Value> primaryKeysValue = row.getPksValueList();
+    assertThat(row.getPksValueList()).isSameAs(primaryKeysValue);
+
+    row.setPksNameList(Arrays.asList("col3", "col2"), new int[] { 2, 1 });
+    List<Value> otherPrimaryKeysValue = row.getPksValueList();
+    assertThat(otherPrimaryKeysValue).isNotSameAs(primaryKeysValue).hasSize(2);
+    assertThat(otherPrimaryKeysValue.get(0).getValue()).isEqualTo("val3");
+    assertThat(otherPrimaryKeysValue.get(1).getValue()).isEqualTo("val2");
+    assertThat(row.getPksValues()).containsExactlyElementsOf(otherPrimaryKeysValue);
+  }
+
+  /**
+   * This method test that the primary keys value of the row can not be modified by the caller.
+   *
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_when_getprimarykeysvalue_is_modified() throws Exception {
+    Row row = getRow(Arrays.asList("col1"), Arrays.asList("col1", "col2", "col3"),
+        Arrays.asList(getValue(null, "val1"), getValue(null, "val2"), getValue(null, "val3")));
+    Value[] primaryKeysValue = row.getPksValues();
+    assertThat(row.getPksValues()).isNotSameAs(primaryKeysValue);
+    primaryKeysValue[0] = getValue(null, "other");
+    assertThat(row.getPksValues()[0].getValue()).isEqualTo("val1");
+    assertThat(row.getPksValueList().get(0).getValue()).isEqualTo("val1");
+    assertThatThrownBy(() -> row.getPksValueList().set(0, getValue(null, "other")))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
 }
@@ -16,6 +16,9 @@ import org.assertj.db.common.AbstractTest;
 import org.assertj.db.type.Table.Order;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -105,4 +108,30 @@ public class Table_Columns_Test extends AbstractTest {
     assertThat(table.getColumnsToOrder()).hasSize(1);
     assertThat(table.getColumnsToOrder()).contains(Order.asc("TITLE"));
   }
+
+  /**
+   * This method tests that the columns are created at their first use and that their values are the values of the
+   * rows.
+   */
+  @Test
+  public void test_columns_are_views_on_the_rows() throws Exception {
+    Table table = new Table(source, "movie");
+
+    List<Column> columnsList = table.getColumnsList();
+    Field field = columnsList.getClass().getDeclaredField("columns");
+    field.setAccessible(true);
+    Column[] columns = (Column[]) field.get(columnsList);
+    assertThat(columns).containsOnlyNulls();
+
+    Column column = table.getColumn(1);
+    assertThat(columns).containsExactly(null, column, null, null);
+    assertThat(table.getColumn(1)).isSameAs(column);
+    assertThat(columnsList).hasSize(4);
+
+    List<Value> valuesList = column.getValuesList();
+    assertThat(valuesList).hasSize(3);
+    for (int index = 0; index < valuesList.size(); index++) {
+      assertThat(valuesList.get(index)).isSameAs(table.getRow(index).getColumnValue(1));
+    }
+  }
 }
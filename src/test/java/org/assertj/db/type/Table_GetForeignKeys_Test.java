@@ -0,0 +1,56 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the {@code getForeignKeys} method of {@code Table}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Table_GetForeignKeys_Test extends AbstractTest {
+
+  /**
+   * This method tests the foreign keys found in the metadata.
+   */
+  @Test
+  public void test_get_foreign_keys() {
+    Table table = new Table(source, "interpretation");
+
+    List<Table.ForeignKey> foreignKeys = table.getForeignKeys(new Table(source, "movie"));
+    assertThat(foreignKeys).hasSize(1);
+    assertThat(foreignKeys.get(0).getColumnsName()).containsExactly("ID_MOVIE");
+    assertThat(foreignKeys.get(0).getReferencedColumnsName()).containsExactly("ID");
+
+    foreignKeys = table.getForeignKeys(new Table(source, "actor"));
+    assertThat(foreignKeys).hasSize(1);
+    assertThat(foreignKeys.get(0).getColumnsName()).containsExactly("ID_ACTOR");
+    assertThat(foreignKeys.get(0).getReferencedColumnsName()).containsExactly("ID");
+  }
+
+  /**
+   * This method tests that there is no foreign key.
+   */
+  @Test
+  public void test_get_foreign_keys_without_foreign_key() {
+    assertThat(new Table(source, "movie").getForeignKeys(new Table(source, "actor"))).isEmpty();
+    assertThat(new Table(source, "interpretation").getForeignKeys(new Table(source, "test"))).isEmpty();
+  }
+}
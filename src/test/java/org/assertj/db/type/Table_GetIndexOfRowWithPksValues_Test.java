@@ -0,0 +1,71 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on getting the index of a {@code Row} in a {@code Table} from the values of the primary keys.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Table_GetIndexOfRowWithPksValues_Test extends AbstractTest {
+
+  /**
+   * This method test getting the index of a row from the values of the primary keys without finding it.
+   */
+  @Test
+  public void test_getting_index_of_row_without_finding() {
+    Table table = new Table(source, "movie");
+
+    assertThat(table.getIndexOfRowWithPksValues()).isEqualTo(-1);
+    assertThat(table.getIndexOfRowWithPksValues(4)).isEqualTo(-1);
+    assertThat(table.getIndexOfRowWithPksValues(1, 3)).isEqualTo(-1);
+  }
+
+  /**
+   * This method test getting the index of a row from the values of the primary keys with finding it.
+   */
+  @Test
+  public void test_getting_index_of_row_with_finding() {
+    Table table = new Table(source, "movie");
+
+    assertThat(table.getIndexOfRowWithPksValues(1)).isEqualTo(0);
+    assertThat(table.getIndexOfRowWithPksValues(3L)).isEqualTo(2);
+    assertThat(table.getIndexOfRowWithPksValues(new BigDecimal("2.0"))).isEqualTo(1);
+    assertThat(table.getIndexOfRowWithPksValues(2.0d)).isEqualTo(1);
+    // A text has no key : the rows are compared one by one
+    assertThat(table.getIndexOfRowWithPksValues("3")).isEqualTo(2);
+  }
+
+  /**
+   * This method test getting the index of a row after the change of the primary keys.
+   */
+  @Test
+  public void test_getting_index_of_row_after_changing_primary_keys() {
+    Table table = new Table(source, "movie");
+
+    assertThat(table.getIndexOfRowWithPksValues(2)).isEqualTo(1);
+    table.setPksNameList(Collections.singletonList("TITLE"));
+    assertThat(table.getIndexOfRowWithPksValues(2)).isEqualTo(-1);
+    assertThat(table.getIndexOfRowWithPksValues("The Village")).isEqualTo(1);
+    assertThat(table.getIndexOfRowWithPksValues("Unknown")).isEqualTo(-1);
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the {@code getNumberOfRows} method of {@code Table}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Table_GetNumberOfRows_Test extends AbstractTest {
+
+  /**
+   * This method tests that the rows are counted without being loaded.
+   */
+  @Test
+  public void test_get_number_of_rows_without_loading() throws Exception {
+    Table table = new Table(source, "movie");
+
+    assertThat(table.getNumberOfRows()).isEqualTo(3);
+    Field field = AbstractDbData.class.getDeclaredField("rowsList");
+    field.setAccessible(true);
+    assertThat(field.get(table)).isNull();
+
+    assertThat(table.getRowsList()).hasSize(3);
+    assertThat(table.getNumberOfRows()).isEqualTo(3);
+  }
+
+  /**
+   * This method tests that the number of rows is counted again until the rows are loaded and that it is the number of
+   * loaded rows after.
+   */
+  @Test
+  @NeedReload
+  public void test_get_number_of_rows_counted_then_loaded() {
+    Table table = new Table(source, "interpretation");
+    int numberOfRows = table.getNumberOfRows();
+
+    update("delete from interpretation where id = 1");
+    assertThat(table.getNumberOfRows()).isEqualTo(numberOfRows - 1);
+    assertThat(table.getRowsList()).hasSize(numberOfRows - 1);
+
+    update("delete from interpretation where id = 2");
+    assertThat(table.getNumberOfRows()).isEqualTo(numberOfRows - 1);
+    assertThat(table.getColumn(0).getNumberOfRows()).isEqualTo(numberOfRows - 1);
+    assertThat(table.getColumn(0).getNumberOfNullValues()).isEqualTo(0);
+  }
+
+  /**
+   * This method tests the number of rows of an empty table.
+   */
+  @Test
+  @NeedReload
+  public void test_get_number_of_rows_of_empty_table() {
+    update("delete from interpretation");
+
+    assertThat(new Table(source, "interpretation").getNumberOfRows()).isEqualTo(0);
+  }
+}
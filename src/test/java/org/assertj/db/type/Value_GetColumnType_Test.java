@@ -0,0 +1,77 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test on {@code getColumnType} method from {@code Value} and {@code Column}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Value_GetColumnType_Test extends AbstractTest {
+
+  /**
+   * This method tests the type of the columns given by the database.
+   */
+  @Test
+  public void test_get_column_type() {
+    Table table = new Table(source, "test2");
+    Row row = table.getRow(1);
+
+    assertThat(row.getColumnValue("var1").getValue()).isNull();
+    assertThat(row.getColumnValue("var1").getValueType()).isEqualTo(ValueType.NOT_IDENTIFIED);
+    assertThat(row.getColumnValue("var1").getColumnType()).isEqualTo(ValueType.NUMBER);
+    assertThat(row.getColumnValue("var2").getColumnType()).isEqualTo(ValueType.BOOLEAN);
+    assertThat(row.getColumnValue("var8").getColumnType()).isEqualTo(ValueType.TIME);
+    assertThat(row.getColumnValue("var9").getColumnType()).isEqualTo(ValueType.DATE);
+    assertThat(row.getColumnValue("var10").getColumnType()).isEqualTo(ValueType.DATE_TIME);
+    assertThat(row.getColumnValue("var12").getColumnType()).isEqualTo(ValueType.TEXT);
+
+    assertThat(table.getColumn(2).getColumnType()).isEqualTo(ValueType.NUMBER);
+    assertThat(table.getColumn(2).getRowValue(0).getValueType()).isEqualTo(ValueType.NUMBER);
+    assertThat(table.getColumn(15).getRowValue(0).getValueType()).isEqualTo(ValueType.UUID);
+  }
+
+  /**
+   * This method tests that the type of the column is given by the metadata without loading the values.
+   */
+  @Test
+  public void test_get_column_type_without_loading_the_values() {
+    Table table = new Table(source, "test2");
+    assertThat(table.getColumn(0).getColumnType()).isEqualTo(ValueType.NUMBER);
+    assertThat(table.getColumn(1).getColumnType()).isEqualTo(ValueType.BOOLEAN);
+    assertThat(table.getColumn(7).getColumnType()).isEqualTo(ValueType.TIME);
+    assertThat(table.isLoaded()).isFalse();
+
+    Request request = new Request(source, "select * from movie where id = 0");
+    assertThat(request.getColumn(1).getColumnType()).isEqualTo(ValueType.TEXT);
+    assertThat(request.getColumn(2).getColumnType()).isEqualTo(ValueType.NUMBER);
+    assertThat(request.isLoaded()).isFalse();
+    assertThat(request.getRowsList()).isEmpty();
+    assertThat(request.getColumn(1).getColumnType()).isEqualTo(ValueType.TEXT);
+  }
+
+  /**
+   * This method tests that the type of the column is not identified for a value not loaded from the database.
+   */
+  @Test
+  public void test_get_column_type_without_database() throws Exception {
+    assertThat(getValue("", 1).getColumnType()).isEqualTo(ValueType.NOT_IDENTIFIED);
+    assertThat(getValue("", 1).getValueType()).isEqualTo(ValueType.NUMBER);
+  }
+}
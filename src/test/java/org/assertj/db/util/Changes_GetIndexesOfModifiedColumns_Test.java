@@ -12,6 +12,7 @@
  */
 package org.assertj.db.util;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 
 import org.assertj.core.api.Assertions;
@@ -72,4 +73,28 @@ public class Changes_GetIndexesOfModifiedColumns_Test extends AbstractTest {
     Assertions.assertThat(modificationIndexes).contains(1, 2);
     Assertions.assertThat(deletionIndexes).contains(0, 1);
   }
+
+  /**
+   * This method tests that the {@code getIndexesOfModifiedColumns} method compares the values strictly.
+   */
+  @Test
+  public void test_get_indexes_of_modified_columns_with_strict_equality() throws Exception {
+    Change modificationChange = getChange(DataType.TABLE, "test", ChangeType.MODIFICATION,
+                                      getRow(Arrays.asList("var1"),
+                                             Arrays.asList("var1", "var2", "var3", "var4"),
+                                             Arrays.asList(getValue("var1", 1),
+                                                           getValue("var2", new BigDecimal("1.0")),
+                                                           getValue("var3", 2),
+                                                           getValue("var4", new BigDecimal("3.0")))),
+                                      getRow(Arrays.asList("var1"),
+                                             Arrays.asList("var1", "var2", "var3", "var4"),
+                                             Arrays.asList(getValue("var1", 1),
+                                                           getValue("var2", new BigDecimal("1.00")),
+                                                           getValue("var3", 2L),
+                                                           getValue("var4", new BigDecimal("3.0")))));
+
+    Integer[] modificationIndexes = Changes.getIndexesOfModifiedColumns(modificationChange);
+
+    Assertions.assertThat(modificationIndexes).containsExactly(1, 2);
+  }
 }
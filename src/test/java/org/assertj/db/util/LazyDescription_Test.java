@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import org.assertj.db.api.TableRowAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests on the description composed at the first use.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class LazyDescription_Test extends AbstractTest {
+
+  /**
+   * This method tests that the text is composed only once and at the first use.
+   */
+  @Test
+  public void test_value() {
+    AtomicInteger count = new AtomicInteger();
+    LazyDescription description = new LazyDescription(() -> "description " + count.incrementAndGet());
+
+    assertThat(count.get()).isEqualTo(0);
+    assertThat(description.value()).isEqualTo("description 1");
+    assertThat(description.value()).isEqualTo("description 1");
+    assertThat(description.toString()).isEqualTo("description 1");
+    assertThat(count.get()).isEqualTo(1);
+  }
+
+  /**
+   * This method tests that the description of a navigated element is lazy.
+   */
+  @Test
+  public void test_description_of_navigated_element() {
+    TableRowAssert rowAssert = org.assertj.db.api.Assertions.assertThat(new Table(source, "movie")).row(1);
+
+    assertThat(rowAssert.getInfo().description()).isInstanceOf(LazyDescription.class);
+    assertThat(rowAssert.getInfo().descriptionText()).isEqualTo("Row at index 1 of MOVIE table");
+    assertThatThrownBy(() -> rowAssert.value().isEqualTo(0))
+        .hasMessageStartingWith("[Value at index 0 (column name : ID) of Row at index 1 of MOVIE table]");
+  }
+
+  /**
+   * This method should fail because the supplier is {@code null}.
+   */
+  @Test
+  public void should_fail_because_supplier_is_null() {
+    assertThatThrownBy(() -> new LazyDescription(null)).isInstanceOf(NullPointerException.class)
+                                                        .hasMessage("Supplier must be not null");
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.lettercase.CaseComparison;
+import org.assertj.db.type.lettercase.CaseComparisons;
+import org.assertj.db.type.lettercase.CaseConversions;
+import org.assertj.db.type.lettercase.LetterCase;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the index of the names.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class NameIndex_Test extends AbstractTest {
+
+  /**
+   * Test the {@code contains} method.
+   *
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_contains() throws Exception {
+    assertThat(new NameIndex(Arrays.asList("azerty", "AzerTy"), CaseComparisons.IGNORE).contains("AZERTY")).isTrue();
+    assertThat(new NameIndex(Arrays.asList("azerty", "AzerTy"), CaseComparisons.IGNORE).contains("qwerty")).isFalse();
+    assertThat(new NameIndex(Arrays.asList("azerty", "AzerTy"), CaseComparisons.STRICT).contains("AZERTY")).isFalse();
+    assertThat(new NameIndex(Arrays.asList("azerty", "AzerTy"), CaseComparisons.STRICT).contains("AzerTy")).isTrue();
+  }
+
+  /**
+   * Test the {@code indexOf} method.
+   *
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_indexOf() throws Exception {
+    NameIndex ignoreIndex = new NameIndex(Arrays.asList("azerty", "AzerTy", "QWERTY"), CaseComparisons.IGNORE);
+    assertThat(ignoreIndex.indexOf("AZERTY")).isEqualTo(0);
+    assertThat(ignoreIndex.indexOf("azerty")).isEqualTo(0);
+    assertThat(ignoreIndex.indexOf("AzerTy")).isEqualTo(0);
+    assertThat(ignoreIndex.indexOf("qwerty")).isEqualTo(2);
+    assertThat(ignoreIndex.indexOf(null)).isEqualTo(-1);
+    NameIndex strictIndex = new NameIndex(Arrays.asList("azerty", "AzerTy"), CaseComparisons.STRICT);
+    assertThat(strictIndex.indexOf("AZERTY")).isEqualTo(-1);
+    assertThat(strictIndex.indexOf("azerty")).isEqualTo(0);
+    assertThat(strictIndex.indexOf("AzerTy")).isEqualTo(1);
+    NameIndex letterCaseIndex = new NameIndex(Arrays.asList("azerty", "AzerTy"),
+                                              LetterCase.getLetterCase(CaseConversions.NO, CaseComparisons.IGNORE));
+    assertThat(letterCaseIndex.indexOf("AZERTY")).isEqualTo(0);
+  }
+
+  /**
+   * Test the {@code indexOf} method with a case comparison without key.
+   *
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_indexOf_with_comparison_without_key() throws Exception {
+    CaseComparison comparison = new CaseComparison() {
+      @Override
+      public String getComparisonName() {
+        return "Without key";
+      }
+
+      @Override
+      public boolean isEqual(String value1, String value2) {
+        return value1.equalsIgnoreCase(value2);
+      }
+
+      @Override
+      public int compare(String value1, String value2) {
+        return value1.compareToIgnoreCase(value2);
+      }
+    };
+    NameIndex index = new NameIndex(Arrays.asList("azerty", "AzerTy"), comparison);
+    assertThat(index.indexOf("AZERTY")).isEqualTo(0);
+    assertThat(index.indexOf("qwerty")).isEqualTo(-1);
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the comparators for {@code Value}.
+ *
+ * @author Régis Pouiller
+ */
+public class ValueComparator_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code areEqual} method for dates.
+   */
+  @Test
+  public void test_are_equal_for_dates() throws Exception {
+    ValueComparator comparator = ValueComparator.getComparator(Types.DATE);
+    assertThat(comparator.areEqual(getValue(null, Date.valueOf("2007-12-23")),
+                                   getValue(null, Date.valueOf("2007-12-23")))).isTrue();
+    assertThat(comparator.areEqual(getValue(null, Date.valueOf("2007-12-23")),
+                                   getValue(null, new Date(Date.valueOf("2007-12-23").getTime() + 3600000)))).isTrue();
+    assertThat(comparator.areEqual(getValue(null, Date.valueOf("2007-12-23")),
+                                   getValue(null, Date.valueOf("2007-12-24")))).isFalse();
+    assertThat(comparator.areEqual(getValue(null, Date.valueOf("2007-12-23")), getValue(null, null))).isFalse();
+    assertThat(comparator.areEqual(getValue(null, null), getValue(null, null))).isTrue();
+  }
+
+  /**
+   * This method tests the {@code areEqual} method for times.
+   */
+  @Test
+  public void test_are_equal_for_times() throws Exception {
+    ValueComparator comparator = ValueComparator.getComparator(Types.TIME);
+    assertThat(comparator.areEqual(getValue(null, Time.valueOf("09:46:30")),
+                                   getValue(null, Time.valueOf("09:46:30")))).isTrue();
+    assertThat(comparator.areEqual(getValue(null, Time.valueOf("09:46:30")),
+                                   getValue(null, Time.valueOf("09:46:31")))).isFalse();
+  }
+
+  /**
+   * This method tests the {@code areEqual} method for timestamps.
+   */
+  @Test
+  public void test_are_equal_for_timestamps() throws Exception {
+    ValueComparator comparator = ValueComparator.getComparator(Types.TIMESTAMP);
+    assertThat(comparator.areEqual(getValue(null, Timestamp.valueOf("2007-12-23 09:01:06.000000003")),
+                                   getValue(null, Timestamp.valueOf("2007-12-23 09:01:06.000000003")))).isTrue();
+    assertThat(comparator.areEqual(getValue(null, Timestamp.valueOf("2007-12-23 09:01:06.000000003")),
+                                   getValue(null, Timestamp.valueOf("2007-12-23 09:01:06.000000004")))).isFalse();
+    assertThat(comparator.areEqual(getValue(null, Timestamp.valueOf("2007-12-23 09:01:06")),
+                                   getValue(null, Timestamp.valueOf("2007-12-23 09:01:07")))).isFalse();
+  }
+
+  /**
+   * This method tests the {@code areEqual} method for numbers and arrays of bytes.
+   */
+  @Test
+  public void test_are_equal_for_numbers_and_bytes() throws Exception {
+    ValueComparator numberComparator = ValueComparator.getComparator(Types.DECIMAL);
+    assertThat(numberComparator.areEqual(getValue(null, new BigDecimal("1.0")),
+                                         getValue(null, new BigDecimal("1.00")))).isTrue();
+    assertThat(numberComparator.areEqual(getValue(null, 1), getValue(null, 1L))).isTrue();
+    assertThat(numberComparator.areEqual(getValue(null, 1), getValue(null, 2))).isFalse();
+
+    ValueComparator bytesComparator = ValueComparator.getComparator(Types.BLOB);
+    assertThat(bytesComparator.areEqual(getValue(null, new byte[] { 1, 2 }),
+                                        getValue(null, new byte[] { 1, 2 }))).isTrue();
+    assertThat(bytesComparator.areEqual(getValue(null, new byte[] { 1, 2 }),
+                                        getValue(null, new byte[] { 1, 3 }))).isFalse();
+  }
+
+  /**
+   * This method tests the {@code compare} method.
+   */
+  @Test
+  public void test_compare() throws Exception {
+    ValueComparator comparator = ValueComparator.DEFAULT;
+    assertThat(comparator.compare(getValue(null, 1), getValue(null, 2))).isNegative();
+    assertThat(comparator.compare(getValue(null, null), getValue(null, 2))).isEqualTo(1);
+    assertThat(comparator.compare(getValue(null, 1), getValue(null, null))).isEqualTo(-1);
+    assertThat(comparator.compare(getValue(null, new byte[0]), getValue(null, "test"))).isEqualTo(0);
+  }
+}
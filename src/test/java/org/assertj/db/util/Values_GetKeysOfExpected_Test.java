@@ -0,0 +1,75 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2020 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.Value;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on {@code getKeysOfExpected} method.
+ *
+ * @author Régis Pouiller
+ */
+public class Values_GetKeysOfExpected_Test extends AbstractTest {
+
+  /**
+   * This method tests the keys of objects of the kind of the reference values.
+   */
+  @Test
+  public void test_get_keys_of_expected() throws Exception {
+    List<Value> referenceValues = Arrays.asList(getValue(null, new BigDecimal("1")), getValue(null, "text"));
+
+    assertThat(Values.getKeysOfExpected(referenceValues, 2L, "other")).containsExactly(new BigDecimal("2"), "other");
+    assertThat(Values.getKeysOfExpected(referenceValues, new BigDecimal("2.50"), "other"))
+        .containsExactly(new BigDecimal("2.5"), "other");
+    assertThat(Values.getKeysOfExpected(referenceValues, 2, "other"))
+        .isEqualTo(Values.getKeys(Arrays.asList(getValue(null, 2), getValue(null, "other"))));
+  }
+
+  /**
+   * This method tests that the objects of an other kind than the reference values have no keys.
+   */
+  @Test
+  public void test_get_keys_of_expected_of_an_other_kind() throws Exception {
+    List<Value> referenceValues = Arrays.asList(getValue(null, new BigDecimal("1")), getValue(null, "text"));
+
+    assertThat(Values.getKeysOfExpected(referenceValues, "2", "other")).isNull();
+    assertThat(Values.getKeysOfExpected(referenceValues, 2, 3)).isNull();
+    assertThat(Values.getKeysOfExpected(referenceValues, 2, 'c')).isNull();
+    assertThat(Values.getKeysOfExpected(referenceValues, 2)).isNull();
+    assertThat(Values.getKeysOfExpected(Arrays.asList(getValue(null, null)), 2)).isNull();
+  }
+
+  /**
+   * This method tests that the floating point numbers have no keys (they are compared one by one).
+   */
+  @Test
+  public void test_get_keys_of_expected_with_floating_point_numbers() throws Exception {
+    List<Value> referenceValues = Arrays.asList(getValue(null, new BigDecimal("1")), getValue(null, "text"));
+
+    assertThat(Values.getKeysOfExpected(referenceValues, 2.50d, "other")).isNull();
+    assertThat(Values.getKeysOfExpected(referenceValues, 16777216f, "other")).isNull();
+    assertThat(Values.getKeysOfExpected(Arrays.asList(getValue(null, 1.5f)), 2)).isNull();
+    assertThat(Values.getKeysOfExpected(Arrays.asList(getValue(null, Float.NaN)), Double.NaN)).isNull();
+    assertThat(Values.getExactNumberKey(0.1f)).isNull();
+    assertThat(Values.getExactNumberKey(Double.NaN)).isNull();
+    assertThat(Values.getExactNumberKey(16777217)).isEqualTo(new BigDecimal("16777217"));
+  }
+}